@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client.bot.princess;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link HeatKnapsack} with the list-based tables that {@link MultiTargetFireControl} used to solve its heat
+ * backpack problem with. The shots have a heat of 1 to 10 and a random expected damage. 18 shots with 40 heat are
+ * the size of an assault Mek's problem; 30 shots with 400 heat are the size of a large craft firing by arc. Run it with
+ * {@code ./gradlew :megamek:jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HeatKnapsackBenchmark {
+
+    @Param({ "18:40", "30:400" })
+    public String shotsAndHeat;
+
+    private int[] heats;
+    private double[] damages;
+    private int maxHeat;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parameters = shotsAndHeat.split(":");
+        int shots = Integer.parseInt(parameters[0]);
+        maxHeat = Integer.parseInt(parameters[1]);
+        Random random = new Random(shots);
+        heats = new int[shots];
+        damages = new double[shots];
+        for (int shot = 0; shot < shots; shot++) {
+            heats[shot] = 1 + random.nextInt(10);
+            damages[shot] = random.nextDouble() * 15;
+        }
+    }
+
+    @Benchmark
+    public int heatKnapsack() {
+        HeatKnapsack backpack = HeatKnapsack.forCurrentThread();
+        for (int shot = 0; shot < heats.length; shot++) {
+            backpack.addItem(heats[shot], damages[shot]);
+        }
+        backpack.solve(maxHeat);
+        return backpack.getChosenCount();
+    }
+
+    /**
+     * The previous solution, as it was written in MultiTargetFireControl.calculateIndividualWeaponFiringPlan().
+     */
+    @Benchmark
+    public int listTables() {
+        int actualHeatCapacity = maxHeat + 1;
+        Map<Integer, Map<Integer, List<Integer>>> shotBackpack = new HashMap<>();
+        for (int x = 0; x <= heats.length; x++) {
+            shotBackpack.put(x, new HashMap<>());
+
+            for (int y = 0; y < actualHeatCapacity; y++) {
+                shotBackpack.get(x).put(y, new ArrayList<>());
+            }
+        }
+
+        double[][] damageBackpack = new double[heats.length + 1][actualHeatCapacity];
+        for (int shotIndex = 0; shotIndex <= heats.length; shotIndex++) {
+            for (int heatIndex = 0; heatIndex < actualHeatCapacity; heatIndex++) {
+                if (shotIndex == 0 || heatIndex == 0) {
+                    damageBackpack[shotIndex][heatIndex] = 0;
+                } else if (heats[shotIndex - 1] <= heatIndex) {
+                    int previousHeatIndex = heatIndex - heats[shotIndex - 1];
+                    double currentShotDamage = damages[shotIndex - 1] +
+                          damageBackpack[shotIndex - 1][previousHeatIndex];
+                    double accumulatedPreviousShotDamage = damageBackpack[shotIndex - 1][heatIndex];
+
+                    if (currentShotDamage > accumulatedPreviousShotDamage) {
+                        damageBackpack[shotIndex][heatIndex] = currentShotDamage;
+                        List<Integer> appendedShotList = new ArrayList<>(
+                              shotBackpack.get(shotIndex - 1).get(previousHeatIndex));
+                        appendedShotList.add(shotIndex - 1);
+                        shotBackpack.get(shotIndex).put(heatIndex, appendedShotList);
+                    } else {
+                        damageBackpack[shotIndex][heatIndex] = accumulatedPreviousShotDamage;
+                        shotBackpack.get(shotIndex).put(heatIndex, shotBackpack.get(shotIndex - 1).get(heatIndex));
+                    }
+                } else {
+                    damageBackpack[shotIndex][heatIndex] = damageBackpack[shotIndex - 1][heatIndex];
+                    shotBackpack.get(shotIndex).put(heatIndex, shotBackpack.get(shotIndex - 1).get(heatIndex));
+                }
+            }
+        }
+        return shotBackpack.get(shotBackpack.size() - 1).get(actualHeatCapacity - 1).size();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client.event;
+
+import java.util.concurrent.TimeUnit;
+
+import megamek.common.event.EventBus;
+import megamek.common.event.MMEvent;
+import megamek.common.event.Subscribe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how many events per second the {@link EventBus} delivers to 16 registered handlers. Each handler
+ * subscribes to an event class and to its superclass. A leaf event therefore reaches 32 handler methods and a base
+ * event reaches 16. The handlers live outside the event package, as those of the client, server and bots do, so that
+ * they are dispatched the way real subscribers are. Run it with {@code ./gradlew :megamek:jmh} on two revisions to compare a change to the event
+ * dispatch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBusBenchmark {
+
+    private static final int HANDLERS = 16;
+
+    public static class BaseEvent extends MMEvent {
+    }
+
+    public static class LeafEvent extends BaseEvent {
+    }
+
+    public static class Handler {
+        private final Blackhole blackhole;
+
+        Handler(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Subscribe
+        public void onBase(BaseEvent event) {
+            blackhole.consume(event);
+        }
+
+        @Subscribe
+        public void onLeaf(LeafEvent event) {
+            blackhole.consume(event);
+        }
+    }
+
+    private EventBus eventBus;
+    private final BaseEvent baseEvent = new BaseEvent();
+    private final LeafEvent leafEvent = new LeafEvent();
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        eventBus = new EventBus();
+        for (int i = 0; i < HANDLERS; i++) {
+            eventBus.register(new Handler(blackhole));
+        }
+    }
+
+    @Benchmark
+    public boolean triggerLeafEvent() {
+        return eventBus.trigger(leafEvent);
+    }
+
+    @Benchmark
+    public boolean triggerBaseEvent() {
+        return eventBus.trigger(baseEvent);
+    }
+}
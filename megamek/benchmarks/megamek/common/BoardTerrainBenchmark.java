@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import megamek.common.board.Board;
+import megamek.common.board.Coords;
+import megamek.common.enums.MoveStepType;
+import megamek.common.game.Game;
+import megamek.common.moves.MovePath;
+import megamek.common.pathfinder.ShortestPathFinder;
+import megamek.common.units.BipedMek;
+import megamek.common.units.EntityMovementMode;
+import megamek.common.units.Terrains;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the code that spends most of its time in terrain queries on a 64x51 board with random levels, woods, water,
+ * rough and roads: line of sight between 500 fixed pairs of hexes, a walking Mek's shortest paths to all hexes it can
+ * reach with 8 MP, and a sweep of the common hex queries over the whole board. Run it with
+ * {@code ./gradlew :megamek:jmh} on two revisions to compare a change to the way Hex or Board store terrain.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardTerrainBenchmark {
+
+    private static final int WIDTH = 64;
+    private static final int HEIGHT = 51;
+    private static final int LOS_PAIRS = 500;
+    private static final int WALK_MP = 8;
+
+    private Game game;
+    private Board board;
+    private final List<Coords[]> losPairs = new ArrayList<>();
+    private MovePath walkStart;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Random random = new Random(7);
+        StringBuilder boardData = new StringBuilder("size " + WIDTH + " " + HEIGHT + "\n");
+        for (int x = 1; x <= WIDTH; x++) {
+            for (int y = 1; y <= HEIGHT; y++) {
+                int roll = random.nextInt(10);
+                String terrain = switch (roll) {
+                    case 0, 1 -> "woods:1;foliage_elev:2";
+                    case 2 -> "woods:2;foliage_elev:2";
+                    case 3 -> "water:" + (1 + random.nextInt(2));
+                    case 4 -> "rough:1";
+                    case 5 -> "pavement:1;road:1";
+                    default -> "";
+                };
+                int level = (roll == 3) ? 0 : random.nextInt(3);
+                boardData.append(String.format("hex %02d%02d %d \"%s\" \"\"%n", x, y, level, terrain));
+            }
+        }
+        boardData.append("end");
+        board = new Board(WIDTH, HEIGHT);
+        List<String> errors = new ArrayList<>();
+        board.load(boardData.toString(), errors);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Could not load the benchmark board: " + errors);
+        }
+
+        game = new Game();
+        game.setBoard(board);
+
+        for (int i = 0; i < LOS_PAIRS; i++) {
+            losPairs.add(new Coords[] { new Coords(random.nextInt(WIDTH), random.nextInt(HEIGHT)),
+                                        new Coords(random.nextInt(WIDTH), random.nextInt(HEIGHT)) });
+        }
+
+        BipedMek mek = new BipedMek();
+        mek.setId(1);
+        mek.setWeight(50.0);
+        mek.setMovementMode(EntityMovementMode.BIPED);
+        mek.setOriginalWalkMP(WALK_MP);
+        game.addEntity(mek);
+        mek.setPosition(new Coords(WIDTH / 2, HEIGHT / 2));
+        mek.setFacing(0);
+        walkStart = new MovePath(game, mek);
+    }
+
+    @Benchmark
+    public int lineOfSight() {
+        int visible = 0;
+        for (Coords[] pair : losPairs) {
+            LosEffects.AttackInfo attackInfo = LosEffects.prepLosAttackInfo(game, null, null, pair[0], pair[1], 0,
+                  true, true);
+            if (LosEffects.calculateLos(game, attackInfo).canSee()) {
+                visible++;
+            }
+        }
+        return visible;
+    }
+
+    @Benchmark
+    public int shortestWalkingPaths() {
+        ShortestPathFinder pathFinder = ShortestPathFinder.newInstanceOfOneToAll(WALK_MP, MoveStepType.FORWARDS, game);
+        pathFinder.run(walkStart.clone());
+        return pathFinder.getAllComputedPaths().size();
+    }
+
+    @Benchmark
+    public int hexQueries() {
+        int result = 0;
+        for (int x = 0; x < WIDTH; x++) {
+            for (int y = 0; y < HEIGHT; y++) {
+                Hex hex = board.getHex(x, y);
+                result += hex.terrainLevel(Terrains.WOODS) + hex.depth() + hex.ceiling();
+                if (hex.containsAnyTerrainOf(Terrains.ROAD, Terrains.BRIDGE) || hex.containsTerrain(Terrains.ROUGH)) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.actions.compute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import megamek.common.Player;
+import megamek.common.ToHitData;
+import megamek.common.actions.WeaponAttackAction;
+import megamek.common.board.Board;
+import megamek.common.board.Coords;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.game.Game;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptions;
+import megamek.common.options.GameOptionsSnapshot;
+import megamek.common.options.OptionsConstants;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Crew;
+import megamek.common.units.CrewType;
+import megamek.common.units.EntityMovementMode;
+import megamek.common.units.Mek;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many to-hit numbers per second {@link ComputeToHit} produces for a medium laser shot between two Meks
+ * on an open board, and how fast a game option is read from the {@link GameOptionsSnapshot} that the rules code uses,
+ * through {@link GameOptions#booleanOption(String)} and by looking up the option and reading its value. The to-hit
+ * calculation reads dozens of game, pilot and quirk options per shot. Run it with {@code ./gradlew :megamek:jmh} on two
+ * revisions to compare a change to the options or to the to-hit calculation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ToHitBenchmark {
+
+    private Game game;
+    private GameOptions options;
+    private BipedMek attacker;
+    private BipedMek target;
+    private int weaponId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        EquipmentType.initializeTypes();
+        StringBuilder boardData = new StringBuilder("size 16 17\n");
+        for (int x = 1; x <= 16; x++) {
+            for (int y = 1; y <= 17; y++) {
+                boardData.append(String.format("hex %02d%02d 0 \"\" \"\"%n", x, y));
+            }
+        }
+        boardData.append("end");
+        Board board = new Board(16, 17);
+        List<String> errors = new ArrayList<>();
+        board.load(boardData.toString(), errors);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Could not load the benchmark board: " + errors);
+        }
+
+        game = new Game();
+        game.setBoard(board);
+        options = game.getOptions();
+        Player first = new Player(0, "Attacker");
+        first.setTeam(1);
+        game.addPlayer(0, first);
+        Player second = new Player(1, "Target");
+        second.setTeam(2);
+        game.addPlayer(1, second);
+
+        attacker = createMek(1, first, new Coords(7, 4));
+        weaponId = attacker.getEquipmentNum(attacker.addEquipment(EquipmentType.get("ISMediumLaser"),
+              Mek.LOC_RIGHT_ARM));
+        target = createMek(2, second, new Coords(7, 10));
+        target.setFacing(3);
+    }
+
+    private BipedMek createMek(int id, Player owner, Coords position) {
+        BipedMek mek = new BipedMek();
+        mek.setGame(game);
+        mek.setId(id);
+        mek.setChassis("Benchmark Mek");
+        mek.setModel("#" + id);
+        mek.setCrew(new Crew(CrewType.SINGLE));
+        mek.setOwner(owner);
+        mek.setWeight(50.0);
+        mek.setMovementMode(EntityMovementMode.BIPED);
+        mek.setOriginalWalkMP(5);
+        game.addEntity(mek);
+        mek.setPosition(position);
+        mek.setFacing(0);
+        mek.setDeployed(true);
+        return mek;
+    }
+
+    @Benchmark
+    public ToHitData toHit() {
+        return WeaponAttackAction.toHit(game, attacker.getId(), target, weaponId, false);
+    }
+
+    @Benchmark
+    public boolean snapshot() {
+        return GameOptionsSnapshot.of(options).isSet(GameOptionFlag.BASE_FRIENDLY_FIRE);
+    }
+
+    @Benchmark
+    public boolean booleanOption() {
+        return options.booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE);
+    }
+
+    @Benchmark
+    public boolean optionLookup() {
+        return options.getOption(OptionsConstants.BASE_FRIENDLY_FIRE).booleanValue();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.loaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import megamek.common.Configuration;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.util.BuildingBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading the .blk files of the whole unit catalog. The files are collected from the units directory,
+ * including those in zip files, and are held in memory so that only parsing is measured. One benchmark reads each file
+ * into a {@link BuildingBlock} and fetches every block it contains, as the BLK loaders do. The other one loads the
+ * units with {@link MekFileParser}. Run it with {@code ./gradlew :megamek:jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BlkCatalogParsingBenchmark {
+
+    private record UnitFile(String name, byte[] content) {}
+
+    private final List<UnitFile> unitFiles = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        EquipmentType.initializeTypes();
+        try (Stream<Path> paths = Files.walk(Configuration.unitsDir().toPath())) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                String name = path.getFileName().toString().toLowerCase();
+                if (name.endsWith(".blk")) {
+                    unitFiles.add(new UnitFile(name, Files.readAllBytes(path)));
+                } else if (name.endsWith(".zip")) {
+                    readZip(path.toFile());
+                }
+            }
+        }
+        if (unitFiles.isEmpty()) {
+            throw new IllegalStateException("No .blk files found in " + Configuration.unitsDir());
+        }
+        System.out.println("Unit files: " + unitFiles.size());
+    }
+
+    private void readZip(File file) throws IOException {
+        try (ZipFile zipFile = new ZipFile(file)) {
+            for (ZipEntry entry : zipFile.stream().toList()) {
+                if (!entry.isDirectory() && entry.getName().toLowerCase().endsWith(".blk")) {
+                    try (InputStream is = zipFile.getInputStream(entry)) {
+                        unitFiles.add(new UnitFile(entry.getName(), is.readAllBytes()));
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void readAllBlocks(Blackhole blackhole) {
+        for (UnitFile unitFile : unitFiles) {
+            BuildingBlock block = new BuildingBlock(new ByteArrayInputStream(unitFile.content()));
+            for (String line : block.getVector()) {
+                if (line.startsWith("<") && !line.startsWith("</") && line.endsWith(">")) {
+                    blackhole.consume(block.getDataAsString(line.substring(1, line.length() - 1)));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void loadUnits(Blackhole blackhole) {
+        for (UnitFile unitFile : unitFiles) {
+            try {
+                blackhole.consume(new MekFileParser(new ByteArrayInputStream(unitFile.content()), unitFile.name())
+                      .getEntity());
+            } catch (Exception ex) {
+                blackhole.consume(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.loaders;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import megamek.common.equipment.EquipmentType;
+import megamek.common.units.Entity;
+import megamek.common.units.EntityListFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading and writing a MUL of 1,000 units taken from the unit catalog. The MUL is written once in setup and
+ * held in memory so that only the XML handling and entity parsing are measured. Reading is measured on the calling
+ * thread and on a pool with one thread per core. Run it with {@code ./gradlew :megamek:jmh} on two revisions to compare
+ * a change to {@link MULParser} or {@link EntityListFile}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MulParsingBenchmark {
+
+    private static final int UNITS = 1000;
+
+    private final ArrayList<Entity> entities = new ArrayList<>();
+    private byte[] mul;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        EquipmentType.initializeTypes();
+        for (MekSummary summary : MekSummaryCache.getInstance().getAllMeks()) {
+            if (entities.size() == UNITS) {
+                break;
+            }
+            try {
+                entities.add(new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity());
+            } catch (Exception ignored) {
+                // Units that fail to load are left out of the MUL
+            }
+        }
+        StringWriter writer = new StringWriter();
+        EntityListFile.writeTo(writer, entities, 0, false);
+        mul = writer.toString().getBytes(UTF_8);
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        System.out.println("Units: " + entities.size() + ", MUL size: " + mul.length + " bytes");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public MULParser parse() throws Exception {
+        return new MULParser(new ByteArrayInputStream(mul), null);
+    }
+
+    @Benchmark
+    public MULParser parseInParallel() throws Exception {
+        return new MULParser(new ByteArrayInputStream(mul), null, executor);
+    }
+
+    @Benchmark
+    public String write() throws IOException {
+        StringWriter writer = new StringWriter(mul.length);
+        EntityListFile.writeTo(writer, entities, 0, false);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.moves;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import megamek.common.board.Board;
+import megamek.common.board.Coords;
+import megamek.common.enums.MoveStepType;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.equipment.EquipmentTypeLookup;
+import megamek.common.game.Game;
+import megamek.common.pathfinder.ShortestPathFinder;
+import megamek.common.units.BipedMek;
+import megamek.common.units.EntityMovementMode;
+import megamek.common.units.Mek;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how fast move paths of a 10 MP jumping Mek on an open 16x17 board are enumerated, once through the
+ * one-to-all shortest path finder that the bot and the movement envelope use and once by growing every path step by
+ * step to its full length, which is how the path finders and the Princess path enumerator extend their edges. Run it
+ * with {@code ./gradlew :megamek:jmh} on two revisions to compare a change to MovePath or MoveStep.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MovePathEnumerationBenchmark {
+
+    private static final int JUMP_MP = 10;
+
+    private Game game;
+    private MovePath jumpStart;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        StringBuilder boardData = new StringBuilder("size 16 17\n");
+        for (int x = 1; x <= 16; x++) {
+            for (int y = 1; y <= 17; y++) {
+                boardData.append(String.format("hex %02d%02d 0 \"\" \"\"%n", x, y));
+            }
+        }
+        boardData.append("end");
+        Board board = new Board(16, 17);
+        List<String> errors = new ArrayList<>();
+        board.load(boardData.toString(), errors);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Could not load the benchmark board: " + errors);
+        }
+
+        game = new Game();
+        game.setBoard(board);
+
+        BipedMek mek = new BipedMek();
+        mek.setId(1);
+        mek.setWeight(50.0);
+        mek.setMovementMode(EntityMovementMode.BIPED);
+        mek.setOriginalWalkMP(6);
+        mek.setOriginalJumpMP(JUMP_MP);
+        EquipmentType jumpJet = EquipmentType.get(EquipmentTypeLookup.JUMP_JET);
+        for (int i = 0; i < JUMP_MP; i++) {
+            mek.addEquipment(jumpJet, (i % 2 == 0) ? Mek.LOC_LEFT_TORSO : Mek.LOC_RIGHT_TORSO);
+        }
+        game.addEntity(mek);
+        mek.setPosition(new Coords(7, 8));
+        mek.setFacing(0);
+
+        jumpStart = new MovePath(game, mek).addStep(MoveStepType.START_JUMP);
+    }
+
+    @Benchmark
+    public int shortestPathsToAllHexes() {
+        ShortestPathFinder pathFinder = ShortestPathFinder.newInstanceOfOneToAll(JUMP_MP, MoveStepType.FORWARDS, game);
+        pathFinder.run(jumpStart.clone());
+        return pathFinder.getAllComputedPaths().size();
+    }
+
+    @Benchmark
+    public void growAllStraightAndTurningPaths(Blackhole blackhole) {
+        grow(jumpStart, 0, blackhole);
+    }
+
+    /**
+     * Extends the given path by every single forward and turning step for as long as it stays within the jump MP,
+     * allowing at most one turn between hexes, and hands every path to the blackhole.
+     */
+    private void grow(MovePath path, int turns, Blackhole blackhole) {
+        blackhole.consume(path);
+        if (path.getMpUsed() >= JUMP_MP) {
+            return;
+        }
+        MovePath forward = path.clone().addStep(MoveStepType.FORWARDS);
+        if (forward.isMoveLegal()) {
+            grow(forward, 0, blackhole);
+        }
+        if (turns == 0) {
+            grow(path.clone().addStep(MoveStepType.TURN_LEFT), 1, blackhole);
+            grow(path.clone().addStep(MoveStepType.TURN_RIGHT), 1, blackhole);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import megamek.common.Player;
+import megamek.common.board.Board;
+import megamek.common.board.Coords;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.equipment.EquipmentTypeLookup;
+import megamek.common.game.Game;
+import megamek.common.units.BipedMek;
+import megamek.common.units.EntityMovementMode;
+import megamek.common.units.Mek;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares saving and loading a game as gzipped XStream XML, as the regular save games are written, with the binary
+ * save game format. The game has a 64x64 board and the given number of Meks spread over four players. The binary
+ * snapshot alone is measured as well, since that is the part of a binary save that runs on the game thread. The sizes
+ * of both save games are printed at the start of each trial. Run it with {@code ./gradlew :megamek:jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveGameFormatBenchmark {
+
+    private static final int BOARD_SIZE = 64;
+    private static final int PLAYERS = 4;
+
+    @Param({ "50", "400" })
+    public int units;
+
+    private Game game;
+    private byte[] xmlSave;
+    private byte[] binarySave;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        StringBuilder boardData = new StringBuilder("size " + BOARD_SIZE + " " + BOARD_SIZE + "\n");
+        for (int x = 1; x <= BOARD_SIZE; x++) {
+            for (int y = 1; y <= BOARD_SIZE; y++) {
+                String terrain = ((x * y) % 7 == 0) ? "woods:1" : "";
+                boardData.append(String.format("hex %02d%02d %d \"%s\" \"\"%n", x, y, (x + y) % 3, terrain));
+            }
+        }
+        boardData.append("end");
+        Board board = new Board(BOARD_SIZE, BOARD_SIZE);
+        List<String> errors = new ArrayList<>();
+        board.load(boardData.toString(), errors);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Could not load the benchmark board: " + errors);
+        }
+
+        game = new Game();
+        game.setBoard(board);
+        for (int id = 0; id < PLAYERS; id++) {
+            game.addPlayer(id, new Player(id, "Player " + id));
+        }
+
+        EquipmentType jumpJet = EquipmentType.get(EquipmentTypeLookup.JUMP_JET);
+        for (int id = 1; id <= units; id++) {
+            BipedMek mek = new BipedMek();
+            mek.setId(id);
+            mek.setChassis("Benchmark");
+            mek.setModel("BM-" + id);
+            mek.setWeight(50.0);
+            mek.setMovementMode(EntityMovementMode.BIPED);
+            mek.setOriginalWalkMP(5);
+            mek.setOriginalJumpMP(4);
+            for (int i = 0; i < 4; i++) {
+                mek.addEquipment(jumpJet, (i % 2 == 0) ? Mek.LOC_LEFT_TORSO : Mek.LOC_RIGHT_TORSO);
+            }
+            mek.setOwner(game.getPlayer(id % PLAYERS));
+            game.addEntity(mek);
+            mek.setPosition(new Coords(id % BOARD_SIZE, (id * 7) % BOARD_SIZE));
+        }
+
+        xmlSave = saveXml();
+        binarySave = saveBinary();
+        System.out.printf("%nSave game sizes for %d units: XML %d bytes, binary %d bytes%n", units, xmlSave.length,
+              binarySave.length);
+    }
+
+    @Benchmark
+    public byte[] saveXml() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzo = new GZIPOutputStream(bytes);
+              Writer writer = new OutputStreamWriter(gzo, StandardCharsets.UTF_8)) {
+            SerializationHelper.getSaveGameXStream().toXML(game, writer);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public BinarySaveGame.Snapshot snapshotBinary() throws Exception {
+        return BinarySaveGame.snapshot(game);
+    }
+
+    @Benchmark
+    public byte[] saveBinary() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinarySaveGame.write(BinarySaveGame.snapshot(game), bytes);
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Game loadXml() throws Exception {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(xmlSave))) {
+            return (Game) SerializationHelper.getLoadSaveGameXStream().fromXML(in);
+        }
+    }
+
+    @Benchmark
+    public Game loadBinary() throws Exception {
+        return BinarySaveGame.read(new ByteArrayInputStream(binarySave));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import megamek.client.HeadlessClient;
+import megamek.common.event.GameListenerAdapter;
+import megamek.common.event.player.GamePlayerChatEvent;
+import megamek.common.preference.PreferenceManager;
+import megamek.server.totalWarfare.TWGameManager;
+
+/**
+ * Load test for the server transports. Starts a dedicated server on a local port, connects a number of headless
+ * clients and one client that stops reading after the first message, then sends a burst of server chat messages to
+ * all of them. For both the blocking transport and the pipelined transport it prints how long the server took to hand
+ * the burst to the connections and how long it took until all the other clients had received it. With the blocking
+ * transport the stalled client holds up the server until it reads again; with the pipelined transport it does not.
+ * <p>
+ * This is not a JMH benchmark; run it with {@code ./gradlew :megamek:transportLoadTest}. Optional arguments are the
+ * number of clients, the number of messages and the port.
+ */
+public class ServerTransportLoadTest {
+    private static final String STALLED_NAME = "Stalled";
+    private static final long STALL_MILLIS = 5000;
+    private static final int MESSAGE_LENGTH = 1000;
+
+    public static void main(String... args) throws Exception {
+        int clients = (args.length > 0) ? Integer.parseInt(args[0]) : 48;
+        int messages = (args.length > 1) ? Integer.parseInt(args[1]) : 2000;
+        int port = (args.length > 2) ? Integer.parseInt(args[2]) : 2346;
+
+        boolean previous = PreferenceManager.getClientPreferences().getPipelinedServerTransport();
+        try {
+            run(false, clients, messages, port);
+            run(true, clients, messages, port + 1);
+        } finally {
+            PreferenceManager.getClientPreferences().setPipelinedServerTransport(previous);
+        }
+        System.exit(0);
+    }
+
+    private static void run(boolean pipelined, int clientCount, int messages, int port) throws Exception {
+        PreferenceManager.getClientPreferences().setPipelinedServerTransport(pipelined);
+        Server server = new Server(null, port, new TWGameManager(), false, "", null, true);
+        List<HeadlessClient> clients = new ArrayList<>();
+        CountDownLatch received = new CountDownLatch(clientCount);
+        CountDownLatch stallReleased = new CountDownLatch(1);
+        String payload = randomText(MESSAGE_LENGTH);
+        try {
+            for (int i = 0; i < clientCount; i++) {
+                HeadlessClient client = new HeadlessClient("Client" + i, "localhost", port);
+                AtomicInteger count = new AtomicInteger();
+                client.getGame().addGameListener(new GameListenerAdapter() {
+                    @Override
+                    public void gamePlayerChat(GamePlayerChatEvent e) {
+                        if (e.getMessage().endsWith(payload) && (count.incrementAndGet() == messages)) {
+                            received.countDown();
+                        }
+                    }
+                });
+                clients.add(client);
+            }
+            HeadlessClient stalled = new HeadlessClient(STALLED_NAME, "localhost", port);
+            stalled.getGame().addGameListener(new GameListenerAdapter() {
+                @Override
+                public void gamePlayerChat(GamePlayerChatEvent e) {
+                    // Blocks the client's reader thread so the data piles up on the server
+                    try {
+                        stallReleased.await(STALL_MILLIS, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException ignored) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            clients.add(stalled);
+
+            for (HeadlessClient client : clients) {
+                if (!client.connect()) {
+                    throw new IllegalStateException("Could not connect to the server on port " + port);
+                }
+            }
+            long deadline = System.currentTimeMillis() + 30_000;
+            while (server.getGame().getNoOfPlayers() < clients.size()) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("Not all clients joined the server");
+                }
+                Thread.sleep(50);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < messages; i++) {
+                server.sendServerChat(i + " " + payload);
+            }
+            long handedOver = System.nanoTime();
+            boolean complete = received.await(60, TimeUnit.SECONDS);
+            long delivered = System.nanoTime();
+            stallReleased.countDown();
+
+            System.out.printf("%s transport, %d clients, %d messages: server busy %d ms, delivered %s %d ms%n",
+                  pipelined ? "Pipelined" : "Blocking", clientCount, messages,
+                  TimeUnit.NANOSECONDS.toMillis(handedOver - start),
+                  complete ? "to all clients in" : "INCOMPLETE after",
+                  TimeUnit.NANOSECONDS.toMillis(delivered - start));
+        } finally {
+            stallReleased.countDown();
+            clients.forEach(HeadlessClient::die);
+            server.die();
+        }
+    }
+
+    private static String randomText(int length) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(26)));
+        }
+        return text.toString();
+    }
+}
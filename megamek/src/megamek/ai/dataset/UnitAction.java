@@ -161,7 +161,7 @@ public class UnitAction extends EntityDataMap<UnitAction.Field> {
                     .reduce(1.0, (a, b) -> a * b));
 
         // Movement steps
-        map.put(Field.STEPS, movePath.getStepVector().stream().map(MoveStep::getType).collect(Collectors.toList()));
+        map.put(Field.STEPS, movePath.getStepList().stream().map(MoveStep::getType).collect(Collectors.toList()));
 
         // Entity capabilities
         map.put(Field.IS_BOT, entity.getOwner().isBot())
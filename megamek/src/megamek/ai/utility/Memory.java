@@ -32,6 +32,8 @@
  */
 package megamek.ai.utility;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -66,7 +68,9 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * @author Luana Coppio
  */
-public class Memory {
+public class Memory implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     private final Map<String, Object> memory = new ConcurrentHashMap<>();
 
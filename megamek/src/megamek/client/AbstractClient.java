@@ -34,7 +34,6 @@
 package megamek.client;
 
 import java.io.File;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -67,6 +66,7 @@ import megamek.common.net.events.DisconnectedEvent;
 import megamek.common.net.events.PacketReceivedEvent;
 import megamek.common.net.factories.ConnectionFactory;
 import megamek.common.net.listeners.ConnectionListener;
+import megamek.common.net.marshalling.PacketMarshaller;
 import megamek.common.net.packets.InvalidPacketDataException;
 import megamek.common.net.packets.Packet;
 import megamek.common.preference.PreferenceManager;
@@ -109,8 +109,8 @@ public abstract class AbstractClient implements IClient {
      */
     protected Map<String, AbstractClient> bots = new TreeMap<>(String::compareTo);
 
-    // Image cache for storing unit icons in as base64 with the unit ID as key
-    protected Map<Integer, String> iconCache = new HashMap<>();
+    // Cache of the unit icons shown in reports, with the unit ID as key
+    protected final UnitIconCache iconCache = new UnitIconCache();
 
     /**
      * Construct a client which will try to connect. If the connection fails, it will alert the player, free resources
@@ -471,6 +471,9 @@ public abstract class AbstractClient implements IClient {
             switch (packet.command()) {
                 case SERVER_GREETING:
                     connected = true;
+                    if ((packet.getObject(0) instanceof Integer marshallingType) && (connection != null)) {
+                        connection.setMarshallingType(marshallingType);
+                    }
                     send(new Packet(PacketCommand.CLIENT_NAME, name, isBot()));
                     break;
                 case SERVER_CORRECT_NAME:
@@ -480,7 +483,8 @@ public abstract class AbstractClient implements IClient {
                     disconnected();
                     break;
                 case SERVER_VERSION_CHECK:
-                    send(new Packet(PacketCommand.CLIENT_VERSIONS, SuiteConstants.VERSION));
+                    send(new Packet(PacketCommand.CLIENT_VERSIONS, SuiteConstants.VERSION,
+                          PacketMarshaller.BINARY_MARSHALING));
                     break;
                 case ILLEGAL_CLIENT_VERSION:
                     final Version serverVersion = (Version) packet.getObject(0);
@@ -37,6 +37,7 @@ package megamek.client;
 
 import java.awt.Image;
 import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -96,6 +97,7 @@ import megamek.common.interfaces.IEntityRemovalConditions;
 import megamek.common.loaders.MapSettings;
 import megamek.common.moves.MovePath;
 import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.marshalling.EntityDeltaCodec;
 import megamek.common.net.packets.InvalidPacketDataException;
 import megamek.common.net.packets.Packet;
 import megamek.common.options.GameOptions;
@@ -112,6 +114,7 @@ import megamek.common.units.EntitySelector;
 import megamek.common.units.FighterSquadron;
 import megamek.common.units.IBuilding;
 import megamek.common.units.UnitLocation;
+import megamek.common.util.BinarySaveGame;
 import megamek.common.util.C3Util;
 import megamek.common.util.ImageUtil;
 import megamek.common.util.SerializationHelper;
@@ -134,6 +137,12 @@ public class Client extends AbstractClient {
     protected final Game game = new Game();
 
     private Set<BoardDimensions> availableSizes = new TreeSet<>();
+    /** Unit ID to the serialized unit last received in an ENTITY_DELTA_UPDATE; the next delta applies to this */
+    private final Map<Integer, byte[]> entityDeltaBaselines = new HashMap<>();
+    /** The rounds up to this one have been stored by a report display; their Report objects are not kept */
+    private int storedReportRound;
+    /** Counts the SENDING_REPORTS_ALL packets received, which replace the reports of all rounds */
+    private int allReportsReceived;
     private AbstractSkillGenerator skillGenerator;
 
     // FIXME: Should ideally be located elsewhere; the client should handle data, not gfx or UI-related stuff:
@@ -601,6 +610,8 @@ public class Client extends AbstractClient {
             game.setForces(forces);
         }
 
+        // The server drops its delta baselines when sending all entities
+        entityDeltaBaselines.clear();
         game.setEntitiesVector(newEntities);
 
         // CRITICAL FIX: Reconstruct C3 networks from UUIDs (matches server-side handling)
@@ -637,8 +648,8 @@ public class Client extends AbstractClient {
 
         if (GUIPreferences.getInstance().getMiniReportShowSprites() &&
               game.getOptions().booleanOption(OptionsConstants.ADVANCED_DOUBLE_BLIND) &&
-              iconCache != null && !iconCache.containsKey(Report.HIDDEN_ENTITY_NUM)) {
-            ImageUtil.createDoubleBlindHiddenImage(iconCache);
+              !iconCache.containsKey(Report.HIDDEN_ENTITY_NUM)) {
+            iconCache.put(Report.HIDDEN_ENTITY_NUM, ImageUtil.createDoubleBlindHiddenImage());
         }
     }
 
@@ -697,6 +708,50 @@ public class Client extends AbstractClient {
         }
     }
 
+    /**
+     * Loads entity update data from a delta against the last version of the unit received from the server. When the
+     * delta cannot be applied to the locally known version, the server is asked to send the unit in full.
+     */
+    protected void receiveEntityDeltaUpdate(Packet packet) throws InvalidPacketDataException {
+        int entityIndex = packet.getIntValue(0);
+        int baseChecksum = packet.getIntValue(1);
+        byte[] delta = packet.getByteArrayValue(2);
+        int targetChecksum = packet.getIntValue(3);
+
+        byte[] baseline = entityDeltaBaselines.get(entityIndex);
+        if ((baseline == null) || (EntityDeltaCodec.checksum(baseline) != baseChecksum)) {
+            // The server may have started over with an empty baseline, e.g. after a reconnect
+            baseline = new byte[0];
+        }
+        if (EntityDeltaCodec.checksum(baseline) != baseChecksum) {
+            requestEntityResync(entityIndex);
+            return;
+        }
+
+        Entity entity;
+        try {
+            byte[] entityBytes = EntityDeltaCodec.applyDelta(baseline, delta);
+            if (EntityDeltaCodec.checksum(entityBytes) != targetChecksum) {
+                requestEntityResync(entityIndex);
+                return;
+            }
+            entity = EntityDeltaCodec.deserialize(entityBytes);
+            entityDeltaBaselines.put(entityIndex, entityBytes);
+        } catch (IOException | ClassNotFoundException | ClassCastException ex) {
+            LOGGER.error(ex, "Could not apply the delta update for unit {}", entityIndex);
+            requestEntityResync(entityIndex);
+            return;
+        }
+
+        Vector<UnitLocation> movePath = packet.getUnitLocationVector(4);
+        getGame().setEntity(entityIndex, entity, movePath);
+    }
+
+    private void requestEntityResync(int entityId) {
+        entityDeltaBaselines.remove(entityId);
+        send(new Packet(PacketCommand.ENTITY_DELTA_RESYNC, entityId));
+    }
+
     /**
      * Update multiple entities from the server. Used only in the lobby phase.
      */
@@ -900,6 +955,30 @@ public class Client extends AbstractClient {
         }
     }
 
+    /**
+     * Tells this client that a report display has stored the rendered reports of all rounds up to the given one, which
+     * have ended. The client then drops the Report objects of these rounds from its game, so that it does not keep the
+     * reports of every round of a long game. Clients without a report display, such as bots, never call this and keep
+     * all their reports.
+     *
+     * @param round The last round that was stored
+     */
+    public void reportRoundsStored(int round) {
+        storedReportRound = Math.max(storedReportRound, Math.min(round, game.getRoundCount()));
+        for (int storedRound = 1; storedRound <= storedReportRound; storedRound++) {
+            game.clearReports(storedRound);
+        }
+    }
+
+    /**
+     * @return The number of SENDING_REPORTS_ALL packets received. When this changes, the reports of all rounds have
+     *       been replaced, e.g. by the unfiltered reports of a double-blind game that the server sends for the victory
+     *       phase, and a report display has to store all rounds again.
+     */
+    public int getAllReportsReceived() {
+        return allReportsReceived;
+    }
+
     // Should be private?
     public String receiveReport(List<Report> reports) {
         if (reports == null) {
@@ -993,30 +1072,21 @@ public class Client extends AbstractClient {
      * returns the stored <img> tag for given unit id
      */
     private String getCachedImgTag(int id) {
-        if (!GUIPreferences.getInstance().getMiniReportShowSprites()
-              || (iconCache == null) || !iconCache.containsKey(id)) {
+        if (!GUIPreferences.getInstance().getMiniReportShowSprites()) {
             return null;
         }
-        return iconCache.get(id);
+        return iconCache.getImgTag(id);
     }
 
     /**
-     * Hashtable for storing img tags containing base64Text src.
+     * Stores the current image of the entity in the icon cache. The image is only encoded to an img tag when a report
+     * shows the entity, and entities that look the same share the encoded tag.
      */
     protected void cacheImgTag(Entity entity) {
         if (entity == null) {
             return;
         }
-
-        iconCache.remove(entity.getId());
-
-        if (getTargetImage(entity) != null) {
-            // convert image to base64, add to the <img> tag and store in cache
-            BufferedImage image = ImageUtil.getScaledImage(getTargetImage(entity), 56, 48);
-            String base64Text = ImageUtil.base64TextEncodeImage(image);
-            String img = "<img src='data:image/png;base64," + base64Text + "'>";
-            iconCache.put(entity.getId(), img);
-        }
+        iconCache.put(entity.getId(), getTargetImage(entity));
     }
 
     /**
@@ -1130,6 +1200,9 @@ public class Client extends AbstractClient {
                 case ENTITY_UPDATE:
                     receiveEntityUpdate(packet);
                     break;
+                case ENTITY_DELTA_UPDATE:
+                    receiveEntityDeltaUpdate(packet);
+                    break;
                 case ENTITY_MULTI_UPDATE:
                     receiveEntitiesUpdate(packet);
                     break;
@@ -1256,6 +1329,9 @@ public class Client extends AbstractClient {
                 case SENDING_REPORTS_ALL:
                     var allReports = packet.getReportListOfList(0);
                     game.setAllReports(allReports);
+                    // The report display has to store every round again from these reports
+                    storedReportRound = 0;
+                    allReportsReceived++;
                     if (keepGameLog()) {
                         // Re-write gamelog.txt from scratch
                         initGameLog();
@@ -1738,16 +1814,23 @@ public class Client extends AbstractClient {
      */
     public void sendLoadGame(File f) {
         try (InputStream is = new FileInputStream(f)) {
-            InputStream gzi;
-
-            if (f.getName().toLowerCase().endsWith(".gz")) {
-                gzi = new GZIPInputStream(is);
+            Object loadedGame;
+            if (BinarySaveGame.isBinarySaveGame(f)) {
+                loadedGame = BinarySaveGame.read(new BufferedInputStream(is));
             } else {
-                gzi = is;
+                InputStream gzi;
+
+                if (f.getName().toLowerCase().endsWith(".gz")) {
+                    gzi = new GZIPInputStream(is);
+                } else {
+                    gzi = is;
+                }
+                loadedGame = SerializationHelper.getLoadSaveGameXStream().fromXML(gzi);
             }
 
             game.reset();
-            send(new Packet(PacketCommand.LOAD_GAME, SerializationHelper.getLoadSaveGameXStream().fromXML(gzi)));
+            entityDeltaBaselines.clear();
+            send(new Packet(PacketCommand.LOAD_GAME, loadedGame));
         } catch (Exception ex) {
             String message = String.format("Can't find the local savegame %s", f);
             LOGGER.error(ex, message);
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2024-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -34,7 +34,6 @@
 package megamek.client;
 
 import java.awt.Image;
-import java.awt.image.BufferedImage;
 import java.util.List;
 import java.util.Objects;
 
@@ -192,27 +191,19 @@ public class SBFClient extends AbstractClient {
 
         if (GUIPreferences.getInstance().getMiniReportShowSprites() &&
               game.getOptions().booleanOption(OptionsConstants.ADVANCED_DOUBLE_BLIND) &&
-              iconCache != null && !iconCache.containsKey(Report.HIDDEN_ENTITY_NUM)) {
-            ImageUtil.createDoubleBlindHiddenImage(iconCache);
+              !iconCache.containsKey(Report.HIDDEN_ENTITY_NUM)) {
+            iconCache.put(Report.HIDDEN_ENTITY_NUM, ImageUtil.createDoubleBlindHiddenImage());
         }
     }
 
     /**
-     * Hashtable for storing img tags containing base64Text src.
+     * Stores the current image of the unit in the icon cache. The image is only encoded when a report needs it.
      */
     protected void cacheImgTag(InGameObject unit) {
         if (unit == null) {
             return;
         }
-
-        iconCache.remove(unit.getId());
-        if (getTargetImage(unit) != null) {
-            // convert image to base64, add to the <img> tag and store in cache
-            BufferedImage image = ImageUtil.getScaledImage(getTargetImage(unit), 56, 48);
-            String base64Text = ImageUtil.base64TextEncodeImage(image);
-            String img = "<img src='data:image/png;base64," + base64Text + "'>";
-            iconCache.put(unit.getId(), img);
-        }
+        iconCache.put(unit.getId(), getTargetImage(unit));
     }
 
     /**
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client;
+
+import java.awt.Image;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.util.ImageUtil;
+
+/**
+ * Holds the unit icons that the client shows in reports as {@code <img>} tags with base64 PNG data. When the units
+ * arrive, only the image of each unit is remembered. The image comes from the tileset, which shares one image between
+ * all units with the same base image, camouflage and damage state. The tag of an image is encoded when a report first
+ * needs it and is then reused for every unit and every later packet that shows the same image. The number of encoded
+ * tags is limited; the least recently used ones are dropped.
+ * <p>
+ * Thread-safe. Encoding happens on the thread that asks for a tag, outside the lock.
+ */
+public class UnitIconCache {
+
+    /** The size of the icons in the reports */
+    public static final int ICON_WIDTH = 56;
+    public static final int ICON_HEIGHT = 48;
+
+    static final int DEFAULT_MAX_ENCODED_ICONS = 256;
+
+    private final Map<Integer, Image> unitImages = new HashMap<>();
+    private final Map<Image, String> imgTags;
+    private final Function<Image, String> encoder;
+
+    public UnitIconCache() {
+        this(DEFAULT_MAX_ENCODED_ICONS, UnitIconCache::encode);
+    }
+
+    /**
+     * @param maxEncodedIcons the maximum number of encoded tags that are kept
+     * @param encoder         creates the tag for an image
+     */
+    UnitIconCache(int maxEncodedIcons, Function<Image, String> encoder) {
+        this.encoder = encoder;
+        imgTags = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Image, String> eldest) {
+                return size() > maxEncodedIcons;
+            }
+        };
+    }
+
+    /**
+     * Sets the icon image of the given unit. This is cheap; the image is only encoded when its tag is requested.
+     *
+     * @param unitId the unit ID
+     * @param image  the current image of the unit; when null, the unit has no icon
+     */
+    public synchronized void put(int unitId, @Nullable Image image) {
+        if (image == null) {
+            unitImages.remove(unitId);
+        } else {
+            unitImages.put(unitId, image);
+        }
+    }
+
+    /** @return True when an icon image is stored for the given unit ID */
+    public synchronized boolean containsKey(int unitId) {
+        return unitImages.containsKey(unitId);
+    }
+
+    /**
+     * Returns the {@code <img>} tag of the given unit, encoding its image if no unit with the same image has been
+     * encoded before.
+     *
+     * @param unitId the unit ID
+     *
+     * @return the tag or null when there is no image for the unit
+     */
+    public @Nullable String getImgTag(int unitId) {
+        Image image;
+        synchronized (this) {
+            image = unitImages.get(unitId);
+            if (image == null) {
+                return null;
+            }
+            String imgTag = imgTags.get(image);
+            if (imgTag != null) {
+                return imgTag;
+            }
+        }
+        String imgTag = encoder.apply(image);
+        synchronized (this) {
+            String existing = imgTags.putIfAbsent(image, imgTag);
+            return (existing != null) ? existing : imgTag;
+        }
+    }
+
+    /** Removes all unit images and encoded tags. */
+    public synchronized void clear() {
+        unitImages.clear();
+        imgTags.clear();
+    }
+
+    /** @return the number of encoded tags currently kept */
+    synchronized int getEncodedCount() {
+        return imgTags.size();
+    }
+
+    private static String encode(Image image) {
+        String base64Text = ImageUtil.base64TextEncodeImage(ImageUtil.getScaledImage(image, ICON_WIDTH, ICON_HEIGHT));
+        return "<img src='data:image/png;base64," + base64Text + "'>";
+    }
+}
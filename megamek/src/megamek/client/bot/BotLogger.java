@@ -294,7 +294,7 @@ public class BotLogger {
             var armor = LOG_DECIMAL.format(Math.max(0, movePath.getEntity().getArmorRemainingPercent()));
             var internal = LOG_DECIMAL.format(Math.max(0, movePath.getEntity().getInternalRemainingPercent()));
             var steps = new StringBuilder();
-            movePath.getStepVector().forEach(step -> steps.append(step.toString()).append(" "));
+            movePath.getStepList().forEach(step -> steps.append(step.toString()).append(" "));
 
             var header = new ArrayList<>(List.of("RECORD", "INDEX", "PLAYER_ID", "ENTITY_ID", "RANK", "CHASSIS",
                   "MODEL",
@@ -1285,10 +1285,7 @@ public class AerospacePathRanker extends BasicPathRanker {
      */
     private static List<Coords> orderedFlownLine(MovePath path) {
         List<Coords> line = new ArrayList<>();
-        if (path.getStepVector() == null) {
-            return line;
-        }
-        for (MoveStep step : path.getStepVector()) {
+        for (MoveStep step : path.getStepList()) {
             Coords position = step.getPosition();
             if ((position != null) && (line.isEmpty() || !line.getLast().equals(position))) {
                 line.add(position);
@@ -1527,7 +1524,7 @@ public class AerospacePathRanker extends BasicPathRanker {
      * @return the penalty to subtract from this path's utility
      */
     private double maneuverRiskPenalty(MovePath path, Game game, AerospaceVenue venue) {
-        for (MoveStep step : path.getStepVector()) {
+        for (MoveStep step : path.getStepList()) {
             if (step.getType() != MoveStepType.MANEUVER) {
                 continue;
             }
@@ -1675,25 +1672,22 @@ public class AerospacePathRanker extends BasicPathRanker {
     static double maneuverSuccessChance(MovePath path, int maneuverType) {
         Entity mover = path.getEntity();
         if (mover instanceof IAero aero) {
-            List<MoveStep> steps = path.getStepVector();
-            if (steps != null) {
-                for (MoveStep step : steps) {
-                    if (step.getType() != MoveStepType.MANEUVER) {
-                        continue;
-                    }
-                    PilotingRollData rollTarget = aero.checkManeuver(step, path.getLastStepMovementType());
-                    int target = rollTarget.getValue();
-                    if (target == TargetRoll.AUTOMATIC_SUCCESS) {
-                        return 1.0;
-                    }
-                    if ((target == TargetRoll.IMPOSSIBLE) || (target == TargetRoll.AUTOMATIC_FAIL)) {
-                        return 0.0;
-                    }
-                    if (target != TargetRoll.CHECK_FALSE) {
-                        return Compute.oddsAbove(target) / 100.0;
-                    }
-                    break;
+            for (MoveStep step : path.getStepList()) {
+                if (step.getType() != MoveStepType.MANEUVER) {
+                    continue;
+                }
+                PilotingRollData rollTarget = aero.checkManeuver(step, path.getLastStepMovementType());
+                int target = rollTarget.getValue();
+                if (target == TargetRoll.AUTOMATIC_SUCCESS) {
+                    return 1.0;
+                }
+                if ((target == TargetRoll.IMPOSSIBLE) || (target == TargetRoll.AUTOMATIC_FAIL)) {
+                    return 0.0;
+                }
+                if (target != TargetRoll.CHECK_FALSE) {
+                    return Compute.oddsAbove(target) / 100.0;
                 }
+                break;
             }
         }
         return maneuverSuccessChance(mover, maneuverType);
@@ -2637,7 +2637,7 @@ public class BasicPathRanker extends PathRanker {
         double totalHazard = 0;
         Coords previousCoords = null;
         MoveStep lastStep = path.getLastStep();
-        for (MoveStep step : path.getStepVector()) {
+        for (MoveStep step : path.getStepList()) {
             Coords coords = step.getPosition();
             if ((coords == null) || coords.equals(previousCoords)) {
                 continue;
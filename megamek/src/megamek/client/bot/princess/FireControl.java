@@ -2595,6 +2595,9 @@ public class FireControl {
         }
 
         // build up heat table
+        // Candidate plans are assembled in one scratch plan. A candidate that beats the best plan of its heat level
+        // takes that plan's place, and the plan it displaced becomes the next scratch plan.
+        FiringPlan testPlan = new FiringPlan(target, alphaStrike.getFlipArms());
         for (int heatLevel = 1; heatLevel <= maxHeat; heatLevel++) {
             bestPlans[heatLevel] = new FiringPlan(target);
 
@@ -2612,14 +2615,17 @@ public class FireControl {
                       !bestPlans[leftoverHeatCapacity].containsWeapon(weaponFireInfo.getWeapon())) {
 
                     // make sure to pass along arm flip state from the alpha strike, if any
-                    final FiringPlan testPlan = new FiringPlan(target, alphaStrike.getFlipArms());
-                    testPlan.addAll(bestPlans[heatLevel - weaponFireInfo.getHeat()]);
+                    testPlan.clear();
+                    testPlan.setFlipArms(alphaStrike.getFlipArms());
+                    testPlan.addAll(bestPlans[leftoverHeatCapacity]);
                     testPlan.add(weaponFireInfo);
                     calculateUtility(testPlan, heatTolerance, isAero);
 
                     // If this plan has a higher utility, add it.
                     if (testPlan.getUtility() > bestPlans[heatLevel].getUtility()) {
+                        final FiringPlan displacedPlan = bestPlans[heatLevel];
                         bestPlans[heatLevel] = testPlan;
+                        testPlan = displacedPlan;
                     }
                 }
             }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client.bot.princess;
+
+import java.util.Arrays;
+
+/**
+ * Solves the 0/1 knapsack problem of a firing plan: the shots (or firing arcs) are the items, their expected damage is
+ * the value, their heat is the weight and the heat the shooter can take is the capacity. The best value is kept in a
+ * single row of doubles and the choices are kept as back-pointers in a flat boolean table, so that no lists are built
+ * per cell. The arrays only grow; each thread uses its own solver, see {@link #forCurrentThread()}, so that solving
+ * allocates nothing once the arrays are large enough.
+ * <p>
+ * Ties are resolved as the list-based tables this solver replaced resolved them: a later item only replaces a solution
+ * when it improves the value. Like those tables, the solver never picks an item at zero heat, so zero-heat items are
+ * only part of a solution with at least one heat available.
+ */
+final class HeatKnapsack {
+
+    private static final ThreadLocal<HeatKnapsack> SOLVERS = ThreadLocal.withInitial(HeatKnapsack::new);
+
+    private int[] heats = new int[16];
+    private double[] values = new double[16];
+    private int itemCount;
+
+    private double[] bestValues = new double[0];
+    private boolean[] taken = new boolean[0];
+    private int[] chosen = new int[16];
+    private int chosenCount;
+
+    /**
+     * @return The solver of the current thread, emptied of any items
+     */
+    static HeatKnapsack forCurrentThread() {
+        HeatKnapsack solver = SOLVERS.get();
+        solver.clear();
+        return solver;
+    }
+
+    /**
+     * Removes all items and the last solution.
+     */
+    void clear() {
+        itemCount = 0;
+        chosenCount = 0;
+    }
+
+    /**
+     * Adds an item. Items are identified by the order they were added in, starting at 0.
+     *
+     * @param heat  The heat of the item; negative heat is treated as zero
+     * @param value The value of the item, usually its expected damage
+     */
+    void addItem(int heat, double value) {
+        if (itemCount == heats.length) {
+            heats = Arrays.copyOf(heats, itemCount * 2);
+            values = Arrays.copyOf(values, itemCount * 2);
+        }
+        heats[itemCount] = Math.max(0, heat);
+        values[itemCount] = value;
+        itemCount++;
+    }
+
+    /**
+     * Finds the items with the highest total value whose total heat does not exceed the given heat. Afterwards, the
+     * chosen items are available through {@link #getChosenCount()} and {@link #getChosen(int)}.
+     *
+     * @param maxHeat The heat the chosen items may generate at most
+     *
+     * @return The total value of the chosen items
+     */
+    double solve(int maxHeat) {
+        chosenCount = 0;
+        if ((maxHeat < 0) || (itemCount == 0)) {
+            return 0;
+        }
+
+        int columns = maxHeat + 1;
+        if (bestValues.length < columns) {
+            bestValues = new double[columns];
+        }
+        if (taken.length < itemCount * columns) {
+            taken = new boolean[itemCount * columns];
+        }
+        Arrays.fill(bestValues, 0, columns, 0);
+
+        for (int item = 0; item < itemCount; item++) {
+            int heat = heats[item];
+            double value = values[item];
+            int row = item * columns;
+            taken[row] = false;
+            // Going down in heat, bestValues still holds the previous item's row where it is read
+            for (int heatIndex = maxHeat; heatIndex > 0; heatIndex--) {
+                boolean take = false;
+                if (heat <= heatIndex) {
+                    double valueWithItem = value + bestValues[heatIndex - heat];
+                    if (valueWithItem > bestValues[heatIndex]) {
+                        bestValues[heatIndex] = valueWithItem;
+                        take = true;
+                    }
+                }
+                taken[row + heatIndex] = take;
+            }
+        }
+
+        if (chosen.length < itemCount) {
+            chosen = new int[itemCount];
+        }
+        int heatIndex = maxHeat;
+        for (int item = itemCount - 1; item >= 0; item--) {
+            if (taken[(item * columns) + heatIndex]) {
+                chosen[chosenCount++] = item;
+                heatIndex -= heats[item];
+            }
+        }
+        // The back-pointers give the items last to first
+        for (int low = 0, high = chosenCount - 1; low < high; low++, high--) {
+            int swap = chosen[low];
+            chosen[low] = chosen[high];
+            chosen[high] = swap;
+        }
+        return bestValues[maxHeat];
+    }
+
+    /**
+     * @return The number of items chosen by the last {@link #solve(int)}
+     */
+    int getChosenCount() {
+        return chosenCount;
+    }
+
+    /**
+     * @param index The index among the chosen items, from 0 to {@link #getChosenCount()} - 1
+     *
+     * @return The item (in the order the items were added) chosen by the last {@link #solve(int)}, in ascending order
+     */
+    int getChosen(int index) {
+        return chosen[index];
+    }
+}
@@ -479,7 +479,7 @@ public class HeatMap {
         Coords startPosition = null;
         Coords lastPosition = detailedMove.getLastStep().getPosition();
 
-        for (MoveStep curStep : detailedMove.getStepVector()) {
+        for (MoveStep curStep : detailedMove.getStepList()) {
             Coords curPosition = curStep.getPosition();
             if (startPosition != null) {
                 if (!path.contains(curPosition) && !curPosition.equals(startPosition)) {
@@ -55,7 +55,7 @@ public class MinefieldUtil {
     public static double checkPathForMinefieldHazards(MovePath path) {
         double hazardAccumulator = 0;
 
-        for (MoveStep step : path.getStepVector()) {
+        for (MoveStep step : path.getStepList()) {
             hazardAccumulator += calcMinefieldHazardForHex(step, path.getEntity(),
                   path.isJumping(), step.equals(path.getLastStep()));
         }
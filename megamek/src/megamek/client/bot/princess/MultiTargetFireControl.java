@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2019-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2019-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -300,67 +300,21 @@ public class MultiTargetFireControl extends FireControl {
             arcDamage.put(arc, arcDamage.get(arc) + shot.getExpectedDamage());
         }
 
-        // initialize the backpack
-        Map<Integer, Map<Integer, List<Integer>>> arcBackpack = new HashMap<>();
-        for (int x = 0; x <= arcShots.size(); x++) {
-            arcBackpack.put(x, new HashMap<>());
-
-            for (int y = 0; y <= heatCapacity; y++) {
-                arcBackpack.get(x).put(y, new ArrayList<>());
-            }
-        }
-
-        double[][] damageBackpack = new double[arcShots.size() + 1][heatCapacity + 1];
-        Integer[] arcHeatKeyArray = new Integer[arcHeat.size()];
-        System.arraycopy(arcHeat.keySet().toArray(), 0, arcHeatKeyArray, 0, arcHeat.size());
-
         // now, we essentially solve the backpack problem, where the arcs are the items:
         // arc expected damage is the "value", and arc heat is the "weight", while the
         // backpack capacity is the unit's heat capacity.
-        // while we're at it, we assemble the list of arcs fired for each cell
-        for (int arcIndex = 0; arcIndex <= arcHeatKeyArray.length; arcIndex++) {
-            for (int heatIndex = 0; heatIndex <= heatCapacity; heatIndex++) {
-                int currentArc = arcIndex > 0 ? arcHeatKeyArray[arcIndex - 1] : 0;
-
-                if (arcIndex == 0 || heatIndex == 0) {
-                    damageBackpack[arcIndex][heatIndex] = 0;
-                } else if (arcHeat.get(currentArc) <= heatIndex) {
-                    int previousHeatIndex = heatIndex - arcHeat.get(currentArc);
-                    double currentArcDamage = arcDamage.get(currentArc)
-                          + damageBackpack[arcIndex - 1][previousHeatIndex];
-                    double accumulatedPreviousArcDamage = damageBackpack[arcIndex - 1][heatIndex];
-
-                    if (currentArcDamage > accumulatedPreviousArcDamage) {
-                        // we can add this arc to the list and it'll improve the damage done
-                        // so let's do it
-                        damageBackpack[arcIndex][heatIndex] = currentArcDamage;
-                        // make sure we don't accidentally update the cell we're examining
-                        List<Integer> appendedArcList = new ArrayList<>(
-                              arcBackpack.get(arcIndex - 1).get(previousHeatIndex));
-                        appendedArcList.add(currentArc);
-                        arcBackpack.get(arcIndex).put(heatIndex, appendedArcList);
-                    } else {
-                        // we *can* add this arc to the list, but it won't take us past the damage
-                        // provided by the previous arc, so carry value from left to right
-                        damageBackpack[arcIndex][heatIndex] = accumulatedPreviousArcDamage;
-                        arcBackpack.get(arcIndex).put(heatIndex, arcBackpack.get(arcIndex - 1).get(heatIndex));
-                    }
-
-                } else {
-                    // in this case, we're simply carrying the value from the left to the right
-                    damageBackpack[arcIndex][heatIndex] = damageBackpack[arcIndex - 1][heatIndex];
-                    arcBackpack.get(arcIndex).put(heatIndex, arcBackpack.get(arcIndex - 1).get(heatIndex));
-                }
-            }
+        HeatKnapsack backpack = HeatKnapsack.forCurrentThread();
+        int[] arcs = new int[arcHeat.size()];
+        int arcCount = 0;
+        for (Map.Entry<Integer, Integer> arc : arcHeat.entrySet()) {
+            arcs[arcCount++] = arc.getKey();
+            backpack.addItem(arc.getValue(), arcDamage.get(arc.getKey()));
         }
 
-        // now, we look at the bottom right cell, which contains our optimal firing
-        // solution
-        // unless there is no firing solution at all, in which case we skip this part
-        if (!arcBackpack.isEmpty()) {
-            for (int arc : arcBackpack.get(arcBackpack.size() - 1).get(heatCapacity - 1)) {
-                retVal.addAll(arcShots.get(arc));
-            }
+        // the optimal firing solution is the one that stays below the heat capacity
+        backpack.solve(heatCapacity - 1);
+        for (int index = 0; index < backpack.getChosenCount(); index++) {
+            retVal.addAll(arcShots.get(arcs[backpack.getChosen(index)]));
         }
 
         return retVal;
@@ -411,61 +365,19 @@ public class MultiTargetFireControl extends FireControl {
             actualHeatCapacity += heatCapacityModifier;
         }
 
-        // initialize the backpack
-        Map<Integer, Map<Integer, List<Integer>>> shotBackpack = new HashMap<>();
-        for (int x = 0; x <= shotList.size(); x++) {
-            shotBackpack.put(x, new HashMap<>());
-
-            for (int y = 0; y < actualHeatCapacity; y++) {
-                shotBackpack.get(x).put(y, new ArrayList<>());
-            }
-        }
-
-        double[][] damageBackpack = new double[shotList.size() + 1][actualHeatCapacity];
-
         // like the above method, we solve the backpack problem here:
         // WeaponFireInfo are the items
         // expected damage is the "value", heat is the "weight", backpack capacity is
         // the unit's heat capacity
-        // while we're at it, we assemble the list of shots fired for each cell
-        for (int shotIndex = 0; shotIndex <= shotList.size(); shotIndex++) {
-            for (int heatIndex = 0; heatIndex < actualHeatCapacity; heatIndex++) {
-                if (shotIndex == 0 || heatIndex == 0) {
-                    damageBackpack[shotIndex][heatIndex] = 0;
-                } else if (shotList.get(shotIndex - 1).getHeat() <= heatIndex) {
-                    int previousHeatIndex = heatIndex - shotList.get(shotIndex - 1).getHeat();
-                    double currentShotDamage = shotList.get(shotIndex - 1).getExpectedDamage() +
-                          damageBackpack[shotIndex - 1][previousHeatIndex];
-                    double accumulatedPreviousShotDamage = damageBackpack[shotIndex - 1][heatIndex];
-
-                    if (currentShotDamage > accumulatedPreviousShotDamage) {
-                        // we can add this shot to the list and it'll improve the damage done
-                        // so let's do it
-                        damageBackpack[shotIndex][heatIndex] = currentShotDamage;
-                        // make sure we don't accidentally update the cell we're examining
-                        List<Integer> appendedShotList = new ArrayList<>(
-                              shotBackpack.get(shotIndex - 1).get(previousHeatIndex));
-                        appendedShotList.add(shotIndex - 1);
-                        shotBackpack.get(shotIndex).put(heatIndex, appendedShotList);
-                    } else {
-                        // we *can* add this arc to the list, but it won't take us past the damage
-                        // provided by the previous arc, so carry value from left to right
-                        damageBackpack[shotIndex][heatIndex] = accumulatedPreviousShotDamage;
-                        shotBackpack.get(shotIndex).put(heatIndex, shotBackpack.get(shotIndex - 1).get(heatIndex));
-                    }
-
-                } else {
-                    // in this case, we're simply carrying the value from the left to the right
-                    damageBackpack[shotIndex][heatIndex] = damageBackpack[shotIndex - 1][heatIndex];
-                    shotBackpack.get(shotIndex).put(heatIndex, shotBackpack.get(shotIndex - 1).get(heatIndex));
-                }
-            }
+        HeatKnapsack backpack = HeatKnapsack.forCurrentThread();
+        for (WeaponFireInfo shot : shotList) {
+            backpack.addItem(shot.getHeat(), shot.getExpectedDamage());
         }
 
-        // now, we look at the bottom right cell, which contains our optimal firing
-        // solution
-        for (int shotIndex : shotBackpack.get(shotBackpack.size() - 1).get(actualHeatCapacity - 1)) {
-            retVal.add(shotList.get(shotIndex));
+        // the optimal firing solution is the one that stays below the heat capacity
+        backpack.solve(actualHeatCapacity - 1);
+        for (int index = 0; index < backpack.getChosenCount(); index++) {
+            retVal.add(shotList.get(backpack.getChosen(index)));
         }
 
         return retVal;
@@ -473,9 +473,9 @@ public class PathEnumerator {
         }
         MovePath adjusted = new MovePath(getGame(), path.getEntity(), path.getWaypoint());
         adjusted.addStep(MoveStepType.CLIMB_MODE_ON);
-        adjusted.addSteps(path.getStepVector(), true);
+        adjusted.addSteps(path.getStepList(), true);
         adjusted.addStep(MoveStepType.CLIMB_MODE_OFF);
-        path.replaceSteps(adjusted.getStepVector());
+        path.replaceSteps(adjusted.getStepList());
     }
 
     // public void debugPrintContents() {
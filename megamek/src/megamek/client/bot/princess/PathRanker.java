@@ -36,9 +36,6 @@ package megamek.client.bot.princess;
 import static megamek.client.ui.SharedUtility.predictLeapDamage;
 import static megamek.client.ui.SharedUtility.predictLeapFallDamage;
 
-import java.math.BigDecimal;
-import java.math.MathContext;
-import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -193,14 +190,16 @@ public abstract class PathRanker implements IPathRanker {
 
         TreeSet<RankedPath> returnPaths = new TreeSet<>(Collections.reverseOrder());
 
+        // The paths are ranked one after another. Ranking a path plans its fire, which turns the shooter's torso and
+        // weapon mounts, and caches its success probability in the shared ranker state.
         try {
-            final BigDecimal numberPaths = new BigDecimal(validPaths.size());
-            BigDecimal count = BigDecimal.ZERO;
-            BigDecimal interval = new BigDecimal(5);
+            int pathCount = validPaths.size();
+            int count = 0;
+            int interval = 5;
             boolean pathsHaveExpectedDamage = false;
             for (MovePath path : validPaths) {
                 try {
-                    count = count.add(BigDecimal.ONE);
+                    count++;
 
                     RankedPath rankedPath = rankPath(path, game, maxRange, fallTolerance, enemies, allyCenter);
 
@@ -210,13 +209,12 @@ public abstract class PathRanker implements IPathRanker {
                     // of damage potential
                     pathsHaveExpectedDamage |= (rankedPath.getExpectedDamage() > 0);
 
-                    BigDecimal percent = count.divide(numberPaths, 2, RoundingMode.DOWN).multiply(new BigDecimal(100))
-                          .round(new MathContext(0, RoundingMode.DOWN));
-                    if (percent.compareTo(interval) >= 0) {
+                    int percent = (int) (count * 100L / pathCount);
+                    if (percent >= interval) {
                         if (logger.isLevelLessSpecificThan(Level.INFO)) {
-                            getOwner().sendChat("... " + percent.intValue() + "% complete.");
+                            getOwner().sendChat("... " + percent + "% complete.");
                         }
-                        interval = percent.add(new BigDecimal(5));
+                        interval = percent + 5;
                     }
                 } catch (Exception e) {
                     logger.error(e, "{} while processing {}", e.getMessage(), path);
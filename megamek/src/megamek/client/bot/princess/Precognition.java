@@ -178,6 +178,9 @@ public class Precognition implements Runnable {
                 case ENTITY_UPDATE:
                     receiveEntityUpdate(c);
                     break;
+                case ENTITY_DELTA_UPDATE:
+                    receiveEntityDeltaUpdate(c);
+                    break;
                 case ENTITY_REMOVE:
                     receiveEntityRemove(c);
                     break;
@@ -780,6 +783,18 @@ public class Precognition implements Runnable {
         getGame().setEntity(entityIndex, entity, movePath);
     }
 
+    /**
+     * The owner has already rebuilt the unit from the delta against its own baseline, so its result is shared here
+     * the same way the unit of a full {@link PacketCommand#ENTITY_UPDATE} is shared.
+     */
+    private void receiveEntityDeltaUpdate(Packet packet) throws InvalidPacketDataException {
+        int entityIndex = packet.getIntValue(0);
+        Entity entity = owner.getGame().getEntity(entityIndex);
+        if (entity != null) {
+            getGame().setEntity(entityIndex, entity, packet.getUnitLocationVector(4));
+        }
+    }
+
     private void receiveEntityAdd(Packet packet) throws InvalidPacketDataException {
         @SuppressWarnings(value = "unchecked")
         List<Entity> entities = (List<Entity>) packet.getObject(0);
@@ -1137,6 +1137,7 @@ public class ClientGUI extends AbstractClientGUI
             public boolean accept(File f) {
                 return f.getName().endsWith(MMConstants.SAVE_FILE_EXT)
                       || f.getName().endsWith(MMConstants.SAVE_FILE_GZ_EXT)
+                      || f.getName().endsWith(MMConstants.BINARY_SAVE_FILE_EXT)
                       || f.isDirectory();
             }
 
@@ -1715,6 +1716,10 @@ public class ClientGUI extends AbstractClientGUI
         }
         phaseComponents.clear();
 
+        if (miniReportDisplayPanel != null) {
+            miniReportDisplayPanel.dispose();
+        }
+
         client.die();
 
         TimerSingleton.getInstance().killTimer();
@@ -134,6 +134,7 @@ import megamek.common.preference.PreferenceChangeEvent;
 import megamek.common.preference.PreferenceManager;
 import megamek.common.scenario.Scenario;
 import megamek.common.scenario.ScenarioLoader;
+import megamek.common.util.BinarySaveGame;
 import megamek.common.util.EmailService;
 import megamek.common.util.ImageUtil;
 import megamek.common.util.ManagedVolatileImage;
@@ -1161,6 +1162,7 @@ public class MegaMekGUI implements IPreferenceChangeListener {
             public boolean accept(File dir) {
                 return dir.getName().endsWith(MMConstants.SAVE_FILE_EXT) ||
                       dir.getName().endsWith(MMConstants.SAVE_FILE_GZ_EXT) ||
+                      dir.getName().endsWith(MMConstants.BINARY_SAVE_FILE_EXT) ||
                       dir.isDirectory();
             }
 
@@ -1179,40 +1181,49 @@ public class MegaMekGUI implements IPreferenceChangeListener {
         // Hand rolled extraction, as we require Server initialization to use XStream and don't need the additional
         // overhead of initializing everything twice
         try (InputStream is = new FileInputStream(fc.getSelectedFile())) {
-            InputStream gzi;
-
-            if (fc.getSelectedFile().getName().toLowerCase().endsWith(".gz")) {
-                gzi = new GZIPInputStream(is);
+            if (BinarySaveGame.isBinarySaveGame(fc.getSelectedFile())) {
+                // The header of a binary save game holds the version and player names
+                BinarySaveGame.Header header = BinarySaveGame.readHeader(is);
+                if (!validateSaveVersion(header.version())) {
+                    return;
+                }
+                playerNames.addAll(header.playerNames());
             } else {
-                gzi = is;
-            }
+                InputStream gzi;
 
-            // Using factory get an instance of document builder
-            final DocumentBuilder documentBuilder = MMXMLUtility.newSafeDocumentBuilder();
-            // Parse using builder to get DOM representation of the XML file
-            final Document xmlDocument = documentBuilder.parse(gzi);
+                if (fc.getSelectedFile().getName().toLowerCase().endsWith(".gz")) {
+                    gzi = new GZIPInputStream(is);
+                } else {
+                    gzi = is;
+                }
 
-            final Element gameElement = xmlDocument.getDocumentElement();
-            gameElement.normalize();
+                // Using factory get an instance of document builder
+                final DocumentBuilder documentBuilder = MMXMLUtility.newSafeDocumentBuilder();
+                // Parse using builder to get DOM representation of the XML file
+                final Document xmlDocument = documentBuilder.parse(gzi);
 
-            final NodeList nl = gameElement.getChildNodes();
-            for (int i = 0; i < nl.getLength(); i++) {
-                final Node n = nl.item(i);
-                if (n.getNodeType() != Node.ELEMENT_NODE) {
-                    continue;
-                }
+                final Element gameElement = xmlDocument.getDocumentElement();
+                gameElement.normalize();
 
-                switch (n.getNodeName()) {
-                    case "version":
-                        if (!validateSaveVersion(n)) {
-                            return;
-                        }
-                        break;
-                    case "players":
-                        parsePlayerNames(n, playerNames);
-                        break;
-                    default:
-                        break;
+                final NodeList nl = gameElement.getChildNodes();
+                for (int i = 0; i < nl.getLength(); i++) {
+                    final Node n = nl.item(i);
+                    if (n.getNodeType() != Node.ELEMENT_NODE) {
+                        continue;
+                    }
+
+                    switch (n.getNodeName()) {
+                        case "version":
+                            if (!validateSaveVersion(n)) {
+                                return;
+                            }
+                            break;
+                        case "players":
+                            parsePlayerNames(n, playerNames);
+                            break;
+                        default:
+                            break;
+                    }
                 }
             }
         } catch (Exception ex) {
@@ -1255,7 +1266,20 @@ public class MegaMekGUI implements IPreferenceChangeListener {
             return false;
         }
 
-        final Version version = getVersion(n);
+        return validateSaveVersion(getVersion(n));
+    }
+
+    /**
+     * @param version the version a save game was written by
+     *
+     * @return true if the save game can be loaded by this version; otherwise shows an error and returns false
+     */
+    private boolean validateSaveVersion(final Version version) {
+        String ignoreVersionValidation = System.getenv("IGNORE_VERSION_VALIDATION");
+        if (ignoreVersionValidation != null && ignoreVersionValidation.equalsIgnoreCase("true")) {
+            return true;
+        }
+
         if (SuiteConstants.VERSION.is(version)) {
             return true;
         } else if (version.toString().toLowerCase().contains("nightly") &&
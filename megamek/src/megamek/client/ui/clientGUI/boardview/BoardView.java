@@ -399,9 +399,11 @@ public final class BoardView extends AbstractBoardView
     private final Image radarBlipImage;
 
     /**
-     * Cache that stores hex images for different coords
+     * Cache that stores hex images for different coords. At high zoom on large maps these images take a lot of memory,
+     * so the cache may use at most an eighth of the heap.
      */
     ImageCache<Coords, HexImageCacheEntry> hexImageCache;
+    private static final int HEX_IMAGE_CACHE_HEAP_DIVISOR = 8;
 
     private boolean showLobbyPlayerDeployment = false;
 
@@ -477,7 +479,8 @@ public final class BoardView extends AbstractBoardView
         this.game = game;
         this.clientgui = clientgui;
 
-        hexImageCache = new ImageCache<>();
+        hexImageCache = new ImageCache<>(Runtime.getRuntime().maxMemory() / HEX_IMAGE_CACHE_HEAP_DIVISOR,
+              entry -> ImageCache.estimateBytes(entry.hexImage));
         tileManager = new TilesetManager(game);
         ToolTipManager.sharedInstance().registerComponent(boardPanel);
         setVerticalOffset();
@@ -5867,6 +5870,7 @@ public final class BoardView extends AbstractBoardView
     }
 
     public void clearHexImageCache() {
+        LOGGER.debug("Clearing hex images: {}; tiles: {}", hexImageCache, tileManager.getImageCacheStatistics());
         hexImageCache.clear();
     }
 
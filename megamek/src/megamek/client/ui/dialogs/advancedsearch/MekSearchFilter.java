@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2010-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2010-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -34,6 +34,7 @@ package megamek.client.ui.dialogs.advancedsearch;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -42,6 +43,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.IntStream;
 
 import megamek.common.Messages;
@@ -49,6 +51,7 @@ import megamek.common.SourceBookCode;
 import megamek.common.SourceBooks;
 import megamek.common.annotations.Nullable;
 import megamek.common.loaders.MekSummary;
+import megamek.common.loaders.MekSummaryCatalog;
 import megamek.common.units.Entity;
 import megamek.common.util.StringUtil;
 import megamek.logging.MMLogger;
@@ -407,6 +410,65 @@ public class MekSearchFilter {
         if (f == null || f.isDisabled) {
             return true;
         }
+        return isMatch(mek, f, f.checkEquipment);
+    }
+
+    /**
+     * Compiles the given filter into a predicate for repeated use on the units of the given catalog. The year,
+     * tonnage, BV, tech level and equipment criteria are evaluated for all units of the catalog at once, working on
+     * its columns and equipment bitsets; the remaining criteria are tested per unit. Units that are not part of the
+     * catalog are tested with {@link #isMatch(MekSummary, MekSearchFilter)}. The predicate gives the same results as
+     * that method, so it should be created once for a search and then used for all units, e.g. in a table filter.
+     * Changes to the filter made afterward are not seen by the predicate.
+     *
+     * @param f       the filter, may be null
+     * @param catalog the catalog of the units to search
+     *
+     * @return a predicate that is true for the units that match the filter
+     */
+    public static Predicate<MekSummary> compile(@Nullable MekSearchFilter f, MekSummaryCatalog catalog) {
+        if (f == null || f.isDisabled) {
+            return mek -> true;
+        }
+        BitSet candidates = f.findCandidates(catalog);
+        return mek -> {
+            int unit = catalog.indexOf(mek);
+            if (unit < 0) {
+                return isMatch(mek, f);
+            }
+            return candidates.get(unit) && isMatch(mek, f, false);
+        };
+    }
+
+    /**
+     * @return the units of the catalog that match the year, tonnage, BV, tech level and equipment criteria of this
+     *       filter
+     */
+    private BitSet findCandidates(MekSummaryCatalog catalog) {
+        BitSet candidates = new BitSet(catalog.size());
+        for (int unit = 0; unit < catalog.size(); unit++) {
+            if (StringUtil.isBetween(catalog.getYear(unit), sStartYear, sEndYear)
+                  && StringUtil.isBetween((int) catalog.getTons(unit), sStartTons, sEndTons)
+                  && StringUtil.isBetween(catalog.getBV(unit), sStartBV, sEndBV)
+                  && (techLevel.isEmpty() || techLevel.contains(catalog.getTechLevelCode(unit)))
+                  && !techLevelExclude.contains(catalog.getTechLevelCode(unit))) {
+                candidates.set(unit);
+            }
+        }
+        if (checkEquipment) {
+            BitSet irregularUnits = catalog.getIrregularUnits();
+            irregularUnits.and(candidates);
+            candidates.and(evaluate(catalog, equipmentCriteria.getRoot()));
+            // The catalog has no equipment for irregular units, so they are tested with their summary
+            for (int unit = irregularUnits.nextSetBit(0); unit >= 0; unit = irregularUnits.nextSetBit(unit + 1)) {
+                MekSummary mek = catalog.getSummary(unit);
+                candidates.set(unit, evaluate(mek.getEquipmentNames(), mek.getEquipmentQuantities()));
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean isMatch(MekSummary mek, MekSearchFilter f, boolean checkEquipment) {
 
         // Check armor criteria
         int sel = f.iArmor;
@@ -435,7 +497,7 @@ public class MekSearchFilter {
         List<String> eqNames = mek.getEquipmentNames();
         List<Integer> qty = mek.getEquipmentQuantities();
         // Evaluate the expression tree, if there's not a match, return false
-        if (f.checkEquipment && !f.evaluate(eqNames, qty)) {
+        if (checkEquipment && !f.evaluate(eqNames, qty)) {
             return false;
         }
 
@@ -1083,6 +1145,49 @@ public class MekSearchFilter {
         return retVal;
     }
 
+    /**
+     * Evaluates the ExpressionTree for all units of the given catalog at once. This gives the same result as
+     * {@link #evaluate(List, List, ExpNode)} for each unit, except for the irregular units of the catalog.
+     *
+     * @param catalog The catalog of the units
+     * @param expNode The current node in the ExpressionTree
+     *
+     * @return The units of the catalog that satisfy the node
+     */
+    private BitSet evaluate(MekSummaryCatalog catalog, ExpNode expNode) {
+        BitSet result = new BitSet(catalog.size());
+        if (expNode.children.isEmpty()) {
+            if (expNode.equipmentClass != null) {
+                // Match the weapon class against each equipment name once instead of once per unit
+                boolean[] classMask = new boolean[catalog.getEquipmentCount()];
+                for (int id = 0; id < classMask.length; id++) {
+                    classMask[id] = expNode.equipmentClass.matches(catalog.getEquipmentName(id));
+                }
+                for (int unit = 0; unit < catalog.size(); unit++) {
+                    int total = catalog.sumQuantities(unit, classMask);
+                    result.set(unit, expNode.atLeast ? (total >= expNode.qty) : (total < expNode.qty));
+                }
+            } else {
+                result = catalog.getUnitsWith(catalog.getEquipmentId(expNode.name), expNode.qty);
+                if (!expNode.atLeast) {
+                    result.flip(0, catalog.size());
+                }
+            }
+            return result;
+        }
+        if (expNode.operation == BoolOp.AND) {
+            result.set(0, catalog.size());
+        }
+        for (ExpNode child : expNode.children) {
+            if (expNode.operation == BoolOp.AND) {
+                result.and(evaluate(catalog, child));
+            } else {
+                result.or(evaluate(catalog, child));
+            }
+        }
+        return result;
+    }
+
     static boolean matchesSourceFilter(MekSummary mek, String sourceFilter) {
         return SourceBooks.splitSourceList(sourceFilter).stream()
               .anyMatch(source -> findTokenized(mek.getSource(), source) || findTokenized(mek.getPublished(), source));
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2000-2002 Ben Mazur (bmazur@sev.org)
- * Copyright (C) 2003-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2003-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -65,6 +65,7 @@ import megamek.common.enums.GamePhase;
 import megamek.common.event.GameListener;
 import megamek.common.event.GameListenerAdapter;
 import megamek.common.event.GamePhaseChangeEvent;
+import megamek.common.game.Game;
 import megamek.common.preference.ClientPreferences;
 import megamek.common.preference.PreferenceManager;
 import megamek.common.units.Entity;
@@ -98,6 +99,17 @@ public class MiniReportDisplayPanel extends JPanel implements ActionListener, Hy
 
     private static final int MRD_MAX_NAME_LENGTH = 60;
 
+    /** The round shown by a tab; the live phase tab has none */
+    private static final String ROUND_PROPERTY = "MiniReportDisplay.round";
+
+    /** The rendered reports of all rounds; only the selected round is laid out in a text pane */
+    private final ReportLog reportLog = new ReportLog();
+    /** The client's count of received SENDING_REPORTS_ALL packets when the report log was last filled from scratch */
+    private int allReportsReceived;
+    private boolean updatingTabs = false;
+    private SwingWorker<?, ?> searchWorker;
+    private SwingWorker<?, ?> filterWorker;
+
     public MiniReportDisplayPanel(IClientGUI clientGUI) {
 
         if (clientGUI == null) {
@@ -266,6 +278,7 @@ public class MiniReportDisplayPanel extends JPanel implements ActionListener, Hy
         JPanel panelMain = new JPanel(new BorderLayout());
 
         tabs = new JTabbedPane();
+        tabs.addChangeListener(e -> showSelectedRound());
         panelMain.add(tabs, BorderLayout.CENTER);
         panelMain.add(sp, BorderLayout.SOUTH);
         panelMain.setMinimumSize(new Dimension(0, 0));
@@ -275,10 +288,48 @@ public class MiniReportDisplayPanel extends JPanel implements ActionListener, Hy
         refreshSearchPanel();
     }
 
+    /**
+     * Filters the report of the selected tab in the background and shows the lines that contain any of the given
+     * keywords.
+     */
     private void filterReport(String selectedFilterKeyword) {
+        if (!(tabs.getSelectedComponent() instanceof JScrollPane scrollPane)) {
+            return;
+        }
+        final Integer round = (Integer) scrollPane.getClientProperty(ROUND_PROPERTY);
+        final String phaseReport = currentClient.phaseReport;
+        cancelWorker(filterWorker);
+        filterWorker = new SwingWorker<String, Void>() {
+            @Override
+            protected String doInBackground() {
+                String report = (round == null) ? phaseReport : reportLog.get(round);
+                return filterLines(Objects.requireNonNullElse(report, ""), selectedFilterKeyword);
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || (tabs.getSelectedComponent() != scrollPane)) {
+                    return;
+                }
+                try {
+                    scrollPane.setViewportView(createHtmlPane(get()));
+                    butQuickFilter.setText("Filter*");
+                    filterEnabled = true;
+                } catch (Exception ex) {
+                    LOGGER.error(ex, "Could not filter the report");
+                }
+            }
+        };
+        filterWorker.execute();
+    }
+
+    /**
+     * @return The lines of the given report HTML that contain any of the given space-separated keywords
+     */
+    private static String filterLines(String report, String selectedFilterKeyword) {
         StringBuilder filterResult = new StringBuilder();
         String[] keywords = selectedFilterKeyword.split(" ");
-        String[] htmlLines = currentClient.phaseReport.split("<br>");
+        String[] htmlLines = report.split("<br>");
         for (int i = 0;
               i < htmlLines.length;
               i++) {
@@ -296,22 +347,26 @@ public class MiniReportDisplayPanel extends JPanel implements ActionListener, Hy
                 }
             }
         }
+        return filterResult.toString();
+    }
 
-        filterReportOutput(filterResult.toString());
-
-        butQuickFilter.setText("Filter*");
-        filterEnabled = true;
-
+    /**
+     * Shows the unfiltered report of the selected tab again.
+     */
+    private void unfilterReport() {
+        cancelWorker(filterWorker);
+        if (tabs.getSelectedComponent() instanceof JScrollPane scrollPane) {
+            Integer round = (Integer) scrollPane.getClientProperty(ROUND_PROPERTY);
+            String report = (round == null) ? currentClient.phaseReport : reportLog.get(round);
+            scrollPane.setViewportView(createHtmlPane(Objects.requireNonNullElse(report, "")));
+        }
+        filterButtonReset();
     }
 
-    private void filterReportOutput(String text) {
-        if (tabs.getTabCount() > 0) {
-            int phaseTab = tabs.getTabCount() - 1;
-            // preserve the live phase tab's label (e.g. "Targeting Report") across the filter rebuild
-            String phaseTabTitle = tabs.getTitleAt(phaseTab);
-            tabs.removeTabAt(phaseTab);
-            tabs.add(phaseTabTitle, loadHtmlScrollPane(text));
-            tabs.setSelectedIndex(phaseTab);
+    private static void cancelWorker(SwingWorker<?, ?> worker) {
+        if (worker != null) {
+            // Interrupting a worker would close the report log's file channel
+            worker.cancel(false);
         }
     }
 
@@ -340,19 +395,11 @@ public class MiniReportDisplayPanel extends JPanel implements ActionListener, Hy
         Component selCom = tabs.getSelectedComponent();
         searchPattern = searchPattern.toUpperCase();
 
-        if (selCom instanceof JScrollPane && ((JScrollPane) selCom).getViewport().getView() instanceof JComponent) {
-            JViewport v = ((JScrollPane) selCom).getViewport();
+        if (selCom instanceof JScrollPane scrollPane && scrollPane.getViewport().getView() instanceof JComponent) {
+            JViewport v = scrollPane.getViewport();
             for (Component comp : v.getComponents()) {
                 if (comp instanceof JTextPane textPane) {
-
-                    Document doc = textPane.getDocument();
-                    String text = "";
-
-                    try {
-                        text = doc.getText(0, doc.getLength()).toUpperCase();
-                    } catch (BadLocationException exception) {
-                        LOGGER.error(exception);
-                    }
+                    String text = paneText(textPane);
 
                     int currentPos = textPane.getCaretPosition();
 
@@ -365,34 +412,14 @@ public class MiniReportDisplayPanel extends JPanel implements ActionListener, Hy
 
                     if (searchDown) {
                         newPos = text.indexOf(searchPattern, currentPos);
-
-                        if (newPos == -1) {
-                            newPos = text.indexOf(searchPattern);
-                        }
-
                     } else {
                         newPos = text.lastIndexOf(searchPattern, currentPos - searchPattern.length() - 1);
-
-                        if (newPos == -1) {
-                            newPos = text.lastIndexOf(searchPattern, text.length() - searchPattern.length() - 1);
-                        }
                     }
 
                     if (newPos != -1) {
-                        try {
-                            Rectangle2D rectangle2D = textPane.modelToView2D(newPos);
-
-                            int y = UIUtil.calculateCenter(v.getExtentSize().height,
-                                  v.getViewSize().height,
-                                  (int) rectangle2D.getHeight(),
-                                  (int) rectangle2D.getY());
-                            v.setViewPosition(new Point(0, y));
-                            textPane.setCaretPosition(newPos);
-                            textPane.moveCaretPosition(newPos + searchPattern.length());
-                            textPane.getCaret().setSelectionVisible(true);
-                        } catch (BadLocationException exception) {
-                            LOGGER.error(exception);
-                        }
+                        showMatch(textPane, v, searchPattern, newPos);
+                    } else {
+                        searchOtherRounds(scrollPane, textPane, searchPattern, searchDown);
                     }
 
                     break;
@@ -401,6 +428,108 @@ public class MiniReportDisplayPanel extends JPanel implements ActionListener, Hy
         }
     }
 
+    /**
+     * Searches the rounds after (or before) the one of the given tab in the background. When a round contains the
+     * search pattern, its tab is selected and the first (or last) match is shown. Otherwise, the search wraps around
+     * within the given text pane.
+     */
+    private void searchOtherRounds(JScrollPane scrollPane, JTextPane textPane, String searchPattern,
+          boolean searchDown) {
+        Integer round = (Integer) scrollPane.getClientProperty(ROUND_PROPERTY);
+        // The live phase tab comes after the last round
+        final int fromRound = (round == null) ? currentClient.getGame().getRoundCount() + 1 : round;
+        final int lastRound = currentClient.getGame().getRoundCount();
+        cancelWorker(searchWorker);
+        searchWorker = new SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() {
+                return reportLog.findRound(searchPattern, fromRound, lastRound, searchDown);
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || (tabs.getSelectedComponent() != scrollPane)) {
+                    return;
+                }
+                int foundRound = -1;
+                try {
+                    foundRound = get();
+                } catch (Exception ex) {
+                    LOGGER.error(ex, "Could not search the report log");
+                }
+                JScrollPane foundTab = (foundRound > 0) ? findRoundTab(foundRound) : null;
+                if (foundTab == null) {
+                    wrapSearch(textPane, scrollPane.getViewport(), searchPattern, searchDown);
+                    return;
+                }
+                tabs.setSelectedComponent(foundTab);
+                if (foundTab.getViewport().getView() instanceof JTextPane foundPane) {
+                    String text = paneText(foundPane);
+                    int newPos = searchDown ? text.indexOf(searchPattern) : text.lastIndexOf(searchPattern);
+                    if (newPos != -1) {
+                        showMatch(foundPane, foundTab.getViewport(), searchPattern, newPos);
+                    }
+                }
+            }
+        };
+        searchWorker.execute();
+    }
+
+    private void wrapSearch(JTextPane textPane, JViewport v, String searchPattern, boolean searchDown) {
+        String text = paneText(textPane);
+        int newPos;
+        if (searchDown) {
+            newPos = text.indexOf(searchPattern);
+        } else {
+            newPos = text.lastIndexOf(searchPattern, text.length() - searchPattern.length() - 1);
+        }
+        if (newPos != -1) {
+            showMatch(textPane, v, searchPattern, newPos);
+        }
+    }
+
+    private String paneText(JTextPane textPane) {
+        Document doc = textPane.getDocument();
+        try {
+            return doc.getText(0, doc.getLength()).toUpperCase();
+        } catch (BadLocationException exception) {
+            LOGGER.error(exception);
+            return "";
+        }
+    }
+
+    private void showMatch(JTextPane textPane, JViewport v, String searchPattern, int newPos) {
+        try {
+            // Make sure the pane is laid out when it was only just loaded
+            v.validate();
+            Rectangle2D rectangle2D = textPane.modelToView2D(newPos);
+            if (rectangle2D == null) {
+                return;
+            }
+
+            int y = UIUtil.calculateCenter(v.getExtentSize().height,
+                  v.getViewSize().height,
+                  (int) rectangle2D.getHeight(),
+                  (int) rectangle2D.getY());
+            v.setViewPosition(new Point(0, y));
+            textPane.setCaretPosition(newPos);
+            textPane.moveCaretPosition(newPos + searchPattern.length());
+            textPane.getCaret().setSelectionVisible(true);
+        } catch (BadLocationException exception) {
+            LOGGER.error(exception);
+        }
+    }
+
+    private JScrollPane findRoundTab(int round) {
+        for (int i = 0; i < tabs.getTabCount(); i++) {
+            if ((tabs.getComponentAt(i) instanceof JScrollPane scrollPane)
+                  && Integer.valueOf(round).equals(scrollPane.getClientProperty(ROUND_PROPERTY))) {
+                return scrollPane;
+            }
+        }
+        return null;
+    }
+
     private void updatePlayerChoice() {
         String name = String.format("%-12s", currentClient.getName());
         String lastChoice = (String) comboPlayer.getSelectedItem();
@@ -525,8 +654,7 @@ public class MiniReportDisplayPanel extends JPanel implements ActionListener, Hy
             if (!filterEnabled) {
                 filterReport(comboFilter.getItemAt(comboFilter.getSelectedIndex()));
             } else {
-                filterReportOutput(currentClient.phaseReport);
-                filterButtonReset();
+                unfilterReport();
             }
 
         } else if (ae.getSource().equals(comboFilter)) {
@@ -544,6 +672,10 @@ public class MiniReportDisplayPanel extends JPanel implements ActionListener, Hy
     }
 
     private JScrollPane loadHtmlScrollPane(String t) {
+        return new JScrollPane(createHtmlPane(t));
+    }
+
+    private JTextPane createHtmlPane(String t) {
 
         JTextPane ta = new JTextPane();
         Report.setupStylesheet(ta);
@@ -557,30 +689,74 @@ public class MiniReportDisplayPanel extends JPanel implements ActionListener, Hy
         ta.setOpaque(false);
         ta.setCaretPosition(0);
         filterButtonReset();
-        return new JScrollPane(ta);
+        return ta;
     }
 
-    public void addReportPages(GamePhase phase) {
-        int numRounds = currentClient.getGame().getRoundCount();
-        int startIndex = 1;
+    /**
+     * @return A tab for the given round; its report is only laid out while the tab is selected
+     */
+    private JScrollPane createRoundScrollPane(int round) {
+        JScrollPane scrollPane = new JScrollPane();
+        scrollPane.putClientProperty(ROUND_PROPERTY, round);
+        return scrollPane;
+    }
 
-        // only reload what has changed
-        if (numRounds < 2 || phase.isVictory()) {
+    /**
+     * Lays out the report of the selected round and drops the text panes of the other rounds. Their reports stay in
+     * the report log and are laid out again when their tab is selected.
+     */
+    private void showSelectedRound() {
+        if (updatingTabs) {
+            return;
+        }
+        Component selected = tabs.getSelectedComponent();
+        for (int i = 0; i < tabs.getTabCount(); i++) {
+            if ((tabs.getComponentAt(i) instanceof JScrollPane scrollPane)
+                  && (scrollPane.getClientProperty(ROUND_PROPERTY) instanceof Integer round)) {
+                if (scrollPane == selected) {
+                    if (scrollPane.getViewport().getView() == null) {
+                        String report = reportLog.get(round);
+                        scrollPane.setViewportView(createHtmlPane(Objects.requireNonNullElse(report, "")));
+                    }
+                } else if (scrollPane.getViewport().getView() != null) {
+                    scrollPane.setViewportView(null);
+                }
+            }
+        }
+    }
+
+    public void addReportPages(GamePhase phase) {
+        Game game = currentClient.getGame();
+        int numRounds = game.getRoundCount();
+
+        updatingTabs = true;
+        if ((numRounds < 2) || (allReportsReceived != currentClient.getAllReportsReceived())) {
+            // A new game, or the reports of all rounds were sent again, e.g. unfiltered for the victory phase of a
+            // double-blind game
+            allReportsReceived = currentClient.getAllReportsReceived();
+            reportLog.clear();
             tabs.removeAll();
-        } else if (tabs.getTabCount() > 1) {
+        }
+        // Only the tabs of the rounds in the report log are kept; the current round and the live phase are replaced
+        while ((tabs.getTabCount() > 0) && !isLoggedRoundTab(tabs.getTabCount() - 1)) {
             tabs.removeTabAt(tabs.getTabCount() - 1);
-            // don't remove on round change
-            if (tabs.getTabCount() == numRounds) {
-                tabs.removeTabAt(tabs.getTabCount() - 1);
-            }
-            startIndex = tabs.getTabCount() + 1;
         }
 
-        for (int round = startIndex;
-              round <= numRounds;
+        // Each round is rendered and logged once, when it has ended. The victory phase ends the last round.
+        int lastEndedRound = phase.isVictory() ? numRounds : numRounds - 1;
+        for (int round = tabs.getTabCount() + 1;
+              round <= lastEndedRound;
               round++) {
-            String text = currentClient.receiveReport(currentClient.getGame().getReports(round));
-            tabs.add(Messages.getString("MiniReportDisplay.Round") + " " + round, loadHtmlScrollPane(text));
+            reportLog.put(round, currentClient.receiveReport(game.getReports(round)));
+            tabs.add(Messages.getString("MiniReportDisplay.Round") + " " + round, createRoundScrollPane(round));
+        }
+        currentClient.reportRoundsStored(lastEndedRound);
+
+        if (!phase.isVictory() && (numRounds > 0)) {
+            // The client renders the current round's reports whenever it receives a phase report
+            reportLog.setCurrentRound(numRounds, Objects.requireNonNullElse(currentClient.roundReport, ""));
+            tabs.add(Messages.getString("MiniReportDisplay.Round") + " " + numRounds,
+                  createRoundScrollPane(numRounds));
         }
 
         // add the new current phase tab, labeled with its round and phase name (e.g. "Round 2 - Firing Report")
@@ -589,6 +765,26 @@ public class MiniReportDisplayPanel extends JPanel implements ActionListener, Hy
 
         tabs.setSelectedIndex(tabs.getTabCount() - 1);
         tabs.setMinimumSize(new Dimension(0, 0));
+        updatingTabs = false;
+        showSelectedRound();
+    }
+
+    /**
+     * @return True if the tab at the given index shows a round that is stored in the report log
+     */
+    private boolean isLoggedRoundTab(int index) {
+        return (tabs.getComponentAt(index) instanceof JScrollPane scrollPane)
+              && (scrollPane.getClientProperty(ROUND_PROPERTY) instanceof Integer round)
+              && reportLog.contains(round);
+    }
+
+    /**
+     * Deletes the report log of this display. Call this when the game is left.
+     */
+    public void dispose() {
+        cancelWorker(searchWorker);
+        cancelWorker(filterWorker);
+        reportLog.close();
     }
 
     private JComponent activePane() {
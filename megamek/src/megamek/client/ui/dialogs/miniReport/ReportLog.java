@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client.ui.dialogs.miniReport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import megamek.common.annotations.Nullable;
+import megamek.logging.MMLogger;
+
+/**
+ * Holds the rendered HTML reports of the rounds of a game for the {@link MiniReportDisplayPanel}. Each round is
+ * appended to a temporary log file once, when it has ended, and only the most recently used rounds are kept in memory,
+ * so that long games do not keep the text of every round on the heap. The round that is still being played changes
+ * with every phase report; it is only kept in memory (see {@link #setCurrentRound(int, String)}). The file is deleted
+ * when the log is closed or, at the latest, when MegaMek exits.
+ * <p>
+ * The log may be read from a background thread, e.g. to search it, while rounds are stored on the event dispatch
+ * thread.
+ */
+class ReportLog implements Closeable {
+    private static final MMLogger LOGGER = MMLogger.create(ReportLog.class);
+
+    static final int DEFAULT_RECENT_ROUNDS = 3;
+
+    private final int recentRounds;
+    private final Map<Integer, String> recent;
+
+    /** Rounds that could not be written to the log file; they are kept in memory instead */
+    private final Map<Integer, String> unwritten = new HashMap<>();
+
+    /** The round that has not ended yet and its report so far; it is not written to the log file */
+    private int currentRound = -1;
+    private String currentReport;
+
+    private Path file;
+    private FileChannel channel;
+    private boolean fileFailed;
+
+    /** The offset and length of each round in the log file, indexed by round; a length of -1 means no entry */
+    private long[] offsets = new long[0];
+    private int[] lengths = new int[0];
+
+    ReportLog() {
+        this(DEFAULT_RECENT_ROUNDS);
+    }
+
+    /**
+     * @param recentRounds The number of rounds to keep in memory
+     */
+    ReportLog(int recentRounds) {
+        this.recentRounds = recentRounds;
+        recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                return size() > ReportLog.this.recentRounds;
+            }
+        };
+    }
+
+    /**
+     * Stores the rendered report of the given round, which has ended. A round is stored only once; when it is stored
+     * again, the report stored before is kept and nothing is written, so that the log file holds a single copy of
+     * each round.
+     *
+     * @param round The round, starting at 1
+     * @param html  The rendered report
+     *
+     * @return True if the round was stored, false if it had been stored before
+     */
+    synchronized boolean put(int round, String html) {
+        if (contains(round)) {
+            return false;
+        }
+        if (round == currentRound) {
+            currentRound = -1;
+            currentReport = null;
+        }
+        recent.put(round, html);
+        unwritten.remove(round);
+        try {
+            write(round, html);
+        } catch (IOException ex) {
+            LOGGER.error(ex, "Could not write round {} to the report log; keeping it in memory", round);
+            unwritten.put(round, html);
+        }
+        return true;
+    }
+
+    /**
+     * Sets the report of the round that is still being played, replacing the one set before. It is kept in memory
+     * only, until the round is stored with {@link #put(int, String)}.
+     *
+     * @param round The round, starting at 1
+     * @param html  The rendered report of the round so far
+     */
+    synchronized void setCurrentRound(int round, String html) {
+        currentRound = round;
+        currentReport = html;
+    }
+
+    /**
+     * @param round The round, starting at 1
+     *
+     * @return The rendered report of the given round, or null if none was stored
+     */
+    synchronized @Nullable String get(int round) {
+        if (round == currentRound) {
+            return currentReport;
+        }
+        String html = recent.get(round);
+        if (html == null) {
+            html = read(round);
+            if (html != null) {
+                recent.put(round, html);
+            }
+        }
+        return html;
+    }
+
+    /**
+     * @return True if a report was stored for the given round; the current round (see
+     *       {@link #setCurrentRound(int, String)}) does not count
+     */
+    synchronized boolean contains(int round) {
+        return recent.containsKey(round) || unwritten.containsKey(round)
+              || ((round < lengths.length) && (lengths[round] >= 0));
+    }
+
+    /**
+     * Searches the rounds after (or before) the given round for the first one whose text contains the given pattern,
+     * ignoring case and the HTML markup. The rounds that are read from the log file are not kept in memory.
+     *
+     * @param pattern   The text to search for
+     * @param fromRound The round to start after (or before); this round itself is not searched
+     * @param lastRound The last round to search when searching forward
+     * @param forward   True to search the later rounds, false to search the earlier rounds
+     *
+     * @return The round that contains the pattern, or -1 if there is none
+     */
+    int findRound(String pattern, int fromRound, int lastRound, boolean forward) {
+        String upperCasePattern = pattern.toUpperCase(Locale.ROOT);
+        int step = forward ? 1 : -1;
+        for (int round = fromRound + step; (round >= 1) && (round <= lastRound); round += step) {
+            String html;
+            synchronized (this) {
+                html = (round == currentRound) ? currentReport : recent.get(round);
+                if (html == null) {
+                    html = read(round);
+                }
+            }
+            if ((html != null) && plainText(html).toUpperCase(Locale.ROOT).contains(upperCasePattern)) {
+                return round;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The given report HTML without its markup, roughly as a text pane shows it
+     */
+    static String plainText(String html) {
+        return html.replaceAll("<[^>]*>", "")
+              .replace("&nbsp;", " ")
+              .replace("&lt;", "<")
+              .replace("&gt;", ">")
+              .replace("&quot;", "\"")
+              .replace("&amp;", "&");
+    }
+
+    /**
+     * Removes all rounds and deletes the log file.
+     */
+    synchronized void clear() {
+        recent.clear();
+        unwritten.clear();
+        currentRound = -1;
+        currentReport = null;
+        Arrays.fill(lengths, -1);
+        closeFile();
+    }
+
+    @Override
+    public synchronized void close() {
+        clear();
+    }
+
+    private void write(int round, String html) throws IOException {
+        FileChannel fileChannel = openFile();
+        if (fileChannel == null) {
+            throw new IOException("The report log file is not available");
+        }
+        byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+        long offset = fileChannel.size();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            fileChannel.write(buffer, offset + buffer.position());
+        }
+        if (round >= lengths.length) {
+            int oldLength = lengths.length;
+            offsets = Arrays.copyOf(offsets, Math.max(round + 1, oldLength * 2));
+            lengths = Arrays.copyOf(lengths, offsets.length);
+            Arrays.fill(lengths, oldLength, lengths.length, -1);
+        }
+        offsets[round] = offset;
+        lengths[round] = bytes.length;
+    }
+
+    private @Nullable String read(int round) {
+        String html = unwritten.get(round);
+        if ((html != null) || (channel == null) || (round < 0) || (round >= lengths.length) || (lengths[round] < 0)) {
+            return html;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(lengths[round]);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offsets[round] + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of the report log file");
+                }
+            }
+        } catch (IOException ex) {
+            LOGGER.error(ex, "Could not read round {} from the report log", round);
+            return null;
+        }
+        return new String(buffer.array(), StandardCharsets.UTF_8);
+    }
+
+    private @Nullable FileChannel openFile() {
+        if ((channel == null) && !fileFailed) {
+            try {
+                file = Files.createTempFile("megamek-reports", ".log");
+                file.toFile().deleteOnExit();
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            } catch (IOException ex) {
+                LOGGER.error(ex, "Could not create the report log file; keeping the reports in memory");
+                fileFailed = true;
+            }
+        }
+        return channel;
+    }
+
+    private void closeFile() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException ex) {
+            LOGGER.error(ex, "Could not delete the report log file {}", file);
+        } finally {
+            channel = null;
+            file = null;
+        }
+    }
+}
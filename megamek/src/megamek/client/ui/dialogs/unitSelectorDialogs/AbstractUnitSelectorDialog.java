@@ -717,6 +717,8 @@ public abstract class AbstractUnitSelectorDialog extends JDialog implements Runn
 
         final int nClass = comboWeight.getSelectedIndex();
         final int selectedTypeCode = unitTypeCodeForComboIndex(comboUnitType.getSelectedIndex());
+        final Predicate<MekSummary> advancedSearchMatch = (searchFilter == null) ? mek -> true
+              : MekSearchFilter.compile(searchFilter, mscInstance.getCatalog());
         // If current expression doesn't parse, don't update.
         try {
             unitTypeFilter = new RowFilter<>() {
@@ -750,7 +752,7 @@ public abstract class AbstractUnitSelectorDialog extends JDialog implements Runn
                                 /* Additional caller-specific restrictions */
                                 && unitSelectionScopeFilter.test(mek)
                                 /* Advanced Search */
-                                && ((searchFilter == null) || MekSearchFilter.isMatch(mek, searchFilter))
+                                && advancedSearchMatch.test(mek)
                                 && advancedSearchDialog.getASAdvancedSearch().matches(mek)
                                 /* Asset Advanced Search: tested against the row's asset form (the row
                                  * itself for a standalone asset, or the linked asset for a base unit) */
@@ -183,6 +183,7 @@ final class GameOptionsPresentation {
               OptionsConstants.BASE_AUTOSAVE_MSG,
               OptionsConstants.BASE_PARANOID_AUTOSAVE,
               OptionsConstants.BASE_MAX_NUMBER_ROUND_SAVES,
+              OptionsConstants.BASE_BINARY_AUTOSAVE,
               OptionsConstants.BASE_DISABLE_LOCAL_SAVE,
               OptionsConstants.BASE_RNG_TYPE,
               OptionsConstants.BASE_RNG_LOG);
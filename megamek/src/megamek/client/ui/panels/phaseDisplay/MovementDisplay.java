@@ -110,6 +110,10 @@ import megamek.common.equipment.Transporter;
 import megamek.common.equipment.enums.MiscTypeFlag;
 import megamek.common.event.GamePhaseChangeEvent;
 import megamek.common.event.GameTurnChangeEvent;
+import megamek.common.event.board.GameBoardChangeEvent;
+import megamek.common.event.entity.GameEntityChangeEvent;
+import megamek.common.event.entity.GameEntityNewEvent;
+import megamek.common.event.entity.GameEntityRemoveEvent;
 import megamek.common.game.Game;
 import megamek.common.game.GameTurn;
 import megamek.common.game.IGame;
@@ -220,6 +224,25 @@ public class MovementDisplay extends ActionPhaseDisplay {
     private int gear;
     private int jumpSubGear;
 
+    /** Computes the movement envelopes in the background and caches them */
+    private final MovementEnvelopeWorker<MovementEnvelopeKey> movementEnvelopeWorker = new MovementEnvelopeWorker<>();
+
+    /**
+     * Identifies a movement envelope in the cache of the {@link #movementEnvelopeWorker}. The envelope is computed from
+     * the unit's state at the start of its move, so this holds the parts of that state that change the envelope.
+     */
+    private record MovementEnvelopeKey(int entityId, int boardId, Coords position, int facing, int elevation,
+          int altitude, int velocity, EntityMovementMode movementMode, boolean prone, boolean hullDown, int gear,
+          int jumpSubGear, int maxMP) {
+
+        static MovementEnvelopeKey of(Entity entity, int gear, int jumpSubGear, int maxMP) {
+            return new MovementEnvelopeKey(entity.getId(), entity.getBoardId(), entity.getPosition(),
+                  entity.getFacing(), entity.getElevation(), entity.getAltitude(),
+                  (entity instanceof IAero aero) ? aero.getCurrentVelocity() : 0, entity.getMovementMode(),
+                  entity.isProne(), entity.isHullDown(), gear, jumpSubGear, maxMP);
+        }
+    }
+
     /**
      * Used to position a ground map flight path of an aero on an atmospheric map
      */
@@ -1243,7 +1266,7 @@ public class MovementDisplay extends ActionPhaseDisplay {
         // distance as a long routed loop that ends on an adjacent hex.
         boolean distanceToFinalIsOne = (currentEntity != null) && edgeHasLastStep
               && (currentEntity.getPosition().distance(edgeLastStep.getPosition()) == 1);
-        long forwardStepCount = (cmd != null) ? cmd.getStepVector().stream()
+        long forwardStepCount = (cmd != null) ? cmd.getStepList().stream()
               .filter(s -> s.getType() == MoveStepType.FORWARDS).count() : 0;
         // Edge dangle: walking movement only — jumping uses jump jets to clear the drop
         // safely (no dangle needed). Climb mode is NOT required: per TO:AR p.20, dangle is
@@ -1426,9 +1449,9 @@ public class MovementDisplay extends ActionPhaseDisplay {
         boolean isEdgeDescentPath = false;
         if ((cmd != null) && (currentLastStep != null)
               && currentLastStep.getType() == MoveStepType.FORWARDS) {
-            List<MoveStep> stepVector = cmd.getStepVector();
-            if (stepVector.size() >= 2) {
-                MoveStep stepBeforeLast = stepVector.get(stepVector.size() - 2);
+            List<MoveStep> steps = cmd.getStepList();
+            if (steps.size() >= 2) {
+                MoveStep stepBeforeLast = steps.get(steps.size() - 2);
                 isEdgeDescentPath = stepBeforeLast.getType() == MoveStepType.CLIMB_MODE_ON;
             }
         }
@@ -1440,8 +1463,8 @@ public class MovementDisplay extends ActionPhaseDisplay {
               && game.getOptions().booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_LEAPING)) {
             Coords lastStepPos = currentLastStep.getPosition();
             // Check the step BEFORE the last one to get the origin hex
-            MoveStep prevStep = (cmd.getStepVector().size() >= 2)
-                  ? cmd.getStepVector().get(cmd.getStepVector().size() - 2) : null;
+            MoveStep prevStep = (cmd.getStepList().size() >= 2)
+                  ? cmd.getStepList().get(cmd.getStepList().size() - 2) : null;
             Coords originPos = (prevStep != null) ? prevStep.getPosition() : currentEntity.getPosition();
             int originElev = (prevStep != null) ? prevStep.getElevation() : currentEntity.getElevation();
             Hex originHex = game.getBoard(currentEntity).getHex(originPos);
@@ -1704,6 +1727,7 @@ public class MovementDisplay extends ActionPhaseDisplay {
             clientgui.maybeShowUnitDisplay();
         }
         currentEntity = Entity.NONE;
+        movementEnvelopeWorker.cancel();
         clearFlightPath();
         clientgui.boardViews().forEach(IBoardView::clearMarkedHexes);
         // Return the highlight sprite back to its original color
@@ -3840,7 +3864,7 @@ public class MovementDisplay extends ActionPhaseDisplay {
         if (cmd == null) {
             return null;
         }
-        List<MoveStep> steps = cmd.getStepVector();
+        List<MoveStep> steps = cmd.getStepList();
         MoveStep prev = null;
         for (MoveStep s : steps) {
             if (s == target) {
@@ -5913,6 +5937,9 @@ public class MovementDisplay extends ActionPhaseDisplay {
     //
     @Override
     public void gameTurnChange(GameTurnChangeEvent e) {
+        // Units have moved, so the cached movement envelopes may be wrong
+        movementEnvelopeWorker.invalidate();
+
         // Are we ignoring events?
         if (isIgnoringEvents()) {
             return;
@@ -5967,6 +5994,8 @@ public class MovementDisplay extends ActionPhaseDisplay {
 
     @Override
     public void gamePhaseChange(GamePhaseChangeEvent e) {
+        movementEnvelopeWorker.invalidate();
+
         // In case of a /reset command, ensure the state gets reset
         if (game.getPhase().isLounge()) {
             endMyTurn();
@@ -5986,6 +6015,26 @@ public class MovementDisplay extends ActionPhaseDisplay {
         }
     }
 
+    @Override
+    public void gameEntityNew(GameEntityNewEvent e) {
+        movementEnvelopeWorker.invalidate();
+    }
+
+    @Override
+    public void gameEntityRemove(GameEntityRemoveEvent e) {
+        movementEnvelopeWorker.invalidate();
+    }
+
+    @Override
+    public void gameEntityChange(GameEntityChangeEvent e) {
+        movementEnvelopeWorker.invalidate();
+    }
+
+    @Override
+    public void gameBoardChanged(GameBoardChangeEvent e) {
+        movementEnvelopeWorker.invalidate();
+    }
+
     private int maxMP(Entity en, int mvMode) {
         int maxMP;
         if (mvMode == GEAR_DFA) {
@@ -6024,7 +6073,7 @@ public class MovementDisplay extends ActionPhaseDisplay {
         if (suggestion.isAero()) {
             computeAeroMovementEnvelope(suggestion);
         } else {
-            computeSimpleMovementEnvelope(suggestion);
+            computeSimpleMovementEnvelope(suggestion, true);
         }
     }
 
@@ -6033,15 +6082,20 @@ public class MovementDisplay extends ActionPhaseDisplay {
      * suggested {@link Entity} or the currently selected one. If there is a selected entity (which implies it's the
      * current players turn), then the current gear is used (which is set by the user). If there is no selected entity,
      * then the current gear is invalid, and it defaults to {@link #GEAR_LAND} (standard "walk forward").
+     * <p>
+     * The envelope is cached. When it must be computed, this is done on a background thread if inBackground is true;
+     * the envelope is then shown while it is computed and any earlier computation is cancelled.
      *
-     * @param suggestion The suggested Entity to use to compute the movement envelope. If used, the gear will be set to
-     *                   {@link #GEAR_LAND}. This takes precedence over the currently selected unit.
+     * @param suggestion   The suggested Entity to use to compute the movement envelope. If used, the gear will be set
+     *                     to {@link #GEAR_LAND}. This takes precedence over the currently selected unit.
+     * @param inBackground True to compute the envelope on a background thread
      */
-    private void computeSimpleMovementEnvelope(Entity suggestion) {
+    private void computeSimpleMovementEnvelope(Entity suggestion, boolean inBackground) {
         // do nothing if deactivated in the settings
         if (!GUIP.getMoveEnvelope()) {
             // Issue #5700: Move envelope doesn't clear when turning off move envelopes from the menu or shortcut.
             // this here makes sure to clear it next time this function is called
+            movementEnvelopeWorker.cancel();
             clientgui.clearMovementEnvelope();
             return;
         }
@@ -6059,6 +6113,7 @@ public class MovementDisplay extends ActionPhaseDisplay {
         }
 
         if (entity.isDone()) {
+            movementEnvelopeWorker.cancel();
             return;
         }
 
@@ -6073,21 +6128,42 @@ public class MovementDisplay extends ActionPhaseDisplay {
         }
 
         int maxMP = maxMP(entity, movementGear);
+        boolean jumping = movementGear == GEAR_JUMP;
+        Entity envelopeEntity = entity;
+        int envelopeGear = movementGear;
+
+        MovementEnvelopeWorker.Computation computation = progress -> {
+            // Create a pathfinder to find possible moves;
+            // if aerodyne, use a custom Aero pathfinder.
+            ShortestPathFinder shortestPathFinder = getShortestPathFinder(envelopeEntity, maxMP, stepType);
+            shortestPathFinder.addStopCondition(path -> progress.update(
+                  () -> movementEnvelopeOf(shortestPathFinder.getAllComputedPaths(), jumping)));
+            shortestPathFinder.run(movePath);
+            return movementEnvelopeOf(shortestPathFinder.getAllComputedPaths(), jumping);
+        };
 
-        // Create a pathfinder to find possible moves;
-        // if aerodyne, use a custom Aero pathfinder.
-        ShortestPathFinder shortestPathFinder = getShortestPathFinder(entity, maxMP, stepType);
-        shortestPathFinder.run(movePath);
+        MovementEnvelopeKey key = MovementEnvelopeKey.of(entity, movementGear, jumpSubGear, maxMP);
+        if (inBackground) {
+            movementEnvelopeWorker.compute(key, computation,
+                  envelope -> clientgui.showMovementEnvelope(envelopeEntity, envelope, envelopeGear));
+        } else {
+            clientgui.showMovementEnvelope(entity, movementEnvelopeWorker.computeNow(key, computation), movementGear);
+        }
+    }
 
-        Map<Coords, MovePath> movePathForEachCoordsMap = shortestPathFinder.getAllComputedPaths();
+    /**
+     * @return the MP used to reach each hex of the given paths that is reached by a legal path
+     */
+    private static Map<Coords, Integer> movementEnvelopeOf(Map<Coords, MovePath> movePathForEachCoordsMap,
+          boolean jumping) {
         Map<Coords, Integer> movementEnvelopeMP = new HashMap<>((int) ((movePathForEachCoordsMap.size() * 1.25) + 1));
         for (Coords coords : movePathForEachCoordsMap.keySet()) {
             var candidateMovePath = movePathForEachCoordsMap.get(coords);
             if (candidateMovePath.isMoveLegal()) {
-                movementEnvelopeMP.put(coords, candidateMovePath.countMp(movementGear == GEAR_JUMP));
+                movementEnvelopeMP.put(coords, candidateMovePath.countMp(jumping));
             }
         }
-        clientgui.showMovementEnvelope(entity, movementEnvelopeMP, movementGear);
+        return movementEnvelopeMP;
     }
 
     private ShortestPathFinder getShortestPathFinder(Entity en, int maxMP, MoveStepType stepType) {
@@ -6129,9 +6205,10 @@ public class MovementDisplay extends ActionPhaseDisplay {
         int currentVelocity = ae.getCurrentVelocity();
         ae.setCurrentVelocity(cmd.getFinalVelocity());
 
-        // Refresh the new velocity envelope on the map.
+        // Refresh the new velocity envelope on the map. This cannot be done in the background as the velocity is only
+        // changed temporarily.
         try {
-            computeSimpleMovementEnvelope(entity);
+            computeSimpleMovementEnvelope(entity, false);
             updateMove();
         } catch (Exception e) {
             LOGGER.error(e, "An error occurred trying to compute the move envelope for an Aero.");
@@ -7929,6 +8006,7 @@ public class MovementDisplay extends ActionPhaseDisplay {
         for (Coords coords : validEscapePodHexes) {
             highlightData.put(coords, 0);  // 0 = walkable range color
         }
+        movementEnvelopeWorker.cancel();
         clientgui.showMovementEnvelope(tank, highlightData, GEAR_LAND);
 
         // Set status bar message instead of modal dialog
@@ -8515,6 +8593,7 @@ public class MovementDisplay extends ActionPhaseDisplay {
         for (Coords coords : validBridgeSelectionHexes) {
             highlightData.put(coords, 0); // 0 = walkable range color
         }
+        movementEnvelopeWorker.cancel();
         clientgui.showMovementEnvelope(convInfantry, highlightData, GEAR_LAND);
         setStatusBarText(Messages.getString(statusBarKey));
     }
@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client.ui.panels.phaseDisplay;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.swing.SwingWorker;
+
+import megamek.common.board.Coords;
+import megamek.logging.MMLogger;
+
+/**
+ * Computes the movement envelopes of a movement display on a background thread so that selecting a unit or changing
+ * the gear does not block the EDT. A new computation cancels the running one. While an envelope is computed, the
+ * partial envelope is shown about every {@link #PROGRESS_INTERVAL_MILLIS} ms. Finished envelopes are cached by a key
+ * that the display chooses (e.g. unit, position, facing, MP and gear), so that returning to an envelope shows it at
+ * once. The cache must be {@link #invalidate() invalidated} whenever the game state that the envelopes depend on
+ * changes.
+ *
+ * @param <K> the type of the cache key; it must implement equals and hashCode
+ */
+public class MovementEnvelopeWorker<K> {
+
+    private static final MMLogger LOGGER = MMLogger.create(MovementEnvelopeWorker.class);
+
+    static final int CACHE_SIZE = 32;
+    static final long PROGRESS_INTERVAL_MILLIS = 100;
+
+    /**
+     * The computation of a movement envelope. It is called on a background thread and must not change the game.
+     */
+    @FunctionalInterface
+    public interface Computation {
+        /**
+         * @param progress the progress of the computation; it should be called regularly, e.g. from a
+         *                 {@link megamek.common.pathfinder.StopCondition} of the path finder
+         *
+         * @return the movement envelope, a map of the reachable hexes to the MP used to reach them
+         */
+        Map<Coords, Integer> compute(Progress progress);
+    }
+
+    /**
+     * Receives the progress of a {@link Computation}.
+     */
+    @FunctionalInterface
+    public interface Progress {
+        /**
+         * Reports progress. When the last partial envelope was shown long enough ago, the given supplier is called
+         * and its envelope shown.
+         *
+         * @param partialEnvelope supplies the envelope computed so far
+         *
+         * @return true when the computation has been cancelled and should stop
+         */
+        boolean update(Supplier<Map<Coords, Integer>> partialEnvelope);
+    }
+
+    /** A progress that never shows partial envelopes and is never cancelled. */
+    public static final Progress NO_PROGRESS = partialEnvelope -> false;
+
+    private final Map<K, Map<Coords, Integer>> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Map<Coords, Integer>> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /** Counts the invalidations; results of computations started before an invalidation are not cached */
+    private int cacheGeneration;
+    private Task currentTask;
+
+    /**
+     * Shows the movement envelope for the given key. A cached envelope is shown at once; otherwise the envelope is
+     * computed on a background thread and shown on the EDT, first partially and then completely. Any running
+     * computation is cancelled.
+     *
+     * @param key         the key of the envelope
+     * @param computation computes the envelope
+     * @param display     shows the envelope; called on the EDT unless the envelope is cached
+     */
+    public void compute(K key, Computation computation, Consumer<Map<Coords, Integer>> display) {
+        Map<Coords, Integer> cached;
+        Task task = null;
+        synchronized (this) {
+            cancel();
+            cached = cache.get(key);
+            if (cached == null) {
+                task = new Task(key, computation, display, cacheGeneration);
+                currentTask = task;
+            }
+        }
+        if (task == null) {
+            display.accept(cached);
+        } else {
+            task.execute();
+        }
+    }
+
+    /**
+     * Computes the movement envelope for the given key on the calling thread unless it is cached. This is meant for
+     * envelopes that depend on temporary changes to the unit and can therefore not be computed in the background. Any
+     * running computation is cancelled.
+     *
+     * @param key         the key of the envelope
+     * @param computation computes the envelope; it is given {@link #NO_PROGRESS}
+     *
+     * @return the envelope
+     */
+    public Map<Coords, Integer> computeNow(K key, Computation computation) {
+        int generation;
+        synchronized (this) {
+            cancel();
+            Map<Coords, Integer> cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            generation = cacheGeneration;
+        }
+        Map<Coords, Integer> envelope = computation.compute(NO_PROGRESS);
+        store(key, envelope, generation);
+        return envelope;
+    }
+
+    /**
+     * Cancels the running computation, if any. Its envelope will not be shown.
+     */
+    public synchronized void cancel() {
+        if (currentTask != null) {
+            currentTask.cancel(false);
+            currentTask = null;
+        }
+    }
+
+    /**
+     * Removes all cached envelopes. A computation that is running is not cancelled, but its envelope will not be
+     * cached.
+     */
+    public synchronized void invalidate() {
+        cache.clear();
+        cacheGeneration++;
+    }
+
+    /** @return true when an envelope for the given key is cached */
+    synchronized boolean isCached(K key) {
+        return cache.containsKey(key);
+    }
+
+    private synchronized void store(K key, Map<Coords, Integer> envelope, int generation) {
+        if (generation == cacheGeneration) {
+            cache.put(key, envelope);
+        }
+    }
+
+    private synchronized boolean isCurrent(Task task) {
+        return (task == currentTask) && !task.isCancelled();
+    }
+
+    private class Task extends SwingWorker<Map<Coords, Integer>, Map<Coords, Integer>> implements Progress {
+
+        private final K key;
+        private final Computation computation;
+        private final Consumer<Map<Coords, Integer>> display;
+        private final int generation;
+        private long nextUpdate;
+
+        Task(K key, Computation computation, Consumer<Map<Coords, Integer>> display, int generation) {
+            this.key = key;
+            this.computation = computation;
+            this.display = display;
+            this.generation = generation;
+        }
+
+        @Override
+        protected Map<Coords, Integer> doInBackground() {
+            nextUpdate = System.currentTimeMillis() + PROGRESS_INTERVAL_MILLIS;
+            return computation.compute(this);
+        }
+
+        @Override
+        public boolean update(Supplier<Map<Coords, Integer>> partialEnvelope) {
+            if (isCancelled()) {
+                return true;
+            }
+            long now = System.currentTimeMillis();
+            if (now >= nextUpdate) {
+                publish(partialEnvelope.get());
+                nextUpdate = now + PROGRESS_INTERVAL_MILLIS;
+            }
+            return false;
+        }
+
+        @Override
+        protected void process(List<Map<Coords, Integer>> partialEnvelopes) {
+            if (isCurrent(this)) {
+                display.accept(partialEnvelopes.get(partialEnvelopes.size() - 1));
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                return;
+            }
+            try {
+                Map<Coords, Integer> envelope = get();
+                store(key, envelope, generation);
+                if (isCurrent(this)) {
+                    display.accept(envelope);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (CancellationException ignored) {
+                // cancelled while finishing
+            } catch (ExecutionException ex) {
+                LOGGER.error(ex.getCause(), "Could not compute the movement envelope");
+            } finally {
+                clearIfCurrent(this);
+            }
+        }
+    }
+
+    private synchronized void clearIfCurrent(Task task) {
+        if (task == currentTask) {
+            currentTask = null;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2024-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -52,7 +52,10 @@ import megamek.client.ui.widget.MegaMekButton;
 import megamek.common.annotations.Nullable;
 import megamek.common.board.BoardLocation;
 import megamek.common.board.Coords;
+import megamek.common.event.GameEvent;
+import megamek.common.event.GamePhaseChangeEvent;
 import megamek.common.event.GameTurnChangeEvent;
+import megamek.common.event.entity.GameEntityChangeEvent;
 import megamek.common.pathfinder.StopConditionTimeout;
 import megamek.common.preference.PreferenceManager;
 import megamek.common.strategicBattleSystems.SBFFormation;
@@ -111,6 +114,12 @@ public class SBFMovementDisplay extends SBFActionPhaseDisplay {
 
     private SBFMovePath plannedMovement;
 
+    /** Computes the movement envelopes in the background and caches them */
+    private final MovementEnvelopeWorker<MovementEnvelopeKey> movementEnvelopeWorker = new MovementEnvelopeWorker<>();
+
+    /** Identifies a movement envelope in the cache of the {@link #movementEnvelopeWorker} */
+    private record MovementEnvelopeKey(int formationId, BoardLocation position, int maxMP) {}
+
     public SBFMovementDisplay(SBFClientGUI cg) {
         super(cg);
         setupStatusBar(Messages.getString("MovementDisplay.waitingForMovementPhase"));
@@ -136,6 +145,7 @@ public class SBFMovementDisplay extends SBFActionPhaseDisplay {
     private void selectFormation(@Nullable SBFFormation formation) {
         if (formation == null) {
             currentFormation = SBFFormation.NONE;
+            movementEnvelopeWorker.cancel();
             clientGUI.clearMovementEnvelope();
         } else {
             currentFormation = formation.getId();
@@ -295,6 +305,8 @@ public class SBFMovementDisplay extends SBFActionPhaseDisplay {
 
     @Override
     public void gameTurnChange(GameTurnChangeEvent e) {
+        // Formations have moved, so the cached movement envelopes may be wrong
+        movementEnvelopeWorker.invalidate();
         if (isIgnoringEvents()) {
             return;
         }
@@ -313,13 +325,13 @@ public class SBFMovementDisplay extends SBFActionPhaseDisplay {
      * suggested {@link Entity} or the currently selected one. If there is a selected {@link Entity} (which implies it's
      * the current players turn), then the current gear is used (which is set by the user). If there is no selected
      * {@link Entity}, then the current gear is invalid, and it defaults to GEAR_LAND (standard "walk forward").
+     * The envelope is computed on a background thread, see {@link MovementEnvelopeWorker}.
      */
     public void computeMovementEnvelope(SBFFormation formation) {
         if ((formation == null) || (formation.getPosition() == null) || !formation.isDeployed()) {
             return;
         }
 
-        Map<BoardLocation, SBFMovePath> mvEnvData;
         SBFMovePath mp = new SBFMovePath(formation.getId(), formation.getPosition(), game());
 
         int maxMP = formation.getMovement();
@@ -330,15 +342,37 @@ public class SBFMovementDisplay extends SBFActionPhaseDisplay {
         }
 
         SBFMovePathFinder pathFinder = SBFMovePathFinder.moveEnvelopeFinder(maxMP, game());
-        pathFinder.run(mp);
-        mvEnvData = pathFinder.getAllComputedPaths();
-        Map<Coords, Integer> mvEnvMP = new HashMap<>();
+        movementEnvelopeWorker.compute(new MovementEnvelopeKey(formation.getId(), formation.getPosition(), maxMP),
+              progress -> {
+                  pathFinder.addStopCondition(path -> progress.update(
+                        () -> movementEnvelopeOf(pathFinder.getAllComputedPaths())));
+                  pathFinder.run(mp);
+                  return movementEnvelopeOf(pathFinder.getAllComputedPaths());
+              },
+              envelope -> clientGUI.showMovementEnvelope(formation, envelope));
+    }
 
+    private static Map<Coords, Integer> movementEnvelopeOf(Map<BoardLocation, SBFMovePath> mvEnvData) {
+        Map<Coords, Integer> mvEnvMP = new HashMap<>();
         for (BoardLocation c : mvEnvData.keySet()) {
             mvEnvMP.put(c.coords(), mvEnvData.get(c).getMpUsed());
         }
+        return mvEnvMP;
+    }
 
-        clientGUI.showMovementEnvelope(formation, mvEnvMP);
+    @Override
+    public void gamePhaseChange(GamePhaseChangeEvent e) {
+        movementEnvelopeWorker.invalidate();
+    }
+
+    @Override
+    public void gameEntityChange(GameEntityChangeEvent e) {
+        movementEnvelopeWorker.invalidate();
+    }
+
+    @Override
+    public void gameUnitChange(GameEvent event) {
+        movementEnvelopeWorker.invalidate();
     }
 
     @Override
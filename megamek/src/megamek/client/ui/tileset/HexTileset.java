@@ -87,9 +87,10 @@ public class HexTileset implements BoardListener {
     private final List<HexEntry> superimposed = new ArrayList<>();
     private final List<HexEntry> orthographic = new ArrayList<>();
     private final Set<String> themes = new TreeSet<>();
-    private ImageCache<Hex, Image> basesCache = new ImageCache<>();
-    private ImageCache<Hex, List<Image>> superimposedCache = new ImageCache<>();
-    private ImageCache<Hex, List<Image>> orthographicCache = new ImageCache<>();
+    // The cached images are shared tileset images, so these caches count their values instead of weighing them
+    private ImageCache<Hex, Image> basesCache = newMatchCache();
+    private ImageCache<Hex, List<Image>> superimposedCache = newMatchCache();
+    private ImageCache<Hex, List<Image>> orthographicCache = newMatchCache();
 
     /**
      * Creates new HexTileset
@@ -126,9 +127,18 @@ public class HexTileset implements BoardListener {
 
     /** Clears the image cache for all hexes. */
     public synchronized void clearAllHexes() {
-        basesCache = new ImageCache<>();
-        superimposedCache = new ImageCache<>();
-        orthographicCache = new ImageCache<>();
+        basesCache = newMatchCache();
+        superimposedCache = newMatchCache();
+        orthographicCache = newMatchCache();
+    }
+
+    private static <V> ImageCache<Hex, V> newMatchCache() {
+        return new ImageCache<>(ImageCache.MAX_SIZE, value -> 1);
+    }
+
+    /** @return The hit rates and sizes of the caches of matched images, for diagnostics */
+    public synchronized String getCacheStatistics() {
+        return "bases " + basesCache + ", superimposed " + superimposedCache + ", orthographic " + orthographicCache;
     }
 
     /**
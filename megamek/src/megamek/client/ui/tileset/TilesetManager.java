@@ -53,6 +53,7 @@ import megamek.client.ui.clientGUI.GUIPreferences;
 import megamek.client.ui.clientGUI.boardview.BoardView;
 import megamek.client.ui.tileset.MekTileset.MekEntry;
 import megamek.client.ui.util.EntityWreckHelper;
+import megamek.client.ui.util.ImageCache;
 import megamek.client.ui.util.RotateFilter;
 import megamek.common.Configuration;
 import megamek.common.Hex;
@@ -138,7 +139,7 @@ public class TilesetManager implements IPreferenceChangeListener {
      * This is a cache that stores images for various colors (for Players, and possibly multiple players in the same
      * hex).
      */
-    private final Map<Color, Image> ecmStaticImages = new HashMap<>();
+    private final ImageCache<Color, Image> ecmStaticImages = new ImageCache<>();
 
     /** Creates new TilesetManager. */
     public TilesetManager(IGame game) throws IOException {
@@ -374,6 +375,11 @@ public class TilesetManager implements IPreferenceChangeListener {
         return hexTileset.getOrthographic(hex);
     }
 
+    /** @return The hit rates and sizes of the image caches, for diagnostics */
+    public String getImageCacheStatistics() {
+        return hexTileset.getCacheStatistics() + ", ECM " + ecmStaticImages;
+    }
+
     public Image getMinefieldSign() {
         return minefieldSign;
     }
@@ -1,7 +1,7 @@
 /*
  * Copyright (C) 2005 Ben Mazur (bmazur@sev.org)
  * Copyright (C) 2013 Nicholas Walczak (walczak@cs.umn.edu)
- * Copyright (C) 2005-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2005-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -35,62 +35,130 @@
 
 package megamek.client.ui.util;
 
-import java.util.Hashtable;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
 
 import megamek.common.annotations.Nullable;
 
 /**
- * An ImageCache that keeps a Hashtable of mapped keys and values.
+ * A cache for images and other values derived from images that is bounded by the estimated memory of its values. When
+ * a new value makes the cache exceed its limit, the least recently used values are evicted until the cache is down to
+ * {@link #EVICTION_TARGET} of its limit, so that eviction runs only once in a while. Reads do not lock; they only mark
+ * the value as used. The cache counts hits, misses and evictions.
+ * <p>
+ * Values are weighed by their estimated pixel bytes (see {@link #estimateBytes(Object)}) unless another weigher is
+ * given. As an evicted value is simply missing, callers must be able to recreate any value.
  *
  * @author Arlith
  */
 public class ImageCache<K, V> {
     /**
-     * Default maximum size
+     * Default maximum number of values for caches that count their values rather than weigh them.
      */
     public static int MAX_SIZE = 30000;
 
+    /** The share of the maximum heap that a cache with the default limit may use */
+    private static final int DEFAULT_HEAP_DIVISOR = 16;
+
+    /** Eviction frees the cache down to this share of its limit */
+    static final double EVICTION_TARGET = 0.75;
+
+    /** The weight of an image of unknown size, such as one that is still loading */
+    private static final long UNKNOWN_IMAGE_BYTES = 4096;
+
+    private static final class Node<V> {
+        final V value;
+        final long weight;
+        volatile long lastUsed;
+
+        Node(V value, long weight, long lastUsed) {
+            this.value = value;
+            this.weight = weight;
+            this.lastUsed = lastUsed;
+        }
+    }
 
     /**
      * The cache of Key/Value pairs.
      */
-    private final Hashtable<K, V> cache;
+    private final Map<K, Node<V>> cache = new ConcurrentHashMap<>();
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final AtomicLong weight = new AtomicLong();
+    /** A logical clock for the use order; cheaper than the system time and never equal for two uses */
+    private final AtomicLong clock = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
 
     /**
-     * Create a cache with the default maximum size.
+     * Create a cache that may hold an estimated 1/16 of the maximum heap in image bytes.
      */
     public ImageCache() {
-        cache = new Hashtable<>(MAX_SIZE * 5 / 4, .75f);
+        this(Runtime.getRuntime().maxMemory() / DEFAULT_HEAP_DIVISOR, ImageCache::estimateBytes);
     }
 
-
     @Deprecated(since = "0.51.0", forRemoval = true)
     public ImageCache(int max) {
-        cache = new Hashtable<>(max * 5 / 4, .75f);
+        this(max, value -> 1);
+    }
+
+    /**
+     * Create a cache with the given limit.
+     *
+     * @param maxWeight the maximum total weight of the values
+     * @param weigher   gives the weight of a value, such as its estimated bytes or 1 to count values
+     */
+    public ImageCache(long maxWeight, ToLongFunction<? super V> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
     }
 
     /**
      * Adds a new key/value pair into the cache.
      *
      */
-    public synchronized @Nullable V put(@Nullable K key, @Nullable V value) {
+    public @Nullable V put(@Nullable K key, @Nullable V value) {
         if ((key == null) || (value == null)) {
             return null;
         }
 
-        cache.put(key, value);
+        Node<V> node = new Node<>(value, Math.max(1, weigher.applyAsLong(value)), clock.incrementAndGet());
+        Node<V> previous = cache.put(key, node);
+        long total = weight.addAndGet(node.weight - ((previous == null) ? 0 : previous.weight));
+        if (total > maxWeight) {
+            evict();
+        }
         return value;
     }
 
-    public synchronized @Nullable V get(K key) {
-        return cache.getOrDefault(key, null);
+    public @Nullable V get(@Nullable K key) {
+        Node<V> node = (key == null) ? null : cache.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        node.lastUsed = clock.incrementAndGet();
+        hits.increment();
+        return node.value;
     }
 
-    public synchronized void remove(K key) {
+    public void remove(@Nullable K key) {
         if (key == null) {
             return;
         }
-        cache.remove(key);
+        Node<V> node = cache.remove(key);
+        if (node != null) {
+            weight.addAndGet(-node.weight);
+        }
     }
 
     public int size() {
@@ -98,6 +166,94 @@ public class ImageCache<K, V> {
     }
 
     public void clear() {
-        cache.clear();
+        for (K key : new ArrayList<>(cache.keySet())) {
+            remove(key);
+        }
+    }
+
+    /**
+     * Evicts the least recently used values until the cache is down to its eviction target. Only one thread evicts at
+     * a time; values that are added meanwhile wait for the next eviction.
+     */
+    private synchronized void evict() {
+        if (weight.get() <= maxWeight) {
+            return;
+        }
+        List<Map.Entry<K, Node<V>>> entries = new ArrayList<>(cache.entrySet());
+        entries.sort((first, second) -> Long.compare(first.getValue().lastUsed, second.getValue().lastUsed));
+        long target = (long) (maxWeight * EVICTION_TARGET);
+        for (Map.Entry<K, Node<V>> entry : entries) {
+            if (weight.get() <= target) {
+                break;
+            }
+            // Only remove the value that was sorted; a newer value under the same key stays
+            if (cache.remove(entry.getKey(), entry.getValue())) {
+                weight.addAndGet(-entry.getValue().weight);
+                evictions.increment();
+            }
+        }
+    }
+
+    /** @return The estimated total weight of the values, usually in bytes */
+    public long getWeight() {
+        return weight.get();
+    }
+
+    /** @return The maximum total weight of the values */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /** @return The number of reads that found a value */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /** @return The number of reads that found no value */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /** @return The number of values that were evicted to stay within the limit */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /** @return The share of reads that found a value, 0 when there were no reads */
+    public double getHitRate() {
+        long found = getHits();
+        long total = found + getMisses();
+        return (total == 0) ? 0 : (double) found / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ImageCache[%d values, %d of %d KB, hit rate %.1f%%, %d evictions]", size(),
+              getWeight() / 1024, maxWeight / 1024, getHitRate() * 100, getEvictions());
+    }
+
+    /**
+     * Estimates the memory used by the pixels of a value: 4 bytes per pixel for images, the sum for collections of
+     * images and a small fixed amount for anything else, such as an image that has not finished loading.
+     *
+     * @param value the value to weigh
+     *
+     * @return the estimated bytes
+     */
+    public static long estimateBytes(@Nullable Object value) {
+        if (value instanceof BufferedImage image) {
+            return 4L * image.getWidth() * image.getHeight();
+        } else if (value instanceof Image image) {
+            int width = image.getWidth(null);
+            int height = image.getHeight(null);
+            return ((width > 0) && (height > 0)) ? 4L * width * height : UNKNOWN_IMAGE_BYTES;
+        } else if (value instanceof Collection<?> values) {
+            long bytes = 0;
+            for (Object element : values) {
+                bytes += estimateBytes(element);
+            }
+            return bytes;
+        }
+        return UNKNOWN_IMAGE_BYTES;
     }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2000-2003 Ben Mazur (bmazur@sev.org)
- * Copyright (C) 2002-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2002-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -34,6 +34,9 @@
 
 package megamek.common;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -50,6 +53,7 @@ import megamek.common.annotations.Nullable;
 import megamek.common.board.Coords;
 import megamek.common.enums.BasementType;
 import megamek.common.equipment.Minefield;
+import megamek.common.net.marshalling.CompactStreams;
 import megamek.common.rolls.PilotingRollData;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Entity;
@@ -70,6 +74,17 @@ public class Hex implements Serializable {
     private Coords coords;
     private int level;
     private final Map<Integer, Terrain> terrains = new HashMap<>(1);
+    /**
+     * The same terrains as {@link #terrains}, indexed by type so that the frequent terrain queries need neither
+     * hashing nor boxing. Not serialized; rebuilt after reading. Volatile, as hexes are read from several threads at
+     * once (such as the parallel LOS of the visibility matrix): each change of the terrains fills a new array and
+     * publishes it here, so a reader sees a complete index, never one that is being changed.
+     */
+    private transient volatile Terrain[] terrainsByType;
+    /** Counts the changes to the level and terrains of this hex; lets LOS caches detect changed hexes */
+    private transient int modCount;
+    /** Told about terrain changes; set by the board holding this hex to keep its terrain index current */
+    private transient TerrainChangeListener terrainChangeListener;
     private String theme;
     private final String originalTheme;
     private int fireTurn;
@@ -106,6 +121,7 @@ public class Hex implements Serializable {
                 this.terrains.put(t.getType(), t);
             }
         }
+        indexTerrains();
 
         if ((theme == null) || !theme.isBlank()) {
             this.theme = theme;
@@ -141,6 +157,7 @@ public class Hex implements Serializable {
 
     public void setLevel(int level) {
         this.level = level;
+        modCount++;
     }
 
     /**
@@ -484,9 +501,12 @@ public class Hex implements Serializable {
      * @see Hex#containsAllTerrainsOf(int...)
      */
     public boolean containsAnyTerrainOf(Set<Integer> types) {
-        Set<Integer> keys = new HashSet<>(terrains.keySet());
-        keys.retainAll(types);
-        return !keys.isEmpty();
+        for (int type : types) {
+            if (containsTerrain(type)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -583,7 +603,28 @@ public class Hex implements Serializable {
      * @return the terrain of the specified type, or <code>null</code> if the terrain is not present in the hex
      */
     public @Nullable Terrain getTerrain(int type) {
-        return terrains.get(type);
+        Terrain[] byType = terrainsByType;
+        return ((byType != null) && (type >= 0) && (type < byType.length)) ? byType[type] : terrains.get(type);
+    }
+
+    /**
+     * Fills a new terrain index from the terrains and publishes it. Called by everything that changes the terrains,
+     * which are not meant to be changed concurrently, so the published index always matches the terrains.
+     */
+    private void indexTerrains() {
+        Terrain[] byType = new Terrain[Terrains.SIZE];
+        for (Terrain terrain : terrains.values()) {
+            if ((terrain.getType() >= 0) && (terrain.getType() < byType.length)) {
+                byType[terrain.getType()] = terrain;
+            }
+        }
+        terrainsByType = byType;
+    }
+
+    @Serial
+    private Object readResolve() {
+        indexTerrains();
+        return this;
     }
 
     /**
@@ -594,13 +635,15 @@ public class Hex implements Serializable {
      *       null if none are preset.
      */
     public @Nullable Terrain getAnyTerrainOf(int type, int... types) {
-        if (containsTerrain(type)) {
-            return terrains.get(type);
+        Terrain terrain = getTerrain(type);
+        if (terrain != null) {
+            return terrain;
         }
 
         for (int moreTypes : types) {
-            if (containsTerrain(moreTypes)) {
-                return terrains.get(moreTypes);
+            terrain = getTerrain(moreTypes);
+            if (terrain != null) {
+                return terrain;
             }
         }
 
@@ -612,6 +655,9 @@ public class Hex implements Serializable {
      */
     public void addTerrain(Terrain terrain) {
         terrains.put(terrain.getType(), terrain);
+        indexTerrains();
+        modCount++;
+        fireTerrainChanged();
     }
 
     /**
@@ -619,6 +665,9 @@ public class Hex implements Serializable {
      */
     public void removeTerrain(int type) {
         terrains.remove(type);
+        indexTerrains();
+        modCount++;
+        fireTerrainChanged();
     }
 
     /**
@@ -626,6 +675,42 @@ public class Hex implements Serializable {
      */
     public void removeAllTerrains() {
         terrains.clear();
+        indexTerrains();
+        modCount++;
+        fireTerrainChanged();
+    }
+
+    /**
+     * @return A number that changes whenever the level or the terrains of this hex change; together with the identity
+     *       of the Hex object, this lets caches of results that depend on the hex detect that it has changed
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Receives a notification whenever a terrain is added to or removed from a hex.
+     */
+    public interface TerrainChangeListener {
+        void terrainChanged(Hex hex);
+    }
+
+    /**
+     * Sets the single listener that is told about terrain changes of this hex; null removes it. DO NOT USE outside
+     * Board! The board uses this to keep its index of hexes by terrain current.
+     */
+    public void setTerrainChangeListener(@Nullable TerrainChangeListener listener) {
+        terrainChangeListener = listener;
+    }
+
+    public @Nullable TerrainChangeListener getTerrainChangeListener() {
+        return terrainChangeListener;
+    }
+
+    private void fireTerrainChanged() {
+        if (terrainChangeListener != null) {
+            terrainChangeListener.terrainChanged(this);
+        }
     }
 
     /**
@@ -648,6 +733,61 @@ public class Hex implements Serializable {
         return new Hex(level, terrainCopy, theme, coords);
     }
 
+    /**
+     * Writes this hex in the compact layout used by the binary packet marshaller. All serialized state is written,
+     * including the current and original theme and the fire turn.
+     *
+     * @param out the output to write to
+     *
+     * @see #readCompact(DataInput)
+     */
+    public void writeCompact(DataOutput out) throws IOException {
+        CompactStreams.writeSignedVarInt(out, level);
+        out.writeBoolean(coords != null);
+        if (coords != null) {
+            CompactStreams.writeSignedVarInt(out, coords.getX());
+            CompactStreams.writeSignedVarInt(out, coords.getY());
+        }
+        CompactStreams.writeString(out, theme);
+        CompactStreams.writeString(out, originalTheme);
+        CompactStreams.writeVarInt(out, fireTurn);
+        CompactStreams.writeVarInt(out, terrains.size());
+        for (Terrain terrain : terrains.values()) {
+            CompactStreams.writeVarInt(out, terrain.getType());
+            CompactStreams.writeSignedVarInt(out, terrain.getLevel());
+            out.writeBoolean(terrain.hasExitsSpecified());
+            CompactStreams.writeVarInt(out, terrain.getExits());
+            CompactStreams.writeSignedVarInt(out, terrain.getTerrainFactor());
+        }
+    }
+
+    /**
+     * Reads a hex written by {@link #writeCompact(DataOutput)}.
+     *
+     * @param in the input to read from
+     *
+     * @return the new Hex
+     */
+    public static Hex readCompact(DataInput in) throws IOException {
+        int level = CompactStreams.readSignedVarInt(in);
+        Coords coords = null;
+        if (in.readBoolean()) {
+            coords = new Coords(CompactStreams.readSignedVarInt(in), CompactStreams.readSignedVarInt(in));
+        }
+        String theme = CompactStreams.readString(in);
+        Hex hex = new Hex(level, new Terrain[0], CompactStreams.readString(in), coords);
+        hex.theme = theme;
+        hex.fireTurn = CompactStreams.readVarInt(in);
+        int terrainCount = CompactStreams.readLength(in);
+        for (int i = 0; i < terrainCount; i++) {
+            Terrain terrain = new Terrain(CompactStreams.readVarInt(in), CompactStreams.readSignedVarInt(in),
+                  in.readBoolean(), CompactStreams.readVarInt(in));
+            terrain.setTerrainFactor(CompactStreams.readSignedVarInt(in));
+            hex.addTerrain(terrain);
+        }
+        return hex;
+    }
+
     /**
      * Adds terrain modifiers to PSRs made in this hex
      */
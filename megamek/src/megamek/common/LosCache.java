@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import megamek.common.board.Board;
+import megamek.common.board.Coords;
+import megamek.common.game.Game;
+import megamek.common.options.OptionsConstants;
+import megamek.common.units.Dropship;
+import megamek.common.units.Entity;
+
+/**
+ * Keeps the results of {@link LosEffects#calculateLos(Game, LosEffects.AttackInfo)} so that repeated queries with the
+ * same attack geometry are answered without tracing the line again. To-hit calculations, the bot's fire control and
+ * the server's visibility checks ask for the same lines many times per phase.
+ * <p>
+ * A result is keyed by all the attack info that the calculation reads and the game options that change it. Along
+ * with it, the hexes on the line (and the attacker's and target's hexes) are recorded with their change counts.
+ * A result is used only while all of these are the same Hex objects, unchanged, so that a changed hex, such as a
+ * collapsed building, a fire or cleared woods, invalidates just the lines that cross it. As grounded DropShips block
+ * LOS, a result is also only used while the grounded DropShips of the board are where they were. Results that
+ * counted smoke are not kept, as these depend on the attacker's active probe which may be shut down by ECM.
+ */
+public class LosCache {
+
+    /** When the cache holds more results than this, it is cleared */
+    static final int MAX_ENTRIES = 20_000;
+
+    private record Key(int boardId, Coords attackPos, Coords targetPos, int attackHeight, int targetHeight,
+          int attackAbsHeight, int targetAbsHeight, int flags, int attackerId, int targetId, int minimumWaterDepth) {
+
+        static Key of(Game game, LosEffects.AttackInfo ai) {
+            int flags = bit(ai.attUnderWater, 0) | bit(ai.attInWater, 1) | bit(ai.attOnLand, 2)
+                  | bit(ai.attLowAlt, 3) | bit(ai.targetUnderWater, 4) | bit(ai.targetInWater, 5)
+                  | bit(ai.targetOnLand, 6) | bit(ai.targetLowAlt, 7) | bit(ai.underWaterCombat, 8)
+                  | bit(ai.lowAltitude, 9) | bit(ai.targetEntity, 10) | bit(ai.targetInfantry, 11)
+                  | bit(ai.targetIsMek, 12) | bit(ai.attackerIsMek, 13) | bit(ai.attOffBoard, 14)
+                  | bit(game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_LOS1), 15)
+                  | bit(game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DEAD_ZONES), 16)
+                  | bit(game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_PARTIAL_COVER), 17)
+                  | bit(Game.rulesManager.getRulesUnderwater().waterBlocksLOS(), 18);
+            return new Key(ai.boardId, ai.attackPos, ai.targetPos, ai.attackHeight, ai.targetHeight,
+                  ai.attackAbsHeight, ai.targetAbsHeight, flags, ai.attackerId, ai.targetId, ai.minimumWaterDepth);
+        }
+
+        private static int bit(boolean value, int index) {
+            return value ? (1 << index) : 0;
+        }
+    }
+
+    private record GroundedDropShip(int id, Coords position) {}
+
+    /**
+     * A cached result with the hexes it was calculated from. The result is never handed out itself, only copies.
+     */
+    private record Entry(LosEffects effects, int minimumWaterDepth, Coords[] line, Hex[] hexes, int[] modCounts,
+          List<GroundedDropShip> dropShips) {
+
+        boolean isValid(Board board, List<GroundedDropShip> currentDropShips) {
+            for (int i = 0; i < line.length; i++) {
+                Hex hex = board.getHex(line[i]);
+                if ((hex != hexes[i]) || ((hex != null) && (hex.getModCount() != modCounts[i]))) {
+                    return false;
+                }
+            }
+            return dropShips.equals(currentDropShips);
+        }
+    }
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Returns the LOS effects for the given attack info, from the cache if possible. Like the calculation, this sets
+     * the minimum water depth of the attack info.
+     *
+     * @param game The current {@link Game}
+     * @param ai   the attack info
+     *
+     * @return A new LosEffects object that the caller may change
+     */
+    public LosEffects get(Game game, LosEffects.AttackInfo ai) {
+        Board board = game.getBoard(ai.boardId);
+        if ((board == null) || (ai.attackPos == null) || (ai.targetPos == null)) {
+            return LosEffects.computeLos(game, ai);
+        }
+
+        Key key = Key.of(game, ai);
+        List<GroundedDropShip> dropShips = groundedDropShips(game, ai.boardId);
+        Entry entry = entries.get(key);
+        if ((entry != null) && entry.isValid(board, dropShips)) {
+            hits.increment();
+            ai.minimumWaterDepth = entry.minimumWaterDepth();
+            return entry.effects().copy();
+        }
+
+        misses.increment();
+        // The hexes are recorded before the calculation so that a change during the calculation is not missed
+        Coords[] line = lineOf(ai.attackPos, ai.targetPos);
+        Hex[] hexes = new Hex[line.length];
+        int[] modCounts = new int[line.length];
+        for (int i = 0; i < line.length; i++) {
+            hexes[i] = board.getHex(line[i]);
+            modCounts[i] = (hexes[i] == null) ? 0 : hexes[i].getModCount();
+        }
+        LosEffects effects = LosEffects.computeLos(game, ai);
+        if ((effects.lightSmoke == 0) && (effects.heavySmoke == 0)) {
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+            entries.put(key, new Entry(effects.copy(), ai.minimumWaterDepth, line, hexes, modCounts, dropShips));
+        } else {
+            entries.remove(key);
+        }
+        return effects;
+    }
+
+    /** Removes all cached results. */
+    public void clear() {
+        entries.clear();
+    }
+
+    /** @return The number of cached results */
+    public int size() {
+        return entries.size();
+    }
+
+    /** @return The number of queries that were answered from the cache */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /** @return The number of queries that had to be calculated */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return All hexes that the LOS calculation may look at: the end points and the hexes in between, traced in both
+     *       directions, as the dead zone check traces from the lower unit
+     */
+    public static Coords[] lineOf(Coords attackPos, Coords targetPos) {
+        Set<Coords> line = new LinkedHashSet<>();
+        line.add(attackPos);
+        line.add(targetPos);
+        line.addAll(Coords.intervening(attackPos, targetPos, true));
+        line.addAll(Coords.intervening(targetPos, attackPos, true));
+        return line.toArray(new Coords[0]);
+    }
+
+    private static List<GroundedDropShip> groundedDropShips(Game game, int boardId) {
+        List<GroundedDropShip> result = null;
+        for (Entity entity : game.getEntitiesVector()) {
+            if ((entity instanceof Dropship) && !entity.isAirborne() && !entity.isSpaceborne()
+                  && (entity.getBoardId() == boardId) && (entity.getPosition() != null)) {
+                if (result == null) {
+                    result = new ArrayList<>();
+                }
+                result.add(new GroundedDropShip(entity.getId(), entity.getPosition()));
+            }
+        }
+        return (result == null) ? List.of() : result;
+    }
+}
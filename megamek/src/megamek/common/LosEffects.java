@@ -73,7 +73,7 @@ import megamek.server.SmokeCloud;
  * @author Ben
  * @since October 14, 2002, 11:19 PM
  */
-public class LosEffects {
+public class LosEffects implements Cloneable {
 
     private static final MMLogger logger = MMLogger.create(LosEffects.class);
 
@@ -228,6 +228,17 @@ public class LosEffects {
         minimumWaterDepth = inVal;
     }
 
+    /**
+     * @return A copy of these effects. The buildings, units and coords they refer to are shared with the copy.
+     */
+    LosEffects copy() {
+        try {
+            return (LosEffects) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public void add(LosEffects other) {
         // We need to check if we should update damageable cover
         // We need to update cover if it's present, but we don't want to
@@ -813,7 +824,24 @@ public class LosEffects {
         return finalLoS;
     }
 
+    /**
+     * Returns the LOS effects for the given attack info. Results are kept in the game's {@link LosCache}, so repeated
+     * queries with the same geometry over unchanged terrain are not calculated again.
+     *
+     * @param game The current {@link Game}
+     * @param ai   the attack info; its minimum water depth is updated as by the calculation
+     *
+     * @return the found LOS Effects
+     */
     public static LosEffects calculateLos(Game game, AttackInfo ai) {
+        LosCache cache = game.getLosCache();
+        return (cache == null) ? computeLos(game, ai) : cache.get(game, ai);
+    }
+
+    /**
+     * Calculates the LOS effects for the given attack info, bypassing the cache.
+     */
+    static LosEffects computeLos(Game game, AttackInfo ai) {
         boolean useDiagramLos = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_LOS1);
         boolean useDeadZones = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DEAD_ZONES);
         boolean usePartialCover = game.getOptions()
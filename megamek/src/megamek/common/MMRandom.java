@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2000-2002 Ben Mazur (bmazur@sev.org)
- * Copyright (C) 2003-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2003-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -34,7 +34,14 @@
 
 package megamek.common;
 
+import java.io.Serial;
+import java.io.Serializable;
+import java.security.SecureRandom;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 import megamek.common.rolls.MMRoll;
 import megamek.common.rolls.Roll;
@@ -55,6 +62,7 @@ public abstract class MMRandom {
     public static final int R_SUN = 0;
     public static final int R_CRYPTO = 1;
     public static final int R_POOL36 = 2;
+    public static final int R_SPLITTABLE = 3;
 
     /**
      * Gives you the type asked for, defaulting to SunRandom if there are any errors.
@@ -65,6 +73,7 @@ public abstract class MMRandom {
             return switch (type) {
                 case R_CRYPTO -> new CryptoRandom();
                 case R_POOL36 -> new Pool36Random();
+                case R_SPLITTABLE -> new SplittableSeededRandom(new SecureRandom().nextLong());
                 default -> new SunRandom();
             };
         } catch (Exception ex) {
@@ -73,6 +82,15 @@ public abstract class MMRandom {
         }
     }
 
+    /**
+     * Gives you a seeded splittable generator that starts from the given master seed. Two generators made from the
+     * same master seed give the same rolls, see {@link SplittableSeededRandom}.
+     */
+    public static SplittableSeededRandom generateSeeded(long masterSeed) {
+        logger.debug("Generating seeded RNG");
+        return new SplittableSeededRandom(masterSeed);
+    }
+
     /**
      * Simulates six-sided die rolls.
      *
@@ -179,6 +197,107 @@ public abstract class MMRandom {
         }
     }
 
+    /**
+     * Uses a fast generator of the splittable LXM family that starts from a master seed. The rolls are drawn from
+     * named streams, each seeded from the master seed and its name only, not from the order the streams were made in.
+     * Different names give different streams of the same game. A thread
+     * rolls on the stream named after the thread, so the rolls of one thread do not depend on which other threads
+     * rolled, or when. The server resolves the game on its packet pump thread, so that a bot or helper thread in the
+     * same JVM cannot change the dice of the game.
+     * <p>
+     * Two generators made from the same master seed give the same rolls as long as each stream is rolled on in the same
+     * order. That does not hold for a stream shared by threads of the same name that roll at the same time.
+     * <p>
+     * The generator is serializable: it keeps its master seed and the number of values each stream has drawn, so that
+     * a deserialized generator continues where it left off.
+     */
+    public static class SplittableSeededRandom extends MMRandom implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -2216359101436117473L;
+        static final String ALGORITHM = "L64X128MixRandom";
+
+        private final long masterSeed;
+        private final Map<String, Stream> streams = new ConcurrentHashMap<>();
+
+        public SplittableSeededRandom(long masterSeed) {
+            this.masterSeed = masterSeed;
+        }
+
+        /**
+         * @return the seed that this generator started from; a generator made from it gives the same rolls
+         */
+        public long getMasterSeed() {
+            return masterSeed;
+        }
+
+        /**
+         * @return the number of values drawn from the stream of the given name so far
+         */
+        public long getDraws(String streamName) {
+            Stream stream = streams.get(streamName);
+            return (stream == null) ? 0 : stream.getDraws();
+        }
+
+        private Stream stream() {
+            return streams.computeIfAbsent(Thread.currentThread().getName(), Stream::new);
+        }
+
+        /**
+         * Draws exactly one value from the stream per roll, so that the count of draws is the position of the stream.
+         * The bias of the multiply-shift reduction is below 2^-32 per roll.
+         */
+        @Override
+        public int randomInt(int maxValue) {
+            return (int) (((stream().nextLong(masterSeed) >>> 32) * maxValue) >>> 32);
+        }
+
+        @Override
+        public float randomFloat() {
+            return (stream().nextLong(masterSeed) >>> 40) * 0x1.0p-24f;
+        }
+
+        /**
+         * One named stream. Only its name and the number of draws are serialized; the generator is created again, and
+         * advanced by that number, on its first use after deserialization.
+         */
+        private static final class Stream implements Serializable {
+            @Serial
+            private static final long serialVersionUID = 5147290347318935519L;
+
+            private final String name;
+            private long draws;
+            private transient RandomGenerator generator;
+
+            private Stream(String name) {
+                this.name = name;
+            }
+
+            synchronized long getDraws() {
+                return draws;
+            }
+
+            synchronized long nextLong(long masterSeed) {
+                if (generator == null) {
+                    generator = RandomGeneratorFactory.of(ALGORITHM).create(masterSeed ^ nameSeed(name));
+                    for (long skipped = 0; skipped < draws; skipped++) {
+                        generator.nextLong();
+                    }
+                }
+                draws++;
+                return generator.nextLong();
+            }
+
+            /** FNV-1a over the characters of the name; unlike String.hashCode(), it is 64 bits wide */
+            private static long nameSeed(String name) {
+                long hash = 0xcbf29ce484222325L;
+                for (int i = 0; i < name.length(); i++) {
+                    hash = (hash ^ name.charAt(i)) * 0x100000001b3L;
+                }
+                return hash;
+            }
+        }
+    }
+
     /**
      * Behaves like SunRandom for everything but d6(2) calls. Then, it takes numbers from an array of the 36 possible
      * results of two dice, shuffled.
@@ -38,6 +38,9 @@ import static megamek.client.ui.util.UIUtil.uiGray;
 
 import java.awt.Color;
 import java.awt.Font;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serial;
 import java.util.Hashtable;
 import java.util.Optional;
@@ -52,6 +55,7 @@ import megamek.client.ui.clientGUI.GUIPreferences;
 import megamek.client.ui.util.UIUtil;
 import megamek.common.annotations.Nullable;
 import megamek.common.interfaces.ReportEntry;
+import megamek.common.net.marshalling.CompactStreams;
 import megamek.common.rolls.Roll;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Entity;
@@ -977,6 +981,76 @@ public class Report implements ReportEntry {
         return false;
     }
 
+    /**
+     * Internal method. Not for typical use.
+     * <p>
+     * Writes the fields of this report that Java serialization would send (i.e., not the transient ones) in the compact
+     * layout used by the binary packet marshaller.
+     *
+     * @param out the output to write to
+     *
+     * @see #readCompact(DataInput)
+     */
+    public void writeCompact(DataOutput out) throws IOException {
+        CompactStreams.writeSignedVarInt(out, messageId);
+        CompactStreams.writeVarInt(out, extensions.size());
+        for (Integer extension : extensions) {
+            CompactStreams.writeSignedVarInt(out, extension);
+        }
+        CompactStreams.writeSignedVarInt(out, indentation);
+        CompactStreams.writeSignedVarInt(out, newlines);
+        CompactStreams.writeVarInt(out, tagData.size());
+        for (String data : tagData) {
+            CompactStreams.writeString(out, data);
+        }
+        CompactStreams.writeString(out, tagTranslate);
+        CompactStreams.writeVarInt(out, obscuredIndexes.size());
+        for (var entry : obscuredIndexes.entrySet()) {
+            CompactStreams.writeVarInt(out, entry.getKey());
+            out.writeBoolean(entry.getValue());
+        }
+        CompactStreams.writeVarInt(out, obscuredRecipients.size());
+        for (String recipient : obscuredRecipients) {
+            CompactStreams.writeString(out, recipient);
+        }
+        CompactStreams.writeString(out, imageCode);
+    }
+
+    /**
+     * Internal method. Not for typical use.
+     * <p>
+     * Reads a report written by {@link #writeCompact(DataOutput)}. Transient fields keep their defaults, as they would
+     * after Java deserialization.
+     *
+     * @param in the input to read from
+     *
+     * @return the new Report
+     */
+    public static Report readCompact(DataInput in) throws IOException {
+        Report report = new Report(CompactStreams.readSignedVarInt(in));
+        int count = CompactStreams.readLength(in);
+        for (int i = 0; i < count; i++) {
+            report.extensions.add(CompactStreams.readSignedVarInt(in));
+        }
+        report.indentation = CompactStreams.readSignedVarInt(in);
+        report.newlines = CompactStreams.readSignedVarInt(in);
+        count = CompactStreams.readLength(in);
+        for (int i = 0; i < count; i++) {
+            report.tagData.add(CompactStreams.readString(in));
+        }
+        report.tagTranslate = CompactStreams.readString(in);
+        count = CompactStreams.readLength(in);
+        for (int i = 0; i < count; i++) {
+            report.obscuredIndexes.put(CompactStreams.readVarInt(in), in.readBoolean());
+        }
+        count = CompactStreams.readLength(in);
+        for (int i = 0; i < count; i++) {
+            report.obscuredRecipients.add(CompactStreams.readString(in));
+        }
+        report.imageCode = CompactStreams.readString(in);
+        return report;
+    }
+
     /**
      * Useful for debugging purposes.
      *
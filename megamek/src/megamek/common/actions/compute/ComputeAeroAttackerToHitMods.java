@@ -50,6 +50,8 @@ import megamek.common.equipment.WeaponMounted;
 import megamek.common.equipment.WeaponType;
 import megamek.common.equipment.WeaponTypeFlag;
 import megamek.common.game.Game;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.options.OptionsConstants;
 import megamek.common.units.Aero;
 import megamek.common.units.Dropship;
@@ -184,7 +186,7 @@ public class ComputeAeroAttackerToHitMods {
 
             // Space ECM
             if (attacker.isSpaceborne() && game.onTheSameBoard(attacker, target)
-                  && game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
+                  && GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
                 int ecm = ComputeECM.getLargeCraftECM(attacker, attacker.getPosition(), target.getPosition());
                 if (!attacker.isLargeCraft()) {
                     ecm += ComputeECM.getSmallCraftECM(attacker, attacker.getPosition(), target.getPosition());
@@ -52,6 +52,8 @@ import megamek.common.equipment.Mounted;
 import megamek.common.equipment.WeaponType;
 import megamek.common.equipment.enums.MiscTypeFlag;
 import megamek.common.game.Game;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.options.OptionsConstants;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.*;
@@ -107,7 +109,8 @@ public class ComputeAttackerToHitMods {
         toHit.append(Compute.getProneMods(game, attacker, weaponId));
 
         // add penalty for called shots and change hit table, if necessary
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_CALLED_SHOTS) && weapon != null) {
+        if (GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_CALLED_SHOTS) && weapon != null) {
             int call = weapon.getCalledShot().getCall();
             if ((call > CalledShot.CALLED_NONE) && !aimingMode.isNone()) {
                 return new ToHitData(TargetRoll.IMPOSSIBLE,
@@ -414,7 +417,7 @@ public class ComputeAttackerToHitMods {
         }
 
         // Fatigue
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_FATIGUE) &&
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_TAC_OPS_FATIGUE) &&
               attacker.getCrew().isGunneryFatigued()) {
             toHit.addModifier(1, Messages.getString("WeaponAttackAction.Fatigue"));
         }
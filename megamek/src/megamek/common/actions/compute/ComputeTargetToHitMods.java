@@ -48,6 +48,8 @@ import megamek.common.equipment.WeaponMounted;
 import megamek.common.equipment.WeaponType;
 import megamek.common.game.Game;
 import megamek.common.moves.ClimbingHelper;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.options.OptionsConstants;
 import megamek.common.units.ConvInfantry;
 import megamek.common.units.Entity;
@@ -167,7 +169,7 @@ public class ComputeTargetToHitMods {
         // Special Equipment and Quirks that the target possesses
 
         // ECM suite generating Ghost Targets
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_GHOST_TARGET)) {
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_TAC_OPS_GHOST_TARGET)) {
 
             boolean isStandardMode = game.usesStandardGhostTargetMode();
 
@@ -286,11 +288,11 @@ public class ComputeTargetToHitMods {
         // Ground-to-air attacks against a target flying at any other altitude (if
         // StratOps Velocity mods are on)
         if (Compute.isGroundToAir(attacker, target)
-              && game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_AA_FIRE)
+              && GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_AA_FIRE)
               && (null != entityTarget)
               && entityTarget.isAero()) {
             int vMod = ((IAero) entityTarget).getCurrentVelocity();
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_AA_MOVE_MOD)) {
+            if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_AA_MOVE_MOD)) {
                 vMod = Math.min(vMod / 2, 4);
             }
             toHit.addModifier(vMod, Messages.getString("WeaponAttackAction.TeVelocity"));
@@ -368,7 +370,8 @@ public class ComputeTargetToHitMods {
             }
 
             // Target hidden in the sensor shadow of a larger spacecraft
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_SENSOR_SHADOW) &&
+            if (GameOptionsSnapshot.of(game.getOptions())
+                  .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_SENSOR_SHADOW) &&
                   iAeroTarget.isSpaceborne()) {
                 for (Entity other : Compute.getAdjacentEntitiesAlongAttack(attacker.getPosition(),
                       target.getPosition(),
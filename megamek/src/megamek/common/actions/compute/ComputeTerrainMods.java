@@ -58,7 +58,8 @@ import megamek.common.equipment.AmmoType;
 import megamek.common.equipment.WeaponMounted;
 import megamek.common.equipment.WeaponType;
 import megamek.common.game.Game;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.units.Entity;
 import megamek.common.units.Infantry;
 import megamek.common.units.Mek;
@@ -258,7 +259,8 @@ public class ComputeTerrainMods {
                 toHit.setHitTable(HIT_PARTIAL_COVER);
                 toHit.setCover(LosEffects.COVER_UPPER);
             } else {
-                if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_PARTIAL_COVER)) {
+                if (GameOptionsSnapshot.of(game.getOptions())
+                      .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_PARTIAL_COVER)) {
                     toHit.setCover(los.getTargetCover());
                 } else {
                     toHit.setCover(LosEffects.COVER_HORIZONTAL);
@@ -314,13 +316,14 @@ public class ComputeTerrainMods {
         // have line of sight and there are woods in our way
         // we have BAP in range or C3 member has BAP in range
         // we reduce the BTH by 1
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_BAP)) {
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_TAC_OPS_BAP)) {
             boolean targetWoodsAffectModifier = (entityTarget != null)
                   && !entityTarget.isOffBoard()
                   && (entityTarget.getPosition() != null)
                   && (targetHex != null)
                   && targetHex.hasVegetation()
-                  && !game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_WOODS_COVER);
+                  && !GameOptionsSnapshot.of(game.getOptions())
+                        .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_WOODS_COVER);
             if (los.canSee() && (targetWoodsAffectModifier || los.thruWoods())) {
                 if (bapInRange(game, attacker, entityTarget, allECMInfo)) {
                     toHit.addModifier(-1, Messages.getString("WeaponAttackAction.BAPInWoods"));
@@ -55,6 +55,8 @@ import megamek.common.equipment.WeaponMounted;
 import megamek.common.equipment.WeaponType;
 import megamek.common.game.Game;
 import megamek.common.interfaces.ILocationExposureStatus;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.options.OptionsConstants;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.ConvInfantry;
@@ -601,7 +603,7 @@ public class ComputeToHit {
         int gamemasterModifier = ae.getCrew().appliedGunneryModifier();
         toHit = new ToHitData(ae.getCrew().getGunnery() - gamemasterModifier,
               Messages.getString("WeaponAttackAction.GunSkill"));
-        if (game.getOptions().booleanOption(OptionsConstants.RPG_RPG_GUNNERY)) {
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.RPG_RPG_GUNNERY)) {
             if (weaponType.hasFlag(WeaponType.F_ENERGY)) {
                 gamemasterModifier = ae.getCrew().appliedGunneryLModifier();
                 toHit = new ToHitData(ae.getCrew().getGunneryL() - gamemasterModifier,
@@ -619,7 +621,7 @@ public class ComputeToHit {
             }
         }
         if (weaponType.hasFlag(WeaponType.F_ARTILLERY) &&
-              game.getOptions().booleanOption(OptionsConstants.RPG_ARTILLERY_SKILL)) {
+              GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.RPG_ARTILLERY_SKILL)) {
             gamemasterModifier = ae.getCrew().appliedArtilleryModifier();
             toHit = new ToHitData(ae.getCrew().getArtillery() - gamemasterModifier,
                   Messages.getString("WeaponAttackAction.ArtySkill"));
@@ -1356,7 +1358,7 @@ public class ComputeToHit {
 
         // reset cover
         if (swarmLOS.getTargetCover() != LosEffects.COVER_NONE) {
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_PARTIAL_COVER)) {
+            if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_PARTIAL_COVER)) {
                 toHit.setHitTable(ToHitData.HIT_PARTIAL_COVER);
                 toHit.setCover(swarmLOS.getTargetCover());
             } else {
@@ -1727,7 +1729,7 @@ public class ComputeToHit {
         // +1 to hit if the Kinder Rapid-Fire ACs optional rule is turned on, but only
         // Jams on a 2.
         // See TacOps Autocannons for the rest of the rules
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_KIND_RAPID_AC) &&
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_KIND_RAPID_AC) &&
               weapon.curMode().equals(Weapon.MODE_AC_RAPID)) {
             toHit.addModifier(1, Messages.getString("WeaponAttackAction.AcRapid"));
         }
@@ -59,6 +59,8 @@ import megamek.common.compute.ComputeArc;
 import megamek.common.enums.ChargeLevel;
 import megamek.common.equipment.*;
 import megamek.common.game.Game;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.options.OptionsConstants;
 import megamek.common.planetaryConditions.PlanetaryConditions;
 import megamek.common.rolls.TargetRoll;
@@ -346,7 +348,7 @@ class ComputeToHitIsImpossible {
         }
 
         // Vehicles with a single crewman can't shoot and unjam a RAC in the same turn (like meks...)
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_TANK_CREWS)
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_TAC_OPS_TANK_CREWS)
               && (attacker instanceof Tank)
               && attacker.isUnjammingRAC()
               && (attacker.getCrew().getSize() == 1)) {
@@ -394,7 +396,7 @@ class ComputeToHitIsImpossible {
         // a friendly unit can never be the target of a direct attack.
         // but we do allow vehicle flamers to cool. Also swarm missile secondary targets
         // and strafing are exempt.
-        if (!game.getOptions().booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE) &&
+        if (!GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.BASE_FRIENDLY_FIRE) &&
               !isStrafing &&
               !exchangeSwarmTarget) {
             if (entityTarget != null && !entityTarget.getOwner().isEnemyOf(attacker.getOwner())) {
@@ -423,10 +425,11 @@ class ComputeToHitIsImpossible {
         // if those options are checked.
         if (isInferno &&
               (((entityTarget instanceof Tank) &&
-                    game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_VEHICLES_SAFE_FROM_INFERNOS)) ||
+                    GameOptionsSnapshot.of(game.getOptions())
+                          .isSet(GameOptionFlag.ADVANCED_COMBAT_VEHICLES_SAFE_FROM_INFERNOS)) ||
                     ((entityTarget instanceof ProtoMek) &&
-                          game.getOptions()
-                                .booleanOption(OptionsConstants.ADVANCED_COMBAT_PROTOMEKS_SAFE_FROM_INFERNOS)))) {
+                          GameOptionsSnapshot.of(game.getOptions())
+                                .isSet(GameOptionFlag.ADVANCED_COMBAT_PROTOMEKS_SAFE_FROM_INFERNOS)))) {
             return Messages.getString("WeaponAttackAction.CantShootWithInferno");
         }
 
@@ -510,8 +513,9 @@ class ComputeToHitIsImpossible {
 
         // If using SO advanced sensors, the firing unit or one on its NC3 network must
         // have a valid firing solution
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ADVANCED_SENSORS) &&
-              game.getOptions().booleanOption(OptionsConstants.ADVANCED_DOUBLE_BLIND) &&
+        if (GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ADVANCED_SENSORS) &&
+              GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_DOUBLE_BLIND) &&
               attacker.isSpaceborne()) {
             boolean networkFiringSolution = false;
             // Check to see if the attacker has a firing solution. Naval C3 networks share targeting data
@@ -535,7 +539,7 @@ class ComputeToHitIsImpossible {
         // http://www.classicbattletech.com/forums/index.php/topic,47618.0.html
         // anything outside visual range requires a "sensor lock" in order to
         // direct fire. Note that this is for ground combat with TacOps sensors rules
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_DOUBLE_BLIND) &&
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_DOUBLE_BLIND) &&
               !attacker.isSpaceborne() &&
               !Compute.inVisualRange(game, attacker, target) &&
               !(Compute.inSensorRange(game, attacker, target, null)
@@ -682,7 +686,8 @@ class ComputeToHitIsImpossible {
               && usesAmmo
               && (ammo != null)
               && !ammo.getType().canAeroUse(
-              game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_AERO_ARTILLERY_MUNITIONS))) {
+              GameOptionsSnapshot.of(game.getOptions())
+                    .isSet(GameOptionFlag.ADVANCED_AERO_RULES_AERO_ARTILLERY_MUNITIONS))) {
             return Messages.getString("WeaponAttackAction.InvalidAmmoForFighter");
         }
 
@@ -746,7 +751,8 @@ class ComputeToHitIsImpossible {
                     if (prevWeapon != null) {
                         int loc = prevWeapon.getLocation();
                         boolean rearMount = prevWeapon.isRearMounted();
-                        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_HEAT_BY_BAY)) {
+                        if (GameOptionsSnapshot.of(game.getOptions())
+                              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_HEAT_BY_BAY)) {
                             totalHeat += prevWeapon.getHeatByBay();
                         } else {
                             if (!rearMount) {
@@ -769,7 +775,7 @@ class ComputeToHitIsImpossible {
             int loc = weapon.getLocation();
             boolean rearMount = weapon.isRearMounted();
             int currentHeat = attacker.getHeatInArc(loc, rearMount);
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_HEAT_BY_BAY)) {
+            if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_HEAT_BY_BAY)) {
                 currentHeat = 0;
                 currentHeat += weapon.getHeatByBay();
             }
@@ -785,7 +791,7 @@ class ComputeToHitIsImpossible {
                 }
             }
 
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_HEAT_BY_BAY)) {
+            if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_HEAT_BY_BAY)) {
                 if ((totalHeat + currentHeat) > heatCapacity) {
                     // FIXME: This is causing weird problems (try firing all the Suffen's nose weapons)
                     return Messages.getString("WeaponAttackAction.HeatOverCap");
@@ -1454,7 +1460,7 @@ class ComputeToHitIsImpossible {
             }
 
             // Called shots
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_CALLED_SHOTS)) {
+            if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_CALLED_SHOTS)) {
                 String reason = weapon.getCalledShot().isValid(target);
                 if (reason != null) {
                     return reason;
@@ -1510,7 +1516,7 @@ class ComputeToHitIsImpossible {
 
             // only woods and buildings can be set intentionally on fire
             if ((target.getTargetType() == Targetable.TYPE_HEX_IGNITE)
-                  && game.getOptions().booleanOption(OptionsConstants.ADVANCED_NO_IGNITE_CLEAR)
+                  && GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_NO_IGNITE_CLEAR)
                   && !(game.getHexOf(target).containsAnyTerrainOf(Terrains.WOODS, Terrains.JUNGLE,
                   Terrains.FUEL_TANK, Terrains.BUILDING))) {
                 return Messages.getString("WeaponAttackAction.CantIntentionallyBurn");
@@ -1526,8 +1532,8 @@ class ComputeToHitIsImpossible {
                     return Messages.getString("WeaponAttackAction.0MPInf");
                 }
                 // Can't shoot if platoon used fast movement
-                if (game.getOptions()
-                      .booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_FAST_INFANTRY_MOVE) &&
+                if (GameOptionsSnapshot.of(game.getOptions())
+                      .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_TAC_OPS_FAST_INFANTRY_MOVE) &&
                       (attacker.moved == EntityMovementType.MOVE_RUN)) {
                     return Messages.getString("WeaponAttackAction.CantShootAndFastMove");
                 }
@@ -1675,7 +1681,7 @@ class ComputeToHitIsImpossible {
             }
 
             // Can't fire Indirect LRMs if the option is turned off
-            if (isIndirect && !game.getOptions().booleanOption(OptionsConstants.BASE_INDIRECT_FIRE)) {
+            if (isIndirect && !GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.BASE_INDIRECT_FIRE)) {
                 return Messages.getString("WeaponAttackAction.IndirectFireOff");
             }
 
@@ -1977,7 +1983,8 @@ class ComputeToHitIsImpossible {
     // package-private for regression testing of the order-independent gating (see ComputeToHitIsImpossibleTest)
     static @Nullable String disposableWeaponGateReason(Game game, Entity attacker, @Nullable WeaponMounted weapon,
           WeaponType weaponType) {
-        if (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_DISPOSABLE_INFANTRY_WEAPONS)) {
+        if (!GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_COMBAT_DISPOSABLE_INFANTRY_WEAPONS)) {
             return null;
         }
         if ((weapon != null) && weapon.isDisposableWeapon()) {
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.autoResolve;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.autoResolve.acar.SimulationOptions;
+import megamek.common.autoResolve.converter.SetupForces;
+import megamek.common.autoResolve.converter.TemplateSetupForces;
+import megamek.common.board.Board;
+import megamek.common.options.AbstractOptions;
+import megamek.common.planetaryConditions.PlanetaryConditions;
+import megamek.logging.MMLogger;
+
+/**
+ * Runs many auto resolve simulations of the same battle to estimate its outcome, without any UI. The forces are set up
+ * once into a {@link TemplateSetupForces} from which every simulation copies its units. The results are collected in
+ * {@link SimulationStatistics} as the simulations finish, and the batch stops early once the victory rate is known
+ * precisely enough.
+ * <pre>
+ * SimulationStatistics statistics = new BatchResolver(setupForces, gameOptions, board, planetaryConditions)
+ *       .withThreads(8)
+ *       .withMaximumRuns(10000)
+ *       .withTargetMargin(0.01)
+ *       .run(team, null);
+ * </pre>
+ */
+public class BatchResolver {
+    private static final MMLogger LOGGER = MMLogger.create(BatchResolver.class);
+
+    /** The number of results needed before the batch may stop early */
+    public static final int DEFAULT_MINIMUM_RUNS = 100;
+
+    private final AbstractOptions gameOptions;
+    private final SetupForces template;
+    private final int boardWidth;
+    private final int boardHeight;
+    private final PlanetaryConditions planetaryConditions;
+    private int numberOfThreads = 1;
+    private int maximumRuns = 1000;
+    private int minimumRuns = DEFAULT_MINIMUM_RUNS;
+    private double targetMargin = 0;
+
+    /**
+     * Creates a batch for the given battle. This sets up the forces once, which may take a moment.
+     *
+     * @param setupForces         the {@link SetupForces} object that converts MegaMek forces to ACAR forces
+     * @param gameOptions         the {@link megamek.common.options.GameOptions}
+     * @param board               the {@link Board}; the simulations use an empty board of its size
+     * @param planetaryConditions the {@link PlanetaryConditions}
+     */
+    public BatchResolver(SetupForces setupForces, AbstractOptions gameOptions, Board board,
+          PlanetaryConditions planetaryConditions) {
+        this.gameOptions = gameOptions;
+        this.boardWidth = board.getWidth();
+        this.boardHeight = board.getHeight();
+        this.planetaryConditions = new PlanetaryConditions(planetaryConditions);
+        this.template = new TemplateSetupForces(setupForces, new SimulationOptions(gameOptions),
+              new Board(boardWidth, boardHeight), this.planetaryConditions);
+    }
+
+    /**
+     * Sets the number of simulations that are run in parallel (default 1).
+     */
+    public BatchResolver withThreads(int numberOfThreads) {
+        this.numberOfThreads = Math.max(1, numberOfThreads);
+        return this;
+    }
+
+    /**
+     * Sets the number of simulations after which the batch stops in any case (default 1000).
+     */
+    public BatchResolver withMaximumRuns(int maximumRuns) {
+        this.maximumRuns = Math.max(0, maximumRuns);
+        return this;
+    }
+
+    /**
+     * Sets the number of results needed before the batch may stop early (default {@link #DEFAULT_MINIMUM_RUNS}).
+     */
+    public BatchResolver withMinimumRuns(int minimumRuns) {
+        this.minimumRuns = Math.max(1, minimumRuns);
+        return this;
+    }
+
+    /**
+     * Sets the precision at which the batch stops early: once the 95% confidence interval of the victory rate is no
+     * wider than plus or minus this margin, e.g. 0.01 for +/- 1%. With the default of 0, all of the maximum runs are
+     * simulated.
+     */
+    public BatchResolver withTargetMargin(double targetMargin) {
+        this.targetMargin = targetMargin;
+        return this;
+    }
+
+    /**
+     * Runs the simulations and blocks until they are finished, the target margin is reached or the calling thread is
+     * interrupted.
+     *
+     * @param teamOfInterest   the team whose chances are evaluated
+     * @param progressListener if not null, is called with the number of finished simulations after each simulation,
+     *                         from the simulating threads
+     *
+     * @return the statistics of all finished simulations
+     */
+    public SimulationStatistics run(int teamOfInterest, @Nullable IntConsumer progressListener) {
+        var statistics = new SimulationStatistics(teamOfInterest);
+        if (maximumRuns == 0) {
+            return statistics;
+        }
+        var startedRuns = new AtomicInteger();
+        var finishedRuns = new AtomicInteger();
+        Runnable worker = () -> {
+            while (!Thread.currentThread().isInterrupted()
+                  && !statistics.hasReachedMargin(targetMargin, minimumRuns)
+                  && (startedRuns.getAndIncrement() < maximumRuns)) {
+                try {
+                    statistics.addResult(Resolver.simulationRunWithoutLog(template, gameOptions,
+                          new Board(boardWidth, boardHeight), planetaryConditions).resolveSimulation());
+                } catch (Exception e) {
+                    statistics.addFailure();
+                    LOGGER.error("While processing simulation", e);
+                }
+                if (progressListener != null) {
+                    progressListener.accept(finishedRuns.incrementAndGet());
+                }
+            }
+        };
+
+        int threads = Math.min(numberOfThreads, maximumRuns);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(worker));
+            }
+            for (Future<?> future : workers) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.error("While processing simulations", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        LOGGER.debug("Batch auto resolve finished: {}", statistics);
+        return statistics;
+    }
+}
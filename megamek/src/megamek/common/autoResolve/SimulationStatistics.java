@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.autoResolve;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import megamek.common.autoResolve.event.AutoResolveConcludedEvent;
+import megamek.common.units.Entity;
+import megamek.server.victory.VictoryResult;
+
+/**
+ * Running statistics over the results of many auto resolve simulations of the same battle, seen from one team. The
+ * results can be added from several threads while other threads read the statistics.
+ */
+public class SimulationStatistics {
+
+    /** The z-score of the 95% confidence interval */
+    private static final double Z_95 = 1.96;
+
+    private final int teamOfInterest;
+    private int runs;
+    private int victories;
+    private int losses;
+    private int draws;
+    private int failures;
+    private long friendlyCasualties;
+    private long enemyCasualties;
+
+    /**
+     * @param teamOfInterest the team whose victories, losses and casualties are counted
+     */
+    public SimulationStatistics(int teamOfInterest) {
+        this.teamOfInterest = teamOfInterest;
+    }
+
+    /**
+     * Adds the result of a simulation.
+     */
+    public void addResult(AutoResolveConcludedEvent event) {
+        Map<Integer, Entity> casualties = new HashMap<>();
+        Collections.list(event.getWreckedEntities()).forEach(entity -> casualties.put(entity.getId(), entity));
+        Collections.list(event.getDevastatedEntities()).forEach(entity -> casualties.put(entity.getId(), entity));
+        int friendly = 0;
+        int enemy = 0;
+        for (Entity entity : casualties.values()) {
+            if ((entity.getOwner() != null) && (entity.getOwner().getTeam() == teamOfInterest)) {
+                friendly++;
+            } else {
+                enemy++;
+            }
+        }
+        addResult(event.getVictoryResult(), friendly, enemy);
+    }
+
+    /**
+     * Adds the result of a simulation.
+     *
+     * @param victoryResult      the outcome of the simulation
+     * @param friendlyCasualties the number of units of the team of interest that were destroyed or left behind
+     * @param enemyCasualties    the number of other units that were destroyed or left behind
+     */
+    public synchronized void addResult(VictoryResult victoryResult, int friendlyCasualties, int enemyCasualties) {
+        if (victoryResult.getWinningTeam() == teamOfInterest) {
+            victories++;
+        } else if (victoryResult.isDraw()) {
+            draws++;
+        } else {
+            losses++;
+        }
+        this.friendlyCasualties += friendlyCasualties;
+        this.enemyCasualties += enemyCasualties;
+        runs++;
+    }
+
+    /**
+     * Counts a simulation that did not produce a result.
+     */
+    public synchronized void addFailure() {
+        failures++;
+        runs++;
+    }
+
+    public int getTeamOfInterest() {
+        return teamOfInterest;
+    }
+
+    /**
+     * @return The number of simulations run, including those that failed
+     */
+    public synchronized int getRuns() {
+        return runs;
+    }
+
+    public synchronized int getVictories() {
+        return victories;
+    }
+
+    public synchronized int getLosses() {
+        return losses;
+    }
+
+    public synchronized int getDraws() {
+        return draws;
+    }
+
+    public synchronized int getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return The share of the simulations with a result that the team of interest won, between 0 and 1
+     */
+    public synchronized double getVictoryRate() {
+        int decided = runs - failures;
+        return (decided == 0) ? 0 : victories / (double) decided;
+    }
+
+    /**
+     * @return The half-width of the 95% confidence interval of the victory rate (Wilson score interval). This is 1
+     *       as long as there are no results.
+     */
+    public synchronized double getVictoryRateMargin() {
+        int decided = runs - failures;
+        if (decided == 0) {
+            return 1;
+        }
+        double rate = victories / (double) decided;
+        double zSquared = Z_95 * Z_95;
+        return Z_95 * Math.sqrt(rate * (1 - rate) / decided + zSquared / (4.0 * decided * decided))
+              / (1 + zSquared / decided);
+    }
+
+    /**
+     * @return The average number of units of the team of interest that were destroyed or left behind per simulation
+     */
+    public synchronized double getMeanFriendlyCasualties() {
+        int decided = runs - failures;
+        return (decided == 0) ? 0 : friendlyCasualties / (double) decided;
+    }
+
+    /**
+     * @return The average number of units of the other teams that were destroyed or left behind per simulation
+     */
+    public synchronized double getMeanEnemyCasualties() {
+        int decided = runs - failures;
+        return (decided == 0) ? 0 : enemyCasualties / (double) decided;
+    }
+
+    /**
+     * @return True when at least minimumRuns simulations have a result and the victory rate is known to within the
+     *       given margin (95% confidence). Always false for a margin of 0 or less.
+     */
+    public synchronized boolean hasReachedMargin(double margin, int minimumRuns) {
+        return (margin > 0) && (runs - failures >= minimumRuns) && (getVictoryRateMargin() <= margin);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d runs: %d victories, %d losses, %d draws, %d failed; victory rate %.3f +/- %.3f",
+              runs, victories, losses, draws, failures, getVictoryRate(), getVictoryRateMargin());
+    }
+}
@@ -34,10 +34,12 @@
 
 package megamek.common.autoResolve.acar.role;
 
+import java.io.Serializable;
+
 import megamek.common.alphaStrike.ASRange;
 import megamek.common.units.UnitRole;
 
-public interface Role {
+public interface Role extends Serializable {
 
     ASRange preferredRange();
 
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.autoResolve.converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import megamek.common.Player;
+import megamek.common.autoResolve.acar.SimulationContext;
+import megamek.common.autoResolve.acar.SimulationOptions;
+import megamek.common.board.Board;
+import megamek.common.force.Forces;
+import megamek.common.game.InGameObject;
+import megamek.common.planetaryConditions.PlanetaryConditions;
+import megamek.common.units.Entity;
+import megamek.logging.MMLogger;
+
+/**
+ * Sets up the forces of many simulations of the same battle. The given {@link SetupForces} runs only once, when the
+ * template is created: the players, units, formations and forces it produces are then kept as an immutable serialized
+ * snapshot, and each simulation receives its own copy of that snapshot. This saves reloading every unit from its unit
+ * file and converting it to Alpha Strike and SBF for every simulation.
+ * <p>
+ * Orders are added to each simulation by the original SetupForces as they reference the units by ID only. If the
+ * snapshot cannot be created, the template falls back to setting up every simulation with the original SetupForces.
+ */
+public class TemplateSetupForces extends SetupForces {
+    private static final MMLogger LOGGER = MMLogger.create(TemplateSetupForces.class);
+
+    private record Snapshot(List<Player> players, List<InGameObject> units, Forces forces) implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+    }
+
+    private final SetupForces setupForces;
+    private final byte[] snapshot;
+
+    /**
+     * Creates a template by setting up one simulation with the given setupForces.
+     *
+     * @param setupForces         the {@link SetupForces} that converts the forces of the battle
+     * @param options             the options of the simulations
+     * @param board               the board of the simulations
+     * @param planetaryConditions the planetary conditions of the simulations
+     */
+    public TemplateSetupForces(SetupForces setupForces, SimulationOptions options, Board board,
+          PlanetaryConditions planetaryConditions) {
+        this.setupForces = setupForces;
+        this.snapshot = createSnapshot(new SimulationContext(options, setupForces, board, planetaryConditions));
+    }
+
+    private static byte[] createSnapshot(SimulationContext context) {
+        List<InGameObject> units = new ArrayList<>(context.getInGameObjects());
+        units.sort(Comparator.comparingInt(InGameObject::getId));
+        var snapshot = new Snapshot(new ArrayList<>(context.getPlayersList()), units, context.getForces());
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(snapshot);
+        } catch (IOException e) {
+            LOGGER.warn(e, "Could not create a template of the forces; every simulation will set up its own forces");
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @return True when the simulations receive copies of the template rather than being set up by the original
+     *       SetupForces
+     */
+    public boolean isUsingSnapshot() {
+        return snapshot != null;
+    }
+
+    @Override
+    public void createForcesOnSimulation(SimulationContext context) {
+        if (snapshot == null) {
+            setupForces.createForcesOnSimulation(context);
+            return;
+        }
+        Snapshot copy = readSnapshot();
+        for (Player player : copy.players()) {
+            context.addPlayer(player.getId(), player);
+        }
+        for (InGameObject unit : copy.units()) {
+            if (unit instanceof Entity entity) {
+                entity.setOwner(context.getPlayer(entity.getOwnerId()));
+                entity.setIGame(context);
+                entity.restore();
+                context.addEntity(entity);
+            }
+        }
+        context.setForces(copy.forces());
+        for (InGameObject unit : copy.units()) {
+            if (!(unit instanceof Entity)) {
+                context.addUnit(unit);
+            }
+        }
+    }
+
+    private Snapshot readSnapshot() {
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(snapshot))) {
+            return (Snapshot) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            // The snapshot was written by this very template, so this is a programming error
+            throw new IllegalStateException("Could not copy the force template", e);
+        }
+    }
+
+    @Override
+    public void addOrdersToForces(SimulationContext context) {
+        setupForces.addOrdersToForces(context);
+    }
+
+    @Override
+    public boolean isTeamPresent(int teamId) {
+        return setupForces.isTeamPresent(teamId);
+    }
+}
@@ -200,6 +200,15 @@ public class Board implements Serializable {
      */
     private transient Map<Integer, Set<Coords>> deploymentZones = null;
 
+    /**
+     * The positions of the hexes that contain a terrain type, for those types that have been asked for through
+     * {@link #getHexesWithTerrain(int)}. Each type is indexed by one scan of the board on first request and is then
+     * kept current through the hexes' {@link Hex.TerrainChangeListener}. Transient, rebuilt on demand.
+     */
+    private transient Map<Integer, SortedSet<Coords>> hexesByTerrain = null;
+
+    private transient Hex.TerrainChangeListener terrainIndexUpdater = null;
+
     /**
      * HexAreas that are set by code to be deployment zones.
      */
@@ -334,6 +343,7 @@ public class Board implements Serializable {
         this.width = width;
         this.height = height;
         this.data = data;
+        hexesByTerrain = null;
 
         initializeAll(errors);
         processBoardEvent(new BoardEvent(this, null, BoardEvent.BOARD_NEW_BOARD));
@@ -763,6 +773,7 @@ public class Board implements Serializable {
 
             data[(y * width) + x] = currHex;
             initializeHex(x, y);
+            indexTerrains(currHex);
 
             // Add any adjacent hexes that may need to have exits updated
             if (currHex.hasExitableTerrain()) {
@@ -779,6 +790,69 @@ public class Board implements Serializable {
         }
     }
 
+    /**
+     * Returns the positions of all hexes of this board that contain the given terrain type, ordered by x, then y (the
+     * order of a loop over all columns and then rows). This is meant for processors that only care about a few hexes
+     * with a certain terrain, such as fires or geysers, so that they need not look at every hex of the board. The
+     * first call for a terrain type scans the board; afterwards, the result is kept current as terrains are added to
+     * or removed from the hexes and as hexes are replaced. The returned list is a copy and may be kept while the
+     * hexes are changed.
+     *
+     * @param terrainType the terrain type, such as {@link Terrains#FIRE}
+     *
+     * @return the positions of the hexes with that terrain
+     */
+    public List<Coords> getHexesWithTerrain(int terrainType) {
+        if (hexesByTerrain == null) {
+            hexesByTerrain = new HashMap<>();
+        }
+        SortedSet<Coords> positions = hexesByTerrain.get(terrainType);
+        if (positions == null) {
+            positions = new TreeSet<>(Comparator.comparingInt(Coords::getX).thenComparingInt(Coords::getY));
+            hexesByTerrain.put(terrainType, positions);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    Hex hex = getHex(x, y);
+                    if (hex != null) {
+                        hex.setTerrainChangeListener(getTerrainIndexUpdater());
+                        if (hex.containsTerrain(terrainType)) {
+                            positions.add(new Coords(x, y));
+                        }
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(positions);
+    }
+
+    private Hex.TerrainChangeListener getTerrainIndexUpdater() {
+        if (terrainIndexUpdater == null) {
+            terrainIndexUpdater = this::indexTerrains;
+        }
+        return terrainIndexUpdater;
+    }
+
+    /**
+     * Updates the terrain index for the given hex. Hexes that are no longer part of this board are ignored.
+     */
+    private void indexTerrains(Hex hex) {
+        if ((hexesByTerrain == null) || hexesByTerrain.isEmpty()) {
+            return;
+        }
+        Coords coords = hex.getCoords();
+        if ((coords == null) || (getHex(coords) != hex)) {
+            return;
+        }
+        hex.setTerrainChangeListener(getTerrainIndexUpdater());
+        for (Map.Entry<Integer, SortedSet<Coords>> entry : hexesByTerrain.entrySet()) {
+            if (hex.containsTerrain(entry.getKey())) {
+                entry.getValue().add(coords);
+            } else {
+                entry.getValue().remove(coords);
+            }
+        }
+    }
+
     /**
      * Sets the hex into the location specified by the Coords.
      *
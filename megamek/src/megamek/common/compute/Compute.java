@@ -57,6 +57,8 @@ import megamek.common.equipment.AmmoType.AmmoTypeEnum;
 import megamek.common.game.Game;
 import megamek.common.interfaces.ILocationExposureStatus;
 import megamek.common.moves.MoveStep;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.options.OptionsConstants;
 import megamek.common.planetaryConditions.Atmosphere;
 import megamek.common.planetaryConditions.IlluminationLevel;
@@ -214,8 +216,8 @@ public class Compute {
     public static Roll rollD6(int dice) {
         Roll roll = random.d6(dice);
         if (Server.getServerInstance() != null) {
-            if (Server.getServerInstance().getGame().getOptions()
-                  .booleanOption(OptionsConstants.BASE_RNG_LOG)) {
+            if (GameOptionsSnapshot.of(Server.getServerInstance().getGame().getOptions())
+                  .isSet(GameOptionFlag.BASE_RNG_LOG)) {
                 Server.getServerInstance().reportRoll(roll);
             }
         }
@@ -228,8 +230,8 @@ public class Compute {
     public static Roll rollD6(int dice, int keep) {
         Roll roll = random.d6(dice, keep);
         if (Server.getServerInstance() != null) {
-            if (Server.getServerInstance().getGame().getOptions()
-                  .booleanOption(OptionsConstants.BASE_RNG_LOG)) {
+            if (GameOptionsSnapshot.of(Server.getServerInstance().getGame().getOptions())
+                  .isSet(GameOptionFlag.BASE_RNG_LOG)) {
                 Server.getServerInstance().reportRoll(roll);
             }
         }
@@ -985,7 +987,7 @@ public class Compute {
 
         // an easy check
         if (!game.getBoard().contains(dest)) {
-            return game.getOptions().booleanOption(OptionsConstants.BASE_PUSH_OFF_BOARD);
+            return GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.BASE_PUSH_OFF_BOARD);
         }
 
         // can't be displaced into prohibited terrain
@@ -1141,7 +1143,7 @@ public class Compute {
                 LosEffects los = LosEffects.calculateLOS(game, other, target, true);
                 ToHitData mods = los.losModifiers(game);
                 // If the target isn't spotted, can't target
-                if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_DOUBLE_BLIND)
+                if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_DOUBLE_BLIND)
                       && !Compute.inVisualRange(game, los, other, target)
                       && !Compute.inSensorRange(game, los, other, target, null)) {
                     mods.addModifier(TargetRoll.IMPOSSIBLE,
@@ -1298,8 +1300,10 @@ public class Compute {
         boolean isWeaponInfantry = (weaponType instanceof InfantryWeapon) && !weaponType.hasFlag(WeaponType.F_TAG);
         boolean isSwarmOrLegAttack = (weaponType instanceof InfantryAttack);
         boolean isIndirect = weaponType.hasIndirectFire() && weapon.curMode().equals("Indirect");
-        boolean useExtremeRange = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_RANGE);
-        boolean useLOSRange = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_LOS_RANGE);
+        boolean useExtremeRange = GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_RANGE);
+        boolean useLOSRange = GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_LOS_RANGE);
         // Naval C3 only provides full C3 range benefits to energy weapons and guided
         // missiles
         boolean nc3EnergyGuided = ((weaponType.hasFlag(WeaponType.F_ENERGY))
@@ -1347,7 +1351,8 @@ public class Compute {
         // TODO: See above, it should be coded elsewhere...
         //
         if (weaponType.hasFlag(WeaponType.F_PPC)) {
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_PPC_INHIBITORS)) {
+            if (GameOptionsSnapshot.of(game.getOptions())
+                  .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_PPC_INHIBITORS)) {
                 if ((weapon.curMode() != null)
                       && weapon.curMode().equals("Field Inhibitor OFF")) {
                     weaponRanges[RangeType.RANGE_MINIMUM] = 0;
@@ -1356,8 +1361,8 @@ public class Compute {
         }
 
         // Hot loaded weapons
-        if (weapon.isHotLoaded() && game.getOptions()
-              .booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_HOT_LOAD)) {
+        if (weapon.isHotLoaded() && GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_HOT_LOAD)) {
             weaponRanges[RangeType.RANGE_MINIMUM] = 0;
         }
 
@@ -2326,7 +2331,8 @@ public class Compute {
 
                 if (attacker.isLocationBad(Mek.LOC_RIGHT_ARM) || attacker.isLocationBad(Mek.LOC_LEFT_ARM)) {
                     if (Game.rulesManager.getRulesTarget().proneFireWithOneArm(
-                          game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_PRONE_FIRE))) {
+                          GameOptionsSnapshot.of(game.getOptions())
+                                .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_PRONE_FIRE))) {
                         // Can fire with only one arm
                         if (attacker.isLocationBad(Mek.LOC_RIGHT_ARM) && attacker.isLocationBad(Mek.LOC_LEFT_ARM)) {
                             return new ToHitData(TargetRoll.IMPOSSIBLE,
@@ -2383,7 +2389,8 @@ public class Compute {
 
             if (attacker.isLocationBad(Mek.LOC_RIGHT_ARM) || attacker.isLocationBad(Mek.LOC_LEFT_ARM)) {
                 if (Game.rulesManager.getRulesTarget().proneFireWithOneArm(
-                      game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_PRONE_FIRE))) {
+                      GameOptionsSnapshot.of(game.getOptions())
+                            .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_PRONE_FIRE))) {
                     // Can fire with only one arm
                     if (attacker.isLocationBad(Mek.LOC_RIGHT_ARM) && attacker.isLocationBad(Mek.LOC_LEFT_ARM)) {
                         return new ToHitData(TargetRoll.IMPOSSIBLE,
@@ -2623,7 +2630,8 @@ public class Compute {
                 // first front arc target is our primary.
                 // if first target is non-front, and either a later target or
                 // the current one is in front, use that instead.
-                if (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_NO_FORCED_PRIMARY_TARGETS)) {
+                if (!GameOptionsSnapshot.of(game.getOptions())
+                      .isSet(GameOptionFlag.ADVANCED_COMBAT_NO_FORCED_PRIMARY_TARGETS)) {
                     Targetable pte = game.getTarget(prevAttack.getTargetType(), prevAttack.getTargetId());
                     // in double-blind play, we might not have the target in our
                     // local copy of the game. In that case, the sprite won't
@@ -2658,7 +2666,7 @@ public class Compute {
         if (attacker.getCrew().hasDedicatedGunner()) {
             maxPrimary = attacker.getCrew().getCrewType().getMaxPrimaryTargets();
         }
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_TANK_CREWS)
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_TAC_OPS_TANK_CREWS)
               && (attacker instanceof Tank)) {
 
             // If we are a tank, and only have 1 crew then we have some special
@@ -2886,7 +2894,8 @@ public class Compute {
             return getTargetMovementModifier(game, entity.getTractor());
         }
 
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_STANDING_STILL)
+        if (GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_TAC_OPS_STANDING_STILL)
               && (entity.mpUsed == 0)
               && !entity.isImmobile()
               && !((entity instanceof Infantry)
@@ -2973,7 +2982,7 @@ public class Compute {
         }
 
         if ((game != null)
-              && game.getOptions().booleanOption(OptionsConstants.ADVANCED_MAX_TECH_MOVEMENT_MODS)) {
+              && GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_MAX_TECH_MOVEMENT_MODS)) {
             if ((distance >= 3) && (distance <= 4)) {
                 toHit.addModifier(1, "target moved 3-4 hexes");
             } else if ((distance >= 5) && (distance <= 6)) {
@@ -3119,7 +3128,7 @@ public class Compute {
             woodsText = "target in ultra heavy " + woodsText;
         }
 
-        if (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_WOODS_COVER)
+        if (!GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_WOODS_COVER)
               && !isAboveWoods
               && !((targetable.getTargetType() == Targetable.TYPE_HEX_CLEAR)
               || (targetable.getTargetType() == Targetable.TYPE_HEX_IGNITE)
@@ -3223,7 +3232,7 @@ public class Compute {
             woodsText = "heavy " + woodsText;
         }
 
-        if (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_WOODS_COVER)) {
+        if (!GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_WOODS_COVER)) {
             if (woodsLevel == 1) {
                 // EI reduces modifier by 1 per hex, minimum +1 per hex (IO p.69)
                 // Light woods is already +1, so EI provides no benefit
@@ -4049,14 +4058,13 @@ public class Compute {
                                     }
                                 }
                                 if ((target instanceof Tank)
-                                      && !(game.getOptions()
-                                      .booleanOption(
-                                            OptionsConstants.ADVANCED_COMBAT_VEHICLES_SAFE_FROM_INFERNOS))) {
+                                      && !(GameOptionsSnapshot.of(game.getOptions())
+                                            .isSet(GameOptionFlag.ADVANCED_COMBAT_VEHICLES_SAFE_FROM_INFERNOS))) {
                                     ammoMultiple = 1.1;
                                 }
                                 if ((target instanceof ProtoMek)
-                                      && !(game.getOptions()
-                                      .booleanOption(OptionsConstants.ADVANCED_COMBAT_PROTOMEKS_SAFE_FROM_INFERNOS))) {
+                                      && !(GameOptionsSnapshot.of(game.getOptions())
+                                            .isSet(GameOptionFlag.ADVANCED_COMBAT_PROTOMEKS_SAFE_FROM_INFERNOS))) {
                                     ammoMultiple = 1.1;
                                 }
                             }
@@ -4206,7 +4214,7 @@ public class Compute {
         // PAC types. Test the weapon class first so non-AC weapons skip the option lookup entirely.
         boolean isRapidFireAC =
               weaponType instanceof ACWeapon &&
-                    game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_RAPID_AC);
+                    GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_RAPID_AC);
 
         boolean isRAC = false;
         boolean isUAC = false;
@@ -4275,7 +4283,7 @@ public class Compute {
                 // infantry field guns, or when the 'kinder' optional rule is set
                 if (toHitValue <= (spinupThreshold - 2) ||
                       shooter.isConventionalInfantry() ||
-                      game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_KIND_RAPID_AC)) {
+                      GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_KIND_RAPID_AC)) {
                     weapon.setMode(Weapon.MODE_AC_RAPID);
                 } else {
                     finalSpin = 0;
@@ -4329,7 +4337,8 @@ public class Compute {
     public static boolean inVisualRange(Game game, LosEffects los, Entity attackingEntity,
           Targetable target) {
         // Use firing solution if Advanced Sensors is on
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ADVANCED_SENSORS)
+        if (GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ADVANCED_SENSORS)
               && target.getTargetType() == Targetable.TYPE_ENTITY
               && game.getBoard(target).isSpace()) {
             Entity te = (Entity) target;
@@ -4731,12 +4740,13 @@ public class Compute {
         tn += (distance / rangeIncrement);
 
         // Apply ECM/ECCM effects
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
             tn += calcSpaceECM(ae, target);
         }
 
         // Apply large craft sensor shadows
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_SENSOR_SHADOW)) {
+        if (GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_SENSOR_SHADOW)) {
             tn += calcSensorShadow(game, ae, target);
         }
 
@@ -4834,12 +4844,13 @@ public class Compute {
         tn += (distance / rangeIncrement);
 
         // Apply ECM/ECCM effects
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
             tn += calcSpaceECM(attacker, target);
         }
 
         // Apply large craft sensor shadows
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_SENSOR_SHADOW)) {
+        if (GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_SENSOR_SHADOW)) {
             tn += calcSensorShadow(game, attacker, target);
         }
 
@@ -4943,12 +4954,13 @@ public class Compute {
         tn += (distance / rangeIncrement);
 
         // Apply ECM/ECCM effects
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
             tn += calcSpaceECM(ae, target);
         }
 
         // Apply large craft sensor shadows
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_SENSOR_SHADOW)) {
+        if (GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_SENSOR_SHADOW)) {
             tn += calcSensorShadow(game, ae, target);
         }
 
@@ -4977,8 +4989,8 @@ public class Compute {
         }
 
         int visualRange;
-        if (entity.isSpaceborne() && entity.getGame().getOptions()
-              .booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ADVANCED_SENSORS)) {
+        if (entity.isSpaceborne() && GameOptionsSnapshot.of(entity.getGame().getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ADVANCED_SENSORS)) {
             visualRange = 0;
             // For squadrons. Default to the passive thermal/optical value used by component
             // fighters
@@ -5018,14 +5030,15 @@ public class Compute {
         }
 
         // For Space games with this option, return something different
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ADVANCED_SENSORS)
+        if (GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ADVANCED_SENSORS)
               && target.getTargetType() == Targetable.TYPE_ENTITY
               && game.getBoard(target).isSpace()) {
             Entity te = (Entity) target;
             return hasSensorContact(ae, te.getId());
         }
 
-        if (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_SENSORS)) {
+        if (!GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_TAC_OPS_SENSORS)) {
             return false;
         }
 
@@ -5049,7 +5062,7 @@ public class Compute {
 
         int maxSensorRange = bracket * range;
         int minSensorRange = max((bracket - 1) * range, 0);
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_INCLUSIVE_SENSOR_RANGE)) {
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_INCLUSIVE_SENSOR_RANGE)) {
             minSensorRange = 0;
         }
 
@@ -5088,7 +5101,7 @@ public class Compute {
               (ae.getActiveSensor() != null ? ae.getActiveSensor().getDisplayName() : "none"),
               bracket, range,
               minSensorRange, maxSensorRange, distance,
-              game.getOptions().booleanOption(OptionsConstants.ADVANCED_INCLUSIVE_SENSOR_RANGE),
+              GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_INCLUSIVE_SENSOR_RANGE),
               inRange);
         return inRange;
     }
@@ -5166,7 +5179,7 @@ public class Compute {
         if (null != te) {
             check += sensor.getModsForStealth(te);
             // Metal Content...
-            if (ae.getGame().getOptions().booleanOption(OptionsConstants.ADVANCED_METAL_CONTENT)) {
+            if (GameOptionsSnapshot.of(ae.getGame().getOptions()).isSet(GameOptionFlag.ADVANCED_METAL_CONTENT)) {
                 check += sensor.getModForMetalContent(ae, te);
             }
 
@@ -5337,7 +5350,7 @@ public class Compute {
         int maxGroundSensorRange = bracket * groundRange;
         int minGroundSensorRange = max((maxGroundSensorRange - 1), 0);
 
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_INCLUSIVE_SENSOR_RANGE)) {
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_INCLUSIVE_SENSOR_RANGE)) {
             minSensorRange = 0;
             minGroundSensorRange = 0;
         }
@@ -6026,8 +6039,7 @@ public class Compute {
         }
         // Can't swarm a friendly Mek.
         else if (!attacker.isEnemyOf(defender)
-              && !attacker.getGame().getOptions()
-              .booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE)) {
+              && !GameOptionsSnapshot.of(attacker.getGame().getOptions()).isSet(GameOptionFlag.BASE_FRIENDLY_FIRE)) {
             reason = "Can only swarm an enemy.";
         }
         // target is already swarmed
@@ -7065,7 +7077,7 @@ public class Compute {
             return -1;
         }
 
-        if (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_RETURN_FLYOVER)) {
+        if (!GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_RETURN_FLYOVER)) {
             return -1;
         }
 
@@ -7697,10 +7709,11 @@ public class Compute {
         boolean noseWeaponAimedAtGroundTarget = (weapon != null) && (weapon.getLocation() == Aero.LOC_NOSE)
               && (altDif < 1);
 
-        return game.getOptions().booleanOption(OptionsConstants.BASE_INDIRECT_FIRE)
-              && !game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_INDIRECT_ALWAYS_POSSIBLE)
+        return GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.BASE_INDIRECT_FIRE)
+              && !GameOptionsSnapshot.of(game.getOptions())
+                    .isSet(GameOptionFlag.ADVANCED_COMBAT_INDIRECT_ALWAYS_POSSIBLE)
               && LosEffects.calculateLOS(game, ae, target).canSee()
-              && (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_DOUBLE_BLIND)
+              && (!GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_DOUBLE_BLIND)
               || Compute.canSee(game, ae, target))
               && !(weaponType instanceof ArtilleryCannonWeapon)
               && !weaponType.hasFlag(WeaponType.F_MORTAR_TYPE_INDIRECT)
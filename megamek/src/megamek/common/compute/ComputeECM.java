@@ -54,7 +54,8 @@ import megamek.common.equipment.INarcPod;
 import megamek.common.equipment.MiscMounted;
 import megamek.common.equipment.MiscType;
 import megamek.common.game.Game;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.units.Entity;
 import megamek.server.SmokeCloud;
 
@@ -430,7 +431,7 @@ public class ComputeECM {
         Collections.reverse(allEcmInfo);
 
         // If ECCM is on, we may have to remove some ECM that is negated
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_ECCM)
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_TAC_OPS_ECCM)
               && !allEccmInfo.isEmpty()) {
             Iterator<ECMInfo> ecmIterator = allEcmInfo.iterator();
             Iterator<ECMInfo> eccmIterator;
@@ -580,7 +581,7 @@ public class ComputeECM {
         // E(C)CM operates differently in space (SO pg 110)
         if (entity.isSpaceborne()) {
             // No ECM in space unless SO rule is on
-            if (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
+            if (!GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
                 return null;
             }
             int range = entity.getECMRange();
@@ -653,7 +654,7 @@ public class ComputeECM {
         // E(C)CM operates differently in space (SO pg 110)
         if (entity.isSpaceborne()) {
             // No ECCM in space unless SO rule is on
-            if (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
+            if (!GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
                 return null;
             }
             int bapRange = entity.getBAPRange();
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2016-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -33,29 +33,49 @@
 
 package megamek.common.event;
 
-import megamek.logging.MMLogger;
-
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import megamek.logging.MMLogger;
+
+/**
+ * Delivers {@link MMEvent}s to the {@link Subscribe} methods of registered handlers. Each handler method receives the
+ * events of its argument type and of all subclasses; for each event, the listeners of its own class are called first,
+ * then those of its superclass and so on up to MMEvent, each group from the highest to the lowest priority.
+ * <p>
+ * The subscribed methods of a handler class are found once per class and called through generated dispatchers (see
+ * {@link EventDispatcher}). The listeners for each event class, including those of its superclasses, are kept as an
+ * array that is only replaced when handlers are registered or unregistered, so that triggering an event takes no lock
+ * and handlers may safely register and unregister while an event is delivered.
+ */
 public final class EventBus {
     private static final MMLogger LOGGER = MMLogger.create(EventBus.class);
     private static final Object INSTANCE_LOCK = new Object[0];
 
     private static EventBus instance;
-    private static final EventSorter EVENT_SORTER = new EventSorter();
+    private static final Comparator<EventListener> EVENT_SORTER =
+          Comparator.comparingInt(EventListener::getPriority).reversed();
+    private static final EventListener[] NO_LISTENERS = new EventListener[0];
+
+    /** The {@link Subscribe} methods of each handler class */
+    private static final ClassValue<List<Method>> SUBSCRIBED_METHODS = new ClassValue<>() {
+        @Override
+        protected List<Method> computeValue(Class<?> type) {
+            return findSubscribedMethods(type);
+        }
+    };
 
     private final Object REGISTER_LOCK = new Object[0];
 
     private final ConcurrentHashMap<Object, List<EventListener>> handlerMap = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<Class<? extends MMEvent>, List<EventListener>> eventMap = new ConcurrentHashMap<>();
-    // There is no Java-supplied IdentityHashSet ...
-    private final Map<Object, Object> unregisterQueue = new IdentityHashMap<>();
+    /** The listeners registered for exactly this event class, sorted by priority; replaced on every change */
+    private final ConcurrentHashMap<Class<?>, EventListener[]> eventMap = new ConcurrentHashMap<>();
+    /** The listeners to call for an event of this class, including those of its superclasses, in calling order */
+    private final ConcurrentHashMap<Class<?>, EventListener[]> dispatchMap = new ConcurrentHashMap<>();
 
     public static EventBus getInstance() {
         synchronized (INSTANCE_LOCK) {
@@ -80,7 +100,7 @@ public final class EventBus {
 
     public EventBus() {}
 
-    private List<Class<?>> getClasses(Class<?> leaf) {
+    private static List<Class<?>> getClasses(Class<?> leaf) {
         List<Class<?>> result = new ArrayList<>();
         while (null != leaf) {
             result.add(leaf);
@@ -89,25 +109,47 @@ public final class EventBus {
         return result;
     }
 
-    @SuppressWarnings("unchecked")
-    public void register(Object handler) {
-        if (handlerMap.containsKey(handler)) {
-            return;
-        }
-
-        for (Method method : handler.getClass().getMethods()) {
-            for (Class<?> cls : getClasses(handler.getClass())) {
+    private static List<Method> findSubscribedMethods(Class<?> handlerClass) {
+        List<Method> result = new ArrayList<>();
+        for (Method method : handlerClass.getMethods()) {
+            for (Class<?> cls : getClasses(handlerClass)) {
                 try {
                     Method realMethod = cls.getDeclaredMethod(method.getName(), method.getParameterTypes());
                     if (realMethod.isAnnotationPresent(Subscribe.class)) {
-                        Class<?> eventType = getEventType(method);
-                        internalRegister(handler, realMethod, (Class<? extends MMEvent>) eventType);
+                        getEventType(method);
+                        result.add(realMethod);
                     }
                 } catch (NoSuchMethodException e) {
                     // ignore
                 }
             }
         }
+        return List.copyOf(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void register(Object handler) {
+        synchronized (REGISTER_LOCK) {
+            if (handlerMap.containsKey(handler)) {
+                return;
+            }
+            List<EventListener> handlerListeners = new ArrayList<>();
+            for (Method method : SUBSCRIBED_METHODS.get(handler.getClass())) {
+                Class<? extends MMEvent> eventType = (Class<? extends MMEvent>) getEventType(method);
+                EventListener listener = new EventListener(handler, method, eventType);
+                handlerListeners.add(listener);
+                EventListener[] eventListeners = eventMap.getOrDefault(eventType, NO_LISTENERS);
+                EventListener[] newListeners = Arrays.copyOf(eventListeners, eventListeners.length + 1);
+                newListeners[eventListeners.length] = listener;
+                // A stable sort, so listeners of equal priority are called in the order they were registered
+                Arrays.sort(newListeners, EVENT_SORTER);
+                eventMap.put(eventType, newListeners);
+            }
+            if (!handlerListeners.isEmpty()) {
+                handlerMap.put(handler, handlerListeners);
+                dispatchMap.clear();
+            }
+        }
     }
 
     private static Class<?> getEventType(Method method) {
@@ -128,77 +170,64 @@ public final class EventBus {
         return eventType;
     }
 
-    private void internalRegister(Object handler, Method method, Class<? extends MMEvent> eventType) {
-        synchronized (REGISTER_LOCK) {
-            EventListener listener = new EventListener(handler, method, eventType);
-            List<EventListener> handlerListeners = handlerMap.computeIfAbsent(handler, k -> new ArrayList<>());
-            handlerListeners.add(listener);
-            List<EventListener> eventListeners = eventMap.computeIfAbsent(eventType, k -> new ArrayList<>());
-            eventListeners.add(listener);
-        }
-    }
-
+    /**
+     * Unregisters the handler. This is safe to call from within an event handler; an event that is being delivered
+     * still reaches the remaining listeners it was going to reach.
+     */
     public void unregister(Object handler) {
         synchronized (REGISTER_LOCK) {
-            // queue unregisters to avoid ConcurrentModificationException if the listener
-            // unregisters in the middle of {@code trigger} processing
-            unregisterQueue.put(handler, handler);
-        }
-    }
-
-    private void internalUnregister() {
-        synchronized (REGISTER_LOCK) {
-            for (Object handler : unregisterQueue.keySet()) {
-                List<EventListener> listenerList = handlerMap.remove(handler);
-                if (null != listenerList) {
-                    for (EventListener listener : listenerList) {
-                        List<EventListener> eventListeners = eventMap.get(listener.getEventType());
-                        if (null != eventListeners) {
-                            eventListeners.remove(listener);
-                        }
+            List<EventListener> handlerListeners = handlerMap.remove(handler);
+            if (null == handlerListeners) {
+                return;
+            }
+            for (EventListener listener : handlerListeners) {
+                EventListener[] eventListeners = eventMap.get(listener.getEventType());
+                if (null != eventListeners) {
+                    EventListener[] newListeners = Arrays.stream(eventListeners)
+                          .filter(eventListener -> eventListener != listener)
+                          .toArray(EventListener[]::new);
+                    if (newListeners.length == 0) {
+                        eventMap.remove(listener.getEventType());
+                    } else {
+                        eventMap.put(listener.getEventType(), newListeners);
                     }
                 }
             }
-            unregisterQueue.clear();
+            dispatchMap.clear();
         }
     }
 
     /** @return true if the event was cancelled along the way */
-    @SuppressWarnings("unchecked")
     public boolean trigger(MMEvent event) {
-        internalUnregister(); // Clean up unregister queue
-        for (Class<?> cls : getClasses(event.getClass())) {
-            if (MMEvent.class.isAssignableFrom(cls)) {
-                // Run through the triggers for each superclass up to MMEvent itself
-                internalTrigger((Class<? extends MMEvent>) cls, event);
-            }
+        for (EventListener listener : getListeners(event.getClass())) {
+            listener.trigger(event);
         }
         return event.isCancellable() && event.isCancelled();
     }
 
-    private void internalTrigger(Class<? extends MMEvent> eventClass, MMEvent event) {
-        List<EventListener> eventListeners = eventMap.get(eventClass);
-        if (null != eventListeners) {
-            eventListeners.sort(EVENT_SORTER);
-            for (EventListener listener : eventListeners) {
-                listener.trigger(event);
+    private EventListener[] getListeners(Class<?> eventClass) {
+        EventListener[] listeners = dispatchMap.get(eventClass);
+        if (null == listeners) {
+            synchronized (REGISTER_LOCK) {
+                listeners = dispatchMap.computeIfAbsent(eventClass, this::collectListeners);
             }
         }
+        return listeners;
     }
 
-    private static class EventSorter implements Comparator<EventListener> {
-        @Override
-        public int compare(EventListener el1, EventListener el2) {
-            // Highest to lowest, by priority
-            return Integer.compare(el2.getPriority(), el1.getPriority());
+    private EventListener[] collectListeners(Class<?> eventClass) {
+        List<EventListener> result = new ArrayList<>();
+        // Run through the listeners for each superclass up to MMEvent itself
+        for (Class<?> cls : getClasses(eventClass)) {
+            if (MMEvent.class.isAssignableFrom(cls)) {
+                result.addAll(Arrays.asList(eventMap.getOrDefault(cls, NO_LISTENERS)));
+            }
         }
+        return result.toArray(NO_LISTENERS);
     }
 
     public void logActiveSubscribers() {
-        handlerMap.forEach((handler, listeners) -> {
-            if (!unregisterQueue.containsKey(handler)) {
-                LOGGER.warn("Active subscriber: " + handler.getClass().getSimpleName());
-            }
-        });
+        handlerMap.forEach((handler, listeners) ->
+              LOGGER.warn("Active subscriber: " + handler.getClass().getSimpleName()));
     }
 }
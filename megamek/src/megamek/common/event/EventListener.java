@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2016-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -33,30 +33,94 @@
 
 package megamek.common.event;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import megamek.logging.MMLogger;
 
 class EventListener {
     private static final MMLogger logger = MMLogger.create(EventListener.class);
 
+    /** The dispatchers generated so far, one per subscribed method */
+    private static final Map<Method, EventDispatcher> DISPATCHERS = new ConcurrentHashMap<>();
+    private static final MethodType DISPATCH_TYPE = MethodType.methodType(void.class, Object.class, MMEvent.class);
+
     private final Object handler;
-    private final Method method;
+    private final EventDispatcher dispatcher;
     private final Class<? extends MMEvent> eventType;
-    private final Subscribe info;
+    private final int priority;
 
     public EventListener(Object handler, Method method, Class<? extends MMEvent> eventType) {
         this.handler = Objects.requireNonNull(handler);
-        this.method = Objects.requireNonNull(method);
+        this.dispatcher = DISPATCHERS.computeIfAbsent(Objects.requireNonNull(method), EventListener::createDispatcher);
         this.eventType = Objects.requireNonNull(eventType);
-        this.info = method.getAnnotation(Subscribe.class);
+        this.priority = method.getAnnotation(Subscribe.class).priority();
+    }
+
+    /**
+     * Generates a dispatcher that calls the given method directly, using {@link LambdaMetafactory}. Falls back to a
+     * bound method handle for methods that cannot be bound this way, such as static methods.
+     */
+    private static EventDispatcher createDispatcher(Method method) {
+        MethodHandles.Lookup lookup;
+        MethodHandle target;
+        try {
+            lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            target = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access the @Subscribe method " + method, e);
+        }
+        if (!Modifier.isStatic(method.getModifiers())) {
+            try {
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "dispatch",
+                      MethodType.methodType(EventDispatcher.class), DISPATCH_TYPE, target,
+                      MethodType.methodType(void.class, method.getDeclaringClass(), method.getParameterTypes()[0]));
+                return (EventDispatcher) callSite.getTarget().invokeExact();
+            } catch (Throwable e) {
+                logger.warn("Using a method handle to dispatch events to {}: {}", method, e.getMessage());
+            }
+        }
+        return new MethodHandleDispatcher(Modifier.isStatic(method.getModifiers())
+              ? MethodHandles.dropArguments(target, 0, Object.class).asType(DISPATCH_TYPE)
+              : target.asType(DISPATCH_TYPE));
+    }
+
+    /**
+     * Calls the subscribed method through a method handle; used where no dispatcher can be generated.
+     */
+    private record MethodHandleDispatcher(MethodHandle target) implements EventDispatcher {
+
+        @Override
+        public void dispatch(Object handler, MMEvent event) throws Exception {
+            try {
+                target.invokeExact(handler, event);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * @return true if events reach the handler through a generated dispatcher rather than a method handle
+     */
+    boolean hasGeneratedDispatcher() {
+        return !(dispatcher instanceof MethodHandleDispatcher);
     }
 
     public void trigger(MMEvent event) {
         if (!event.isCancellable() || !event.isCancelled()) {
             try {
-                method.invoke(handler, event);
+                dispatcher.dispatch(handler, event);
             } catch (Exception e) {
                 logger.error("", e);
             }
@@ -64,7 +128,7 @@ class EventListener {
     }
 
     public int getPriority() {
-        return info.priority();
+        return priority;
     }
 
     public Class<? extends MMEvent> getEventType() {
@@ -51,6 +51,8 @@ import megamek.client.bot.princess.BehaviorSettings;
 import megamek.common.Hex;
 import megamek.common.HexTarget;
 import megamek.common.IndustrialElevator;
+import megamek.common.LosCache;
+import megamek.common.MMRandom;
 import megamek.common.Player;
 import megamek.common.Report;
 import megamek.common.TagInfo;
@@ -172,6 +174,9 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
      */
     private transient Set<Integer> playerIdsWithDemolitionCharges = null;
 
+    /** Line of sight results of this game; created on first use, as it is not serialized */
+    private transient LosCache losCache;
+
     /**
      * The past phase
      */
@@ -221,6 +226,13 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
     // internal integer value for an external game id link
     private int externalGameId = 0;
 
+    /**
+     * The dice of a game that uses the seeded RNG type, see {@link #getSeededRandom()}. Saved with the game so that a
+     * loaded game rolls on from where it was saved. The clients' games never have it, as the game is not sent as a
+     * whole.
+     */
+    private MMRandom.SplittableSeededRandom seededRandom;
+
     // victory condition related stuff
     private VictoryHelper victoryHelper = null;
 
@@ -280,6 +292,19 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
         externalGameId = value;
     }
 
+    /**
+     * @return the generator that rolls the dice of this game when it uses the seeded RNG type, or null when none has
+     *       been started. Its master seed must stay on the server until the game ends; anyone who knows it can predict
+     *       every roll.
+     */
+    public @Nullable MMRandom.SplittableSeededRandom getSeededRandom() {
+        return seededRandom;
+    }
+
+    public void setSeededRandom(@Nullable MMRandom.SplittableSeededRandom seededRandom) {
+        this.seededRandom = seededRandom;
+    }
+
     public Version getVersion() {
         return version;
     }
@@ -1065,6 +1090,18 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
         return playerIdsWithDemolitionCharges;
     }
 
+    /**
+     * @return The cache of line of sight results between the hexes of this game's boards
+     */
+    public LosCache getLosCache() {
+        LosCache cache = losCache;
+        if (cache == null) {
+            cache = new LosCache();
+            losCache = cache;
+        }
+        return cache;
+    }
+
     public void processGameEvent(GameEvent event) {
         fireGameEvent(event);
     }
@@ -1639,6 +1676,8 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
         victoryTeam = Player.TEAM_NONE;
         lastEntityId = 0;
         planetaryConditions = new PlanetaryConditions();
+        // The seed of the finished game has been revealed; the next game needs a new one
+        seededRandom = null;
     }
 
     private void removeArtyAutoHitHexes() {
@@ -3033,6 +3072,16 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
         gameReports.clear();
     }
 
+    /**
+     * Clears the reports of the given round. A client calls this for a round that has ended once it has no more use
+     * for the reports, e.g. after rendering them, so that it does not keep the reports of every round of a long game.
+     *
+     * @param round The round
+     */
+    public void clearReports(int round) {
+        gameReports.clear(round);
+    }
+
     public void end(int winner, int winnerTeam) {
         setVictoryPlayerId(winner);
         setVictoryTeam(winnerTeam);
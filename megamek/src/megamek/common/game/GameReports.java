@@ -1,6 +1,6 @@
 /*
   Copyright (C) 2000-2005 Ben Mazur (bmazur@sev.org)
- * Copyright (C) 2005-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2005-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -107,4 +107,16 @@ public class GameReports implements FullGameReport<Report> {
         reports.clear();
     }
 
+    /**
+     * Removes the reports of the given round but keeps the round, so that the reports of later rounds are still
+     * added to and returned for their own round.
+     *
+     * @param round The round, starting at 1
+     */
+    public void clear(int round) {
+        if ((round >= 1) && hasReportsForRound(round) && !reports.get(round - 1).isEmpty()) {
+            reports.set(round - 1, new ArrayList<>());
+        }
+    }
+
 }
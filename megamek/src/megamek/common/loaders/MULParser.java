@@ -36,11 +36,14 @@ package megamek.common.loaders;
 import static megamek.common.bays.Bay.UNSET_BAY;
 
 import java.awt.Color;
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.util.ArrayDeque;
 import java.util.Base64;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
@@ -48,8 +51,17 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.StringTokenizer;
 import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.zip.GZIPInputStream;
+import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import megamek.SuiteConstants;
 import megamek.Version;
@@ -93,6 +105,9 @@ public class MULParser {
 
     public static final String VERSION = "version";
 
+    /** The number of blocks that are parsed in parallel or wait to be added when an executor is used */
+    static final int MAX_PENDING_BLOCKS = 64;
+
     /**
      * The names of the various elements recognized by this parser.
      */
@@ -414,14 +429,35 @@ public class MULParser {
      * @throws Exception if there is an issue with parsing the file
      */
     public MULParser(final @Nullable File file, final @Nullable GameOptions options) throws Exception {
+        this(file, options, null);
+    }
+
+    /**
+     * Parses the given file like {@link #MULParser(File, GameOptions)}, but parses the entities on the given executor.
+     * This is faster for large MULs such as campaign rosters and force libraries. The entities, pilots and warnings
+     * are in the same order as when parsing on the calling thread.
+     * <p>
+     * The executor's threads look up canon units in {@link MekSummaryCache} and load them with {@link MekFileParser}.
+     * The unit cache must therefore already be loaded before this is called; otherwise the first worker thread loads
+     * it while holding the cache lock and all other workers wait for it.
+     *
+     * @param file     the file to parse, or null if there isn't anything to parse
+     * @param options  the game options to parse the MUL with, which may be null (only to be used when the crew is not
+     *                 to be loaded, as no saved optional Crew-based values are loaded).
+     * @param executor the executor to parse the entities on; when null, they are parsed on the calling thread
+     *
+     * @throws Exception if there is an issue with parsing the file
+     */
+    public MULParser(final @Nullable File file, final @Nullable GameOptions options,
+          final @Nullable ExecutorService executor) throws Exception {
         this();
 
         if (file == null) {
             return;
         }
 
-        try (InputStream is = new FileInputStream(file)) {
-            parse(is, options);
+        try (InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+            parse(is, options, executor);
         }
     }
 
@@ -433,8 +469,23 @@ public class MULParser {
      *                be loaded, as no saved optional Crew-based values are loaded).
      */
     public MULParser(final InputStream is, final @Nullable GameOptions options) throws Exception {
+        this(is, options, null);
+    }
+
+    /**
+     * Parses the given stream, parsing the entities on the given executor.
+     *
+     * @param is       the input stream to parse from
+     * @param options  the game options to parse the MUL with, which may be null
+     * @param executor the executor to parse the entities on; when null, they are parsed on the calling thread. The
+     *                 unit cache must already be loaded when an executor is given.
+     *
+     * @see #MULParser(File, GameOptions, ExecutorService)
+     */
+    public MULParser(final InputStream is, final @Nullable GameOptions options,
+          final @Nullable ExecutorService executor) throws Exception {
         this();
-        parse(is, options);
+        parse(is, options, executor);
     }
 
     /**
@@ -452,41 +503,305 @@ public class MULParser {
     }
     // endregion Constructors
 
-    private void parse(final InputStream fin, final @Nullable GameOptions options) throws Exception {
-        Document xmlDoc;
+    /**
+     * Parses the MUL from the given stream. The document is read with a StAX pull parser and only one block at a time
+     * - an entity, a stand-alone pilot or crew, or the kills - is turned into a DOM element and parsed. Large MULs are
+     * therefore never held in memory as a whole. When an executor is given, the blocks are parsed on it, at most
+     * {@link #MAX_PENDING_BLOCKS} at a time, and their results are added in the order of the file.
+     */
+    private void parse(final InputStream fin, final @Nullable GameOptions options,
+          final @Nullable ExecutorService executor) throws Exception {
+        XMLStreamReader reader = null;
+        DocumentBuilder documentBuilder;
+        try {
+            reader = MMXMLUtility.newSafeXMLInputFactory().createXMLStreamReader(fin);
+            documentBuilder = MMXMLUtility.newSafeDocumentBuilder();
+            moveToRootElement(reader);
+        } catch (Exception e) {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException closeException) {
+                    e.addSuppressed(closeException);
+                }
+            }
+            warning.append("Error parsing MUL file!\n");
+            throw e;
+        }
 
+        final PendingBlocks blocks = new PendingBlocks(executor);
         try {
-            final DocumentBuilder db = MMXMLUtility.newSafeDocumentBuilder();
-            xmlDoc = db.parse(fin);
+            final String version = Objects.requireNonNullElse(reader.getAttributeValue(null, VERSION), "");
+            determineVersionCompatibility(version);
+
+            if (newerVersion) {
+                // A MUL saved in a newer version can never be loaded in an older one. Refuse to parse any entities.
+                warning.append("This MUL was created in a newer version of MegaMek (")
+                      .append(version)
+                      .append(") than the one currently running (")
+                      .append(SuiteConstants.VERSION)
+                      .append("). It cannot be loaded.\n");
+                if (hasWarningMessage()) {
+                    LOGGER.warn(getWarningMessage());
+                }
+                return;
+            }
+
+            if (version.isBlank()) {
+                warning.append("Warning: No version specified, correct parsing ")
+                      .append("not guaranteed!\n");
+            }
+
+            final String rootName = nodeName(reader.getName());
+            if (rootName.equalsIgnoreCase(ELE_RECORD)) {
+                streamRecord(reader, documentBuilder, options, blocks);
+            } else if (rootName.equalsIgnoreCase(ELE_UNIT)) {
+                streamUnit(reader, documentBuilder, options, entities, blocks);
+            } else if (rootName.equalsIgnoreCase(ELE_ENTITY)) {
+                final Element entityElement = readElement(reader, documentBuilder);
+                blocks.add(entities, part -> part.parseEntity(entityElement, options, part.entities));
+            } else {
+                warning.append("Error: root element isn't a Record, Unit, or Entity tag! Nothing to parse!\n");
+            }
+
+            // Like the DOM parser, refuse documents that are not well-formed up to their end
+            while (reader.hasNext()) {
+                reader.next();
+            }
+            blocks.finish();
         } catch (Exception e) {
+            blocks.cancel();
             warning.append("Error parsing MUL file!\n");
             throw e;
+        } finally {
+            reader.close();
         }
 
-        final Element element = xmlDoc.getDocumentElement();
-        element.normalize();
+        // Finally, output the warning if there is any
+        if (hasWarningMessage()) {
+            LOGGER.warn(getWarningMessage());
+        }
+    }
 
-        final String version = element.getAttribute(VERSION);
-        determineVersionCompatibility(version);
+    /**
+     * Streams the children of a Record tag; see {@link #parseRecord(Element, GameOptions)}.
+     */
+    private void streamRecord(final XMLStreamReader reader, final DocumentBuilder documentBuilder,
+          final @Nullable GameOptions options, final PendingBlocks blocks) throws Exception {
+        while (nextChildElement(reader)) {
+            final String nodeName = nodeName(reader.getName());
+            if (nodeName.equalsIgnoreCase(ELE_UNIT)) {
+                streamUnit(reader, documentBuilder, options, entities, blocks);
+            } else if (nodeName.equalsIgnoreCase(ELE_SURVIVORS)) {
+                streamUnit(reader, documentBuilder, options, survivors, blocks);
+            } else if (nodeName.equalsIgnoreCase(ELE_ALLIES)) {
+                streamUnit(reader, documentBuilder, options, allies, blocks);
+            } else if (nodeName.equalsIgnoreCase(ELE_SALVAGE)) {
+                streamUnit(reader, documentBuilder, options, salvage, blocks);
+            } else if (nodeName.equalsIgnoreCase(ELE_RETREATED)) {
+                streamUnit(reader, documentBuilder, options, retreated, blocks);
+            } else if (nodeName.equalsIgnoreCase(ELE_DEVASTATED)) {
+                streamUnit(reader, documentBuilder, options, devastated, blocks);
+            } else if (nodeName.equalsIgnoreCase(ELE_KILLS)) {
+                final Element killsElement = readElement(reader, documentBuilder);
+                blocks.add(entities, part -> part.parseKills(killsElement));
+            } else if (nodeName.equalsIgnoreCase(ELE_ENTITY)) {
+                final Element unitElement = readElement(reader, documentBuilder);
+                blocks.add(entities, part -> part.parseUnit(unitElement, options, part.entities));
+            } else if (nodeName.equalsIgnoreCase(ELE_PILOT)) {
+                final Element pilotElement = readElement(reader, documentBuilder);
+                blocks.add(entities, part -> part.parsePilot(pilotElement, options));
+            } else if (nodeName.equalsIgnoreCase(ELE_CREW)) {
+                final Element crewElement = readElement(reader, documentBuilder);
+                blocks.add(entities, part -> part.parseCrew(crewElement, options));
+            } else {
+                skipElement(reader);
+            }
+        }
+    }
 
-        if (newerVersion) {
-            // A MUL saved in a newer version can never be loaded in an older one. Refuse to parse any entities.
-            warning.append("This MUL was created in a newer version of MegaMek (")
-                  .append(version)
-                  .append(") than the one currently running (")
-                  .append(SuiteConstants.VERSION)
-                  .append("). It cannot be loaded.\n");
-            if (hasWarningMessage()) {
-                LOGGER.warn(getWarningMessage());
+    /**
+     * Streams the children of a Unit tag (or of a survivors, allies, ... tag); see
+     * {@link #parseUnit(Element, GameOptions, Vector)}.
+     */
+    private void streamUnit(final XMLStreamReader reader, final DocumentBuilder documentBuilder,
+          final @Nullable GameOptions options, final Vector<Entity> list, final PendingBlocks blocks)
+          throws Exception {
+        while (nextChildElement(reader)) {
+            final String nodeName = nodeName(reader.getName());
+            if (nodeName.equalsIgnoreCase(ELE_ENTITY)) {
+                final Element entityElement = readElement(reader, documentBuilder);
+                blocks.add(list, part -> part.parseEntity(entityElement, options, part.entities));
+            } else if (nodeName.equalsIgnoreCase(ELE_PILOT)) {
+                final Element pilotElement = readElement(reader, documentBuilder);
+                blocks.add(list, part -> part.parsePilot(pilotElement, options));
+            } else if (nodeName.equalsIgnoreCase(ELE_CREW)) {
+                final Element crewElement = readElement(reader, documentBuilder);
+                blocks.add(list, part -> part.parseCrew(crewElement, options));
+            } else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    /**
+     * Advances the reader to the root element. A DOCTYPE is refused, as it is by
+     * {@link MMXMLUtility#newSafeDocumentBuilder()}.
+     */
+    private static void moveToRootElement(final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.DTD) {
+                throw new XMLStreamException("DOCTYPE is not allowed in a MUL file", reader.getLocation());
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                return;
+            }
+        }
+        throw new XMLStreamException("The MUL file has no root element", reader.getLocation());
+    }
+
+    /**
+     * Advances the reader from the start tag of an element or the end tag of one of its children to the start tag of
+     * its next child element.
+     *
+     * @return true when a child element was found, false when the end tag of the element was reached
+     */
+    private static boolean nextChildElement(final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
             }
-            return;
         }
+        return false;
+    }
 
-        if (version.isBlank()) {
-            warning.append("Warning: No version specified, correct parsing ")
-                  .append("not guaranteed!\n");
+    /**
+     * Advances the reader from the start tag of an element to its end tag.
+     */
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads the element whose start tag the reader is at, with all its attributes, children and text, into a DOM
+     * element of its own document. The reader is left at the end tag of the element.
+     */
+    private static Element readElement(final XMLStreamReader reader, final DocumentBuilder documentBuilder)
+          throws XMLStreamException {
+        final Document document = documentBuilder.newDocument();
+        final Element element = createElement(reader, document);
+        document.appendChild(element);
+        Node current = element;
+        while (current != document) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    final Element child = createElement(reader, document);
+                    current.appendChild(child);
+                    current = child;
+                }
+                case XMLStreamConstants.END_ELEMENT -> current = current.getParentNode();
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.SPACE, XMLStreamConstants.CDATA ->
+                      current.appendChild(document.createTextNode(reader.getText()));
+                default -> {
+                    // Comments and processing instructions are not used by the parser
+                }
+            }
+        }
+        return element;
+    }
+
+    private static Element createElement(final XMLStreamReader reader, final Document document) {
+        final Element element = document.createElement(nodeName(reader.getName()));
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            element.setAttribute(nodeName(reader.getAttributeName(i)), reader.getAttributeValue(i));
+        }
+        return element;
+    }
+
+    /** @return the name of the element or attribute as the DOM gives it, i.e. with its prefix, if any */
+    private static String nodeName(final QName name) {
+        return name.getPrefix().isEmpty() ? name.getLocalPart() : name.getPrefix() + ':' + name.getLocalPart();
+    }
+
+    /**
+     * Adds the results of a block parsed by a separate parser to this one.
+     */
+    private void addResults(final Vector<Entity> list, final MULParser part) {
+        list.addAll(part.entities);
+        pilots.addAll(part.pilots);
+        kills.putAll(part.kills);
+        warning.append(part.warning);
+    }
+
+    /**
+     * The blocks of a streamed MUL. Each block is parsed by a parser of its own, on the executor if there is one, and
+     * its results are added to this parser in the order that the blocks were added.
+     */
+    private final class PendingBlocks {
+
+        private record Block(Vector<Entity> list, Future<MULParser> part) {}
+
+        private final ExecutorService executor;
+        private final Deque<Block> blocks = new ArrayDeque<>();
+
+        PendingBlocks(final @Nullable ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * @param list    the list that the entities of the block belong to
+         * @param parsing parses the block into the given parser
+         */
+        void add(final Vector<Entity> list, final Consumer<MULParser> parsing) throws Exception {
+            final Callable<MULParser> task = () -> {
+                final MULParser part = new MULParser();
+                parsing.accept(part);
+                return part;
+            };
+            if (executor == null) {
+                addResults(list, task.call());
+            } else {
+                blocks.add(new Block(list, executor.submit(task)));
+                while (blocks.size() > MAX_PENDING_BLOCKS) {
+                    addNext();
+                }
+            }
+        }
+
+        /** Waits for all blocks and adds their results. */
+        void finish() throws Exception {
+            while (!blocks.isEmpty()) {
+                addNext();
+            }
+        }
+
+        void cancel() {
+            blocks.forEach(block -> block.part().cancel(true));
+            blocks.clear();
+        }
+
+        private void addNext() throws Exception {
+            final Block block = blocks.remove();
+            try {
+                addResults(block.list(), block.part().get());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw e;
+            }
         }
-        parse(element, options);
     }
 
     /**
@@ -106,7 +106,8 @@ public class MekSummary implements Serializable, ASCardDisplayable {
     private String unitSubType;
     private String fullAccurateUnitType;
     private Long entityType;
-    private Base64Image fluffImage = new Base64Image();
+    /** The fluff image, if the unit has one; it is decoded only when first requested */
+    private Base64Image fluffImage;
     private boolean omni;
     private boolean military;
     private boolean mountedInfantry;
@@ -1415,7 +1416,7 @@ public class MekSummary implements Serializable, ASCardDisplayable {
 
     @Override
     public @Nullable Image getFluffImage() {
-        return fluffImage.getImage();
+        return (fluffImage == null) ? null : fluffImage.getImage();
     }
 
     /**
@@ -38,6 +38,7 @@ package megamek.common.loaders;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -100,17 +101,28 @@ public class MekSummaryCache {
     private volatile boolean initialized = false;
     private volatile boolean initializing = false;
 
-    private MekSummary[] data;
-    private final Map<String, MekSummary> nameMap;
-    private final Map<String, MekSummary> fileNameMap;
+    /**
+     * True while the units read from the unit cache file are published but the loader is still checking the unit
+     * files for changes. Lookups do not block in that time.
+     */
+    private volatile boolean provisional = false;
+
+    // The data and the lookup maps are replaced as a whole when units are (re)loaded and never changed afterward
+    private volatile MekSummary[] data;
+    private volatile Map<String, MekSummary> nameMap;
+    private volatile Map<String, MekSummary> fileNameMap;
     // Battlefield Support Assets keyed by their name (chassis + model). Assets share a name with their base unit, so
     // they are tracked separately here to keep both retrievable via name lookups (e.g. MUL loading).
-    private final Map<String, MekSummary> assetNameMap;
+    private volatile Map<String, MekSummary> assetNameMap;
     /** All units keyed by their unit-file UUID (the identity used for asset&lt;-&gt;base-unit linking). */
-    private final Map<String, MekSummary> uuidMap;
+    private volatile Map<String, MekSummary> uuidMap;
     /** Battlefield Support Assets keyed by the UUID of the base unit they link to. */
-    private final Map<String, MekSummary> assetByLinkedUnitId;
-    private Map<String, String> failedFiles;
+    private volatile Map<String, MekSummary> assetByLinkedUnitId;
+    /** The index entries of the published data, keyed by unit file (or zip file and entry) */
+    private volatile Map<String, MekSummaryIndex.Entry> indexEntries = new LinkedHashMap<>();
+    private volatile Map<String, String> failedFiles;
+    /** The search catalog of the published data; created on first use and replaced when the data changes */
+    private volatile MekSummaryCatalog catalog;
     private int cacheCount;
     private int fileCount;
     private int zipCount;
@@ -205,6 +217,7 @@ public class MekSummaryCache {
     private void startLoadLocked(LoadOperation loadOperation, boolean ignoreUnofficial) {
         initializing = true;
         initialized = false;
+        provisional = false;
         disposeInstance = false;
         queuedLoadOperation = null;
         resetLoadStats();
@@ -286,10 +299,26 @@ public class MekSummaryCache {
         return data;
     }
 
+    /**
+     * Returns the search catalog of the units that {@link #getAllMeks()} returns. The catalog is created on the first
+     * call after the units were (re)loaded.
+     *
+     * @return the catalog of all units
+     */
+    public MekSummaryCatalog getCatalog() {
+        MekSummary[] currentData = getAllMeks();
+        MekSummaryCatalog currentCatalog = catalog;
+        if ((currentCatalog == null) || !currentCatalog.isCatalogOf(currentData)) {
+            currentCatalog = new MekSummaryCatalog((currentData == null) ? new MekSummary[0] : currentData);
+            catalog = currentCatalog;
+        }
+        return currentCatalog;
+    }
+
     private void block() {
-        if (!initialized) {
+        if (!initialized && !provisional) {
             synchronized (lock) {
-                while (!initialized) {
+                while (!initialized && !provisional) {
                     try {
                         lock.wait();
                     } catch (InterruptedException ignored) {
@@ -395,9 +424,8 @@ public class MekSummaryCache {
 
     public void loadMekData(boolean ignoreUnofficial) {
         resetLoadStats();
-        Vector<MekSummary> vMeks = new Vector<>();
-        Set<String> sKnownFiles = new HashSet<>();
-        long lLastCheck = 0;
+        Map<String, MekSummaryIndex.Entry> knownEntries = new LinkedHashMap<>();
+        boolean published = false;
 
         EquipmentType.initializeTypes(); // load master equipment lists
 
@@ -410,61 +438,65 @@ public class MekSummaryCache {
             try {
                 if (unit_cache_path.exists()) {
                     loadReport.append("  Reading from unit cache file...\n");
-                    lLastCheck = unit_cache_path.lastModified();
-                    InputStream inputStream = new BufferedInputStream(new FileInputStream(unit_cache_path));
-                    ObjectInputStream fin = new ObjectInputStream(inputStream);
-                    Integer newUnits = (Integer) fin.readObject();
-                    for (int i = 0; i < newUnits; i++) {
-                        if (shouldStopLoading()) {
-                            done();
-                            fin.close();
-                            inputStream.close();
-                            return;
-                        }
-                        MekSummary ms = (MekSummary) fin.readObject();
-                        // Verify that this file still exists and is older than
-                        // the cache.
-                        File fSource = ms.getSourceFile();
-                        if (fSource.exists()) {
-                            vMeks.addElement(ms);
-                            if (null == ms.getEntryName()) {
-                                sKnownFiles.add(fSource.toString());
-                            } else {
-                                sKnownFiles.add(ms.getEntryName());
-                            }
-                            cacheCount++;
-                        }
-                    }
-                    fin.close();
-                    inputStream.close();
+                    knownEntries.putAll(MekSummaryIndex.read(unit_cache_path));
+                    cacheCount = knownEntries.size();
                 }
             } catch (Exception ex) {
-                // A cache-format change can fail after some entries were read. Rescan every unit instead of retaining
-                // partial data or treating the old cache timestamp as authoritative.
-                vMeks.clear();
-                sKnownFiles.clear();
-                lLastCheck = 0;
+                // An unreadable cache or one of an earlier format is not trusted at all; every unit is rescanned
+                knownEntries.clear();
                 cacheCount = 0;
                 loadReport.append("  Unable to load unit cache: ").append(ex.getMessage()).append("\n");
                 logger.error(loadReport.toString(), ex);
             }
+
+            if (!knownEntries.isEmpty()) {
+                // Make the cached units available right away; the unit files are checked for changes afterward
+                if (!publish(knownEntries)) {
+                    done();
+                    return;
+                }
+                publishProvisionalData();
+                published = true;
+            }
         }
 
-        checkForChanges(ignoreUnofficial, vMeks, sKnownFiles, lLastCheck);
-        if (shouldStopLoading()) {
-            done();
-            return;
+        loadUnits(ignoreUnofficial, knownEntries, published);
+    }
+
+    /**
+     * Scans the unit directories, parses all unit files that are not in the given entries or have changed since,
+     * saves the unit cache if anything changed and publishes the result.
+     *
+     * @param ignoreUnofficial If true, skips unofficial directories
+     * @param knownEntries     The index entries to check the unit files against; this map is updated
+     * @param published        True when the known entries are already the published unit data
+     */
+    private void loadUnits(boolean ignoreUnofficial, Map<String, MekSummaryIndex.Entry> knownEntries,
+          boolean published) {
+        boolean changed;
+        try (UnitScan scan = new UnitScan(knownEntries)) {
+            checkForChanges(ignoreUnofficial, scan);
+            if (shouldStopLoading()) {
+                done();
+                return;
+            }
+            ParseResult[] results = parseUnits(scan.tasks);
+            if (shouldStopLoading()) {
+                done();
+                return;
+            }
+            changed = mergeResults(scan, results);
         }
-        if (!updateData(vMeks)) {
-            done();
-            return;
+
+        // save updated cache back to disk
+        if (changed) {
+            saveCache(knownEntries);
         }
         if (shouldStopLoading()) {
             done();
             return;
         }
-        addLookupNames();
-        if (shouldStopLoading()) {
+        if ((changed || !published) && !publish(knownEntries)) {
             done();
             return;
         }
@@ -473,11 +505,8 @@ public class MekSummaryCache {
         done();
     }
 
-    private void checkForChanges(boolean ignoreUnofficial, Vector<MekSummary> vMeks,
-          Set<String> sKnownFiles, long lLastCheck) {
-        // load any changes since the last check time
-        boolean bNeedsUpdate = loadMeksFromDirectory(vMeks, sKnownFiles,
-              lLastCheck, Configuration.unitsDir(), ignoreUnofficial);
+    private void checkForChanges(boolean ignoreUnofficial, UnitScan scan) {
+        loadMeksFromDirectory(scan, Configuration.unitsDir(), ignoreUnofficial);
 
         // Official units are in the internal dir, not in the user dirs or story arcs
         // dir
@@ -485,14 +514,14 @@ public class MekSummaryCache {
             // load units from the MM internal user data dir
             File userDataUnits = new File(Configuration.userDataDir(), Configuration.unitsDir().toString());
             if (userDataUnits.isDirectory()) {
-                bNeedsUpdate |= loadMeksFromDirectory(vMeks, sKnownFiles, lLastCheck, userDataUnits, false);
+                loadMeksFromDirectory(scan, userDataUnits, false);
             }
 
             // load units from the external user data dir
             String userDir = PreferenceManager.getClientPreferences().getUserDir();
             File userDataUnits2 = new File(userDir, "");
             if (!userDir.isBlank() && userDataUnits2.isDirectory()) {
-                bNeedsUpdate |= loadMeksFromDirectory(vMeks, sKnownFiles, lLastCheck, userDataUnits2, false);
+                loadMeksFromDirectory(scan, userDataUnits2, false);
             }
 
             // load units from story arcs
@@ -504,25 +533,49 @@ public class MekSummaryCache {
                         if (file.isDirectory()) {
                             File storyArcUnitsDir = new File(file.getPath() + "/data/mekfiles");
                             if (storyArcUnitsDir.exists() && storyArcUnitsDir.isDirectory()) {
-                                bNeedsUpdate |= loadMeksFromDirectory(vMeks, sKnownFiles, lLastCheck, storyArcUnitsDir,
-                                      false);
+                                loadMeksFromDirectory(scan, storyArcUnitsDir, false);
                             }
                         }
                     }
                 }
             }
         }
+    }
 
-        // save updated cache back to disk
-        if (shouldStopLoading()) {
-            return;
+    /**
+     * Makes the summaries of the given index entries the unit data of this cache.
+     *
+     * @return false if loading was stopped before the data could be published
+     */
+    private boolean publish(Map<String, MekSummaryIndex.Entry> entries) {
+        Vector<MekSummary> units = new Vector<>(entries.size());
+        for (MekSummaryIndex.Entry entry : entries.values()) {
+            units.add(entry.summary());
         }
+        if (!updateData(units)) {
+            return false;
+        }
+        indexEntries = entries;
+        return true;
+    }
 
-        if (bNeedsUpdate) {
-            saveCache(vMeks);
+    /**
+     * Lets {@link #getAllMeks()} and the lookups return the units read from the unit cache file while the unit files
+     * are still being checked. The loader remains running and {@link #isInitialized()} stays false until it is done.
+     */
+    private void publishProvisionalData() {
+        synchronized (lock) {
+            if (!shouldStopLoading()) {
+                provisional = true;
+                lock.notifyAll();
+            }
         }
     }
 
+    /**
+     * Builds the lookup maps for the given units and then replaces the published data and maps. Readers see either
+     * the previous or the new maps, never a partially filled one.
+     */
     private boolean updateData(Vector<MekSummary> vMeks) {
         // convert to array
         MekSummary[] updatedData = new MekSummary[vMeks.size()];
@@ -572,18 +625,17 @@ public class MekSummaryCache {
                 updatedFileNameMap.put(unitName, element);
             }
         }
+        addLookupNames(updatedNameMap);
+        if (shouldStopLoading()) {
+            return false;
+        }
 
         data = updatedData;
-        nameMap.clear();
-        nameMap.putAll(updatedNameMap);
-        fileNameMap.clear();
-        fileNameMap.putAll(updatedFileNameMap);
-        assetNameMap.clear();
-        assetNameMap.putAll(updatedAssetNameMap);
-        uuidMap.clear();
-        uuidMap.putAll(updatedUuidMap);
-        assetByLinkedUnitId.clear();
-        assetByLinkedUnitId.putAll(updatedAssetByLinkedUnitId);
+        nameMap = updatedNameMap;
+        fileNameMap = updatedFileNameMap;
+        assetNameMap = updatedAssetNameMap;
+        uuidMap = updatedUuidMap;
+        assetByLinkedUnitId = updatedAssetByLinkedUnitId;
         return true;
     }
 
@@ -642,6 +694,7 @@ public class MekSummaryCache {
             if (disposeInstance) {
                 initializing = false;
                 initialized = false;
+                provisional = false;
                 loader = null;
                 queuedLoadOperation = null;
                 queuedIgnoreUnofficial = false;
@@ -672,20 +725,14 @@ public class MekSummaryCache {
         }
     }
 
-    private void saveCache(List<MekSummary> data) {
+    private void saveCache(Map<String, MekSummaryIndex.Entry> entries) {
         if (shouldStopLoading()) {
             return;
         }
 
         loadReport.append("Saving unit cache.\n");
-        try (FileOutputStream fos = new FileOutputStream(
-              new MegaMekFile(getUnitCacheDir(), FILENAME_UNITS_CACHE).getFile());
-              BufferedOutputStream bos = new BufferedOutputStream(fos);
-              ObjectOutputStream oos = new ObjectOutputStream(bos)) {
-            oos.writeObject(data.size());
-            for (MekSummary element : data) {
-                oos.writeObject(element);
-            }
+        try {
+            MekSummaryIndex.write(new MegaMekFile(getUnitCacheDir(), FILENAME_UNITS_CACHE).getFile(), entries);
         } catch (Exception ex) {
             loadReport.append(" Unable to save mek cache\n");
             logger.error("", ex);
@@ -700,50 +747,8 @@ public class MekSummaryCache {
 
         resetLoadStats();
         loadReport.append("Refreshing unit cache:\n");
-        File unitCachePath = new MegaMekFile(getUnitCacheDir(), FILENAME_UNITS_CACHE).getFile();
-        long lastCheck = unitCachePath.exists() ? unitCachePath.lastModified() : 0L;
-        Vector<MekSummary> units = new Vector<>();
-        Set<String> knownFiles = new HashSet<>();
-        // Loop through current contents and make sure the file is still there.
-        // Note which files are represented so we can skip them if they haven't changed
-        for (MekSummary mekSummary : data) {
-            if (shouldStopLoading()) {
-                done();
-                return;
-            }
-            File source = mekSummary.getSourceFile();
-            if (source.exists()) {
-                units.add(mekSummary);
-                if (null == mekSummary.getEntryName()) {
-                    knownFiles.add(source.toString());
-                } else {
-                    knownFiles.add(mekSummary.getEntryName());
-                }
-            }
-        }
-
-        // load any changes since the last check time
-        checkForChanges(ignoreUnofficial, units, knownFiles, lastCheck);
-        if (shouldStopLoading()) {
-            done();
-            return;
-        }
-        if (!updateData(units)) {
-            done();
-            return;
-        }
-        if (shouldStopLoading()) {
-            done();
-            return;
-        }
-        addLookupNames();
-        if (shouldStopLoading()) {
-            done();
-            return;
-        }
-        logReport();
-
-        done();
+        // The entries of the current data tell which unit files are unchanged and can be skipped
+        loadUnits(ignoreUnofficial, new LinkedHashMap<>(indexEntries), true);
     }
 
     private void rebuildCache(boolean ignoreUnofficial) {
@@ -751,30 +756,7 @@ public class MekSummaryCache {
         EquipmentType.initializeTypes();
 
         loadReport.append("Rebuilding unit cache:\n");
-        Vector<MekSummary> units = new Vector<>();
-        Set<String> knownFiles = new HashSet<>();
-
-        checkForChanges(ignoreUnofficial, units, knownFiles, 0L);
-        if (shouldStopLoading()) {
-            done();
-            return;
-        }
-        if (!updateData(units)) {
-            done();
-            return;
-        }
-        if (shouldStopLoading()) {
-            done();
-            return;
-        }
-        addLookupNames();
-        if (shouldStopLoading()) {
-            done();
-            return;
-        }
-        logReport();
-
-        done();
+        loadUnits(ignoreUnofficial, new LinkedHashMap<>(), false);
     }
 
     /**
@@ -1168,20 +1150,60 @@ public class MekSummaryCache {
     }
 
     /**
-     * Loading a complete {@link Entity} object for each summary is a bear and should be changed, but it lets me use the
-     * existing parsers
-     *
-     * @param vMeks       List to add units to as they are loaded
-     * @param sKnownFiles Files that have been processed so far and can be skipped
-     * @param lLastCheck  The timestamp of the last time the cache was updated
-     * @param fDir        The directory to load units from
+     * The state of one pass over the unit directories: the index entries to check the unit files against, the keys of
+     * all unit files found and the files that must be parsed. Zip files stay open until their entries are parsed.
+     */
+    private static final class UnitScan implements AutoCloseable {
+        private final Map<String, MekSummaryIndex.Entry> entries;
+        private final Set<String> foundKeys = new HashSet<>();
+        private final List<ParseTask> tasks = new ArrayList<>();
+        private final List<ZipFile> zipFiles = new ArrayList<>();
+
+        private UnitScan(Map<String, MekSummaryIndex.Entry> entries) {
+            this.entries = entries;
+        }
+
+        /**
+         * Records that the unit file with the given key and stamps exists. Returns true when the file must be parsed,
+         * i.e. when it was not seen before in this scan and is new or has changed.
+         */
+        private boolean isNewOrChanged(String key, long modified, long size, long crc) {
+            if (!foundKeys.add(key)) {
+                return false;
+            }
+            MekSummaryIndex.Entry entry = entries.get(key);
+            return (entry == null) || !entry.matches(modified, size, crc);
+        }
+
+        @Override
+        public void close() {
+            for (ZipFile zipFile : zipFiles) {
+                try {
+                    zipFile.close();
+                } catch (Exception ex) {
+                    logger.error("", ex);
+                }
+            }
+        }
+    }
+
+    /** A unit file or zip file entry that must be parsed, together with the stamps to store in the index. */
+    private record ParseTask(String key, File sourceFile, @Nullable ZipFile zipFile, @Nullable ZipEntry zipEntry,
+          long modified, long size, long crc) {}
+
+    /** The outcome of parsing a unit file; either the summary or the error is null. */
+    private record ParseResult(@Nullable MekSummary summary, List<String> failedEquipment,
+          @Nullable Exception error) {}
+
+    /**
+     * Walks the given directory and adds a parse task for every unit file that is new or has changed since the index
+     * entries of the scan were created.
      *
-     * @return Whether the list of units has changed, requiring rewriting the cache
+     * @param scan             The scan to record the found unit files in
+     * @param fDir             The directory to load units from
+     * @param ignoreUnofficial If true, skips unofficial directories
      */
-    private boolean loadMeksFromDirectory(Vector<MekSummary> vMeks,
-          Set<String> sKnownFiles, long lLastCheck, File fDir,
-          boolean ignoreUnofficial) {
-        boolean bNeedsUpdate = false;
+    private void loadMeksFromDirectory(UnitScan scan, File fDir, boolean ignoreUnofficial) {
         loadReport.append("  Looking in ").append(fDir.getPath())
               .append("...\n");
         int thisDirectoriesFileCount = 0;
@@ -1190,8 +1212,7 @@ public class MekSummaryCache {
         if (sa != null) {
             for (String element : sa) {
                 if (shouldStopLoading()) {
-                    done();
-                    return false;
+                    return;
                 }
                 File f = new MegaMekFile(fDir, element).getFile();
                 if (f.equals(new MegaMekFile(getUnitCacheDir(), FILENAME_UNITS_CACHE).getFile())) {
@@ -1216,7 +1237,7 @@ public class MekSummaryCache {
                         continue;
                     }
                     // recursion is fun
-                    bNeedsUpdate |= loadMeksFromDirectory(vMeks, sKnownFiles, lLastCheck, f, ignoreUnofficial);
+                    loadMeksFromDirectory(scan, f, ignoreUnofficial);
                     continue;
                 }
                 String lowerCaseName = f.getName().toLowerCase();
@@ -1224,53 +1245,23 @@ public class MekSummaryCache {
                     continue;
                 }
                 if (lowerCaseName.endsWith(".zip")) {
-                    bNeedsUpdate |= loadMeksFromZipFile(vMeks, sKnownFiles, lLastCheck, f);
-                    continue;
-                }
-                if ((f.lastModified() < lLastCheck) && sKnownFiles.contains(f.toString())) {
+                    loadMeksFromZipFile(scan, f);
                     continue;
                 }
-                try {
-                    MekFileParser mfp = new MekFileParser(f);
-                    Entity e = mfp.getEntity();
-                    MekSummary ms = getSummary(e, f, null);
-                    // if this is unit's MekSummary is already known,
-                    // remove it first, so we don't get duplicates
-                    if (sKnownFiles.contains(f.toString())) {
-                        vMeks.removeElement(ms);
-                    }
-                    vMeks.addElement(ms);
-                    sKnownFiles.add(f.toString());
-                    bNeedsUpdate = true;
+                long modified = f.lastModified();
+                long size = f.length();
+                if (scan.isNewOrChanged(f.toString(), modified, size, MekSummaryIndex.NO_CRC)) {
+                    scan.tasks.add(new ParseTask(f.toString(), f, null, null, modified, size,
+                          MekSummaryIndex.NO_CRC));
                     thisDirectoriesFileCount++;
-                    fileCount++;
-                    Iterator<String> failedEquipment = e.getFailedEquipment();
-                    if (failedEquipment.hasNext()) {
-                        loadReport.append("    Loading from ").append(f).append("\n");
-                        while (failedEquipment.hasNext()) {
-                            loadReport.append("      Failed to load equipment: ")
-                                  .append(failedEquipment.next()).append("\n");
-                        }
-                    }
-                } catch (Exception ex) {
-                    loadReport.append("    Loading from ").append(f).append("\n");
-                    loadReport.append("***   Unable to load file: ");
-                    StringWriter stringWriter = new StringWriter();
-                    PrintWriter printWriter = new PrintWriter(stringWriter);
-                    ex.printStackTrace(printWriter);
-                    loadReport.append(stringWriter.getBuffer()).append("\n");
-                    failedFiles.put(f.toString(), ex.getMessage());
                 }
             }
         }
 
-        loadReport.append("  ...loaded ").append(thisDirectoriesFileCount).append(" files.\n");
-        return bNeedsUpdate;
+        loadReport.append("  ...found ").append(thisDirectoriesFileCount).append(" new or changed files.\n");
     }
 
-    private boolean loadMeksFromZipFile(Vector<MekSummary> vMeks,
-          Set<String> sKnownFiles, long lLastCheck, File fZipFile) {
-        boolean bNeedsUpdate = false;
+    private void loadMeksFromZipFile(UnitScan scan, File fZipFile) {
         ZipFile zFile;
         int thisZipFileCount = 0;
         try {
@@ -1282,22 +1273,17 @@ public class MekSummaryCache {
             PrintWriter printWriter = new PrintWriter(stringWriter);
             ex.printStackTrace(printWriter);
             loadReport.append(stringWriter.getBuffer()).append("\n");
-            return false;
+            return;
         }
+        scan.zipFiles.add(zFile);
         loadReport.append("  Looking in zip file ").append(fZipFile.getPath())
               .append("...\n");
 
-        for (Enumeration<?> i = zFile.entries(); i.hasMoreElements(); ) {
+        for (Enumeration<? extends ZipEntry> i = zFile.entries(); i.hasMoreElements(); ) {
             if (shouldStopLoading()) {
-                done();
-                try {
-                    zFile.close();
-                    return false;
-                } catch (Exception ex) {
-                    logger.error("", ex);
-                }
+                return;
             }
-            ZipEntry zEntry = (ZipEntry) i.nextElement();
+            ZipEntry zEntry = i.nextElement();
 
             if (zEntry.isDirectory()) {
                 if (zEntry.getName().equalsIgnoreCase("unsupported")) {
@@ -1310,57 +1296,114 @@ public class MekSummaryCache {
             if (SUPPORTED_FILE_EXTENSIONS.stream().noneMatch(lowerCaseName::endsWith)) {
                 continue;
             }
-            if ((Math.max(fZipFile.lastModified(), zEntry.getTime()) < lLastCheck)
-                  && sKnownFiles.contains(zEntry.getName())) {
-                continue;
+            // The zip file stores a CRC for each entry, so changed entries are found without reading them
+            String key = fZipFile + "!" + zEntry.getName();
+            if (scan.isNewOrChanged(key, zEntry.getTime(), zEntry.getSize(), zEntry.getCrc())) {
+                scan.tasks.add(new ParseTask(key, fZipFile, zFile, zEntry, zEntry.getTime(), zEntry.getSize(),
+                      zEntry.getCrc()));
+                thisZipFileCount++;
             }
+        }
 
-            try {
-                MekFileParser mfp = new MekFileParser(
-                      zFile.getInputStream(zEntry), zEntry.getName());
-                Entity e = mfp.getEntity();
-                MekSummary ms = getSummary(e, fZipFile, zEntry.getName());
-                vMeks.addElement(ms);
-                sKnownFiles.add(zEntry.getName());
+        loadReport.append("  ...found ").append(thisZipFileCount)
+              .append(" new or changed files.\n");
+    }
+
+    /**
+     * Parses the unit files of the given tasks in parallel. Loading a complete {@link Entity} object for each summary
+     * is a bear and should be changed, but it lets me use the existing parsers
+     *
+     * @return the results in the order of the tasks; a result is null if loading was stopped before its task ran
+     */
+    private ParseResult[] parseUnits(List<ParseTask> tasks) {
+        Thread loadingThread = Thread.currentThread();
+        ParseResult[] results = new ParseResult[tasks.size()];
+        IntStream.range(0, tasks.size()).parallel().forEach(index -> {
+            if (!disposeInstance && !loadingThread.isInterrupted()) {
+                results[index] = parseUnit(tasks.get(index));
+            }
+        });
+        return results;
+    }
+
+    private static ParseResult parseUnit(ParseTask task) {
+        try {
+            ZipEntry zipEntry = task.zipEntry();
+            MekFileParser mfp = (zipEntry == null) ? new MekFileParser(task.sourceFile())
+                  : new MekFileParser(Objects.requireNonNull(task.zipFile()).getInputStream(zipEntry),
+                  zipEntry.getName());
+            Entity e = mfp.getEntity();
+            MekSummary ms = getSummary(e, task.sourceFile(), (zipEntry == null) ? null : zipEntry.getName());
+            List<String> failedEquipment = new ArrayList<>();
+            e.getFailedEquipment().forEachRemaining(failedEquipment::add);
+            return new ParseResult(ms, failedEquipment, null);
+        } catch (Exception ex) {
+            return new ParseResult(null, List.of(), ex);
+        }
+    }
+
+    /**
+     * Adds the parsed summaries to the index entries of the scan and removes the entries of unit files that no longer
+     * exist. This runs in task order so that the report and the lookup collision order do not depend on the parallel
+     * parsing.
+     *
+     * @return Whether the index entries have changed, requiring rewriting the cache
+     */
+    private boolean mergeResults(UnitScan scan, ParseResult[] results) {
+        boolean bNeedsUpdate = false;
+        Map<String, String> failed = new HashMap<>();
+        for (int index = 0; index < results.length; index++) {
+            ParseTask task = scan.tasks.get(index);
+            ParseResult result = results[index];
+            if (result == null) {
+                continue;
+            }
+            ZipEntry zEntry = task.zipEntry();
+            if (result.error() == null) {
+                scan.entries.put(task.key(), new MekSummaryIndex.Entry(task.modified(), task.size(), task.crc(),
+                      result.summary()));
                 bNeedsUpdate = true;
-                thisZipFileCount++;
-                zipCount++;
-                Iterator<String> failedEquipment = e.getFailedEquipment();
-                if (failedEquipment.hasNext()) {
-                    loadReport.append("    Loading from zip file")
-                          .append(" >> ").append(zEntry.getName()).append("\n");
-                    while (failedEquipment.hasNext()) {
-                        loadReport.append("      Failed to load equipment: ")
-                              .append(failedEquipment.next()).append("\n");
+                if (zEntry == null) {
+                    fileCount++;
+                } else {
+                    zipCount++;
+                }
+                if (!result.failedEquipment().isEmpty()) {
+                    appendLoadingFrom(task);
+                    for (String equipment : result.failedEquipment()) {
+                        loadReport.append("      Failed to load equipment: ").append(equipment).append("\n");
                     }
                 }
-            } catch (Exception ex) {
-                loadReport.append("    Loading from zip file").append(" >> ")
-                      .append(zEntry.getName()).append("\n");
-                loadReport.append("      Unable to load file: ");
+            } else {
+                Exception ex = result.error();
+                appendLoadingFrom(task);
+                loadReport.append((zEntry == null) ? "***   Unable to load file: " : "      Unable to load file: ");
                 StringWriter stringWriter = new StringWriter();
                 PrintWriter printWriter = new PrintWriter(stringWriter);
                 ex.printStackTrace(printWriter);
                 loadReport.append(stringWriter.getBuffer()).append("\n");
-                if (!(ex.getMessage() == null)) {
-                    failedFiles.put(zEntry.getName(), ex.getMessage());
+                if (zEntry == null) {
+                    failed.put(task.sourceFile().toString(), ex.getMessage());
+                } else if (ex.getMessage() != null) {
+                    failed.put(zEntry.getName(), ex.getMessage());
                 }
             }
         }
+        bNeedsUpdate |= scan.entries.keySet().retainAll(scan.foundKeys);
+        failedFiles = failed;
+        return bNeedsUpdate;
+    }
 
-        try {
-            zFile.close();
-        } catch (Exception ex) {
-            logger.error("", ex);
+    private void appendLoadingFrom(ParseTask task) {
+        if (task.zipEntry() == null) {
+            loadReport.append("    Loading from ").append(task.sourceFile()).append("\n");
+        } else {
+            loadReport.append("    Loading from zip file").append(" >> ").append(task.zipEntry().getName())
+                  .append("\n");
         }
-
-        loadReport.append("  ...loaded ").append(thisZipFileCount)
-              .append(" files.\n");
-
-        return bNeedsUpdate;
     }
 
-    private void addLookupNames() {
+    private void addLookupNames(Map<String, MekSummary> nameMap) {
         File lookupNames = new MegaMekFile(getUnitCacheDir(), FILENAME_LOOKUP).getFile();
         if (lookupNames.exists()) {
             try (FileInputStream fis = new FileInputStream(lookupNames);
@@ -0,0 +1,290 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.loaders;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import megamek.common.annotations.Nullable;
+
+/**
+ * A column-oriented, read-only view of a set of {@link MekSummary} units for fast searching. Each unit has an index
+ * into primitive columns for its tonnage, BV, intro year and tech level. The equipment names of all units are interned
+ * into a dictionary of ids; each unit stores its equipment as sorted arrays of ids and quantities, and each equipment
+ * id has a bitset of the units that mount it. Searches can thereby work on ints and bitsets instead of walking the
+ * equipment name lists of every summary.
+ * <p>
+ * A unit whose equipment lists cannot be represented here (a null name, a name given twice, or lists of different
+ * size) is marked as irregular and has no equipment in the catalog; searches must use its summary for the equipment
+ * of such a unit.
+ * <p>
+ * The catalog does not hold fluff images; they remain with the summaries and are only decoded when requested. The
+ * catalog of the current unit data is available from {@link MekSummaryCache#getCatalog()}.
+ * <p>
+ * Thread-safe; Immutable.
+ */
+public final class MekSummaryCatalog {
+
+    private final MekSummary[] summaries;
+    private final Map<MekSummary, Integer> indices;
+
+    private final double[] tons;
+    private final int[] battleValues;
+    private final int[] years;
+    private final int[] techLevelCodes;
+
+    private final String[] equipmentNames;
+    private final Map<String, Integer> equipmentIds;
+    private final BitSet[] unitsByEquipment;
+    private final int[][] unitEquipment;
+    private final int[][] unitQuantities;
+    private final BitSet irregularUnits = new BitSet();
+
+    /**
+     * Creates a catalog of the given units. The array is not copied and must not be changed afterward.
+     *
+     * @param summaries the units of the catalog
+     */
+    public MekSummaryCatalog(MekSummary[] summaries) {
+        this.summaries = summaries;
+        int size = summaries.length;
+        indices = new IdentityHashMap<>(size);
+        tons = new double[size];
+        battleValues = new int[size];
+        years = new int[size];
+        techLevelCodes = new int[size];
+        unitEquipment = new int[size][];
+        unitQuantities = new int[size][];
+
+        Map<String, Integer> dictionary = new HashMap<>();
+        for (int unit = 0; unit < size; unit++) {
+            MekSummary summary = summaries[unit];
+            indices.put(summary, unit);
+            tons[unit] = summary.getTons();
+            battleValues[unit] = summary.getBV();
+            years[unit] = summary.getYear();
+            techLevelCodes[unit] = summary.getTechLevelCode();
+            indexEquipment(unit, summary.getEquipmentNames(), summary.getEquipmentQuantities(), dictionary);
+        }
+
+        equipmentIds = Map.copyOf(dictionary);
+        equipmentNames = new String[dictionary.size()];
+        unitsByEquipment = new BitSet[dictionary.size()];
+        dictionary.forEach((name, id) -> {
+            equipmentNames[id] = name;
+            unitsByEquipment[id] = new BitSet(size);
+        });
+        for (int unit = 0; unit < size; unit++) {
+            for (int id : unitEquipment[unit]) {
+                unitsByEquipment[id].set(unit);
+            }
+        }
+    }
+
+    private void indexEquipment(int unit, @Nullable List<String> names, @Nullable List<Integer> quantities,
+          Map<String, Integer> dictionary) {
+        int count = (names == null) ? 0 : names.size();
+        unitEquipment[unit] = new int[0];
+        unitQuantities[unit] = new int[0];
+        if (count != ((quantities == null) ? 0 : quantities.size())) {
+            irregularUnits.set(unit);
+            return;
+        }
+        long[] entries = new long[count];
+        for (int i = 0; i < count; i++) {
+            String name = names.get(i);
+            Integer quantity = quantities.get(i);
+            if ((name == null) || (quantity == null) || (quantity < 0)) {
+                irregularUnits.set(unit);
+                return;
+            }
+            int id = dictionary.computeIfAbsent(name, n -> dictionary.size());
+            entries[i] = ((long) id << 32) | quantity;
+        }
+        // Sorting the combined id and quantity keeps both arrays in id order
+        Arrays.sort(entries);
+        for (int i = 1; i < count; i++) {
+            if ((entries[i] >>> 32) == (entries[i - 1] >>> 32)) {
+                irregularUnits.set(unit);
+                return;
+            }
+        }
+        unitEquipment[unit] = new int[count];
+        unitQuantities[unit] = new int[count];
+        for (int i = 0; i < count; i++) {
+            unitEquipment[unit][i] = (int) (entries[i] >>> 32);
+            unitQuantities[unit][i] = (int) entries[i];
+        }
+    }
+
+    /**
+     * @param summaries the units to compare to
+     *
+     * @return true when this catalog was created from the given array
+     */
+    public boolean isCatalogOf(@Nullable MekSummary[] summaries) {
+        return this.summaries == summaries;
+    }
+
+    /** @return the number of units in this catalog */
+    public int size() {
+        return summaries.length;
+    }
+
+    /**
+     * @param summary a unit
+     *
+     * @return the index of the given unit in this catalog or -1 if it is not part of it. Units are compared by
+     *       identity.
+     */
+    public int indexOf(MekSummary summary) {
+        Integer index = indices.get(summary);
+        return (index == null) ? -1 : index;
+    }
+
+    /** @return the unit at the given index */
+    public MekSummary getSummary(int unit) {
+        return summaries[unit];
+    }
+
+    /** @return the tonnage of the unit at the given index */
+    public double getTons(int unit) {
+        return tons[unit];
+    }
+
+    /** @return the BV of the unit at the given index */
+    public int getBV(int unit) {
+        return battleValues[unit];
+    }
+
+    /** @return the intro year of the unit at the given index */
+    public int getYear(int unit) {
+        return years[unit];
+    }
+
+    /** @return the tech level code of the unit at the given index */
+    public int getTechLevelCode(int unit) {
+        return techLevelCodes[unit];
+    }
+
+    /** @return the number of different equipment names in this catalog */
+    public int getEquipmentCount() {
+        return equipmentNames.length;
+    }
+
+    /** @return the equipment name of the given equipment id */
+    public String getEquipmentName(int equipmentId) {
+        return equipmentNames[equipmentId];
+    }
+
+    /**
+     * @param name an equipment name as stored in {@link MekSummary#getEquipmentNames()}
+     *
+     * @return the equipment id of the given name or -1 if no unit of this catalog has the equipment
+     */
+    public int getEquipmentId(@Nullable String name) {
+        Integer id = (name == null) ? null : equipmentIds.get(name);
+        return (id == null) ? -1 : id;
+    }
+
+    /**
+     * @param unit the index of a unit
+     *
+     * @return true when the equipment of the unit is not represented by this catalog and must be read from its
+     *       summary
+     */
+    public boolean isIrregular(int unit) {
+        return irregularUnits.get(unit);
+    }
+
+    /** @return a new bitset of the units that are irregular, see {@link #isIrregular(int)} */
+    public BitSet getIrregularUnits() {
+        return (BitSet) irregularUnits.clone();
+    }
+
+    /**
+     * @param unit        the index of a unit
+     * @param equipmentId the id of an equipment name
+     *
+     * @return the quantity of the given equipment that the unit has, 0 if it has none
+     */
+    public int getQuantity(int unit, int equipmentId) {
+        int position = Arrays.binarySearch(unitEquipment[unit], equipmentId);
+        return (position < 0) ? 0 : unitQuantities[unit][position];
+    }
+
+    /**
+     * Returns the total quantity of all equipment of the given unit whose id is set in the given mask.
+     *
+     * @param unit          the index of a unit
+     * @param equipmentMask an array of the size {@link #getEquipmentCount()} that is true for the equipment to count
+     *
+     * @return the summed quantity
+     */
+    public int sumQuantities(int unit, boolean[] equipmentMask) {
+        int[] equipment = unitEquipment[unit];
+        int total = 0;
+        for (int i = 0; i < equipment.length; i++) {
+            if (equipmentMask[equipment[i]]) {
+                total += unitQuantities[unit][i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @param equipmentId the id of an equipment name; may be -1
+     * @param minQuantity the least quantity that a unit must have
+     *
+     * @return a new bitset of the units that have at least the given quantity of the equipment. Irregular units are
+     *       never included.
+     */
+    public BitSet getUnitsWith(int equipmentId, int minQuantity) {
+        BitSet result = new BitSet(size());
+        if (equipmentId < 0) {
+            return result;
+        }
+        BitSet units = unitsByEquipment[equipmentId];
+        for (int unit = units.nextSetBit(0); unit >= 0; unit = units.nextSetBit(unit + 1)) {
+            if (getQuantity(unit, equipmentId) >= minQuantity) {
+                result.set(unit);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.loaders;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * The on-disk unit cache. It is an index of every unit file (or zip file entry) with the modification time, size and,
+ * for zip entries, the CRC that the file had when its {@link MekSummary} was created. The loader re-parses only the
+ * files whose stamps differ.
+ * <p>
+ * Layout: a header with {@link #MAGIC} and {@link #VERSION}, the table of keys and stamps, the byte lengths of the
+ * shards and then the shards. Each shard is a separate Java serialization stream of up to {@link #SHARD_SIZE}
+ * summaries, so the shards can be deserialized in parallel. Any other content, such as a
+ * units.cache of an earlier release, is rejected with an IOException.
+ */
+final class MekSummaryIndex {
+
+    static final int MAGIC = 0x4D4D5549;
+    static final int VERSION = 1;
+    static final int SHARD_SIZE = 256;
+
+    /** The stamp value used for the CRC of a plain file that is not part of a zip file */
+    static final long NO_CRC = -1;
+
+    /**
+     * An indexed summary and the stamps of the file it was created from.
+     */
+    record Entry(long modified, long size, long crc, MekSummary summary) {
+
+        boolean matches(long modified, long size, long crc) {
+            return (this.modified == modified) && (this.size == size) && (this.crc == crc);
+        }
+    }
+
+    private MekSummaryIndex() {}
+
+    /**
+     * Reads the index from the given file.
+     *
+     * @return the entries by key, in the order in which they were written
+     *
+     * @throws IOException if the file cannot be read or is not an index of this version
+     */
+    static Map<String, Entry> read(File file) throws IOException {
+        // The file is read into memory in one go rather than mapped: a mapping would keep the file open until it is
+        // garbage collected, and on Windows the write() of the same session could then not replace it.
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        try {
+            DataInputStream in = new DataInputStream(new ByteBufferInputStream(buffer));
+            if ((in.readInt() != MAGIC) || (in.readInt() != VERSION)) {
+                throw new IOException("Not a unit index of version " + VERSION);
+            }
+            int count = in.readInt();
+            String[] keys = new String[count];
+            long[][] stamps = new long[count][];
+            for (int i = 0; i < count; i++) {
+                keys[i] = in.readUTF();
+                stamps[i] = new long[] { in.readLong(), in.readLong(), in.readLong() };
+            }
+            int shardCount = in.readInt();
+            int[] offsets = new int[shardCount];
+            int[] lengths = new int[shardCount];
+            int offset = buffer.position() + 4 * shardCount;
+            for (int shard = 0; shard < shardCount; shard++) {
+                lengths[shard] = in.readInt();
+                offsets[shard] = offset;
+                offset += lengths[shard];
+            }
+
+            List<List<MekSummary>> shards = IntStream.range(0, shardCount).parallel()
+                  .mapToObj(shard -> readShard(buffer.slice(offsets[shard], lengths[shard])))
+                  .toList();
+            Map<String, Entry> entries = new LinkedHashMap<>();
+            int index = 0;
+            for (List<MekSummary> shard : shards) {
+                for (MekSummary summary : shard) {
+                    if (index >= count) {
+                        throw new IOException("Unit index holds more summaries than keys");
+                    }
+                    long[] stamp = stamps[index];
+                    entries.put(keys[index], new Entry(stamp[0], stamp[1], stamp[2], summary));
+                    index++;
+                }
+            }
+            if (index != count) {
+                throw new IOException("Unit index holds fewer summaries than keys");
+            }
+            return entries;
+        } catch (IndexOutOfBoundsException | IllegalStateException ex) {
+            throw new IOException("Damaged unit index", ex);
+        }
+    }
+
+    private static List<MekSummary> readShard(ByteBuffer shard) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteBufferInputStream(shard))) {
+            int count = in.readInt();
+            List<MekSummary> summaries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                summaries.add((MekSummary) in.readObject());
+            }
+            return summaries;
+        } catch (IOException | ClassNotFoundException | ClassCastException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Writes the given entries to the given file. The index is written to a temporary file first, which then replaces
+     * the file, so that a reader never sees a partially written index.
+     */
+    static void write(File file, Map<String, Entry> entries) throws IOException {
+        List<Map.Entry<String, Entry>> list = new ArrayList<>(entries.entrySet());
+        int shardCount = (list.size() + SHARD_SIZE - 1) / SHARD_SIZE;
+        byte[][] shards = IntStream.range(0, shardCount).parallel()
+              .mapToObj(shard -> writeShard(list.subList(shard * SHARD_SIZE,
+                    Math.min(list.size(), (shard + 1) * SHARD_SIZE))))
+              .toArray(byte[][]::new);
+
+        File temporaryFile = new File(file.getPath() + ".tmp");
+        try (OutputStream fileOut = Files.newOutputStream(temporaryFile.toPath());
+              DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(list.size());
+            for (Map.Entry<String, Entry> entry : list) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue().modified());
+                out.writeLong(entry.getValue().size());
+                out.writeLong(entry.getValue().crc());
+            }
+            out.writeInt(shardCount);
+            for (byte[] shard : shards) {
+                out.writeInt(shard.length);
+            }
+            for (byte[] shard : shards) {
+                out.write(shard);
+            }
+        }
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static byte[] writeShard(List<Map.Entry<String, Entry>> entries) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> entry : entries) {
+                out.writeObject(entry.getValue().summary());
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads the remaining bytes of a buffer, advancing its position.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? (buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -87,13 +87,13 @@ public class MovePath implements Cloneable, Serializable {
         cachedEntityState = new CachedEntityState(entity);
     }
 
-    private Vector<MoveStep> steps = new Vector<>();
+    private MoveStepList steps = new MoveStepList();
 
     private transient Game game;
     private transient Entity entity;
 
     // holds the types of steps present in this movement
-    private Set<MoveStepType> containedStepTypes = new HashSet<>();
+    private Set<MoveStepType> containedStepTypes = EnumSet.noneOf(MoveStepType.class);
 
     // whether this movePath take us directly over an enemy unit
     // useful for debugging aircraft on ground maps
@@ -306,7 +306,7 @@ public class MovePath implements Cloneable, Serializable {
             }
 
             coordsSet = new HashSet<>();
-            for (MoveStep step : getStepVector()) {
+            for (MoveStep step : getStepList()) {
                 if (step.getPosition() == null) {
                     continue;
                 }
@@ -326,7 +326,7 @@ public class MovePath implements Cloneable, Serializable {
             return this;
         }
 
-        steps.addElement(step);
+        steps.append(step);
 
         final MoveStep prev = getStep(steps.size() - 2);
 
@@ -707,11 +707,11 @@ public class MovePath implements Cloneable, Serializable {
     public void compile(final Game g, final Entity en, boolean clip) {
         setGame(g);
         setEntity(en);
-        final Vector<MoveStep> temp = new Vector<>(steps);
-        steps.removeAllElements();
+        final List<MoveStep> temp = steps;
+        steps = new MoveStepList();
         containedStepTypes.clear();
         for (int i = 0; i < temp.size(); i++) {
-            MoveStep step = temp.elementAt(i);
+            MoveStep step = temp.get(i);
             if ((step.getTargetPosition() != null) && (step.getTarget(getGame()) != null)) {
                 step = new MoveStep(this, step.getType(), step.getTarget(getGame()), step.getTargetPosition());
             } else if (step.getTarget(getGame()) != null) {
@@ -802,7 +802,7 @@ public class MovePath implements Cloneable, Serializable {
                 getEntity().setIsJumpingNow(false);
             }
 
-            steps.removeElementAt(steps.size() - 1);
+            steps.truncate(steps.size() - 1);
 
             if (getEntity().isConvertingNow() && !this.contains(MoveStepType.CONVERT_MODE)) {
                 getEntity().setConvertingNow(false);
@@ -816,7 +816,7 @@ public class MovePath implements Cloneable, Serializable {
             // Treat multiple convert steps as a single command
             if (step1.getType() == MoveStepType.CONVERT_MODE) {
                 while (!steps.isEmpty() && steps.getLast().getType() == MoveStepType.CONVERT_MODE) {
-                    steps.removeElementAt(steps.size() - 1);
+                    steps.truncate(steps.size() - 1);
                 }
             }
 
@@ -826,12 +826,12 @@ public class MovePath implements Cloneable, Serializable {
                 int stepIndex = steps.size() - 1;
 
                 while (!steps.isEmpty() && steps.get(stepIndex).isManeuver()) {
-                    steps.removeElementAt(stepIndex);
+                    steps.truncate(stepIndex);
                     stepIndex--;
                 }
 
                 // a maneuver begins with a "maneuver" step, so get rid of that as well
-                steps.removeElementAt(stepIndex);
+                steps.truncate(stepIndex);
             }
         }
 
@@ -846,7 +846,7 @@ public class MovePath implements Cloneable, Serializable {
     }
 
     public void clear() {
-        steps.removeAllElements();
+        steps.clear();
     }
 
     public boolean isValidPositionForBrace(MoveStep step) {
@@ -895,14 +895,14 @@ public class MovePath implements Cloneable, Serializable {
 
     public ListIterator<MoveStep> getSteps() {
         // Create shallow copy for iterator thread safety.
-        return new Vector<>(steps).listIterator();
+        return new ArrayList<>(steps).listIterator();
     }
 
     public @Nullable MoveStep getStep(final int index) {
         if ((index < 0) || (index >= steps.size())) {
             return null;
         }
-        return steps.elementAt(index);
+        return steps.get(index);
     }
 
     /**
@@ -1158,13 +1158,27 @@ public class MovePath implements Cloneable, Serializable {
         return getLastStep().getMovementType(true);
     }
 
+    /**
+     * @return The steps of this path. The list shares its storage with the clones of this path and must not be
+     *       modified; use the step methods of MovePath instead.
+     */
+    public List<MoveStep> getStepList() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    /**
+     * @return A copy of the steps of this path; changing it does not change the path
+     *
+     * @deprecated Use {@link #getStepList()}, which does not copy the steps.
+     */
+    @Deprecated(since = "0.51.01")
     public Vector<MoveStep> getStepVector() {
-        return steps;
+        return new Vector<>(steps);
     }
 
     public @Nullable MoveStep getLastStep() {
-        for (int i = getStepVector().size() - 1; i >= 0; i--) {
-            MoveStep last = getStepVector().get(i);
+        for (int i = getStepList().size() - 1; i >= 0; i--) {
+            MoveStep last = getStepList().get(i);
             if (last != null) {
                 return last;
             }
@@ -1198,12 +1212,12 @@ public class MovePath implements Cloneable, Serializable {
         }
         // Do final check for bad moves, and clip movement after first bad one
         // also clear and re-constitute "contained steps" cache
-        containedStepTypes = new HashSet<>();
-        final Vector<MoveStep> goodSteps = new Vector<>();
+        containedStepTypes = EnumSet.noneOf(MoveStepType.class);
+        final MoveStepList goodSteps = new MoveStepList();
         for (MoveStep step : steps) {
             if (step.getMovementType(isEndStep(step)) != EntityMovementType.MOVE_ILLEGAL) {
                 containedStepTypes.add(step.getType());
-                goodSteps.addElement(step);
+                goodSteps.append(step);
             } else {
                 break;
             }
@@ -1234,9 +1248,7 @@ public class MovePath implements Cloneable, Serializable {
             final MoveStepType stepType = step1.getType();
             final MoveStepType direction = step2.getType();
             // remove all old steps
-            steps.removeElementAt(index);
-            steps.removeElementAt(index);
-            steps.removeElementAt(index);
+            steps.truncate(index);
             // add new step
             final MoveStep shift = new MoveStep(this, lateralShiftForTurn(stepType, direction));
             addStep(shift);
@@ -1428,7 +1440,7 @@ public class MovePath implements Cloneable, Serializable {
 
         if (finPath != null) {
             finPath.compile(game, entity, false);
-            this.steps = finPath.steps;
+            this.steps = finPath.steps.share();
         } else {
             LOGGER.error("Unable to find a path to the destination hex! \tMoving {}from {} to {}",
                   getEntity(),
@@ -1572,7 +1584,7 @@ public class MovePath implements Cloneable, Serializable {
 
         if (getFinalCoords().distance(dest) > bestPath.getFinalCoords().distance(dest)) {
             // Make the path we found, this path.
-            steps = bestPath.steps;
+            steps = bestPath.steps.share();
         }
 
         if (!getFinalCoords().equals(dest)) {
@@ -1694,7 +1706,8 @@ public class MovePath implements Cloneable, Serializable {
     }
 
     /**
-     * Clones this path, will contain a new clone of the steps so that the clone is independent of the original.
+     * Clones this path. The clone shares the steps of this path but can be extended or shortened independently of
+     * the original, in constant time.
      *
      * @return the cloned MovePath
      */
@@ -1706,9 +1719,9 @@ public class MovePath implements Cloneable, Serializable {
     }
 
     protected void copyFields(MovePath copy) {
-        copy.steps = new Vector<>(steps);
+        copy.steps = steps.share();
         copy.careful = careful;
-        copy.containedStepTypes = new HashSet<>(containedStepTypes);
+        copy.containedStepTypes = EnumSet.copyOf(containedStepTypes);
         // copy.fliesOverEnemy = fliesOverEnemy;
         copy.cachedEntityState = cachedEntityState; // intentional pointer copy
     }
@@ -1928,13 +1941,13 @@ public class MovePath implements Cloneable, Serializable {
         return mp;
     }
 
-    public void addSteps(Vector<MoveStep> path, boolean compile) {
+    public void addSteps(List<MoveStep> path, boolean compile) {
         for (MoveStep step : path) {
             addStep(step, compile);
         }
     }
 
-    public void replaceSteps(Vector<MoveStep> path) {
+    public void replaceSteps(List<MoveStep> path) {
         steps.clear();
         addSteps(path, true);
     }
@@ -2033,8 +2046,8 @@ public class MovePath implements Cloneable, Serializable {
     public int getEndStepCount(MoveStepType stepType) {
         int stepCount = 0;
 
-        for (int index = getStepVector().size() - 1; index >= 0; index--) {
-            if (getStepVector().get(index).getType() == stepType) {
+        for (int index = getStepList().size() - 1; index >= 0; index--) {
+            if (getStepList().get(index).getType() == stepType) {
                 stepCount++;
             } else {
                 break;
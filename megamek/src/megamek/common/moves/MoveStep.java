@@ -39,6 +39,7 @@ import java.lang.System;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -65,6 +66,8 @@ import megamek.common.equipment.Minefield;
 import megamek.common.equipment.MiscType;
 import megamek.common.equipment.Mounted;
 import megamek.common.game.Game;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.options.OptionsConstants;
 import megamek.common.pathfinder.CachedEntityState;
 import megamek.common.planetaryConditions.Atmosphere;
@@ -754,7 +757,8 @@ public class MoveStep implements Serializable {
         // WiGEs get bonus MP for each string of three consecutive hexes they descend.
         if (entity.getMovementMode() == EntityMovementMode.WIGE &&
               getClearance() > 0 &&
-              game.getOptions().booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_VEHICLE_ADVANCED_MANEUVERS)) {
+              GameOptionsSnapshot.of(game.getOptions())
+                    .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_VEHICLE_ADVANCED_MANEUVERS)) {
 
             if (game.getBoard(boardId).getHex(getPosition()).ceiling() <
                   game.getBoard(boardId).getHex(prev.getPosition()).ceiling()) {
@@ -1340,7 +1344,8 @@ public class MoveStep implements Serializable {
 
         // If this step isn't the end step anymore, we might not be in danger after all
         Hex pos = getGame().getBoard(boardId).getHex(position);
-        if (getGame().getOptions().booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_PSR_JUMP_HEAVY_WOODS)) {
+        if (GameOptionsSnapshot.of(getGame().getOptions())
+              .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_PSR_JUMP_HEAVY_WOODS)) {
             if (!isEnd &&
                   isJumping() &&
                   (pos.containsTerrain(Terrains.WOODS, 2) || pos.containsTerrain(Terrains.WOODS, 3))) {
@@ -1370,7 +1375,7 @@ public class MoveStep implements Serializable {
         }
 
         // A step is an end position if it is the last legal step.
-        Vector<MoveStep> steps = path.getStepVector();
+        List<MoveStep> steps = path.getStepList();
         // Starting from the end, each step is considered the last step until we find a legal last step
         boolean lastStep = true;
         for (int i = steps.size() - 1; i >= 0; i--) {
@@ -1594,7 +1599,7 @@ public class MoveStep implements Serializable {
     private boolean isValidBridgeBuildStep(Game game, Entity entity, @Nullable Coords curPos) {
         // Failures are logged at DEBUG: a rejected BUILD_BRIDGE step silently becomes an illegal move, so the log
         // is the only way to see why a declared build was refused
-        if (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_BRIDGE_BUILDING_ENGINEERS)) {
+        if (!GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_BRIDGE_BUILDING_ENGINEERS)) {
             LOGGER.debug("[BuildBridge] step rejected: game option is off");
             return false;
         }
@@ -1615,7 +1620,8 @@ public class MoveStep implements Serializable {
         boolean isFreshSite = BridgeConstruction.isValidBridgeSite(board, target, exits);
         // Repairing a destroyed section is an unofficial option that also requires the base bridge-building option
         // (already checked above). A repairable gap is a legal build target even though it is not a fresh site.
-        boolean repairAllowed = game.getOptions().booleanOption(OptionsConstants.UNOFFICIAL_BRIDGE_REPAIR_ENGINEERS);
+        boolean repairAllowed = GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.UNOFFICIAL_BRIDGE_REPAIR_ENGINEERS);
         boolean isRepairSite = repairAllowed && BridgeConstruction.isBridgeRepairSite(board, target, exits);
         if (!isFreshSite && !isRepairSite) {
             LOGGER.debug("[BuildBridge] step rejected for {}: {} with exits bitmask {} is neither a valid bridge site "
@@ -1762,7 +1768,7 @@ public class MoveStep implements Serializable {
             }
 
             // check the fuel requirements
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_FUEL_CONSUMPTION) &&
+            if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_FUEL_CONSUMPTION) &&
                   entity.hasEngine() &&
                   a.requiresFuel()) {
                 int fuelUsed = mpUsed + Math.max(mpUsed - cachedEntityState.getWalkMP(), 0);
@@ -2484,7 +2490,8 @@ public class MoveStep implements Serializable {
         // stop to overdrive.
         // Stop to flank or cruise to overdrive is permitted with a driving check
         // ("gunning it").
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_VEHICLE_ACCELERATION) &&
+        if (GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_VEHICLE_ACCELERATION) &&
               movementType == EntityMovementType.MOVE_SPRINT &&
               (entity instanceof Tank ||
                     (entity instanceof QuadVee && entity.getConversionMode() == QuadVee.CONV_MODE_VEHICLE)) &&
@@ -2897,8 +2904,8 @@ public class MoveStep implements Serializable {
                         maxAllowed += 1;
                     }
 
-                    boolean climbingEnabled = game.getOptions()
-                          .booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_CLIMBING);
+                    boolean climbingEnabled = GameOptionsSnapshot.of(game.getOptions())
+                          .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_TAC_OPS_CLIMBING);
                     boolean canTacOpsClimb = climbingEnabled
                           && (entity instanceof Mek)
                           && ClimbingHelper.canClimb(entity, prev.isProne())
@@ -3162,8 +3169,8 @@ public class MoveStep implements Serializable {
             return;
         }
 
-        boolean applyNightPen = !game.getOptions()
-              .booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_NO_NIGHT_MOVE_PEN);
+        boolean applyNightPen = !GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_NO_NIGHT_MOVE_PEN);
         // VTOL (includes powered flight infantry), jumping are exempt from careful movement penalties
         boolean carefulExempt = (moveMode == EntityMovementMode.VTOL) || isJumping();
 
@@ -3242,7 +3249,7 @@ public class MoveStep implements Serializable {
         }
 
         // Be careful on pavement during cold weather, there may be black ice.
-        boolean useBlackIce = game.getOptions().booleanOption(OptionsConstants.ADVANCED_BLACK_ICE);
+        boolean useBlackIce = GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_BLACK_ICE);
         boolean goodTemp = conditions.getTemperature() <= PlanetaryConditions.BLACK_ICE_TEMP;
         boolean goodWeather = conditions.getWeather().isIceStorm();
 
@@ -3331,7 +3338,8 @@ public class MoveStep implements Serializable {
                       prevEl, elevation, srcHex.getLevel(), destHex.getLevel(),
                       nSrcEl, nDestEl, deltaElevation);
             }
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_LEAPING) &&
+            if (GameOptionsSnapshot.of(game.getOptions())
+                  .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_TAC_OPS_LEAPING) &&
                   isMek &&
                   (deltaElevation > Game.rulesManager.getRulesTerrain().getMaxElevationChangeAllowed(srcHex,
                         destHex, getEntity().getMaxElevationChange())) &&
@@ -3357,7 +3365,8 @@ public class MoveStep implements Serializable {
                   && climbMode
                   && isWalkingMovement
                   && (isNewClimb || isContinuedClimb)
-                  && game.getOptions().booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_CLIMBING)
+                  && GameOptionsSnapshot.of(game.getOptions())
+                        .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_TAC_OPS_CLIMBING)
                   && ClimbingHelper.canClimb(entity, prevStep.isProne());
             if (isClimbingMove) {
                 int climbCostPerLevel = ClimbingHelper.getClimbingMPCostPerLevel((Mek) entity);
@@ -3563,8 +3572,8 @@ public class MoveStep implements Serializable {
         // use floor elevation. Bridges should use the bridge elevation instead.
         // Exception: TacOps Climbing allows climbing the outside of a building to the roof,
         // so use the full building elevation when climbing is enabled.
-        boolean tacOpsClimbingAvailable = game.getOptions()
-              .booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_CLIMBING)
+        boolean tacOpsClimbingAvailable = GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_TAC_OPS_CLIMBING)
               && climbMode
               && ClimbingHelper.canClimb(entity, isProne());
         if (bld != null && getEntity().getElevation() == 0 && climbMode
@@ -3612,8 +3621,8 @@ public class MoveStep implements Serializable {
         // Can we backup up hills?
         boolean bBackwardsElevationChange =
               Game.rulesManager.getRulesMovement()
-                    .enableBackwardsElevationChange(game.getOptions()
-                          .booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_WALK_BACKWARDS), entity);
+                    .enableBackwardsElevationChange(GameOptionsSnapshot.of(game.getOptions())
+                          .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_TAC_OPS_WALK_BACKWARDS), entity);
         if (!(entity instanceof VTOL) &&
               isThisStepBackwards() &&
               !(isJumping() && isUsingMekJumpBooster) &&
@@ -3740,8 +3749,8 @@ public class MoveStep implements Serializable {
             // elevation changes greater than their normal max, but only when climb
             // mode is enabled. Climb mode OFF ("Move Thru") means normal movement
             // restrictions apply — cannot scale cliffs without climb mode.
-            boolean climbingEnabled = game.getOptions()
-                  .booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_CLIMBING);
+            boolean climbingEnabled = GameOptionsSnapshot.of(game.getOptions())
+                  .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_TAC_OPS_CLIMBING);
             boolean canUseClimbing = climbingEnabled && climbMode && ClimbingHelper.canClimb(entity, isProne());
             // Edge descent (TO:AR p.20): Meks with at least one functional climbing arm
             // stepping off a 3+ level edge with climb mode on can climb-down (1 arm) or
@@ -3823,8 +3832,8 @@ public class MoveStep implements Serializable {
               !(isJumping() && isUsingMekJumpBooster)) {
             // Generally forbidden without TacOps Expanded Backward Movement p.22
             if (!Game.rulesManager.getRulesMovement()
-                  .enableBackwardsElevationChange(game.getOptions()
-                        .booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_WALK_BACKWARDS), entity)) {
+                  .enableBackwardsElevationChange(GameOptionsSnapshot.of(game.getOptions())
+                        .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_TAC_OPS_WALK_BACKWARDS), entity)) {
                 return false;
             }
             // Even with Expanded Backward Movement, ...
@@ -4624,13 +4633,13 @@ public class MoveStep implements Serializable {
      * Helper function to determine whether sprint is available as a game option to the entity
      */
     public boolean canUseSprint(Game game) {
-        if (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_SPRINT)) {
+        if (!GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_TAC_OPS_SPRINT)) {
             return false;
         }
         if (entity instanceof Tank ||
               (entity instanceof QuadVee && entity.getConversionMode() == QuadVee.CONV_MODE_VEHICLE)) {
-            return game.getOptions()
-                  .booleanOption(OptionsConstants.ADVANCED_GROUND_MOVEMENT_VEHICLE_ADVANCED_MANEUVERS);
+            return GameOptionsSnapshot.of(game.getOptions())
+                  .isSet(GameOptionFlag.ADVANCED_GROUND_MOVEMENT_VEHICLE_ADVANCED_MANEUVERS);
         }
         if (entity instanceof LandAirMek) {
             return entity.getConversionMode() == LandAirMek.CONV_MODE_MEK ||
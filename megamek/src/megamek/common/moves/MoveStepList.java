@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.moves;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The step list of a {@link MovePath}. Copies of a path share their steps instead of copying them: {@link #share()}
+ * is O(1), and appending to a shared list is O(1) as well. The first copy that appends claims the free slot of the
+ * shared storage in place; any other copy that diverges from there starts a new segment that links back to the
+ * common prefix. Steps below a claimed slot are never overwritten, so every copy keeps seeing exactly the steps it
+ * had. The path finders, which branch every path into several one-step-longer copies, therefore no longer copy the
+ * whole step list for every new edge.
+ * <p>
+ * The list is read-only for everyone but MovePath: the mutators are {@link #append(MoveStep)},
+ * {@link #truncate(int)} and {@link #clear()}. Note that the MoveSteps themselves are shared between copies, as they
+ * always were when MovePath cloned its step Vector.
+ */
+final class MoveStepList extends AbstractList<MoveStep> implements RandomAccess, Serializable {
+    @Serial
+    private static final long serialVersionUID = 4806571223472518630L;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Diverging copies link segments; once the chain is this long, a diverging copy flattens its steps into a single
+     * new segment so that {@link #get(int)} stays cheap.
+     */
+    private static final int MAX_SEGMENT_DEPTH = 8;
+
+    /**
+     * A run of steps starting at index {@link #offset}. The steps below the offset are held by the base segment.
+     */
+    private static final class Segment {
+        private final Segment base;
+        private final int offset;
+        private final int depth;
+        private volatile MoveStep[] steps;
+        /** The absolute index of the first unclaimed slot of this segment; guarded by this segment */
+        private int claimed;
+
+        private Segment(Segment base, int offset, int depth, MoveStep[] steps, int claimed) {
+            this.base = base;
+            this.offset = offset;
+            this.depth = depth;
+            this.steps = steps;
+            this.claimed = claimed;
+        }
+    }
+
+    private transient Segment segment;
+    private transient int size;
+
+    MoveStepList() {
+        clear();
+    }
+
+    private MoveStepList(Segment segment, int size) {
+        this.segment = segment;
+        this.size = size;
+    }
+
+    /**
+     * @return A list holding the same steps as this one that can be appended to or truncated independently of this
+     *       list. This does not copy any steps.
+     */
+    MoveStepList share() {
+        return new MoveStepList(segment, size);
+    }
+
+    @Override
+    public MoveStep get(int index) {
+        Objects.checkIndex(index, size);
+        Segment current = segment;
+        while (index < current.offset) {
+            current = current.base;
+        }
+        return current.steps[index - current.offset];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds the given step to the end of this list.
+     */
+    void append(MoveStep step) {
+        final Segment current = segment;
+        synchronized (current) {
+            if (current.claimed == size) {
+                MoveStep[] steps = current.steps;
+                int slot = size - current.offset;
+                if (slot == steps.length) {
+                    steps = Arrays.copyOf(steps, steps.length * 2);
+                }
+                steps[slot] = step;
+                // the volatile write publishes the new step to copies on other threads
+                current.steps = steps;
+                current.claimed++;
+                size++;
+                modCount++;
+                return;
+            }
+        }
+        // Another copy has claimed the next slot or this list was truncated; branch off
+        Segment branch;
+        if (current.depth < MAX_SEGMENT_DEPTH) {
+            branch = new Segment(current, size, current.depth + 1, new MoveStep[INITIAL_CAPACITY], size);
+        } else {
+            MoveStep[] steps = new MoveStep[Math.max(INITIAL_CAPACITY, size * 2)];
+            for (int index = 0; index < size; index++) {
+                steps[index] = get(index);
+            }
+            branch = new Segment(null, 0, 0, steps, size);
+        }
+        branch.steps[size - branch.offset] = step;
+        branch.claimed++;
+        segment = branch;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes all steps from the given index on. Steps are not removed from the shared storage, so copies that share
+     * them are not affected.
+     */
+    void truncate(int newSize) {
+        Objects.checkIndex(newSize, size + 1);
+        size = newSize;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        segment = new Segment(null, 0, 0, new MoveStep[INITIAL_CAPACITY], 0);
+        size = 0;
+        modCount++;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (MoveStep step : this) {
+            out.writeObject(step);
+        }
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        MoveStep[] steps = new MoveStep[Math.max(INITIAL_CAPACITY, count)];
+        for (int index = 0; index < count; index++) {
+            steps[index] = (MoveStep) in.readObject();
+        }
+        segment = new Segment(null, 0, 0, steps, count);
+        size = count;
+    }
+}
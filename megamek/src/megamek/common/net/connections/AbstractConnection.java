@@ -129,16 +129,18 @@ public abstract class AbstractConnection {
     }
 
     /** @return The type of the marshalling used to send packets. */
-    protected int getMarshallingType() {
+    public int getMarshallingType() {
         return marshallingType;
     }
 
     /**
-     * Sets the type of the marshalling used to send packets
+     * Sets the type of the marshalling used to send packets. Received packets are always unmarshalled with the type
+     * given in their header, so the two ends of a connection may switch independently once they have agreed that both
+     * support the type.
      *
      * @param marshallingType new marshalling type
      */
-    protected void setMarshallingType(int marshallingType) {
+    public synchronized void setMarshallingType(int marshallingType) {
         PacketMarshaller pm = marshallerFactory.getMarshaller(marshallingType);
         Objects.requireNonNull(pm);
         this.marshallingType = marshallingType;
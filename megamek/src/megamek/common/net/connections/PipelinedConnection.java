@@ -0,0 +1,349 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.connections;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.packets.Packet;
+import megamek.logging.MMLogger;
+
+/**
+ * Server connection that never writes to the socket on the thread that sends a packet. A packet is marshalled on the
+ * sending thread, so that it captures the game state at the time it is sent, and is then put into a bounded queue. A
+ * virtual writer thread per connection compresses the queued packets and writes them. The wire format is the same as
+ * that of {@link DataStreamConnection}, so clients do not need to know which one the server uses.
+ * <p>
+ * When a packet is sent while the previous queued packet has the same command and that command carries a complete
+ * state (see {@link PacketCommand#isSupersededByNext()}), the previous packet is dropped unsent. When a client reads
+ * too slowly and the queue holds {@link #MAX_PENDING_PACKETS} packets, the sender waits up to
+ * {@link #BACKPRESSURE_TIMEOUT_MILLIS} for room and otherwise closes the connection, so a stalled client cannot hold
+ * up the game for longer than that.
+ * <p>
+ * The writer and the senders wait on {@link ReentrantLock} conditions rather than object monitors, so that a blocked
+ * virtual thread does not pin its carrier thread.
+ */
+public class PipelinedConnection extends AbstractConnection {
+    private static final MMLogger LOGGER = MMLogger.create(PipelinedConnection.class);
+
+    static final int MAX_PENDING_PACKETS = 4096;
+    static final long BACKPRESSURE_TIMEOUT_MILLIS = 10_000;
+    /** How long closing the connection waits for queued packets, such as a final error message, to be written */
+    static final long CLOSE_DRAIN_MILLIS = 1000;
+
+    private record QueuedPacket(PacketCommand command, int marshallingType, byte[] data, boolean compress) {}
+
+    /** Guards the queue and all queue state */
+    private final ReentrantLock queueLock = new ReentrantLock();
+    /** Signalled when a packet is queued or the connection finishes */
+    private final Condition packetQueued = queueLock.newCondition();
+    /** Signalled when the writer takes packets from the queue or becomes idle, or the connection finishes */
+    private final Condition queueDrained = queueLock.newCondition();
+    /** Guards the output stream */
+    private final ReentrantLock outputLock = new ReentrantLock();
+    /** The packets waiting for the writer */
+    private final ArrayDeque<QueuedPacket> queue = new ArrayDeque<>();
+    private boolean writing = false;
+    private boolean finished = false;
+    private long coalescedPackets = 0;
+    private Thread writer;
+
+    private DataInputStream in;
+    private DataOutputStream out;
+
+    /**
+     * Creates new server connection.
+     *
+     * @param socket The network socket to use
+     * @param id     The connection ID
+     */
+    public PipelinedConnection(Socket socket, int id) {
+        super(socket, id);
+    }
+
+    @Override
+    public synchronized boolean open() {
+        if (!super.open()) {
+            return false;
+        }
+        if (writer == null) {
+            writer = Thread.ofVirtual().name("Connection " + getId() + " Writer").start(this::writePackets);
+        }
+        return true;
+    }
+
+    /**
+     * Marshals the packet on the calling thread and queues it for the writer. Blocks only when the queue is full.
+     */
+    @Override
+    public void send(Packet packet) {
+        QueuedPacket queuedPacket;
+        try {
+            queuedPacket = marshall(packet);
+        } catch (Exception e) {
+            LOGGER.error(e, "Failed to send packet {}", packet);
+            return;
+        }
+
+        boolean tooSlow = false;
+        queueLock.lock();
+        try {
+            if (finished) {
+                return;
+            }
+            QueuedPacket last = queue.peekLast();
+            if ((last != null) && (last.command() == packet.command()) && packet.command().isSupersededByNext()) {
+                queue.pollLast();
+                coalescedPackets++;
+            }
+            long remaining = TimeUnit.MILLISECONDS.toNanos(BACKPRESSURE_TIMEOUT_MILLIS);
+            while (!finished && (queue.size() >= MAX_PENDING_PACKETS)) {
+                if (remaining <= 0) {
+                    tooSlow = true;
+                    break;
+                }
+                try {
+                    remaining = queueDrained.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            if (!tooSlow && !finished) {
+                queue.addLast(queuedPacket);
+                packetQueued.signal();
+            }
+        } finally {
+            queueLock.unlock();
+        }
+
+        if (tooSlow) {
+            LOGGER.warn("Closing connection {}: the client has not read {} packets in {} ms", getId(),
+                  MAX_PENDING_PACKETS, BACKPRESSURE_TIMEOUT_MILLIS);
+            close();
+        }
+    }
+
+    private synchronized QueuedPacket marshall(Packet packet) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        marshaller.marshall(packet, bytes);
+        return new QueuedPacket(packet.command(), marshallingType, bytes.toByteArray(),
+              isCompressed() && (packet.data() != null));
+    }
+
+    /**
+     * The writer loop: takes all queued packets at once, compresses and writes them and flushes the socket once per
+     * batch.
+     */
+    private void writePackets() {
+        List<QueuedPacket> batch = new ArrayList<>();
+        try {
+            while (true) {
+                queueLock.lock();
+                try {
+                    writing = false;
+                    queueDrained.signalAll();
+                    while (queue.isEmpty() && !finished) {
+                        packetQueued.await();
+                    }
+                    if (finished) {
+                        return;
+                    }
+                    batch.addAll(queue);
+                    queue.clear();
+                    writing = true;
+                    queueDrained.signalAll();
+                } finally {
+                    queueLock.unlock();
+                }
+                outputLock.lock();
+                try {
+                    for (QueuedPacket packet : batch) {
+                        byte[] data = packet.compress() ? compress(packet.data()) : packet.data();
+                        writePacket(packet.compress(), packet.marshallingType(), data);
+                    }
+                    output().flush();
+                } finally {
+                    outputLock.unlock();
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException ignored) {
+            // The connection is closing
+        } catch (IOException ex) {
+            if (!isClosed()) {
+                LOGGER.error(ex, "{} had an error sending packets", getConnectionTypeText());
+                close();
+            }
+        } finally {
+            queueLock.lock();
+            try {
+                writing = false;
+                queueDrained.signalAll();
+            } finally {
+                queueLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Writes one packet in the wire format of {@link DataStreamConnection}. The caller must hold the output lock.
+     */
+    private void writePacket(boolean zipped, int marshallingType, byte[] data) throws IOException {
+        DataOutputStream output = output();
+        output.writeBoolean(zipped);
+        output.writeInt(marshallingType);
+        output.writeInt(data.length);
+        output.write(data);
+        addBytesSent(data.length);
+    }
+
+    private DataOutputStream output() throws IOException {
+        if (out == null) {
+            out = new DataOutputStream(new BufferedOutputStream(getOutputStream(), getSendBufferSize()));
+        }
+        return out;
+    }
+
+    private static byte[] compress(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 2 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Packets are written by the writer thread as soon as they are queued, so there is nothing to flush.
+     */
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public boolean hasPending() {
+        queueLock.lock();
+        try {
+            return !queue.isEmpty() || writing;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /** @return The number of packets that were dropped because a newer packet superseded them */
+    public long getCoalescedPackets() {
+        queueLock.lock();
+        try {
+            return coalescedPackets;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Gives the writer a short time to write the packets queued so far, then stops it and closes the socket.
+     */
+    @Override
+    public void close() {
+        queueLock.lock();
+        try {
+            if (Thread.currentThread() != writer) {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(CLOSE_DRAIN_MILLIS);
+                while (!finished && (!queue.isEmpty() || writing)) {
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    try {
+                        remaining = queueDrained.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+            finished = true;
+            queue.clear();
+            packetQueued.signalAll();
+            queueDrained.signalAll();
+        } finally {
+            queueLock.unlock();
+        }
+        super.close();
+    }
+
+    @Override
+    protected INetworkPacket readNetworkPacket() throws Exception {
+        if (in == null) {
+            in = new DataInputStream(new BufferedInputStream(getInputStream(), getReceiveBufferSize()));
+        }
+        boolean zipped = in.readBoolean();
+        int encoding = in.readInt();
+        int length = in.readInt();
+        byte[] data = new byte[length];
+        in.readFully(data);
+        return new NetworkPacket(zipped, encoding, data);
+    }
+
+    /**
+     * Writes an already marshalled (and, if zipped, compressed) packet at once on the calling thread, bypassing the
+     * queue. It is written with the current marshalling type and between the batches of the writer thread.
+     */
+    @Override
+    protected void sendNetworkPacket(byte[] data, boolean zipped) throws IOException {
+        outputLock.lock();
+        try {
+            writePacket(zipped, marshallingType, data);
+            output().flush();
+        } finally {
+            outputLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PipelinedConnection Id " + getId();
+    }
+}
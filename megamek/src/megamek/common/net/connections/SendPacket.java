@@ -47,11 +47,11 @@ public class SendPacket implements INetworkPacket {
     private byte[] data;
     private boolean zipped = false;
     private final PacketCommand command;
-    private final AbstractConnection connection;
+    private final int marshallingType;
 
     public SendPacket(Packet packet, AbstractConnection connection) {
         command = packet.command();
-        this.connection = connection;
+        marshallingType = connection.getMarshallingType();
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
         OutputStream out;
         try {
@@ -72,7 +72,7 @@ public class SendPacket implements INetworkPacket {
 
     @Override
     public int marshallingType() {
-        return connection.getMarshallingType();
+        return marshallingType;
     }
 
     @Override
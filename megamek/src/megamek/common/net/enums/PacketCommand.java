@@ -270,7 +270,20 @@ public enum PacketCommand {
      * Carries the tractor id and the trailer ids, ordered front to back. The server validates the whole chain and
      * applies it in full or not at all, so a rejected request leaves every unit unattached.
      */
-    ENTITY_BUILD_TRAIN;
+    ENTITY_BUILD_TRAIN,
+
+    /**
+     * A Server to Client packet updating a unit by a byte delta against the serialized unit last sent on this
+     * connection. Carries the unit id, the checksum of that baseline, the delta, the checksum of the result and the
+     * move path, see {@link megamek.common.net.marshalling.EntityDeltaCodec}.
+     */
+    ENTITY_DELTA_UPDATE,
+
+    /**
+     * A Client to Server packet reporting that an {@link #ENTITY_DELTA_UPDATE} for the given unit id could not be
+     * applied. The server then sends the full unit and starts a new baseline.
+     */
+    ENTITY_DELTA_RESYNC;
     //endregion Enum Declarations
 
     //region Boolean Comparison Methods
@@ -312,5 +325,18 @@ public enum PacketCommand {
         return isCFRDominoEffect() || isCFRAMSAssign() || isCFRAPDSAssign() || isCFRHiddenPBS()
               || isCFRTeleguidedTarget() || isCFRTagTarget();
     }
+
+    /**
+     * @return True when a packet with this command carries a complete replacement of some part of the game state, so
+     *       that a queued packet that has not been sent yet can be dropped when the next packet has the same command
+     */
+    public boolean isSupersededByNext() {
+        return switch (this) {
+            case SENDING_ENTITIES, SENDING_TURNS, SENDING_GAME_SETTINGS, SENDING_MAP_SETTINGS,
+                 SENDING_PLANETARY_CONDITIONS, SENDING_ILLUMINATED_HEXES, SENDING_MINEFIELDS,
+                 SENDING_ARTILLERY_ATTACKS, SENDING_FLARES -> true;
+            default -> false;
+        };
+    }
     //endregion Boolean Comparison Methods
 }
@@ -38,6 +38,8 @@ import java.net.Socket;
 
 import megamek.common.net.connections.AbstractConnection;
 import megamek.common.net.connections.DataStreamConnection;
+import megamek.common.net.connections.PipelinedConnection;
+import megamek.common.preference.PreferenceManager;
 
 /**
  * Connections factory. Creates the Client/Server connections
@@ -72,7 +74,8 @@ public class ConnectionFactory {
     }
 
     /**
-     * Creates new Server connection
+     * Creates new Server connection. This is a {@link PipelinedConnection} when the pipelined server transport is
+     * enabled in the client preferences.
      *
      * @param socket socket to read/write
      * @param id     connection ID
@@ -80,6 +83,9 @@ public class ConnectionFactory {
      * @return new Server connection
      */
     public AbstractConnection createServerConnection(Socket socket, int id) {
+        if (PreferenceManager.getClientPreferences().getPipelinedServerTransport()) {
+            return new PipelinedConnection(socket, id);
+        }
         return new DataStreamConnection(socket, id);
     }
 }
@@ -0,0 +1,435 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.marshalling;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+
+import megamek.common.Hex;
+import megamek.common.Report;
+import megamek.common.board.Coords;
+import megamek.common.enums.GamePhase;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.packets.Packet;
+import megamek.common.units.UnitLocation;
+
+/**
+ * Marshaller that writes a compact, versioned binary encoding for the packets that make up most of the traffic of a
+ * running game (unit updates, boards, reports and the turn/phase packets). All other packets are handed to the
+ * {@link NativeSerializationMarshaller}.
+ * <p>
+ * The packet data of a compact packet is written value by value with a one-byte type tag. Numbers, Strings, Coords,
+ * unit locations, reports and the common collection types are written field by field without class descriptors.
+ * Everything else (most notably units and boards) is collected and written in a single Java serialization section per
+ * packet, so that references between these objects survive as they do with native serialization. Within that section
+ * the hex arrays of boards are replaced by a compact hex encoding.
+ * <p>
+ * Wire layout of a packet: format version, mode, command ordinal; for compact packets followed by the hex section, the
+ * length-prefixed native section (if any) and the tagged packet data.
+ */
+class BinaryPacketMarshaller extends PacketMarshaller {
+
+    /** Version of the wire format; to be increased whenever the layout changes. */
+    static final int FORMAT_VERSION = 1;
+
+    /** The packet commands that are written in the compact format. */
+    static final Set<PacketCommand> COMPACT_COMMANDS = EnumSet.of(PacketCommand.ENTITY_UPDATE,
+          PacketCommand.ENTITY_DELTA_UPDATE,
+          PacketCommand.ENTITY_MULTI_UPDATE,
+          PacketCommand.SENDING_BOARD,
+          PacketCommand.SENDING_REPORTS,
+          PacketCommand.SENDING_REPORTS_SPECIAL,
+          PacketCommand.SENDING_REPORTS_TACTICAL_GENIUS,
+          PacketCommand.SENDING_TURNS,
+          PacketCommand.TURN,
+          PacketCommand.PHASE_CHANGE,
+          PacketCommand.ROUND_UPDATE);
+
+    private static final PacketCommand[] PACKET_COMMANDS = PacketCommand.values();
+
+    private static final int MODE_NATIVE = 0;
+    private static final int MODE_COMPACT = 1;
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_INT = 1;
+    private static final int TAG_LONG = 2;
+    private static final int TAG_DOUBLE = 3;
+    private static final int TAG_TRUE = 4;
+    private static final int TAG_FALSE = 5;
+    private static final int TAG_STRING = 6;
+    private static final int TAG_ENUM = 7;
+    private static final int TAG_COORDS = 8;
+    private static final int TAG_UNIT_LOCATION = 9;
+    private static final int TAG_ARRAY_LIST = 10;
+    private static final int TAG_VECTOR = 11;
+    private static final int TAG_HASH_MAP = 12;
+    private static final int TAG_REPORT = 13;
+    private static final int TAG_OPAQUE = 14;
+    private static final int TAG_BYTES = 15;
+
+    /**
+     * Enums that are written as registry index and ordinal. Only these can be decoded, so no class name is ever
+     * resolved from network data. New entries must be appended.
+     */
+    private static final List<Class<? extends Enum<?>>> ENUM_REGISTRY = List.of(GamePhase.class);
+
+    private static final SanityInputFilter SANITY_INPUT_FILTER = new SanityInputFilter();
+
+    private final NativeSerializationMarshaller nativeMarshaller;
+
+    BinaryPacketMarshaller(NativeSerializationMarshaller nativeMarshaller) {
+        this.nativeMarshaller = nativeMarshaller;
+    }
+
+    @Override
+    public void marshall(final Packet packet, final OutputStream stream) throws Exception {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeByte(FORMAT_VERSION);
+        if (!COMPACT_COMMANDS.contains(packet.command()) || (packet.data() == null)) {
+            out.writeByte(MODE_NATIVE);
+            out.flush();
+            nativeMarshaller.marshall(packet, stream);
+            return;
+        }
+        out.writeByte(MODE_COMPACT);
+        CompactStreams.writeVarInt(out, packet.command().ordinal());
+
+        // The tagged data is written first to collect the opaque objects, which the receiver must have before it can
+        // read the tagged data
+        ByteArrayOutputStream taggedBytes = new ByteArrayOutputStream();
+        DataOutputStream taggedOut = new DataOutputStream(taggedBytes);
+        List<Object> opaqueObjects = new ArrayList<>();
+        CompactStreams.writeVarInt(taggedOut, packet.data().length);
+        for (Object value : packet.data()) {
+            writeValue(taggedOut, value, opaqueObjects);
+        }
+
+        List<Hex[]> hexArrays = new ArrayList<>();
+        byte[] nativeBytes = new byte[0];
+        if (!opaqueObjects.isEmpty()) {
+            ByteArrayOutputStream nativeStream = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new HexCompactingOutputStream(nativeStream, hexArrays)) {
+                objectOut.writeObject(opaqueObjects.toArray());
+            }
+            nativeBytes = nativeStream.toByteArray();
+        }
+
+        CompactStreams.writeVarInt(out, hexArrays.size());
+        for (Hex[] hexes : hexArrays) {
+            CompactStreams.writeVarInt(out, hexes.length);
+            for (Hex hex : hexes) {
+                out.writeBoolean(hex != null);
+                if (hex != null) {
+                    hex.writeCompact(out);
+                }
+            }
+        }
+        CompactStreams.writeVarInt(out, nativeBytes.length);
+        out.write(nativeBytes);
+        taggedBytes.writeTo(out);
+        out.flush();
+    }
+
+    @Override
+    public Packet unmarshall(final InputStream stream) throws Exception {
+        // The header is read unbuffered so that native packets can be handed on with the stream at the right position
+        int version = stream.read();
+        if (version != FORMAT_VERSION) {
+            throw new StreamCorruptedException("Unsupported binary packet format version " + version);
+        }
+        int mode = stream.read();
+        if (mode == MODE_NATIVE) {
+            return nativeMarshaller.unmarshall(stream);
+        } else if (mode != MODE_COMPACT) {
+            throw new StreamCorruptedException("Unknown binary packet mode " + mode);
+        }
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+
+        int command = CompactStreams.readVarInt(in);
+        if (command < 0 || command >= PACKET_COMMANDS.length) {
+            throw new InvalidPacketCommandReceivedException(command);
+        }
+
+        int hexArrayCount = CompactStreams.readLength(in);
+        List<Hex[]> hexArrays = new ArrayList<>(hexArrayCount);
+        for (int i = 0; i < hexArrayCount; i++) {
+            Hex[] hexes = new Hex[CompactStreams.readLength(in)];
+            for (int h = 0; h < hexes.length; h++) {
+                hexes[h] = in.readBoolean() ? Hex.readCompact(in) : null;
+            }
+            hexArrays.add(hexes);
+        }
+
+        Object[] opaqueObjects = new Object[0];
+        int nativeLength = CompactStreams.readLength(in);
+        if (nativeLength > 0) {
+            byte[] nativeBytes = new byte[nativeLength];
+            in.readFully(nativeBytes);
+            try (ObjectInputStream objectIn = new HexCompactingInputStream(new ByteArrayInputStream(nativeBytes),
+                  hexArrays)) {
+                objectIn.setObjectInputFilter(SANITY_INPUT_FILTER);
+                opaqueObjects = (Object[]) objectIn.readObject();
+            }
+        }
+
+        Object[] data = new Object[CompactStreams.readLength(in)];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = readValue(in, opaqueObjects);
+        }
+        return new Packet(PACKET_COMMANDS[command], data);
+    }
+
+    private static void writeValue(DataOutput out, Object value, List<Object> opaqueObjects) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof Integer integer) {
+            out.writeByte(TAG_INT);
+            CompactStreams.writeSignedVarInt(out, integer);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(bool ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof String string) {
+            out.writeByte(TAG_STRING);
+            CompactStreams.writeString(out, string);
+        } else if ((value instanceof Enum<?> enumValue) && ENUM_REGISTRY.contains(enumValue.getDeclaringClass())) {
+            out.writeByte(TAG_ENUM);
+            CompactStreams.writeVarInt(out, ENUM_REGISTRY.indexOf(enumValue.getDeclaringClass()));
+            CompactStreams.writeVarInt(out, enumValue.ordinal());
+        } else if (value instanceof byte[] bytes) {
+            out.writeByte(TAG_BYTES);
+            CompactStreams.writeVarInt(out, bytes.length);
+            out.write(bytes);
+        } else if (value instanceof Coords coords) {
+            out.writeByte(TAG_COORDS);
+            writeCoords(out, coords);
+        } else if (value instanceof UnitLocation location) {
+            out.writeByte(TAG_UNIT_LOCATION);
+            CompactStreams.writeSignedVarInt(out, location.entityId());
+            out.writeBoolean(location.coords() != null);
+            if (location.coords() != null) {
+                writeCoords(out, location.coords());
+            }
+            CompactStreams.writeSignedVarInt(out, location.facing());
+            CompactStreams.writeSignedVarInt(out, location.elevation());
+            CompactStreams.writeSignedVarInt(out, location.boardId());
+        } else if (value.getClass() == ArrayList.class) {
+            out.writeByte(TAG_ARRAY_LIST);
+            writeCollection(out, (Collection<?>) value, opaqueObjects);
+        } else if (value.getClass() == Vector.class) {
+            out.writeByte(TAG_VECTOR);
+            writeCollection(out, (Collection<?>) value, opaqueObjects);
+        } else if (value.getClass() == HashMap.class) {
+            out.writeByte(TAG_HASH_MAP);
+            Map<?, ?> map = (Map<?, ?>) value;
+            CompactStreams.writeVarInt(out, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey(), opaqueObjects);
+                writeValue(out, entry.getValue(), opaqueObjects);
+            }
+        } else if (value.getClass() == Report.class) {
+            out.writeByte(TAG_REPORT);
+            ((Report) value).writeCompact(out);
+        } else {
+            out.writeByte(TAG_OPAQUE);
+            CompactStreams.writeVarInt(out, opaqueObjects.size());
+            opaqueObjects.add(value);
+        }
+    }
+
+    private static void writeCollection(DataOutput out, Collection<?> collection, List<Object> opaqueObjects)
+          throws IOException {
+        CompactStreams.writeVarInt(out, collection.size());
+        for (Object element : collection) {
+            writeValue(out, element, opaqueObjects);
+        }
+    }
+
+    private static void writeCoords(DataOutput out, Coords coords) throws IOException {
+        CompactStreams.writeSignedVarInt(out, coords.getX());
+        CompactStreams.writeSignedVarInt(out, coords.getY());
+    }
+
+    private static Object readValue(DataInput in, Object[] opaqueObjects) throws IOException {
+        int tag = in.readUnsignedByte();
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_INT -> CompactStreams.readSignedVarInt(in);
+            case TAG_LONG -> in.readLong();
+            case TAG_DOUBLE -> in.readDouble();
+            case TAG_TRUE -> Boolean.TRUE;
+            case TAG_FALSE -> Boolean.FALSE;
+            case TAG_STRING -> CompactStreams.readString(in);
+            case TAG_ENUM -> readEnum(in);
+            case TAG_BYTES -> {
+                byte[] bytes = new byte[CompactStreams.readLength(in)];
+                in.readFully(bytes);
+                yield bytes;
+            }
+            case TAG_COORDS -> readCoords(in);
+            case TAG_UNIT_LOCATION -> new UnitLocation(CompactStreams.readSignedVarInt(in),
+                  in.readBoolean() ? readCoords(in) : null,
+                  CompactStreams.readSignedVarInt(in),
+                  CompactStreams.readSignedVarInt(in),
+                  CompactStreams.readSignedVarInt(in));
+            case TAG_ARRAY_LIST -> readCollection(in, opaqueObjects, new ArrayList<>());
+            case TAG_VECTOR -> readCollection(in, opaqueObjects, new Vector<>());
+            case TAG_HASH_MAP -> {
+                int size = CompactStreams.readLength(in);
+                Map<Object, Object> map = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(in, opaqueObjects), readValue(in, opaqueObjects));
+                }
+                yield map;
+            }
+            case TAG_REPORT -> Report.readCompact(in);
+            case TAG_OPAQUE -> {
+                int index = CompactStreams.readVarInt(in);
+                if (index < 0 || index >= opaqueObjects.length) {
+                    throw new StreamCorruptedException("Invalid opaque object index " + index);
+                }
+                yield opaqueObjects[index];
+            }
+            default -> throw new StreamCorruptedException("Unknown value tag " + tag);
+        };
+    }
+
+    private static Collection<Object> readCollection(DataInput in, Object[] opaqueObjects,
+          Collection<Object> collection) throws IOException {
+        int size = CompactStreams.readLength(in);
+        for (int i = 0; i < size; i++) {
+            collection.add(readValue(in, opaqueObjects));
+        }
+        return collection;
+    }
+
+    private static Coords readCoords(DataInput in) throws IOException {
+        return new Coords(CompactStreams.readSignedVarInt(in), CompactStreams.readSignedVarInt(in));
+    }
+
+    private static Enum<?> readEnum(DataInput in) throws IOException {
+        int enumIndex = CompactStreams.readVarInt(in);
+        if (enumIndex < 0 || enumIndex >= ENUM_REGISTRY.size()) {
+            throw new StreamCorruptedException("Unknown enum type " + enumIndex);
+        }
+        Enum<?>[] constants = ENUM_REGISTRY.get(enumIndex).getEnumConstants();
+        int ordinal = CompactStreams.readVarInt(in);
+        if (ordinal < 0 || ordinal >= constants.length) {
+            throw new StreamCorruptedException("Invalid enum ordinal " + ordinal);
+        }
+        return constants[ordinal];
+    }
+
+    /**
+     * Placeholder written to the native section in place of a hex array; it refers to the hex array of the same index
+     * in the compact hex section.
+     */
+    private record HexArrayReference(int index) implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+    }
+
+    /** Object stream that takes all hex arrays out of the native section and collects them for compact writing. */
+    private static class HexCompactingOutputStream extends ObjectOutputStream {
+        private final List<Hex[]> hexArrays;
+        private final Map<Hex[], HexArrayReference> references = new IdentityHashMap<>();
+
+        HexCompactingOutputStream(OutputStream out, List<Hex[]> hexArrays) throws IOException {
+            super(out);
+            this.hexArrays = hexArrays;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            if (obj instanceof Hex[] hexes) {
+                return references.computeIfAbsent(hexes, h -> {
+                    hexArrays.add(h);
+                    return new HexArrayReference(hexArrays.size() - 1);
+                });
+            }
+            return obj;
+        }
+    }
+
+    /** Object stream that restores the hex arrays of the compact hex section. */
+    private static class HexCompactingInputStream extends ObjectInputStream {
+        private final List<Hex[]> hexArrays;
+
+        HexCompactingInputStream(InputStream in, List<Hex[]> hexArrays) throws IOException {
+            super(in);
+            this.hexArrays = hexArrays;
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) throws IOException {
+            if (obj instanceof HexArrayReference reference) {
+                int index = reference.index();
+                if (index < 0 || index >= hexArrays.size()) {
+                    throw new StreamCorruptedException("Invalid hex array index " + index);
+                }
+                return hexArrays.get(index);
+            }
+            return obj;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.marshalling;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+
+import megamek.common.annotations.Nullable;
+
+/**
+ * Primitive helpers for the compact binary encodings used by {@link BinaryPacketMarshaller}. Integers are written as
+ * LEB128 varints (signed values zig-zag encoded first), so the small ids, counts and levels that make up most of a
+ * packet take a single byte. Strings are written as a varint byte length followed by UTF-8 bytes and, unlike
+ * {@link DataOutput#writeUTF(String)}, are not limited to 64 KB.
+ */
+public final class CompactStreams {
+
+    /**
+     * Upper bound for any length or count read from the network. Anything larger is treated as a corrupt or hostile
+     * packet rather than being allocated.
+     */
+    public static final int MAX_LENGTH = 1 << 24;
+
+    private static final int NULL_STRING = 0;
+
+    private CompactStreams() {
+    }
+
+    /**
+     * Writes a non-negative int as an unsigned varint.
+     *
+     * @param out   the output to write to
+     * @param value the value; negative values are written as large unsigned numbers and take five bytes
+     */
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /** @return An unsigned varint read from the given input */
+    public static int readVarInt(DataInput in) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new StreamCorruptedException("Malformed varint");
+    }
+
+    /** Writes an int that may be negative, zig-zag encoded so that small negative values stay short. */
+    public static void writeSignedVarInt(DataOutput out, int value) throws IOException {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    /** @return A zig-zag encoded varint read from the given input */
+    public static int readSignedVarInt(DataInput in) throws IOException {
+        int raw = readVarInt(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * Reads a length or count and checks it against {@link #MAX_LENGTH}.
+     *
+     * @return the length, never negative
+     */
+    public static int readLength(DataInput in) throws IOException {
+        int length = readVarInt(in);
+        if ((length < 0) || (length > MAX_LENGTH)) {
+            throw new StreamCorruptedException("Invalid length " + length);
+        }
+        return length;
+    }
+
+    /** Writes a String that may be null. */
+    public static void writeString(DataOutput out, @Nullable String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, NULL_STRING);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length + 1);
+            out.write(bytes);
+        }
+    }
+
+    /** @return A String written by {@link #writeString(DataOutput, String)}, possibly null */
+    public static @Nullable String readString(DataInput in) throws IOException {
+        int length = readLength(in);
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
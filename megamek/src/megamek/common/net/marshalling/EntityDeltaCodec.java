@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.marshalling;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import megamek.common.units.Entity;
+
+/**
+ * Encodes unit updates as deltas against the serialized unit that was last sent over the same connection. A unit
+ * update usually changes only a few values (position, facing, armor, ammo, heat, critical slots), so the serialized
+ * form of the updated unit is largely identical to the previous one. The delta consists of instructions to copy runs
+ * of the baseline and to add new bytes.
+ * <p>
+ * Working on the serialized form rather than on selected unit fields means that every change to a unit is carried,
+ * including ones a hand-written field list would miss, and that the receiver gets a fresh Entity object exactly as
+ * with a full update. Both ends keep the baseline bytes; checksums of the baseline and of the result let the receiver
+ * detect when it is out of step and ask for a full update.
+ */
+public final class EntityDeltaCodec {
+
+    /** Length of the byte blocks that are indexed in the baseline to find copyable runs. */
+    private static final int BLOCK = 16;
+
+    private static final int OP_COPY = 0;
+    private static final int OP_ADD = 1;
+
+    private static final SanityInputFilter SANITY_INPUT_FILTER = new SanityInputFilter();
+
+    private EntityDeltaCodec() {
+    }
+
+    /** @return The given unit in Java serialized form */
+    public static byte[] serialize(Entity entity) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(entity);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** @return The unit read from bytes written by {@link #serialize(Entity)} */
+    public static Entity deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(SANITY_INPUT_FILTER);
+            Object object = in.readObject();
+            if (object instanceof Entity entity) {
+                return entity;
+            }
+            throw new StreamCorruptedException("Expected an Entity but got " + object);
+        }
+    }
+
+    /** @return The CRC32 checksum of the given bytes (truncated to int) */
+    public static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Creates a delta that turns base into target.
+     *
+     * @param base   the baseline the receiver has; may be empty, in which case the delta carries all of target
+     * @param target the new bytes
+     *
+     * @return the delta, to be applied with {@link #applyDelta(byte[], byte[])}
+     */
+    public static byte[] createDelta(byte[] base, byte[] target) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.min(target.length, 1024));
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            CompactStreams.writeVarInt(out, target.length);
+            int[] index = buildIndex(base);
+            int mask = index.length - 1;
+            int pendingStart = 0;
+            int expectedBase = 0;
+            int position = 0;
+            while ((index.length > 0) && (position + BLOCK <= target.length)) {
+                // Prefer continuing where the last copy left off, as changed values mostly keep their length
+                int candidate = expectedBase + (position - pendingStart);
+                if (!regionMatches(base, candidate, target, position)) {
+                    candidate = index[blockHash(target, position) & mask];
+                    if ((candidate < 0) || !regionMatches(base, candidate, target, position)) {
+                        position++;
+                        continue;
+                    }
+                }
+                int start = position;
+                int baseStart = candidate;
+                while ((start > pendingStart) && (baseStart > 0) && (base[baseStart - 1] == target[start - 1])) {
+                    start--;
+                    baseStart--;
+                }
+                int end = position + BLOCK;
+                int baseEnd = candidate + BLOCK;
+                while ((end < target.length) && (baseEnd < base.length) && (base[baseEnd] == target[end])) {
+                    end++;
+                    baseEnd++;
+                }
+                writeAdd(out, target, pendingStart, start);
+                out.writeByte(OP_COPY);
+                CompactStreams.writeVarInt(out, baseStart);
+                CompactStreams.writeVarInt(out, end - start);
+                pendingStart = end;
+                expectedBase = baseEnd;
+                position = end;
+            }
+            writeAdd(out, target, pendingStart, target.length);
+        } catch (IOException e) {
+            // Cannot happen when writing to a byte array
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Applies a delta created by {@link #createDelta(byte[], byte[])}.
+     *
+     * @param base  the baseline the delta was created against
+     * @param delta the delta
+     *
+     * @return the target bytes
+     *
+     * @throws StreamCorruptedException when the delta does not fit the baseline
+     */
+    public static byte[] applyDelta(byte[] base, byte[] delta) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta));
+        byte[] target = new byte[CompactStreams.readLength(in)];
+        int position = 0;
+        while (position < target.length) {
+            int op = in.readUnsignedByte();
+            if (op == OP_COPY) {
+                int offset = CompactStreams.readVarInt(in);
+                int length = CompactStreams.readVarInt(in);
+                if ((offset < 0) || (length < 0) || (offset > base.length - length)
+                      || (length > target.length - position)) {
+                    throw new StreamCorruptedException("Delta copy outside of baseline or target");
+                }
+                System.arraycopy(base, offset, target, position, length);
+                position += length;
+            } else if (op == OP_ADD) {
+                int length = CompactStreams.readVarInt(in);
+                if ((length < 0) || (length > target.length - position)) {
+                    throw new StreamCorruptedException("Delta addition exceeds target");
+                }
+                in.readFully(target, position, length);
+                position += length;
+            } else {
+                throw new StreamCorruptedException("Unknown delta operation " + op);
+            }
+        }
+        return target;
+    }
+
+    private static void writeAdd(DataOutputStream out, byte[] target, int from, int to) throws IOException {
+        if (to > from) {
+            out.writeByte(OP_ADD);
+            CompactStreams.writeVarInt(out, to - from);
+            out.write(target, from, to - from);
+        }
+    }
+
+    /**
+     * @return An open-addressed table from block hash to the first baseline position of a block with that hash; empty
+     *       when the baseline is too short to contain a block
+     */
+    private static int[] buildIndex(byte[] base) {
+        if (base.length < BLOCK) {
+            return new int[0];
+        }
+        int[] index = new int[Integer.highestOneBit(base.length) << 1];
+        Arrays.fill(index, -1);
+        int mask = index.length - 1;
+        for (int position = base.length - BLOCK; position >= 0; position--) {
+            index[blockHash(base, position) & mask] = position;
+        }
+        return index;
+    }
+
+    private static int blockHash(byte[] bytes, int position) {
+        int hash = 0;
+        for (int i = position; i < position + BLOCK; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean regionMatches(byte[] base, int basePosition, byte[] target, int targetPosition) {
+        if ((basePosition < 0) || (basePosition + BLOCK > base.length)) {
+            return false;
+        }
+        return Arrays.equals(base, basePosition, basePosition + BLOCK, target, targetPosition,
+              targetPosition + BLOCK);
+    }
+}
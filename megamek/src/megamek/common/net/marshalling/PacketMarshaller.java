@@ -54,6 +54,12 @@ public abstract class PacketMarshaller {
      */
     public static final int NATIVE_SERIALIZATION_MARSHALING = 0;
 
+    /**
+     * Compact binary marshalling for the most frequent game packets, falling back to Java native serialization for
+     * all others
+     */
+    public static final int BINARY_MARSHALING = 1;
+
     /**
      * Marshalls the packet data into the <code>byte[]</code>
      *
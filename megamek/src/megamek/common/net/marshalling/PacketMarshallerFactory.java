@@ -39,6 +39,7 @@ import megamek.common.annotations.Nullable;
 public class PacketMarshallerFactory {
     private static final PacketMarshallerFactory instance = new PacketMarshallerFactory();
     private NativeSerializationMarshaller nativeSerializationMarshaller;
+    private BinaryPacketMarshaller binaryPacketMarshaller;
 
     private PacketMarshallerFactory() {
 
@@ -48,13 +49,22 @@ public class PacketMarshallerFactory {
         return instance;
     }
 
-    public @Nullable PacketMarshaller getMarshaller(int marshallingType) {
+    public synchronized @Nullable PacketMarshaller getMarshaller(int marshallingType) {
         if (marshallingType == PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING) {
-            if (nativeSerializationMarshaller == null) {
-                nativeSerializationMarshaller = new NativeSerializationMarshaller();
+            return getNativeSerializationMarshaller();
+        } else if (marshallingType == PacketMarshaller.BINARY_MARSHALING) {
+            if (binaryPacketMarshaller == null) {
+                binaryPacketMarshaller = new BinaryPacketMarshaller(getNativeSerializationMarshaller());
             }
-            return nativeSerializationMarshaller;
+            return binaryPacketMarshaller;
         }
         return null;
     }
+
+    private NativeSerializationMarshaller getNativeSerializationMarshaller() {
+        if (nativeSerializationMarshaller == null) {
+            nativeSerializationMarshaller = new NativeSerializationMarshaller();
+        }
+        return nativeSerializationMarshaller;
+    }
 }
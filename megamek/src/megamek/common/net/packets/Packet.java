@@ -247,6 +247,21 @@ public record Packet(PacketCommand command, Object... data) implements Serializa
         throw new InvalidPacketDataException("String", object, index);
     }
 
+    /**
+     * @param index the index of the desired object
+     *
+     * @return the <code>byte[]</code> value of the object at the specified index
+     */
+    public byte[] getByteArrayValue(int index) throws InvalidPacketDataException {
+        Object object = getObject(index);
+
+        if (object instanceof byte[] value) {
+            return value;
+        }
+
+        throw new InvalidPacketDataException("byte[]", object, index);
+    }
+
     /**
      * @param index the index of the desired object
      *
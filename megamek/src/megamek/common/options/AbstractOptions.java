@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2000-2003 Ben Mazur (bmazur@sev.org)
- * Copyright (C) 2005-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2005-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -56,6 +56,11 @@ public abstract class AbstractOptions implements Serializable, IGameOptions {
     protected final Hashtable<String, IOption> optionsHash = new Hashtable<>();
     private static final Object lock = new Object();
 
+    /** Counts the changes to the options of this object; written by one thread at a time, like the options */
+    private transient volatile int changeCount;
+    /** The boolean values of the options of this object by their index in the options info; rebuilt after changes */
+    private transient volatile BooleanValues booleanValues;
+
     protected AbstractOptions() {
         if (!getOptionsInfoImp().finished()) {
             synchronized (lock) {
@@ -166,6 +171,11 @@ public abstract class AbstractOptions implements Serializable, IGameOptions {
 
     @Override
     public boolean booleanOption(String name) {
+        BooleanValues values = getBooleanValues();
+        int index = getOptionsInfoImp().indexOf(name);
+        if (values.isBoolean(index)) {
+            return values.get(index);
+        }
         IOption opt = getOption(name);
         if (opt == null) {
             return false;
@@ -189,6 +199,77 @@ public abstract class AbstractOptions implements Serializable, IGameOptions {
         return getOption(name).stringValue();
     }
 
+    private BooleanValues getBooleanValues() {
+        int count = changeCount;
+        BooleanValues values = booleanValues;
+        if ((values == null) || (values.changeCount != count)) {
+            values = new BooleanValues(this, count);
+            booleanValues = values;
+        }
+        return values;
+    }
+
+    /**
+     * Returns the number of changes made to the options of this object. A copy of option values that was taken at the
+     * same change count is still up to date.
+     *
+     * @return The change count
+     */
+    int getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Called by the options of this object when their value changes. Copies of the option values, such as the boolean
+     * values, are built anew on their next read.
+     *
+     * @param option the option that changed
+     */
+    void optionChanged(IOption option) {
+        changeCount++;
+    }
+
+    /**
+     * The values of the boolean options of an {@link AbstractOptions} as bit sets, by the index that
+     * {@link AbstractOptionsInfo#indexOf(String)} gives them, which all options objects of the same kind share, such as
+     * the {@link PilotOptions} of all crews or the {@link Quirks} of all units. Options that belong to other options
+     * objects (see {@link IOption#getOwner()}), that have no value or that were added without an index are left out;
+     * they are read by name, as are options of other types. This is never changed once built.
+     */
+    private static final class BooleanValues {
+
+        private final int changeCount;
+        private final int optionCount;
+        private final long[] booleans;
+        private final long[] values;
+
+        BooleanValues(AbstractOptions owner, int changeCount) {
+            this.changeCount = changeCount;
+            AbstractOptionsInfo info = owner.getOptionsInfoImp();
+            optionCount = info.getOptionCount();
+            booleans = new long[(optionCount + 63) >> 6];
+            values = new long[booleans.length];
+            for (IOption option : owner.optionsHash.values()) {
+                int index = info.indexOf(option.getName());
+                if ((option.getOwner() == owner) && (index >= 0) && (index < optionCount)
+                      && (option.getType() == IOption.BOOLEAN) && (option.getValue() != null)) {
+                    booleans[index >> 6] |= 1L << index;
+                    if (option.booleanValue()) {
+                        values[index >> 6] |= 1L << index;
+                    }
+                }
+            }
+        }
+
+        boolean isBoolean(int index) {
+            return (index >= 0) && (index < optionCount) && ((booleans[index >> 6] & (1L << index)) != 0);
+        }
+
+        boolean get(int index) {
+            return (values[index >> 6] & (1L << index)) != 0;
+        }
+    }
+
     @Override
     public IOptionsInfo getOptionsInfo() {
         return getOptionsInfoImp();
@@ -231,6 +312,7 @@ public abstract class AbstractOptions implements Serializable, IGameOptions {
     protected void addOption(IBasicOptionGroup group, String name, int type, Object defaultValue) {
         optionsHash.put(name, new Option(this, name, type, defaultValue));
         getOptionsInfoImp().addOptionInfo(group, name);
+        changeCount++;
     }
 
     protected class GroupsEnumeration implements Enumeration<IOptionGroup> {
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2000-2003 Ben Mazur (bmazur@sev.org)
- * Copyright (C) 2005-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2005-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -35,8 +35,10 @@
 package megamek.common.options;
 
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.Map;
 import java.util.Vector;
 
 /**
@@ -66,6 +68,12 @@ public class AbstractOptionsInfo implements IOptionsInfo {
      */
     private final Hashtable<String, OptionInfo> optionsHash = new Hashtable<>();
 
+    /**
+     * The index of each option in the order in which the options were added. All options objects of this kind share
+     * these indices, see {@link #indexOf(String)}. Like the other data, it does not change after {@link #finish}.
+     */
+    private final Map<String, Integer> optionIndices = new HashMap<>();
+
     /**
      * List of option groups. The order of groups is important. The first group added by <code>addGroup</code> is the
      * first in the
@@ -151,9 +159,28 @@ public class AbstractOptionsInfo implements IOptionsInfo {
         if (!finished) {
             ((OptionGroup) group).addOptionName(name);
             setOptionInfo(name, new OptionInfo(name));
+            optionIndices.putIfAbsent(name, optionIndices.size());
         }
     }
 
+    /**
+     * Returns the index of the option with the given name. The indices run from 0 to {@link #getOptionCount()} - 1 and
+     * are the same for all options objects that use this options info.
+     *
+     * @param name the option name
+     *
+     * @return the index of the option or -1 if there is no such option
+     */
+    int indexOf(String name) {
+        Integer index = optionIndices.get(name);
+        return (index == null) ? -1 : index;
+    }
+
+    /** @return the number of options that have an index, see {@link #indexOf(String)} */
+    int getOptionCount() {
+        return optionIndices.size();
+    }
+
     /**
      * Returns the user-friendly NLS dependent name suitable for displaying in the options editor dialogs etc.
      *
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.options;
+
+/**
+ * The boolean game options that the rules code reads for every attack, step or weapon resolution. Each is stored as a
+ * bit of a {@link GameOptionsSnapshot}, at the position of its ordinal.
+ */
+public enum GameOptionFlag {
+    BASE_FLAMER_HEAT(OptionsConstants.BASE_FLAMER_HEAT),
+    BASE_FRIENDLY_FIRE(OptionsConstants.BASE_FRIENDLY_FIRE),
+    BASE_INDIRECT_FIRE(OptionsConstants.BASE_INDIRECT_FIRE),
+    BASE_PUSH_OFF_BOARD(OptionsConstants.BASE_PUSH_OFF_BOARD),
+    BASE_RNG_LOG(OptionsConstants.BASE_RNG_LOG),
+    RPG_ARTILLERY_SKILL(OptionsConstants.RPG_ARTILLERY_SKILL),
+    RPG_RPG_GUNNERY(OptionsConstants.RPG_RPG_GUNNERY),
+    ADVANCED_COMBAT_DISPOSABLE_INFANTRY_WEAPONS(OptionsConstants.ADVANCED_COMBAT_DISPOSABLE_INFANTRY_WEAPONS),
+    ADVANCED_COMBAT_INDIRECT_ALWAYS_POSSIBLE(OptionsConstants.ADVANCED_COMBAT_INDIRECT_ALWAYS_POSSIBLE),
+    ADVANCED_COMBAT_KIND_RAPID_AC(OptionsConstants.ADVANCED_COMBAT_KIND_RAPID_AC),
+    ADVANCED_COMBAT_MULTI_USE_AMS(OptionsConstants.ADVANCED_COMBAT_MULTI_USE_AMS),
+    ADVANCED_COMBAT_NO_FORCED_PRIMARY_TARGETS(OptionsConstants.ADVANCED_COMBAT_NO_FORCED_PRIMARY_TARGETS),
+    ADVANCED_COMBAT_PROTOMEKS_SAFE_FROM_INFERNOS(OptionsConstants.ADVANCED_COMBAT_PROTOMEKS_SAFE_FROM_INFERNOS),
+    ADVANCED_COMBAT_TAC_OPS_ALTERNATIVE_DAMAGE(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_ALTERNATIVE_DAMAGE),
+    ADVANCED_COMBAT_TAC_OPS_AMS(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_AMS),
+    ADVANCED_COMBAT_TAC_OPS_BA_VS_BA(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_BA_VS_BA),
+    ADVANCED_COMBAT_TAC_OPS_CALLED_SHOTS(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_CALLED_SHOTS),
+    ADVANCED_COMBAT_TAC_OPS_CLUSTER_HIT_PEN(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_CLUSTER_HIT_PEN),
+    ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW),
+    ADVANCED_COMBAT_TAC_OPS_ENERGY_WEAPONS(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_ENERGY_WEAPONS),
+    ADVANCED_COMBAT_TAC_OPS_GLANCING_BLOWS(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_GLANCING_BLOWS),
+    ADVANCED_COMBAT_TAC_OPS_HEAT(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_HEAT),
+    ADVANCED_COMBAT_TAC_OPS_HOT_LOAD(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_HOT_LOAD),
+    ADVANCED_COMBAT_TAC_OPS_LOS_RANGE(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_LOS_RANGE),
+    ADVANCED_COMBAT_TAC_OPS_PARTIAL_COVER(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_PARTIAL_COVER),
+    ADVANCED_COMBAT_TAC_OPS_PPC_INHIBITORS(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_PPC_INHIBITORS),
+    ADVANCED_COMBAT_TAC_OPS_PRONE_FIRE(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_PRONE_FIRE),
+    ADVANCED_COMBAT_TAC_OPS_RANGE(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_RANGE),
+    ADVANCED_COMBAT_TAC_OPS_RAPID_AC(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_RAPID_AC),
+    ADVANCED_COMBAT_TAC_OPS_START_FIRE(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_START_FIRE),
+    ADVANCED_COMBAT_TAC_OPS_UAC_TWO_ROLLS(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_UAC_TWO_ROLLS),
+    ADVANCED_COMBAT_TAC_OPS_WOODS_COVER(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_WOODS_COVER),
+    ADVANCED_COMBAT_VEHICLES_SAFE_FROM_INFERNOS(OptionsConstants.ADVANCED_COMBAT_VEHICLES_SAFE_FROM_INFERNOS),
+    ADVANCED_GROUND_MOVEMENT_NO_NIGHT_MOVE_PEN(OptionsConstants.ADVANCED_GROUND_MOVEMENT_NO_NIGHT_MOVE_PEN),
+    ADVANCED_GROUND_MOVEMENT_PSR_JUMP_HEAVY_WOODS(OptionsConstants.ADVANCED_GROUND_MOVEMENT_PSR_JUMP_HEAVY_WOODS),
+    ADVANCED_GROUND_MOVEMENT_TAC_OPS_CLIMBING(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_CLIMBING),
+    ADVANCED_GROUND_MOVEMENT_TAC_OPS_FAST_INFANTRY_MOVE(
+          OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_FAST_INFANTRY_MOVE),
+    ADVANCED_GROUND_MOVEMENT_TAC_OPS_LEAPING(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_LEAPING),
+    ADVANCED_GROUND_MOVEMENT_TAC_OPS_SPRINT(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_SPRINT),
+    ADVANCED_GROUND_MOVEMENT_TAC_OPS_STANDING_STILL(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_STANDING_STILL),
+    ADVANCED_GROUND_MOVEMENT_TAC_OPS_WALK_BACKWARDS(OptionsConstants.ADVANCED_GROUND_MOVEMENT_TAC_OPS_WALK_BACKWARDS),
+    ADVANCED_GROUND_MOVEMENT_VEHICLE_ACCELERATION(OptionsConstants.ADVANCED_GROUND_MOVEMENT_VEHICLE_ACCELERATION),
+    ADVANCED_GROUND_MOVEMENT_VEHICLE_ADVANCED_MANEUVERS(
+          OptionsConstants.ADVANCED_GROUND_MOVEMENT_VEHICLE_ADVANCED_MANEUVERS),
+    ADVANCED_AERO_RULES_AA_MOVE_MOD(OptionsConstants.ADVANCED_AERO_RULES_AA_MOVE_MOD),
+    ADVANCED_AERO_RULES_AERO_ARTILLERY_MUNITIONS(OptionsConstants.ADVANCED_AERO_RULES_AERO_ARTILLERY_MUNITIONS),
+    ADVANCED_AERO_RULES_AERO_SANITY(OptionsConstants.ADVANCED_AERO_RULES_AERO_SANITY),
+    ADVANCED_AERO_RULES_FUEL_CONSUMPTION(OptionsConstants.ADVANCED_AERO_RULES_FUEL_CONSUMPTION),
+    ADVANCED_AERO_RULES_HEAT_BY_BAY(OptionsConstants.ADVANCED_AERO_RULES_HEAT_BY_BAY),
+    ADVANCED_AERO_RULES_RETURN_FLYOVER(OptionsConstants.ADVANCED_AERO_RULES_RETURN_FLYOVER),
+    ADVANCED_AERO_RULES_STRATOPS_AA_FIRE(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_AA_FIRE),
+    ADVANCED_AERO_RULES_STRATOPS_ADVANCED_SENSORS(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ADVANCED_SENSORS),
+    ADVANCED_AERO_RULES_STRATOPS_ADV_POINT_DEFENSE(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ADV_POINT_DEFENSE),
+    ADVANCED_AERO_RULES_STRATOPS_ECM(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ECM),
+    ADVANCED_AERO_RULES_STRATOPS_SENSOR_SHADOW(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_SENSOR_SHADOW),
+    ADVANCED_BLACK_ICE(OptionsConstants.ADVANCED_BLACK_ICE),
+    ADVANCED_BRIDGE_BUILDING_ENGINEERS(OptionsConstants.ADVANCED_BRIDGE_BUILDING_ENGINEERS),
+    ADVANCED_DOUBLE_BLIND(OptionsConstants.ADVANCED_DOUBLE_BLIND),
+    ADVANCED_INCLUSIVE_SENSOR_RANGE(OptionsConstants.ADVANCED_INCLUSIVE_SENSOR_RANGE),
+    ADVANCED_MAX_TECH_MOVEMENT_MODS(OptionsConstants.ADVANCED_MAX_TECH_MOVEMENT_MODS),
+    ADVANCED_METAL_CONTENT(OptionsConstants.ADVANCED_METAL_CONTENT),
+    ADVANCED_NO_IGNITE_CLEAR(OptionsConstants.ADVANCED_NO_IGNITE_CLEAR),
+    ADVANCED_TAC_OPS_BAP(OptionsConstants.ADVANCED_TAC_OPS_BAP),
+    ADVANCED_TAC_OPS_ECCM(OptionsConstants.ADVANCED_TAC_OPS_ECCM),
+    ADVANCED_TAC_OPS_FATIGUE(OptionsConstants.ADVANCED_TAC_OPS_FATIGUE),
+    ADVANCED_TAC_OPS_GHOST_TARGET(OptionsConstants.ADVANCED_TAC_OPS_GHOST_TARGET),
+    ADVANCED_TAC_OPS_SENSORS(OptionsConstants.ADVANCED_TAC_OPS_SENSORS),
+    ADVANCED_TAC_OPS_TANK_CREWS(OptionsConstants.ADVANCED_TAC_OPS_TANK_CREWS),
+    UNOFFICIAL_BRIDGE_REPAIR_ENGINEERS(OptionsConstants.UNOFFICIAL_BRIDGE_REPAIR_ENGINEERS);
+
+    private final String optionName;
+
+    GameOptionFlag(String optionName) {
+        this.optionName = optionName;
+    }
+
+    /**
+     * @return The name of the game option, one of the {@link OptionsConstants}
+     */
+    public String getOptionName() {
+        return optionName;
+    }
+}
@@ -69,10 +69,29 @@ public class GameOptions extends BasicGameOptions {
     private static final long serialVersionUID = 4916321960852747706L;
     private static final String GAME_OPTIONS_FILE_NAME = "mmconf/gameoptions.xml";
 
+    /** The rules flags of these options; rebuilt after the options change */
+    private transient volatile GameOptionsSnapshot snapshot;
+
     public GameOptions() {
         super();
     }
 
+    /**
+     * Returns the {@link GameOptionFlag} options as an immutable snapshot for the rules code. The same snapshot is
+     * returned until an option changes; the next call then builds a new one.
+     *
+     * @return The snapshot of the current options
+     */
+    public GameOptionsSnapshot snapshot() {
+        int count = getChangeCount();
+        GameOptionsSnapshot current = snapshot;
+        if ((current == null) || (current.getChangeCount() != count)) {
+            current = new GameOptionsSnapshot(this, count);
+            snapshot = current;
+        }
+        return current;
+    }
+
     @Override
     public synchronized void initialize() {
         super.initialize();
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.options;
+
+import java.util.Objects;
+
+import megamek.common.annotations.Nullable;
+
+/**
+ * An immutable copy of the {@link GameOptionFlag} game options, stored as bits by the ordinal of the flag. The rules
+ * code reads these options for every attack, step or weapon resolution; a bit test is cheaper than looking up the
+ * option by its name each time.
+ * <p>
+ * {@link GameOptions#snapshot()} returns the snapshot of a game's options and builds a new one on the first call after
+ * an option has changed. Rules code gets it through {@link #of(IGameOptions)}.
+ */
+public final class GameOptionsSnapshot {
+
+    private static final int FLAG_COUNT = GameOptionFlag.values().length;
+
+    /** The change count of the options when this was built, see {@link AbstractOptions#getChangeCount()} */
+    private final int changeCount;
+    private final long[] flags = new long[(FLAG_COUNT + 63) >> 6];
+    /** The options that are read by name instead, when they keep no snapshot of their own; null otherwise */
+    private final @Nullable IGameOptions uncopiedOptions;
+
+    GameOptionsSnapshot(IGameOptions options, int changeCount) {
+        this.changeCount = changeCount;
+        uncopiedOptions = null;
+        for (GameOptionFlag flag : GameOptionFlag.values()) {
+            if (options.booleanOption(flag.getOptionName())) {
+                int index = flag.ordinal();
+                flags[index >> 6] |= 1L << index;
+            }
+        }
+    }
+
+    private GameOptionsSnapshot(IGameOptions uncopiedOptions) {
+        changeCount = -1;
+        this.uncopiedOptions = uncopiedOptions;
+    }
+
+    /**
+     * Returns the snapshot of the given options. This is the snapshot that the options keep when they are a
+     * {@link GameOptions}. Any other options, or options that provide no snapshot, such as test doubles, are read by
+     * name on each {@link #isSet(GameOptionFlag)}.
+     *
+     * @param options The game options
+     *
+     * @return The snapshot of the options
+     */
+    public static GameOptionsSnapshot of(IGameOptions options) {
+        GameOptionsSnapshot snapshot = (options instanceof GameOptions gameOptions) ? gameOptions.snapshot() : null;
+        return (snapshot != null) ? snapshot : new GameOptionsSnapshot(Objects.requireNonNull(options));
+    }
+
+    /**
+     * @param flag The game option
+     *
+     * @return True if the given game option was set when this snapshot was built
+     */
+    public boolean isSet(GameOptionFlag flag) {
+        if (uncopiedOptions != null) {
+            return uncopiedOptions.booleanOption(flag.getOptionName());
+        }
+        int index = flag.ordinal();
+        return (flags[index >> 6] & (1L << index)) != 0;
+    }
+
+    int getChangeCount() {
+        return changeCount;
+    }
+}
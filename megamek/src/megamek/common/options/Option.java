@@ -1,6 +1,6 @@
 /*
  * Copyright (c) 2000-2002 - Ben Mazur (bmazur@sev.org)
- * Copyright (C) 2005-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2005-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -184,6 +184,7 @@ public class Option implements IOption, Serializable {
     public void setValue(Object value) {
         if (isValidValue(value)) {
             this.value = value;
+            notifyOwner();
         } else {
             throw new IllegalArgumentException("Tried to give wrong type of value for option type.");
         }
@@ -193,6 +194,7 @@ public class Option implements IOption, Serializable {
     public void setValue(String value) {
         if (type == STRING || type == CHOICE) {
             this.value = value;
+            notifyOwner();
         } else {
             throw new IllegalArgumentException("Tried to give String value to non-String option.");
         }
@@ -202,6 +204,7 @@ public class Option implements IOption, Serializable {
     public void setValue(boolean value) {
         if (type == BOOLEAN) {
             this.value = value;
+            notifyOwner();
         } else {
             throw new IllegalArgumentException("Tried to give boolean value to non-boolean option.");
         }
@@ -211,6 +214,7 @@ public class Option implements IOption, Serializable {
     public void setValue(int value) {
         if (type == INTEGER) {
             this.value = value;
+            notifyOwner();
         } else {
             throw new IllegalArgumentException("Tried to give integer value to non-integer option.");
         }
@@ -220,11 +224,19 @@ public class Option implements IOption, Serializable {
     public void setValue(float value) {
         if (type == FLOAT) {
             this.value = value;
+            notifyOwner();
         } else {
             throw new IllegalArgumentException("Tried to give float value to non-float option.");
         }
     }
 
+    /** Tells the owning options that the value changed, so that they rebuild their copies of the option values. */
+    private void notifyOwner() {
+        if (owner instanceof AbstractOptions options) {
+            options.optionChanged(this);
+        }
+    }
+
     // Turns this option "off"
     @Override
     public void clearValue() {
@@ -37,7 +37,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -99,7 +98,7 @@ public class AbstractPathFinder<N, C, E> {
 
     private final List<Filter<E>> filters = new ArrayList<>();
 
-    private final Map<N, C> pathsCosts = new HashMap<>();
+    private final NodeCostTable<N, C, E> pathsCosts;
 
     private final StopConditionsAlternation<E> stopCondition = new StopConditionsAlternation<>();
 
@@ -112,6 +111,18 @@ public class AbstractPathFinder<N, C, E> {
      */
     public AbstractPathFinder(DestinationMap<N, E> edgeDestinationMap, EdgeRelaxer<C, E> edgeRelaxer,
           AdjacencyMap<E> edgeAdjacencyMap, Comparator<E> edgeComparator) {
+        this(edgeDestinationMap, edgeRelaxer, edgeAdjacencyMap, edgeComparator,
+              new HashNodeCostTable<>(edgeDestinationMap));
+    }
+
+    /**
+     * @param costTable the table to keep the lowest costs of the nodes in; it must find the same node for an edge as
+     *                  the edgeDestinationMap
+     *
+     * @see #AbstractPathFinder(DestinationMap, EdgeRelaxer, AdjacencyMap, Comparator)
+     */
+    protected AbstractPathFinder(DestinationMap<N, E> edgeDestinationMap, EdgeRelaxer<C, E> edgeRelaxer,
+          AdjacencyMap<E> edgeAdjacencyMap, Comparator<E> edgeComparator, NodeCostTable<N, C, E> costTable) {
         if (edgeDestinationMap == null
               || edgeRelaxer == null
               || edgeAdjacencyMap == null
@@ -123,6 +134,7 @@ public class AbstractPathFinder<N, C, E> {
         this.edgeRelaxer = edgeRelaxer;
         this.adjacencyMap = edgeAdjacencyMap;
         this.comparator = edgeComparator;
+        this.pathsCosts = Objects.requireNonNull(costTable);
 
         candidates = new PriorityQueue<>(100, edgeComparator);
     }
@@ -164,14 +176,13 @@ public class AbstractPathFinder<N, C, E> {
             while (!candidates.isEmpty()) {
                 // remove the best candidate from the queue
                 E e = candidates.remove();
-                // get the destination node
-                N node = destinationMap.getDestination(e);
-                C cost = pathsCosts.get(node);
+                // get the cost of the destination node
+                C cost = pathsCosts.getByEdge(e);
                 // check if the candidate edge gives better cost
                 C newCost = edgeRelaxer.doRelax(cost, e, comparator);
                 if (newCost != null) {
                     // we have a better path to this node, so we can update it
-                    pathsCosts.put(node, newCost);
+                    pathsCosts.putByEdge(e, newCost);
                     Collection<E> filteredNeighbours = adjacencyMap.getAdjacent(e);
                     for (Filter<E> f : filters) {
                         filteredNeighbours = f.doFilter(filteredNeighbours);
@@ -224,7 +235,7 @@ public class AbstractPathFinder<N, C, E> {
      * @return map Node to LowestCost
      */
     protected Map<N, C> getPathCostMap() {
-        return pathsCosts;
+        return pathsCosts.asMap();
     }
 
     /**
@@ -453,7 +453,7 @@ public class AeroGroundPathFinder {
         boolean newHexVisited = false;
 
         if (!mp.fliesOffBoard()) {
-            for (MoveStep step : mp.getStepVector()) {
+            for (MoveStep step : mp.getStepList()) {
                 if (!visitedCoords.containsKey(step.getPosition())) {
                     visitedCoords.put(step.getPosition(), mp);
                     newHexVisited = true;
@@ -249,7 +249,7 @@ public class BoardEdgePathFinder {
         MovePath joinedPath = new MovePath(entity.getGame(), entity);
         boolean intersected = false;
 
-        for (MoveStep step : startingPath.getStepVector()) {
+        for (MoveStep step : startingPath.getStepList()) {
             if (step.getPosition() == joinedPath.getFinalCoords()) {
                 matchFacingToPath(joinedPath, step);
                 intersected = true;
@@ -262,7 +262,7 @@ public class BoardEdgePathFinder {
 
         intersected = false;
 
-        for (MoveStep step : endingPath.getStepVector()) {
+        for (MoveStep step : endingPath.getStepList()) {
             // this is the point where we intersect
             if (step.getPosition() == startingPath.getFinalCoords()) {
                 matchFacingToPath(joinedPath, step);
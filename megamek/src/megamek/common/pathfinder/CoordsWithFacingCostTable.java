@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.pathfinder;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import megamek.common.board.Coords;
+import megamek.common.moves.MovePath;
+
+/**
+ * A {@link NodeCostTable} for the hex grid nodes of {@link MovePathFinder}. The node of a path (its final hex and
+ * facing, see {@link MovePathDestinationMap}) is packed into a long and the costs are kept in open-addressed arrays, so
+ * that looking up the cost of a candidate path neither creates a {@link CoordsWithFacing} nor boxes or hashes one.
+ */
+class CoordsWithFacingCostTable<C> implements NodeCostTable<CoordsWithFacing, C, MovePath> {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    /** The cost for the key at the same index; null marks a free slot */
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+    /** The read-only view returned by {@link #asMap()}; created on first use */
+    private Map<CoordsWithFacing, C> mapView;
+
+    /**
+     * Packs a node into a long: x in the top 29 bits (signed), y in the next 32 bits and the facing in the lowest 3.
+     */
+    static long key(int x, int y, int facing) {
+        return ((long) x << 35) | ((y & 0xFFFFFFFFL) << 3) | (facing & 7);
+    }
+
+    static long key(MovePath path) {
+        Coords coords = path.getFinalCoords();
+        if (coords == null) {
+            // Same as CoordsWithFacing
+            throw new NullPointerException();
+        }
+        return key(coords.getX(), coords.getY(), MovePathDestinationMap.destinationFacing(path));
+    }
+
+    static CoordsWithFacing node(long key) {
+        return new CoordsWithFacing(new Coords((int) (key >> 35), (int) (key >>> 3)), (int) (key & 7));
+    }
+
+    @Override
+    public C getByEdge(MovePath edge) {
+        return get(key(edge));
+    }
+
+    @Override
+    public void putByEdge(MovePath edge, C cost) {
+        put(key(edge), cost);
+    }
+
+    @Override
+    public C get(CoordsWithFacing node) {
+        return get(key(node.coords().getX(), node.coords().getY(), node.facing()));
+    }
+
+    /**
+     * @return A read-only view of this table that looks up costs in the table itself; it reflects later changes of the
+     *       table and is not copied on each call
+     */
+    @Override
+    public Map<CoordsWithFacing, C> asMap() {
+        if (mapView == null) {
+            mapView = new MapView();
+        }
+        return mapView;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private C get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return cost(slot);
+            }
+        }
+        return null;
+    }
+
+    private void put(long key, C cost) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                values[slot] = cost;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = cost;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        int mask = keys.length - 1;
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldValues[oldSlot] != null) {
+                int slot = slot(oldKeys[oldSlot], mask);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[oldSlot];
+                values[slot] = oldValues[oldSlot];
+            }
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private C cost(int slot) {
+        return (C) values[slot];
+    }
+
+    private final class MapView extends AbstractMap<CoordsWithFacing, C> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public C get(Object node) {
+            if (node instanceof CoordsWithFacing coordsWithFacing) {
+                return CoordsWithFacingCostTable.this.get(coordsWithFacing);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(Object node) {
+            return get(node) != null;
+        }
+
+        @Override
+        public Set<Entry<CoordsWithFacing, C>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public Iterator<Entry<CoordsWithFacing, C>> iterator() {
+                    return new Iterator<>() {
+                        private int nextSlot = findSlot(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return nextSlot < values.length;
+                        }
+
+                        @Override
+                        public Entry<CoordsWithFacing, C> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<CoordsWithFacing, C> entry = new SimpleImmutableEntry<>(node(keys[nextSlot]),
+                                  cost(nextSlot));
+                            nextSlot = findSlot(nextSlot + 1);
+                            return entry;
+                        }
+                    };
+                }
+            };
+        }
+
+        /** @return The first used slot at or after the given one, or the table length if there is none */
+        private int findSlot(int slot) {
+            while ((slot < values.length) && (values[slot] == null)) {
+                slot++;
+            }
+            return slot;
+        }
+    }
+}
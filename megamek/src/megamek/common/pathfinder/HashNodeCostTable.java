@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.pathfinder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The general {@link NodeCostTable} for any kind of node, backed by a HashMap.
+ */
+class HashNodeCostTable<N, C, E> implements NodeCostTable<N, C, E> {
+
+    private final DestinationMap<N, E> destinationMap;
+    private final Map<N, C> costs = new HashMap<>();
+
+    HashNodeCostTable(DestinationMap<N, E> destinationMap) {
+        this.destinationMap = destinationMap;
+    }
+
+    @Override
+    public C getByEdge(E edge) {
+        return costs.get(destinationMap.getDestination(edge));
+    }
+
+    @Override
+    public void putByEdge(E edge, C cost) {
+        costs.put(destinationMap.getDestination(edge), cost);
+    }
+
+    @Override
+    public C get(N node) {
+        return costs.get(node);
+    }
+
+    @Override
+    public Map<N, C> asMap() {
+        return costs;
+    }
+
+    @Override
+    public void clear() {
+        costs.clear();
+    }
+}
@@ -112,7 +112,7 @@ public class InfantryPathFinder {
 
             // add "flee" option if we haven't done anything else
             if (game.getBoard().isOnBoardEdge(startingEdge.getFinalCoords())
-                  && startingEdge.getStepVector().isEmpty()) {
+                  && startingEdge.getStepList().isEmpty()) {
                 MovePath fleePath = startingEdge.clone();
                 fleePath.addStep(MoveStepType.FLEE);
                 infantryPaths.add(fleePath);
@@ -42,19 +42,25 @@ import megamek.common.moves.MoveStep;
 public class MovePathDestinationMap implements DestinationMap<CoordsWithFacing, MovePath> {
     @Override
     public CoordsWithFacing getDestination(MovePath e) {
+        return new CoordsWithFacing(e.getFinalCoords(), destinationFacing(e));
+    }
+
+    /**
+     * @return The facing of the destination node of the given path; this is the final facing of the unit unless the
+     *       last step was a backwards step
+     */
+    static int destinationFacing(MovePath e) {
         MoveStep lastStep = e.getLastStep();
 
         /*
          * entity moving backwards is like entity with an opposite facing
          * moving forwards :) NOT
          */
-        CoordsWithFacing cfw;
         if (lastStep != null && lastStep.isThisStepBackwards()) {
             Facing f = Facing.valueOfInt(e.getFinalFacing());
-            cfw = new CoordsWithFacing(e.getFinalCoords(), f.getOpposite().getIntValue());
+            return f.getOpposite().getIntValue();
         } else {
-            cfw = new CoordsWithFacing(e);
+            return e.getFinalFacing();
         }
-        return cfw;
     }
 }
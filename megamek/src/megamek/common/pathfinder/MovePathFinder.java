@@ -60,16 +60,17 @@ public class MovePathFinder<C> extends AbstractPathFinder<CoordsWithFacing, C, M
     static final int MAX_TURN_COUNT = 3;
 
     /**
-     * Creates a new instance of MovePathFinder. Sets DestinationMap to {@link MovePathDestinationMap} and adds
-     * {@link MovePathLegalityFilter}. Rest of the methods needed by AbstractPathFinder have to be passed as a
-     * parameter.
+     * Creates a new instance of MovePathFinder. Sets DestinationMap to {@link MovePathDestinationMap}, keeps the node
+     * costs in a {@link CoordsWithFacingCostTable} and adds {@link MovePathLegalityFilter}. Rest of the methods needed
+     * by AbstractPathFinder have to be passed as a parameter.
      */
     public MovePathFinder(EdgeRelaxer<C, MovePath> edgeRelaxer, AdjacencyMap<MovePath> edgeAdjacencyMap,
           Comparator<MovePath> comparator, Game game) {
         super(new MovePathDestinationMap(),
               edgeRelaxer,
               edgeAdjacencyMap,
-              comparator);
+              comparator,
+              new CoordsWithFacingCostTable<>());
     }
 
     /**
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.pathfinder;
+
+import java.util.Map;
+
+import megamek.common.annotations.Nullable;
+
+/**
+ * Holds the lowest cost found so far for each node reached by an {@link AbstractPathFinder}. The path finder looks up
+ * and stores costs by the edge leading to the node, so that a table that can derive its key from the edge directly
+ * does not have to create a node object for every edge considered.
+ *
+ * @param <N> the type of nodes in the graph
+ * @param <C> the type of computed lowest cost for a node
+ * @param <E> the type of directed edges used by the graph
+ */
+public interface NodeCostTable<N, C, E> {
+
+    /**
+     * @return the lowest cost found for the destination node of the given edge or null if that node has not been
+     *       reached
+     */
+    @Nullable C getByEdge(E edge);
+
+    /**
+     * Sets the lowest cost of the destination node of the given edge.
+     */
+    void putByEdge(E edge, C cost);
+
+    /**
+     * @return the lowest cost found for the given node or null if it has not been reached
+     */
+    @Nullable C get(N node);
+
+    /**
+     * @return a map of all reached nodes to their lowest cost; it must not be modified
+     */
+    Map<N, C> asMap();
+
+    void clear();
+}
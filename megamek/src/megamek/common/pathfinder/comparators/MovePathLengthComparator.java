@@ -46,8 +46,8 @@ import megamek.common.moves.MovePath;
 public class MovePathLengthComparator implements Comparator<MovePath> {
     @Override
     public int compare(final MovePath first, final MovePath second) {
-        final int firstSteps = first.getStepVector().size();
-        final int secondSteps = second.getStepVector().size();
+        final int firstSteps = first.length();
+        final int secondSteps = second.length();
         return firstSteps - secondSteps;
     }
 }
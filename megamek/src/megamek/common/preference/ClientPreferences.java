@@ -110,6 +110,7 @@ public class ClientPreferences extends PreferenceStoreProxy {
     public static final String REPORT_FILTER_KEYWORDS = "ReportFilterKeywords";
     private static final String REPORT_FILTER_KEYWORDS_DEFAULTS = "Fire Hit Damage\nHit Damage";
     public static final String IP_ADDRESSES_IN_CHAT = "IPAddressesInChat";
+    public static final String PIPELINED_SERVER_TRANSPORT = "PipelinedServerTransport";
     public static final String SPRITES_ONLY = "SpritesOnly";
     public static final String ENABLE_EXPERIMENTAL_BOT_FEATURES = "EnableExperimentalBotFeatures";
     public static final String NAG_ASK_FOR_VICTORY_LIST = "AskForVictoryList";
@@ -160,6 +161,7 @@ public class ClientPreferences extends PreferenceStoreProxy {
         store.setDefault(REPORT_KEYWORDS, REPORT_KEYWORDS_DEFAULTS);
         store.setDefault(REPORT_FILTER_KEYWORDS, REPORT_FILTER_KEYWORDS_DEFAULTS);
         store.setDefault(IP_ADDRESSES_IN_CHAT, false);
+        store.setDefault(PIPELINED_SERVER_TRANSPORT, false);
         store.setDefault(SPRITES_ONLY, false);
         store.setDefault(ENABLE_EXPERIMENTAL_BOT_FEATURES, false);
         store.setDefault(USER_DIR, "");
@@ -439,6 +441,18 @@ public class ClientPreferences extends PreferenceStoreProxy {
         store.setValue(IP_ADDRESSES_IN_CHAT, value);
     }
 
+    /**
+     * @return True when a hosted server writes to each client on its own writer thread with a bounded send queue
+     *       instead of writing on the game thread
+     */
+    public boolean getPipelinedServerTransport() {
+        return store.getBoolean(PIPELINED_SERVER_TRANSPORT);
+    }
+
+    public void setPipelinedServerTransport(boolean value) {
+        store.setValue(PIPELINED_SERVER_TRANSPORT, value);
+    }
+
     public boolean getSpritesOnly() {
         return store.getBoolean(SPRITES_ONLY);
     }
@@ -726,8 +726,27 @@ public class EntityListFile {
     public static void saveTo(File file, ArrayList<Entity> list, int genericBattleValue, boolean embedUnits)
           throws IOException {
         // Open up the file. Produce UTF-8 output.
-        Writer output = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+        try (Writer output = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file),
+              StandardCharsets.UTF_8))) {
+            writeTo(output, list, genericBattleValue, embedUnits);
+        }
+    }
 
+    /**
+     * Writes the given list of entities as a MUL to the given writer, exactly as
+     * {@link #saveTo(File, ArrayList, int, boolean)} writes it to a file. Each entity is written as it is reached, so
+     * the MUL is never held in memory as a whole. The writer is flushed but not closed.
+     *
+     * @param output             - The writer to write the MUL to.
+     * @param list               - A <code>ArrayList</code> containing <code>Entity</code>s to be written.
+     * @param genericBattleValue - An <code>Integer</code> representing the generic battle value. If it is greater than
+     *                           0, it will be written into the XML.
+     * @param embedUnits         - Set to <code>true</code> to embed the unit file of custom units (blk/mtf data).
+     *
+     * @throws IOException - Is thrown on any error.
+     */
+    public static void writeTo(Writer output, ArrayList<Entity> list, int genericBattleValue, boolean embedUnits)
+          throws IOException {
         // Output the doctype and header stuff.
         output.write("<?xml " + MULParser.VERSION + "=\"1.0\" encoding=\"UTF-8\"?>\n\n");
         output.write('<' + MULParser.ELE_UNIT + ' ' + MULParser.VERSION + "=\"" + MMConstants.VERSION + "\" >\n\n");
@@ -741,7 +760,6 @@ public class EntityListFile {
         // Finish writing.
         output.write("</" + MULParser.ELE_UNIT + ">\n");
         output.flush();
-        output.close();
     }
 
     /**
@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.util;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import megamek.MMConstants;
+import megamek.Version;
+import megamek.common.Player;
+import megamek.common.game.Game;
+import megamek.common.game.IGame;
+import megamek.common.net.marshalling.SanityInputFilter;
+
+/**
+ * Reads and writes save games in the binary format, an alternative to the XStream XML save games that is faster to
+ * write and smaller. The game is written with Java serialization (as it is sent to clients) and compressed in blocks.
+ * <p>
+ * Layout: {@link #MAGIC}, {@link #FORMAT_VERSION}, the MegaMek version and the player names (so that the load dialog
+ * can show them without reading the game), then the compressed blocks, each preceded by its uncompressed and its
+ * compressed length. A block with an uncompressed length of 0 ends the file.
+ * <p>
+ * Saving is split in two: {@link #snapshot(IGame)} serializes the game and must be called while the game is not
+ * changed, e.g. on the game thread; {@link #write(Snapshot, File)} compresses the blocks in parallel and writes the
+ * file, and may run on any thread. Loading inflates one block at a time while the game is deserialized, so the whole
+ * uncompressed game is never held in memory.
+ */
+public final class BinarySaveGame {
+
+    static final int MAGIC = 0x4D4D5356;
+    static final int FORMAT_VERSION = 1;
+    static final int BLOCK_SIZE = 1 << 20;
+
+    /**
+     * The information at the start of a binary save game.
+     *
+     * @param version     The MegaMek version that wrote the save game
+     * @param playerNames The names of the players of the saved game
+     */
+    public record Header(Version version, List<String> playerNames) {}
+
+    /**
+     * A serialized game, ready to be written to a file.
+     *
+     * @param header The save game header
+     * @param data   The Java serialization of the game
+     */
+    public record Snapshot(Header header, byte[] data) {}
+
+    private BinarySaveGame() {}
+
+    /**
+     * @return True when the given file name has the extension of binary save games
+     */
+    public static boolean isBinarySaveGame(String fileName) {
+        return fileName.toLowerCase().endsWith(MMConstants.BINARY_SAVE_FILE_EXT);
+    }
+
+    /**
+     * @return True when the given file has the extension of binary save games
+     */
+    public static boolean isBinarySaveGame(File file) {
+        return isBinarySaveGame(file.getName());
+    }
+
+    /**
+     * Serializes the given game. The game must not be changed while this runs.
+     */
+    public static Snapshot snapshot(IGame game) throws IOException {
+        List<String> playerNames = new ArrayList<>();
+        for (Player player : game.getPlayersList()) {
+            playerNames.add(player.getName());
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(BLOCK_SIZE);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(game);
+        }
+        return new Snapshot(new Header(MMConstants.VERSION, playerNames), bytes.toByteArray());
+    }
+
+    /**
+     * Writes the given snapshot to the given file. The file is written under a temporary name first and then moved,
+     * so that an existing save game is not lost if writing fails.
+     */
+    public static void write(Snapshot snapshot, File file) throws IOException {
+        File temporaryFile = new File(file.getPath() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temporaryFile.toPath())) {
+            write(snapshot, out);
+        }
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Writes the given snapshot to the given stream, compressing its blocks in parallel.
+     */
+    public static void write(Snapshot snapshot, OutputStream stream) throws IOException {
+        byte[] data = snapshot.data();
+        int blockCount = (data.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        byte[][] blocks = IntStream.range(0, blockCount).parallel()
+              .mapToObj(block -> deflate(data, block * BLOCK_SIZE,
+                    Math.min(BLOCK_SIZE, data.length - block * BLOCK_SIZE)))
+              .toArray(byte[][]::new);
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(snapshot.header().version().toString());
+        out.writeInt(snapshot.header().playerNames().size());
+        for (String playerName : snapshot.header().playerNames()) {
+            out.writeUTF(playerName);
+        }
+        for (int block = 0; block < blockCount; block++) {
+            out.writeInt(Math.min(BLOCK_SIZE, data.length - block * BLOCK_SIZE));
+            out.writeInt(blocks[block].length);
+            out.write(blocks[block]);
+        }
+        out.writeInt(0);
+        out.flush();
+    }
+
+    private static byte[] deflate(byte[] data, int offset, int length) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(data, offset, length);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 4 + 64);
+            byte[] buffer = new byte[64 * 1024];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                compressed.write(buffer, 0, count);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Reads only the header of a binary save game.
+     *
+     * @throws IOException if the stream does not hold a binary save game of a known format version
+     */
+    public static Header readHeader(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary save game");
+        }
+        int formatVersion = in.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unknown binary save game format version " + formatVersion);
+        }
+        Version version = new Version(in.readUTF());
+        int playerCount = in.readInt();
+        List<String> playerNames = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            playerNames.add(in.readUTF());
+        }
+        return new Header(version, playerNames);
+    }
+
+    /**
+     * Reads a binary save game. The caller must still call {@link Game#initializeAfterLoad()}, as for XML save games.
+     */
+    public static Game read(InputStream stream) throws IOException, ClassNotFoundException {
+        readHeader(stream);
+        ObjectInputStream in = new ObjectInputStream(new BlockInputStream(new DataInputStream(stream)));
+        in.setObjectInputFilter(new SanityInputFilter());
+        return (Game) in.readObject();
+    }
+
+    /**
+     * Inflates the blocks of a binary save game one at a time.
+     */
+    private static final class BlockInputStream extends InputStream {
+        private final DataInputStream in;
+        private final Inflater inflater = new Inflater(true);
+        private byte[] block = new byte[0];
+        private int position = 0;
+        private boolean ended = false;
+
+        private BlockInputStream(DataInputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return block[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(length, block.length - position);
+            System.arraycopy(block, position, bytes, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return block.length - position;
+        }
+
+        /**
+         * Inflates the next block when the current one is used up.
+         *
+         * @return False at the end of the save game
+         */
+        private boolean fill() throws IOException {
+            while (!ended && (position == block.length)) {
+                int length = in.readInt();
+                if (length == 0) {
+                    ended = true;
+                    inflater.end();
+                    break;
+                }
+                int compressedLength = in.readInt();
+                if ((length < 0) || (length > BLOCK_SIZE) || (compressedLength < 0)) {
+                    throw new IOException("Damaged binary save game");
+                }
+                byte[] compressed = new byte[compressedLength];
+                in.readFully(compressed);
+                block = new byte[length];
+                position = 0;
+                inflater.reset();
+                inflater.setInput(compressed);
+                try {
+                    int inflated = 0;
+                    while (inflated < length) {
+                        int count = inflater.inflate(block, inflated, length - inflated);
+                        if ((count == 0) && (inflater.finished() || inflater.needsInput())) {
+                            throw new EOFException("Truncated block in binary save game");
+                        }
+                        inflated += count;
+                    }
+                } catch (DataFormatException ex) {
+                    throw new IOException("Damaged binary save game", ex);
+                }
+            }
+            return position < block.length;
+        }
+    }
+}
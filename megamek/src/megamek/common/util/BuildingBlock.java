@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2000-2024 Ben Mazur (bmazur@sev.org)
- * Copyright (C) 2002-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2002-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -45,6 +45,8 @@ import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.Vector;
 
 import megamek.SuiteConstants;
@@ -64,6 +66,15 @@ public class BuildingBlock {
     private Vector<String> rawData;
     private static final char comment = '#';
 
+    /**
+     * The line index of the first occurrence of each tag, keyed by the text between the angle brackets and ignoring
+     * case, so "/Armor" is the key of the end tag of the Armor block. Built in one pass over the data on the first
+     * lookup and dropped when this block changes the data. Without it, every lookup would scan the data from the top.
+     */
+    private Map<String, Integer> tagIndex;
+    /** The size of rawData when the tag index was built; catches lines that were added through the Vector itself */
+    private int indexedSize;
+
     /**
      * Creates new empty buildingBlock
      */
@@ -101,6 +112,7 @@ public class BuildingBlock {
         String data;
         // empty the rawData holder...
         rawData.clear();
+        tagIndex = null;
 
         try (InputStreamReader isr = new InputStreamReader(is, StandardCharsets.UTF_8);
               BufferedReader br = new BufferedReader(isr)) {
@@ -133,31 +145,8 @@ public class BuildingBlock {
      * @return Returns the start index of the block data. Or -1 if not found.
      */
     public int findStartIndex(String blockName) {
-        String line;
-        int startIndex = -1;
-
-        // Translate the block name to a key.
-        String key = '<' + blockName + '>';
-
-        // look for the block...
-        for (int lineNum = 0; lineNum < rawData.size(); lineNum++) {
-            line = rawData.get(lineNum);
-
-            // look for "<blockName>"
-            try {
-                if ((line.length() >= 3) && line.equalsIgnoreCase(key)) {
-                    startIndex = ++lineNum;
-                    break;
-                }
-            } catch (Exception ex) {
-                logger.error(ex,
-                      "Was looking for {} and caught an Exception parsing line \n\"{}\" \nat rawData index number {}",
-                      key,
-                      line,
-                      lineNum);
-            }
-        }
-        return startIndex;
+        Integer tagLine = getTagIndex().get(blockName);
+        return (tagLine == null) ? -1 : tagLine + 1;
     }
 
     /**
@@ -169,31 +158,23 @@ public class BuildingBlock {
      * @return Returns the end index of the block data. Or -1 if not found.
      */
     public int findEndIndex(String blockName) {
-        String line;
-        int endIndex = -1;
-
-        // Translate the block name to a key.
-        String key = "<" + '/' + blockName + '>';
-
-        // look for the block...
-        for (int lineNum = 0; lineNum < rawData.size(); lineNum++) {
-            line = rawData.get(lineNum);
+        Integer tagLine = getTagIndex().get('/' + blockName);
+        return (tagLine == null) ? -1 : tagLine;
+    }
 
-            // look for "</blockName>"
-            try {
-                if ((line.length() >= 3) && line.equalsIgnoreCase(key)) {
-                    endIndex = lineNum;
-                    break;
+    private Map<String, Integer> getTagIndex() {
+        if ((tagIndex == null) || (indexedSize != rawData.size())) {
+            Map<String, Integer> index = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (int lineNum = 0; lineNum < rawData.size(); lineNum++) {
+                String line = rawData.get(lineNum);
+                if ((line.length() >= 3) && (line.charAt(0) == '<') && (line.charAt(line.length() - 1) == '>')) {
+                    index.putIfAbsent(line.substring(1, line.length() - 1), lineNum);
                 }
-            } catch (Exception ex) {
-                logger.error(ex,
-                      "Was looking for {} and caught an Exception parsing line \n\"{}\" \nwith rawData index number {}",
-                      key,
-                      line,
-                      lineNum);
             }
+            tagIndex = index;
+            indexedSize = rawData.size();
         }
-        return endIndex;
+        return tagIndex;
     }
 
     /**
@@ -446,6 +427,7 @@ public class BuildingBlock {
      */
     public void createNewBlock() {
         rawData.clear();
+        tagIndex = null;
         writeBlockComment("Saved from version " + SuiteConstants.VERSION + " on " + LocalDate.now());
     }
 
@@ -538,6 +520,7 @@ public class BuildingBlock {
      * @return Returns true on success.
      */
     public boolean writeBlockData(String blockName, List<String> blockData) {
+        tagIndex = null;
         rawData.add("<" + blockName + ">");
 
         for (String blockDatum : blockData) {
@@ -595,6 +578,7 @@ public class BuildingBlock {
     public void clearData() {
 
         rawData.clear();
+        tagIndex = null;
 
     }
 
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2000-2016 Ben Mazur (bmazur@sev.org)
- * Copyright (C) 2016-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2016-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -50,7 +50,6 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
-import java.util.Map;
 import javax.imageio.ImageIO;
 import javax.swing.UIManager;
 
@@ -58,7 +57,6 @@ import megamek.MMConstants;
 import megamek.client.ui.util.ImageAtlasMap;
 import megamek.client.ui.util.ImprovedAveragingScaleFilter;
 import megamek.client.ui.util.UIUtil;
-import megamek.common.Report;
 import megamek.common.annotations.Nullable;
 import megamek.common.board.Coords;
 import megamek.common.util.fileUtils.MegaMekFile;
@@ -587,7 +585,7 @@ public final class ImageUtil {
     /**
      * creates a ? image, used when units are hidden in double-blind
      */
-    public static void createDoubleBlindHiddenImage(Map<Integer, String> imgCache) {
+    public static BufferedImage createDoubleBlindHiddenImage() {
         BufferedImage image = new BufferedImage(56, 48, BufferedImage.TYPE_INT_ARGB);
         Graphics2D graphics = image.createGraphics();
         UIUtil.setHighQualityRendering(graphics);
@@ -597,10 +595,8 @@ public final class ImageUtil {
         graphics.setColor(UIManager.getColor("Label.foreground"));
         graphics.setFont(new Font(MMConstants.FONT_DIALOG, Font.BOLD, 26));
         graphics.drawString("?", 20, 40);
-
-        String base64Text = base64TextEncodeImage(image);
-        String img = "<img src='data:image/png;base64," + base64Text + "'>";
-        imgCache.put(Report.HIDDEN_ENTITY_NUM, img);
+        graphics.dispose();
+        return image;
     }
 
     /**
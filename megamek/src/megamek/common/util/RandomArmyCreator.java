@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 import megamek.client.ui.dialogs.advancedsearch.ASAdvancedSearchPanel;
 import megamek.client.ui.dialogs.advancedsearch.MekSearchFilter;
@@ -207,7 +208,10 @@ public class RandomArmyCreator {
 
     public static List<MekSummary> generateArmy(Parameters p) {
         int allowedVariance = java.lang.Math.abs(p.maxBV - p.minBV);
-        MekSummary[] all = MekSummaryCache.getInstance().getAllMeks();
+        MekSummaryCache cache = MekSummaryCache.getInstance();
+        MekSummary[] all = cache.getAllMeks();
+        Predicate<MekSummary> advancedSearchMatch = (p.advancedSearchFilter == null) ? m -> true
+              : MekSearchFilter.compile(p.advancedSearchFilter, cache.getCatalog());
         List<MekSummary> allMeks = new ArrayList<>();
         List<MekSummary> allTanks = new ArrayList<>();
         List<MekSummary> allInfantry = new ArrayList<>();
@@ -270,7 +274,7 @@ public class RandomArmyCreator {
             if (!m.getUnitType().equals(UnitType.getTypeName(UnitType.INFANTRY))
                   && !m.getUnitType().equals(UnitType.getTypeName(UnitType.PROTOMEK))
                   && !m.getUnitType().equals(UnitType.getTypeName(UnitType.BATTLE_ARMOR))
-                  && (p.advancedSearchFilter != null && !MekSearchFilter.isMatch(m, p.advancedSearchFilter))) {
+                  && !advancedSearchMatch.test(m)) {
                 continue;
             }
 
@@ -192,8 +192,11 @@ public class SimpleRandomLanceCreator<T> {
      */
     public static List<MekSummary> advancedFilterResult(@Nullable ASAdvancedSearchPanel asFilter,
           @Nullable MekSearchFilter twFilter, @Nullable Predicate<MekSummary> manualFilter) {
-        return Arrays.stream(MekSummaryCache.getInstance().getAllMeks())
-              .filter(ms -> twFilter == null || MekSearchFilter.isMatch(ms, twFilter))
+        MekSummaryCache cache = MekSummaryCache.getInstance();
+        Predicate<MekSummary> twMatch = (twFilter == null) ? ms -> true
+              : MekSearchFilter.compile(twFilter, cache.getCatalog());
+        return Arrays.stream(cache.getAllMeks())
+              .filter(twMatch)
               .filter(ms -> asFilter == null || asFilter.matches(ms))
               .filter(ms -> manualFilter == null || manualFilter.test(ms))
               .toList();
@@ -56,7 +56,8 @@ import megamek.common.equipment.Mounted;
 import megamek.common.equipment.WeaponType;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.planetaryConditions.PlanetaryConditions;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Aero;
@@ -233,8 +234,8 @@ public class CLIATMHandler extends ATMHandler {
         // However, IMP is done in its own function - I think. Also, if we have
         // the streak system enabled, this is not used
         int[] ranges = weaponType.getRanges(weapon);
-        boolean tacOpsCluster = game.getOptions()
-              .booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_CLUSTER_HIT_PEN);
+        boolean tacOpsCluster = GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_CLUSTER_HIT_PEN);
 
         // Only apply if not all shots hit. IATM IMP have HE ranges and thus
         // suffer from spread too
@@ -250,11 +251,11 @@ public class CLIATMHandler extends ATMHandler {
 
         // //////
         // This applies even with streaks.
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_RANGE)
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_RANGE)
               && (nRange > weaponType.getRanges(weapon)[RangeType.RANGE_LONG])) {
             nMissilesModifier -= 2;
         }
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_LOS_RANGE)
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_LOS_RANGE)
               && (nRange > ranges[RangeType.RANGE_EXTREME])) {
             nMissilesModifier -= 3;
         }
@@ -306,7 +307,7 @@ public class CLIATMHandler extends ATMHandler {
         int amsMod = getAMSHitsMod(vPhaseReport);
         nMissilesModifier += amsMod;
 
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_AERO_SANITY)) {
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_AERO_SANITY)) {
             Entity entityTarget = (target.getTargetType() == Targetable.TYPE_ENTITY) ? (Entity) target
                   : null;
             if (entityTarget != null && entityTarget.isLargeCraft()) {
@@ -590,7 +591,8 @@ public class CLIATMHandler extends ATMHandler {
 
             // Set Margin of Success/Failure.
             toHit.setMoS(roll.getIntValue() - Math.max(2, toHit.getValue()));
-            bDirect = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW)
+            bDirect = GameOptionsSnapshot.of(game.getOptions())
+                  .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW)
                   && ((toHit.getMoS() / 3) >= 1) && (entityTarget != null);
             if (bDirect) {
                 r = new Report(3189);
@@ -761,7 +763,8 @@ public class CLIATMHandler extends ATMHandler {
 
             // Set Margin of Success/Failure.
             toHit.setMoS(roll.getIntValue() - Math.max(2, toHit.getValue()));
-            bDirect = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW)
+            bDirect = GameOptionsSnapshot.of(game.getOptions())
+                  .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW)
                   && ((toHit.getMoS() / 3) >= 1) && (entityTarget != null);
             if (bDirect) {
                 report = new Report(3189);
@@ -46,6 +46,8 @@ import megamek.common.compute.ComputeSideTable;
 import megamek.common.equipment.EquipmentMode;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.options.OptionsConstants;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Entity;
@@ -71,7 +73,8 @@ public class FlamerHandler extends WeaponHandler {
     protected void handleEntityDamage(Entity entityTarget, Vector<Report> vPhaseReport, IBuilding bldg, int hits,
           int nCluster, int bldgAbsorbs) {
         boolean flamerHeatAndDamage =
-              Game.rulesManager.getRulesWeapons().flamerHeatAndDamage(game.getOptions().booleanOption(OptionsConstants.BASE_FLAMER_HEAT));
+              Game.rulesManager.getRulesWeapons().flamerHeatAndDamage(GameOptionsSnapshot.of(game.getOptions())
+                    .isSet(GameOptionFlag.BASE_FLAMER_HEAT));
         Entity entity = game.getEntity(weaponAttackAction.getEntityId());
 
         if (entity == null) {
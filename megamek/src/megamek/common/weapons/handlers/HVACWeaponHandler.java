@@ -48,7 +48,8 @@ import megamek.common.enums.GamePhase;
 import megamek.common.equipment.Mounted;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.planetaryConditions.PlanetaryConditions;
 import megamek.common.units.Terrains;
 import megamek.common.weapons.handlers.ac.ACWeaponHandler;
@@ -69,7 +70,7 @@ public class HVACWeaponHandler extends ACWeaponHandler {
     @Override
     public boolean handle(GamePhase phase, Vector<Report> vPhaseReport) {
         PlanetaryConditions conditions = game.getPlanetaryConditions();
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_START_FIRE)
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_START_FIRE)
               && !conditions.getAtmosphere().isVacuum()) {
             int rear = (attackingEntity.getFacing() + 3 + (weapon.isMekTurretMounted() ? weapon.getFacing() : 0)) % 6;
             Coords src = attackingEntity.getPosition();
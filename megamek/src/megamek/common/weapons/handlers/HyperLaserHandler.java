@@ -48,7 +48,8 @@ import megamek.common.compute.Compute;
 import megamek.common.equipment.Mounted;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.units.Infantry;
 import megamek.server.totalWarfare.TWGameManager;
 
@@ -109,13 +110,14 @@ public class HyperLaserHandler extends EnergyWeaponHandler {
         int[] nRanges = weaponType.getRanges(weapon);
         double toReturn = weaponType.getDamage(nRange);
 
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_ENERGY_WEAPONS)
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_ENERGY_WEAPONS)
               && weapon.hasModes()) {
             toReturn = Compute.dialDownDamage(weapon, weaponType, nRange);
         }
 
         // Check for Altered Damage from Energy Weapons (TacOp, pg.83)
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_ALTERNATIVE_DAMAGE)) {
+        if (GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_ALTERNATIVE_DAMAGE)) {
             if (nRange <= 1) {
                 toReturn++;
             } else if (nRange > weaponType.getMediumRange() && nRange <= weaponType.getLongRange()) {
@@ -140,7 +142,7 @@ public class HyperLaserHandler extends EnergyWeaponHandler {
             toReturn = Math.min(toReturn + (int) floor(toHit.getMoS() / 3.0), toReturn * 2);
         }
 
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_RANGE)
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_RANGE)
               && (nRange > nRanges[RangeType.RANGE_LONG])) {
             // Against conventional infantry, treat as direct fire energy
             if (target.isConventionalInfantry()) {
@@ -149,7 +151,7 @@ public class HyperLaserHandler extends EnergyWeaponHandler {
                 toReturn = (int) Math.floor(toReturn / 2.0);
             }
         }
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_LOS_RANGE)
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_LOS_RANGE)
               && (nRange > nRanges[RangeType.RANGE_EXTREME])) {
             // Against conventional infantry, treat as direct fire energy
             if (target.isConventionalInfantry()) {
@@ -48,7 +48,8 @@ import megamek.common.compute.ComputeSideTable;
 import megamek.common.equipment.AmmoMounted;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.units.Entity;
 import megamek.common.units.IBuilding;
 import megamek.common.units.Infantry;
@@ -82,7 +83,7 @@ public class MGAWeaponHandler extends MGHandler {
                   ((Infantry) target).isMechanized(),
                   toHit.getThruBldg() != null, weaponEntity.getId(), calcDmgPerHitReport, howManyShots);
             damage = applyGlancingBlowModifier(damage, true);
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_RANGE)) {
+            if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_RANGE)) {
                 if (nRange > weaponType.getRanges(weapon)[RangeType.RANGE_LONG]) {
                     damage = (int) Math.floor(damage * 0.75);
                 } else if (nRange > weaponType.getRanges(weapon)[RangeType.RANGE_EXTREME]) {
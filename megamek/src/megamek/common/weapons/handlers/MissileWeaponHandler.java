@@ -61,7 +61,8 @@ import megamek.common.equipment.WeaponMounted;
 import megamek.common.equipment.WeaponType;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.rolls.Roll;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Entity;
@@ -88,9 +89,11 @@ public class MissileWeaponHandler extends AmmoWeaponHandler {
         super(t, w, g, m);
         generalDamageType = HitData.DAMAGE_MISSILE;
         advancedAMS =
-              Game.rulesManager.getRulesEquipment().getAMSReduction(g.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_AMS));
-        advancedPD = g.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ADV_POINT_DEFENSE);
-        multiAMS = g.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_MULTI_USE_AMS);
+              Game.rulesManager.getRulesEquipment().getAMSReduction(GameOptionsSnapshot.of(g.getOptions())
+                    .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_AMS));
+        advancedPD = GameOptionsSnapshot.of(g.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ADV_POINT_DEFENSE);
+        multiAMS = GameOptionsSnapshot.of(g.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_MULTI_USE_AMS);
         sSalvoType = " missile(s) ";
     }
 
@@ -258,7 +261,7 @@ public class MissileWeaponHandler extends AmmoWeaponHandler {
         // add AMS mods
         nMissilesModifier += getAMSHitsMod(vPhaseReport);
 
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_AERO_SANITY)
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_AERO_SANITY)
               && entityTarget != null && entityTarget.isLargeCraft()) {
             nMissilesModifier -= (int) Math.floor(getAeroSanityAMSHitsMod());
         }
@@ -823,7 +826,7 @@ public class MissileWeaponHandler extends AmmoWeaponHandler {
 
         // Set Margin of Success/Failure.
         toHit.setMoS(roll.getIntValue() - Math.max(2, toHit.getValue()));
-        bDirect = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW)
+        bDirect = GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW)
               && ((toHit.getMoS() / 3) >= 1) && (entityTarget != null);
         if (bDirect) {
             r = new Report(3189);
@@ -852,7 +855,7 @@ public class MissileWeaponHandler extends AmmoWeaponHandler {
         // Don't use this if Aero Sanity is on...
         if (entityTarget != null
               && entityTarget.hasETypeFlag(Entity.ETYPE_DROPSHIP)
-              && !game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_AERO_SANITY)
+              && !GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_AERO_SANITY)
               && (weaponAttackAction.isAirToAir(game) || (weaponAttackAction.isAirToGround(game)
               && !attackingEntity.usesWeaponBays()))) {
             nDamPerHit = attackValue;
@@ -917,7 +920,7 @@ public class MissileWeaponHandler extends AmmoWeaponHandler {
             }
 
             // This is for aero attacks as attack value. Does not apply if Aero Sanity is on
-            if (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_AERO_SANITY)) {
+            if (!GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_AERO_SANITY)) {
                 if (!bMissed && amsEngaged && !isThunderBolt() && !attackingEntity.isCapitalFighter()) {
                     // handle single AMS action against standard missiles
                     Roll diceRoll = Compute.rollD6(1);
@@ -1115,7 +1118,7 @@ public class MissileWeaponHandler extends AmmoWeaponHandler {
 
     protected boolean isAdvancedAMS() {
         // Cluster hits calculation in Compute needs this to be on
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_AERO_SANITY)
+        if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_AERO_SANITY)
               && getParentBayHandler() != null) {
             WeaponHandler bayHandler = getParentBayHandler();
             return advancedPD && (bayHandler.amsBayEngaged || bayHandler.pdBayEngaged);
@@ -43,7 +43,8 @@ import megamek.common.actions.WeaponAttackAction;
 import megamek.common.equipment.AmmoType;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.weapons.Weapon;
 import megamek.server.totalWarfare.TWGameManager;
@@ -74,7 +75,8 @@ public class RapidFireACWeaponHandler extends UltraWeaponHandler {
         }
 
         int jamLevel = 4;
-        boolean kindRapidFire = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_KIND_RAPID_AC);
+        boolean kindRapidFire = GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_COMBAT_KIND_RAPID_AC);
         if (kindRapidFire) {
             jamLevel = 2;
         }
@@ -49,6 +49,8 @@ import megamek.common.compute.ComputeSideTable;
 import megamek.common.equipment.EquipmentMode;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.options.OptionsConstants;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Entity;
@@ -87,7 +89,7 @@ public class VehicleFlamerHandler extends AmmoWeaponHandler {
     protected void handleEntityDamage(Entity entityTarget,
           Vector<Report> vPhaseReport, IBuilding bldg, int hits, int nCluster,
           int bldgAbsorbs) {
-        boolean bmmFlamerDamage = game.getOptions().booleanOption(OptionsConstants.BASE_FLAMER_HEAT);
+        boolean bmmFlamerDamage = GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.BASE_FLAMER_HEAT);
         Entity entity = game.getEntity(weaponAttackAction.getEntityId());
 
         if (entity == null) {
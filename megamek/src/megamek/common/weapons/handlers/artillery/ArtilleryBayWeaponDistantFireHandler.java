@@ -63,6 +63,8 @@ import megamek.common.equipment.WeaponMounted;
 import megamek.common.event.player.GamePlayerStrategicActionEvent;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.options.OptionsConstants;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Entity;
@@ -118,7 +120,8 @@ public class ArtilleryBayWeaponDistantFireHandler extends AmmoBayWeaponHandler {
             int shots = bayW.getCurrentShots();
             // if this option is on, we may have odd amounts of ammo in multiple bins. Only
             // fire rounds that we have.
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_AERO_ARTILLERY_MUNITIONS)) {
+            if (GameOptionsSnapshot.of(game.getOptions())
+                  .isSet(GameOptionFlag.ADVANCED_AERO_RULES_AERO_ARTILLERY_MUNITIONS)) {
                 if (bayWAmmo.getUsableShotsLeft() < 1) {
                     numWeaponsHit--;
                 } else {
@@ -57,7 +57,8 @@ import megamek.common.equipment.WeaponType;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
 import megamek.common.net.packets.InvalidPacketDataException;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.rolls.Roll;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Entity;
@@ -82,9 +83,11 @@ public class ArtilleryBayWeaponDistantHomingHandler extends ArtilleryBayWeaponDi
     public ArtilleryBayWeaponDistantHomingHandler(ToHitData t, WeaponAttackAction w, Game g, TWGameManager m)
           throws EntityLoadingException {
         super(t, w, g, m);
-        advancedPD = g.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ADV_POINT_DEFENSE);
-        advancedAMS = Game.rulesManager.getRulesEquipment().getAMSReduction(g.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_AMS));
-        multiAMS = g.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_MULTI_USE_AMS);
+        advancedPD = GameOptionsSnapshot.of(g.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ADV_POINT_DEFENSE);
+        advancedAMS = Game.rulesManager.getRulesEquipment().getAMSReduction(GameOptionsSnapshot.of(g.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_AMS));
+        multiAMS = GameOptionsSnapshot.of(g.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_MULTI_USE_AMS);
     }
 
     /*
@@ -210,7 +213,7 @@ public class ArtilleryBayWeaponDistantHomingHandler extends ArtilleryBayWeaponDi
 
         // Set Margin of Success/Failure.
         toHit.setMoS(roll.getIntValue() - Math.max(2, toHit.getValue()));
-        bDirect = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW)
+        bDirect = GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW)
               && ((toHit.getMoS() / 3) >= 1) && (entityTarget != null);
         if (bDirect) {
             report = new Report(3189);
@@ -400,7 +403,7 @@ public class ArtilleryBayWeaponDistantHomingHandler extends ArtilleryBayWeaponDi
                     break;
                 case Targetable.TYPE_ENTITY:
                     if (attackingEntity.isEnemyOf((Entity) ti.target)
-                          || game.getOptions().booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE)) {
+                          || GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.BASE_FRIENDLY_FIRE)) {
                         allowed.add(ti);
                     }
                     break;
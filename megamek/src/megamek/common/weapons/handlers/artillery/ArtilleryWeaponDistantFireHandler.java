@@ -63,6 +63,8 @@ import megamek.common.equipment.Minefield;
 import megamek.common.event.player.GamePlayerStrategicActionEvent;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.options.OptionsConstants;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Entity;
@@ -215,7 +217,7 @@ public class ArtilleryWeaponDistantFireHandler extends AmmoWeaponHandler {
 
         // Use the Artillery skill for spotting if enabled, as per page 144 of the
         // third printing of A Time of War.
-        boolean useArtillerySkill = game.getOptions().booleanOption(OptionsConstants.RPG_ARTILLERY_SKILL);
+        boolean useArtillerySkill = GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.RPG_ARTILLERY_SKILL);
 
         // If at least one valid spotter, then get the benefits thereof.
         if (!isFlak) {
@@ -55,7 +55,8 @@ import megamek.common.equipment.AmmoType.AmmoTypeEnum;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
 import megamek.common.net.packets.InvalidPacketDataException;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Entity;
 import megamek.common.units.IBuilding;
@@ -80,8 +81,10 @@ public class ArtilleryWeaponDistantHomingHandler extends ArtilleryWeaponDistantF
                                                TWGameManager gameManager) throws EntityLoadingException {
         super(toHitData, weaponAttackAction, game, gameManager);
         advancedAMS =
-              Game.rulesManager.getRulesEquipment().getAMSReduction(game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_AMS));
-        advancedPD = game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ADV_POINT_DEFENSE);
+              Game.rulesManager.getRulesEquipment().getAMSReduction(GameOptionsSnapshot.of(game.getOptions())
+                    .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_AMS));
+        advancedPD = GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ADV_POINT_DEFENSE);
     }
 
     /*
@@ -213,7 +216,7 @@ public class ArtilleryWeaponDistantHomingHandler extends ArtilleryWeaponDistantF
 
         // Set Margin of Success/Failure.
         toHit.setMoS(roll.getIntValue() - Math.max(2, toHit.getValue()));
-        bDirect = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW)
+        bDirect = GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW)
               && ((toHit.getMoS() / 3) >= 1) && (entityTarget != null);
         if (bDirect) {
             r = new Report(3189);
@@ -398,7 +401,7 @@ public class ArtilleryWeaponDistantHomingHandler extends ArtilleryWeaponDistantF
                     break;
                 case Targetable.TYPE_ENTITY:
                     if (attackingEntity.isEnemyOf((Entity) ti.target)
-                          || game.getOptions().booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE)) {
+                          || GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.BASE_FRIENDLY_FIRE)) {
                         allowed.add(ti);
                     }
                     break;
@@ -496,7 +499,8 @@ public class ArtilleryWeaponDistantHomingHandler extends ArtilleryWeaponDistantF
      */
     @Override
     protected boolean checkPDConditions() {
-        advancedPD = game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ADV_POINT_DEFENSE);
+        advancedPD = GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ADV_POINT_DEFENSE);
         return (target != null) && advancedPD && (target.getTargetType() == Targetable.TYPE_ENTITY);
     }
 
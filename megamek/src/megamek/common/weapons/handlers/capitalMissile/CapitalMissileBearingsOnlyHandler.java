@@ -59,7 +59,8 @@ import megamek.common.equipment.WeaponType;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
 import megamek.common.net.packets.InvalidPacketDataException;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Aero;
 import megamek.common.units.Entity;
@@ -209,7 +210,7 @@ public class CapitalMissileBearingsOnlyHandler extends AmmoBayWeaponHandler {
 
         // Set Margin of Success/Failure and check for Direct Blows
         toHit.setMoS(roll.getIntValue() - Math.max(2, toHit.getValue()));
-        bDirect = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW) &&
+        bDirect = GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW) &&
               ((toHit.getMoS() / 3) >= 1) &&
               (entityTarget != null);
 
@@ -329,7 +330,8 @@ public class CapitalMissileBearingsOnlyHandler extends AmmoBayWeaponHandler {
             reportMiss(vPhaseReport);
         }
         // Aero Sanity Handling
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_AERO_SANITY) && !bMissed) {
+        if (GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_AERO_SANITY) && !bMissed) {
             // New toHit data to hold our bay auto hit. We want to be able to get glancing/direct blow data from the
             // 'real' toHit data of this bay handler
             ToHitData autoHit = new ToHitData();
@@ -696,8 +698,8 @@ public class CapitalMissileBearingsOnlyHandler extends AmmoBayWeaponHandler {
         }
 
         // Space ECM
-        if (game.getBoard().isSpace() && game.getOptions()
-              .booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
+        if (game.getBoard().isSpace() && GameOptionsSnapshot.of(game.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ECM)) {
             int ecm = ComputeECM.getLargeCraftECM(attackingEntity, targetCoords, target.getPosition());
             ecm = Math.min(4, ecm);
             if (ecm > 0) {
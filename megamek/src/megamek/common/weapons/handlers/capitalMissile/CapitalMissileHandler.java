@@ -49,7 +49,8 @@ import megamek.common.equipment.WeaponMounted;
 import megamek.common.equipment.WeaponType;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Entity;
 import megamek.common.units.IBuilding;
@@ -72,7 +73,8 @@ public class CapitalMissileHandler extends AmmoWeaponHandler {
     public CapitalMissileHandler(ToHitData t, WeaponAttackAction w, Game g, TWGameManager m)
           throws EntityLoadingException {
         super(t, w, g, m);
-        advancedPD = g.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_STRATOPS_ADV_POINT_DEFENSE);
+        advancedPD = GameOptionsSnapshot.of(g.getOptions())
+              .isSet(GameOptionFlag.ADVANCED_AERO_RULES_STRATOPS_ADV_POINT_DEFENSE);
     }
 
     /*
@@ -122,8 +124,9 @@ public class CapitalMissileHandler extends AmmoWeaponHandler {
             vPhaseReport.addElement(report);
 
             // are we a glancing hit?  Check for this here, report it later
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_GLANCING_BLOWS)) {
-                if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_AERO_SANITY)) {
+            if (GameOptionsSnapshot.of(game.getOptions())
+                  .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_GLANCING_BLOWS)) {
+                if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_AERO_SANITY)) {
                     if (getParentBayHandler() != null) {
                         //Use the to-hit value for the bay handler, otherwise toHit is set to Automatic Success
                         WeaponHandler bayHandler = getParentBayHandler();
@@ -136,7 +139,7 @@ public class CapitalMissileHandler extends AmmoWeaponHandler {
             }
 
             // Set Margin of Success/Failure and check for Direct Blows
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_AERO_SANITY)
+            if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_AERO_SANITY)
                   && getParentBayHandler() != null) {
                 //Use the to-hit value for the bay handler, otherwise toHit is set to Automatic Success
                 WeaponHandler bayHandler = getParentBayHandler();
@@ -144,7 +147,8 @@ public class CapitalMissileHandler extends AmmoWeaponHandler {
             } else {
                 toHit.setMoS(roll.getIntValue() - Math.max(2, toHit.getValue()));
             }
-            bDirect = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW)
+            bDirect = GameOptionsSnapshot.of(game.getOptions())
+                  .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_DIRECT_BLOW)
                   && ((toHit.getMoS() / 3) >= 1) && (entityTarget != null);
 
             // Used when using a grounded DropShip with individual weapons
@@ -152,7 +156,7 @@ public class CapitalMissileHandler extends AmmoWeaponHandler {
             nDamPerHit = calcDamagePerHit();
 
             // Point Defense fire vs Capital Missiles
-            if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_AERO_RULES_AERO_SANITY)
+            if (GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_AERO_RULES_AERO_SANITY)
                   && getParentBayHandler() != null) {
                 WeaponHandler bayHandler = getParentBayHandler();
                 CounterAV = bayHandler.getCounterAV();
@@ -46,7 +46,8 @@ import megamek.common.compute.Compute;
 import megamek.common.equipment.AmmoType;
 import megamek.common.game.Game;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.options.OptionsConstants;
+import megamek.common.options.GameOptionFlag;
+import megamek.common.options.GameOptionsSnapshot;
 import megamek.common.units.Entity;
 import megamek.server.SmokeCloud;
 import megamek.server.totalWarfare.TWGameManager;
@@ -78,8 +79,9 @@ public class LRMSmokeWarheadHandler extends LRMHandler {
             // scatterable LRMs scatter like dive bombing
             int range = RangeType.rangeBracket(coords.distance(attackingEntity.getPosition()),
                   weaponType.getRanges(weapon, weapon.getLinkedAmmo()),
-                  game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_RANGE), 
-                        game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_LOS_RANGE));
+                  GameOptionsSnapshot.of(game.getOptions()).isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_RANGE), 
+                        GameOptionsSnapshot.of(game.getOptions())
+                              .isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_LOS_RANGE));
             coords = Compute.scatter(coords, 1);
             
             if (game.getBoard().contains(coords) && (range != RangeType.RANGE_OUT)) {
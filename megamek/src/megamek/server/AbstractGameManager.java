@@ -33,6 +33,7 @@
 
 package megamek.server;
 
+import megamek.MMConstants;
 import megamek.common.Player;
 import megamek.common.enums.GamePhase;
 import megamek.common.game.IGame;
@@ -237,6 +238,9 @@ public abstract class AbstractGameManager implements IGameManager {
         if (PreferenceManager.getClientPreferences().stampFilenames()) {
             fileName = StringUtil.addDateTimeStamp(fileName);
         }
+        if (getGame().getOptions().booleanOption(OptionsConstants.BASE_BINARY_AUTOSAVE)) {
+            fileName += MMConstants.BINARY_SAVE_FILE_EXT;
+        }
 
         saveGame(fileName, getGame().getOptions().booleanOption(OptionsConstants.BASE_AUTOSAVE_MSG));
     }
@@ -53,6 +53,7 @@ public record AutosaveService(AbstractGameManager gameManager) {
     private static final MMLogger LOGGER = MMLogger.create(AutosaveService.class);
 
     public static final String FILENAME_FORMAT = "Round-%d-autosave%s.sav.gz";
+    public static final String BINARY_FILENAME_FORMAT = "Round-%d-autosave%s" + MMConstants.BINARY_SAVE_FILE_EXT;
 
     public void performRollingAutosave() {
         final int maxNumberAutoSaves = gameManager.getGame().getOptions()
@@ -103,9 +104,11 @@ public record AutosaveService(AbstractGameManager gameManager) {
             boolean repeatedName = true;
             String localDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern(
                   PreferenceManager.getClientPreferences().getStampFormat()));
+            final String fileNameFormat = gameManager.getGame().getOptions()
+                  .booleanOption(OptionsConstants.BASE_BINARY_AUTOSAVE) ? BINARY_FILENAME_FORMAT : FILENAME_FORMAT;
             while (repeatedName) {
                 fileName = String.format(
-                      FILENAME_FORMAT,
+                      fileNameFormat,
                       gameManager.getGame().getCurrentRound(),
                       localDateTime);
 
@@ -44,17 +44,33 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.GZIPOutputStream;
 
 import megamek.MMConstants;
+import megamek.common.MMRandom;
+import megamek.common.annotations.Nullable;
+import megamek.common.game.Game;
 import megamek.common.net.enums.PacketCommand;
 import megamek.common.net.packets.Packet;
+import megamek.common.util.BinarySaveGame;
 import megamek.common.util.SerializationHelper;
 import megamek.logging.MMLogger;
 
 public record GameManagerSaveHelper(AbstractGameManager gameManager) {
     private static final MMLogger LOGGER = MMLogger.create(GameManagerSaveHelper.class);
 
+    /** Compresses and writes binary save games, in the order they were made, off the game thread */
+    private static final ExecutorService BINARY_SAVE_WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Save Game Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * Saves the game server-side. Will announce the save (or error) in chat if the given sendChat is true.
      *
@@ -62,6 +78,23 @@ public record GameManagerSaveHelper(AbstractGameManager gameManager) {
      * @param sendChat When true, the saving (or error) is announced in chat
      */
     void saveGame(String fileName, boolean sendChat) {
+        if (BinarySaveGame.isBinarySaveGame(fileName)) {
+            saveBinaryGame(fileName, sendChat);
+            return;
+        }
+        saveXmlGame(fileName, sendChat);
+    }
+
+    /**
+     * Saves the game server-side as compressed XML. Will announce the save (or error) in chat if the given sendChat is
+     * true.
+     *
+     * @param fileName The filename to use
+     * @param sendChat When true, the saving (or error) is announced in chat
+     *
+     * @return the name of the written file, relative to the save game directory
+     */
+    private String saveXmlGame(String fileName, boolean sendChat) {
         // We need to strip the .gz if it exists, otherwise we'll double up on it.
         if (fileName.endsWith(".gz")) {
             fileName = fileName.replace(".gz", "");
@@ -77,6 +110,7 @@ public record GameManagerSaveHelper(AbstractGameManager gameManager) {
             saveGameDir.mkdir();
         }
 
+        String writtenFileName = finalFileName + ".gz";
         finalFileName = saveGameDir + File.separator + finalFileName;
 
         try (OutputStream os = new FileOutputStream(finalFileName + ".gz");
@@ -95,6 +129,53 @@ public record GameManagerSaveHelper(AbstractGameManager gameManager) {
         if (sendChat) {
             gameManager.sendChat("MegaMek", "Game saved to " + finalFileName);
         }
+        return writtenFileName;
+    }
+
+    /**
+     * Saves the game server-side in the binary format. Only the serialization of the game happens on the calling
+     * thread; the save game is compressed and written in the background. Will announce the save (or error) in chat,
+     * once the file is in place, if the given sendChat is true.
+     *
+     * @param fileName The filename to use, ending in {@link MMConstants#BINARY_SAVE_FILE_EXT}
+     * @param sendChat When true, the saving (or error) is announced in chat
+     *
+     * @return the background write, which completes with true once the file is in place and with false if it could
+     *       not be written
+     */
+    private Future<Boolean> saveBinaryGame(String fileName, boolean sendChat) {
+        File saveGameDir = new File(MMConstants.SAVEGAME_DIR);
+        if (!saveGameDir.exists()) {
+            saveGameDir.mkdir();
+        }
+
+        File saveFile = new File(saveGameDir, fileName);
+        BinarySaveGame.Snapshot snapshot;
+        try {
+            snapshot = BinarySaveGame.snapshot(gameManager.getGame());
+        } catch (Exception e) {
+            LOGGER.error(e, String.format("Unable to save file: %s", saveFile));
+            if (sendChat) {
+                gameManager.sendChat("MegaMek", "Could not save the game to " + saveFile);
+            }
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return BINARY_SAVE_WRITER.submit(() -> {
+            try {
+                BinarySaveGame.write(snapshot, saveFile);
+            } catch (Exception e) {
+                LOGGER.error(e, String.format("Unable to save file: %s", saveFile));
+                if (sendChat) {
+                    gameManager.sendChat("MegaMek", "Could not save the game to " + saveFile);
+                }
+                return false;
+            }
+            if (sendChat) {
+                gameManager.sendChat("MegaMek", "Game saved to " + saveFile);
+            }
+            return true;
+        });
     }
 
     /**
@@ -105,15 +186,9 @@ public record GameManagerSaveHelper(AbstractGameManager gameManager) {
      * @param localPath The <code>String</code> path to the file to be used on the client
      */
     public void sendSaveGame(int connId, String fileName, String localPath) {
-        saveGame(fileName, false);
-
-        String finalFileName = fileName;
-        if (!finalFileName.endsWith(MMConstants.SAVE_FILE_GZ_EXT)) {
-            if (finalFileName.endsWith(MMConstants.SAVE_FILE_EXT)) {
-                finalFileName = fileName + ".gz";
-            } else {
-                finalFileName = fileName + MMConstants.SAVE_FILE_GZ_EXT;
-            }
+        String finalFileName = savePlayerSaveGame(fileName);
+        if (finalFileName == null) {
+            return;
         }
 
         localPath = localPath.replace("|", " ");
@@ -132,4 +207,35 @@ public record GameManagerSaveHelper(AbstractGameManager gameManager) {
             LOGGER.error(ex, message);
         }
     }
+
+    /**
+     * Saves the game to be sent to a player. The save game does not hold the seeded generator of the game, as its
+     * master seed would let the player predict the dice; a game loaded from it starts a generator with a new seed.
+     *
+     * @return the name of the written file, relative to the save game directory, or null if it could not be written
+     */
+    private @Nullable String savePlayerSaveGame(String fileName) {
+        Game game = (gameManager.getGame() instanceof Game twGame) ? twGame : null;
+        MMRandom.SplittableSeededRandom seededRandom = (game != null) ? game.getSeededRandom() : null;
+        if (seededRandom != null) {
+            game.setSeededRandom(null);
+        }
+        try {
+            if (!BinarySaveGame.isBinarySaveGame(fileName)) {
+                return saveXmlGame(fileName, false);
+            }
+            // The save game must be in place before it can be sent
+            return saveBinaryGame(fileName, false).get() ? fileName : null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException ex) {
+            LOGGER.error(ex, String.format("Unable to save file: %s", fileName));
+            return null;
+        } finally {
+            if (seededRandom != null) {
+                game.setSeededRandom(seededRandom);
+            }
+        }
+    }
 }
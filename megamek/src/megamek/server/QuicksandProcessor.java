@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2000-2005 Ben Mazur (bmazur@sev.org)
- * Copyright (C) 2008-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2008-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -61,26 +61,23 @@ public class QuicksandProcessor extends DynamicTerrainProcessor {
             if (board.isLowAltitude() || board.isSpace()) {
                 continue;
             }
-            // Cycle through all hexes, checking for quicksand
-            for (int x = 0; x < board.getWidth(); x++) {
-                for (int y = 0; y < board.getHeight(); y++) {
-                    Coords currentCoords = new Coords(x, y);
-                    Hex hex = board.getHex(x, y);
+            // Cycle through all swamp hexes, checking for quicksand
+            for (Coords currentCoords : board.getHexesWithTerrain(Terrains.SWAMP)) {
+                Hex hex = board.getHex(currentCoords);
 
-                    // Check for quicksand that has been around at least one turn (terrain level of 3),
-                    // then for any new quicksand this turn (terrain level of 2)
-                    if (hex.terrainLevel(Terrains.SWAMP) == 3) {
-                        // sink any units that occupy this hex
-                        for (Entity entity : gameManager.getGame()
-                              .getEntitiesVector(currentCoords, board.getBoardId())) {
-                            if (entity.isStuck()) {
-                                sinkEntityInQuicksand(entity);
-                            }
+                // Check for quicksand that has been around at least one turn (terrain level of 3),
+                // then for any new quicksand this turn (terrain level of 2)
+                if (hex.terrainLevel(Terrains.SWAMP) == 3) {
+                    // sink any units that occupy this hex
+                    for (Entity entity : gameManager.getGame()
+                          .getEntitiesVector(currentCoords, board.getBoardId())) {
+                        if (entity.isStuck()) {
+                            sinkEntityInQuicksand(entity);
                         }
-                    } else if (hex.terrainLevel(Terrains.SWAMP) == 2) {
-                        hex.addTerrain(new Terrain(Terrains.SWAMP, 3));
-                        markHexUpdate(currentCoords, board);
                     }
+                } else if (hex.terrainLevel(Terrains.SWAMP) == 2) {
+                    hex.addTerrain(new Terrain(Terrains.SWAMP, 3));
+                    markHexUpdate(currentCoords, board);
                 }
             }
         }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2000-2005 Ben Mazur (bmazur@sev.org)
- * Copyright (C) 2008-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2008-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -63,18 +63,13 @@ public class ScreenProcessor extends DynamicTerrainProcessor {
             if (!board.isSpace()) {
                 continue;
             }
-            // Cycle through all hexes, checking for screens
-            for (int x = 0; x < board.getWidth(); x++) {
-                for (int y = 0; y < board.getHeight(); y++) {
-                    Hex currentHex = board.getHex(x, y);
-                    if (currentHex.containsTerrain(Terrains.SCREEN)) {
-                        if (Compute.d6(2) > 6) {
-                            Coords currentCoords = new Coords(x, y);
-                            vPhaseReport.addElement(Report.publicReport(9075).add(currentCoords.getBoardNum()));
-                            currentHex.removeTerrain(Terrains.SCREEN);
-                            markHexUpdate(currentCoords, board);
-                        }
-                    }
+            // Cycle through all hexes with screens
+            for (Coords currentCoords : board.getHexesWithTerrain(Terrains.SCREEN)) {
+                Hex currentHex = board.getHex(currentCoords);
+                if (Compute.d6(2) > 6) {
+                    vPhaseReport.addElement(Report.publicReport(9075).add(currentCoords.getBoardNum()));
+                    currentHex.removeTerrain(Terrains.SCREEN);
+                    markHexUpdate(currentCoords, board);
                 }
             }
         }
@@ -34,6 +34,7 @@
  */
 package megamek.server;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.DataOutputStream;
 import java.io.File;
@@ -74,16 +75,19 @@ import megamek.common.game.IGame;
 import megamek.common.icons.Camouflage;
 import megamek.common.loaders.MapSettings;
 import megamek.common.net.connections.AbstractConnection;
+import megamek.common.net.connections.PipelinedConnection;
 import megamek.common.net.enums.PacketCommand;
 import megamek.common.net.events.DisconnectedEvent;
 import megamek.common.net.events.PacketReceivedEvent;
 import megamek.common.net.factories.ConnectionFactory;
 import megamek.common.net.listeners.ConnectionListener;
+import megamek.common.net.marshalling.PacketMarshallerFactory;
 import megamek.common.net.packets.InvalidPacketDataException;
 import megamek.common.net.packets.Packet;
 import megamek.common.options.OptionsConstants;
 import megamek.common.preference.PreferenceManager;
 import megamek.common.rolls.Roll;
+import megamek.common.util.BinarySaveGame;
 import megamek.common.util.EmailService;
 import megamek.common.util.SerializationHelper;
 import megamek.logging.MMLogger;
@@ -688,6 +692,22 @@ public class Server implements Runnable {
         return true;
     }
 
+    /**
+     * Greets a pending connection whose client version was accepted. If the client offered a packet marshalling type
+     * that this server supports, the greeting confirms it and the server switches to it for this connection; older
+     * clients that offer none keep native serialization.
+     */
+    private void sendGreeting(Packet packet, int connId) {
+        final AbstractConnection conn = getPendingConnection(connId);
+        if ((conn != null) && (packet.getObject(1) instanceof Integer marshallingType)
+              && (PacketMarshallerFactory.getInstance().getMarshaller(marshallingType) != null)) {
+            sendToPending(connId, new Packet(PacketCommand.SERVER_GREETING, marshallingType));
+            conn.setMarshallingType(marshallingType);
+        } else {
+            sendToPending(connId, new Packet(PacketCommand.SERVER_GREETING));
+        }
+    }
+
     /**
      * Receives a player name, sent from a pending connection, and connects that connection.
      */
@@ -938,16 +958,20 @@ public class Server implements Runnable {
 
         Game newGame;
         try (InputStream is = new FileInputStream(f)) {
-            InputStream gzi;
-
-            if (f.getName().toLowerCase().endsWith(".gz")) {
-                gzi = new GZIPInputStream(is);
+            if (BinarySaveGame.isBinarySaveGame(f)) {
+                newGame = BinarySaveGame.read(new BufferedInputStream(is));
             } else {
-                gzi = is;
-            }
+                InputStream gzi;
+
+                if (f.getName().toLowerCase().endsWith(".gz")) {
+                    gzi = new GZIPInputStream(is);
+                } else {
+                    gzi = is;
+                }
 
-            XStream xStream = SerializationHelper.getLoadSaveGameXStream();
-            newGame = (Game) xStream.fromXML(gzi);
+                XStream xStream = SerializationHelper.getLoadSaveGameXStream();
+                newGame = (Game) xStream.fromXML(gzi);
+            }
             newGame.initializeAfterLoad();
         } catch (Exception e) {
             message = String.format("Unable to load file: %s", f);
@@ -1347,7 +1371,7 @@ public class Server implements Runnable {
                 case CLIENT_VERSIONS:
                     final boolean valid = receivePlayerVersion(packet, connId);
                     if (valid) {
-                        sendToPending(connId, new Packet(PacketCommand.SERVER_GREETING));
+                        sendGreeting(packet, connId);
                     } else {
                         sendToPending(connId, new Packet(PacketCommand.ILLEGAL_CLIENT_VERSION, SuiteConstants.VERSION));
                         getPendingConnection(connId).close();
@@ -1459,8 +1483,12 @@ public class Server implements Runnable {
                     c.open();
                     connectionsPending.add(c);
                     ConnectionHandler ch = new ConnectionHandler(c);
-                    Thread newConnThread = new Thread(ch, "Connection " + id);
-                    newConnThread.start();
+                    if (c instanceof PipelinedConnection) {
+                        Thread.ofVirtual().name("Connection " + id).start(ch);
+                    } else {
+                        Thread newConnThread = new Thread(ch, "Connection " + id);
+                        newConnThread.start();
+                    }
                     connectionHandlers.put(id, ch);
 
                     clientVersionCheck(id);
@@ -34,6 +34,10 @@
 
 package megamek.server;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.TreeSet;
 import java.util.Vector;
 
 import megamek.common.Hex;
@@ -83,8 +87,6 @@ public class WeatherProcessor extends DynamicTerrainProcessor {
 
     private void resolveWeather(Board board) {
         PlanetaryConditions conditions = game.getPlanetaryConditions();
-        int width = board.getWidth();
-        int height = board.getHeight();
         boolean lightSnow = false;
         boolean deepSnow = false;
         boolean ice = false;
@@ -142,119 +144,142 @@ public class WeatherProcessor extends DynamicTerrainProcessor {
             vPhaseReport.addElement(r);
         }
 
-        // Cycle through all hexes, checking for the appropriate weather changes
-        for (int currentXCoord = 0; currentXCoord < width; currentXCoord++) {
-            for (int currentYCoord = 0; currentYCoord < height; currentYCoord++) {
-                Coords currentCoords = new Coords(currentXCoord, currentYCoord);
-                Hex currentHex = board.getHex(currentXCoord, currentYCoord);
-
-                // check for fires and potentially put them out
-                if (currentHex.containsTerrain(Terrains.FIRE)) {
-                    // only standard fires get put out
-                    if (currentHex.terrainLevel(Terrains.FIRE)
-                          == Terrains.FIRE_LVL_NORMAL) {
-                        if (conditions.putOutFire()) {
-                            gameManager.removeFire(board.getBoardId(), currentCoords, "weather conditions");
-                        }
-                        // Downgrade Inferno fires so they can burn out
-                    } else if (currentHex.terrainLevel(Terrains.FIRE)
-                          == Terrains.FIRE_LVL_INFERNO) {
-                        //inferno fires should become regular fires
-                        currentHex.removeTerrain(Terrains.FIRE);
-                        currentHex.addTerrain(new Terrain(Terrains.FIRE, 1));
-                        markHexUpdate(currentCoords, board);
-                        // Check Inferno Bombs
-                    } else if (currentHex.terrainLevel(Terrains.FIRE)
-                          == Terrains.FIRE_LVL_INFERNO_BOMB) {
-                        if (currentHex.getFireTurn() > 30) {
-                            gameManager.removeFire(board.getBoardId(), currentCoords,
-                                  "inferno bomb burning out");
-                        }
-                        markHexUpdate(currentCoords, board);
-                    }
-                    // Inferno IV doesn't burn out, TO pg 356
+        // Snowfall covers the whole board. Otherwise, only burning hexes and water hexes can change, so look at
+        // just those instead of every hex of the board.
+        Collection<Coords> affectedHexes;
+        if (lightSnow || deepSnow) {
+            affectedHexes = new ArrayList<>();
+            for (int currentXCoord = 0; currentXCoord < board.getWidth(); currentXCoord++) {
+                for (int currentYCoord = 0; currentYCoord < board.getHeight(); currentYCoord++) {
+                    affectedHexes.add(new Coords(currentXCoord, currentYCoord));
                 }
+            }
+        } else {
+            affectedHexes = new TreeSet<>(Comparator.comparingInt(Coords::getX).thenComparingInt(Coords::getY));
+            affectedHexes.addAll(board.getHexesWithTerrain(Terrains.FIRE));
+            if (ice || conditions.getWind().isStrongerThan(Wind.MOD_GALE)) {
+                affectedHexes.addAll(board.getHexesWithTerrain(Terrains.WATER));
+            }
+        }
 
-                if (ice && !currentHex.containsTerrain(Terrains.ICE)
-                      && currentHex.containsTerrain(Terrains.WATER)) {
-                    currentHex.addTerrain(new Terrain(Terrains.ICE, 1));
-                    markHexUpdate(currentCoords, board);
-                }
+        for (Coords currentCoords : affectedHexes) {
+            resolveWeather(board, currentCoords, conditions, lightSnow, deepSnow, ice);
+        }
+    }
 
-                if (lightSnow
-                      && !currentHex.containsTerrain(Terrains.SNOW)
-                      && !(currentHex.containsTerrain(Terrains.WATER)
-                      && !currentHex.containsTerrain(Terrains.ICE))
-                      && !currentHex.containsTerrain(Terrains.MAGMA)) {
-                    currentHex.addTerrain(new Terrain(Terrains.SNOW, 1));
-                    markHexUpdate(currentCoords, board);
-                }
+    /**
+     * Applies the weather changes of this round to a single hex: fires going out, snow and ice forming or melting and
+     * wind-driven rapids.
+     */
+    private void resolveWeather(Board board, Coords currentCoords, PlanetaryConditions conditions, boolean lightSnow,
+          boolean deepSnow, boolean ice) {
+        Hex currentHex = board.getHex(currentCoords);
 
-                if (deepSnow && !(currentHex.terrainLevel(Terrains.SNOW) > 1)
-                      && !(currentHex.containsTerrain(Terrains.WATER)
-                      && !currentHex.containsTerrain(Terrains.ICE))
-                      && !currentHex.containsTerrain(Terrains.MAGMA)) {
-                    currentHex.addTerrain(new Terrain(Terrains.SNOW, 2));
-                    markHexUpdate(currentCoords, board);
+        // check for fires and potentially put them out
+        if (currentHex.containsTerrain(Terrains.FIRE)) {
+            // only standard fires get put out
+            if (currentHex.terrainLevel(Terrains.FIRE)
+                  == Terrains.FIRE_LVL_NORMAL) {
+                if (conditions.putOutFire()) {
+                    gameManager.removeFire(board.getBoardId(), currentCoords, "weather conditions");
                 }
-
-                // check for the melting of any snow or ice
-                if (currentHex.terrainLevel(Terrains.SNOW) > 1
-                      && currentHex.containsTerrain(Terrains.FIRE)
-                      && currentHex.getFireTurn() == 3) {
-                    currentHex.removeTerrain(Terrains.SNOW);
-                    markHexUpdate(currentCoords, board);
-                    if (!currentHex.containsTerrain(Terrains.MUD)
-                          && !currentHex.containsTerrain(Terrains.WATER)) {
-                        currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
-                        markHexUpdate(currentCoords, board);
-                    }
+                // Downgrade Inferno fires so they can burn out
+            } else if (currentHex.terrainLevel(Terrains.FIRE)
+                  == Terrains.FIRE_LVL_INFERNO) {
+                //inferno fires should become regular fires
+                currentHex.removeTerrain(Terrains.FIRE);
+                currentHex.addTerrain(new Terrain(Terrains.FIRE, 1));
+                markHexUpdate(currentCoords, board);
+                // Check Inferno Bombs
+            } else if (currentHex.terrainLevel(Terrains.FIRE)
+                  == Terrains.FIRE_LVL_INFERNO_BOMB) {
+                if (currentHex.getFireTurn() > 30) {
+                    gameManager.removeFire(board.getBoardId(), currentCoords,
+                          "inferno bomb burning out");
                 }
+                markHexUpdate(currentCoords, board);
+            }
+            // Inferno IV doesn't burn out, TO pg 356
+        }
 
-                if (currentHex.terrainLevel(Terrains.SNOW) == 1
-                      && currentHex.containsTerrain(Terrains.FIRE)
-                      && currentHex.getFireTurn() == 1) {
-                    currentHex.removeTerrain(Terrains.SNOW);
-                    markHexUpdate(currentCoords, board);
-                    if (!currentHex.containsTerrain(Terrains.MUD)
-                          && !currentHex.containsTerrain(Terrains.WATER)) {
-                        currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
-                        markHexUpdate(currentCoords, board);
-                    }
-                }
+        if (ice && !currentHex.containsTerrain(Terrains.ICE)
+              && currentHex.containsTerrain(Terrains.WATER)) {
+            currentHex.addTerrain(new Terrain(Terrains.ICE, 1));
+            markHexUpdate(currentCoords, board);
+        }
 
-                if (currentHex.containsTerrain(Terrains.ICE)
-                      && currentHex.containsTerrain(Terrains.FIRE)
-                      && currentHex.getFireTurn() == 2) {
-                    currentHex.removeTerrain(Terrains.ICE);
-                    markHexUpdate(currentCoords, board);
-                    if (!currentHex.containsTerrain(Terrains.MUD)
-                          && !currentHex.containsTerrain(Terrains.WATER)) {
-                        currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
-                        markHexUpdate(currentCoords, board);
-                    }
-                }
+        if (lightSnow
+              && !currentHex.containsTerrain(Terrains.SNOW)
+              && !(currentHex.containsTerrain(Terrains.WATER)
+              && !currentHex.containsTerrain(Terrains.ICE))
+              && !currentHex.containsTerrain(Terrains.MAGMA)) {
+            currentHex.addTerrain(new Terrain(Terrains.SNOW, 1));
+            markHexUpdate(currentCoords, board);
+        }
+
+        if (deepSnow && !(currentHex.terrainLevel(Terrains.SNOW) > 1)
+              && !(currentHex.containsTerrain(Terrains.WATER)
+              && !currentHex.containsTerrain(Terrains.ICE))
+              && !currentHex.containsTerrain(Terrains.MAGMA)) {
+            currentHex.addTerrain(new Terrain(Terrains.SNOW, 2));
+            markHexUpdate(currentCoords, board);
+        }
+
+        // check for the melting of any snow or ice
+        if (currentHex.terrainLevel(Terrains.SNOW) > 1
+              && currentHex.containsTerrain(Terrains.FIRE)
+              && currentHex.getFireTurn() == 3) {
+            currentHex.removeTerrain(Terrains.SNOW);
+            markHexUpdate(currentCoords, board);
+            if (!currentHex.containsTerrain(Terrains.MUD)
+                  && !currentHex.containsTerrain(Terrains.WATER)) {
+                currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
+                markHexUpdate(currentCoords, board);
+            }
+        }
+
+        if (currentHex.terrainLevel(Terrains.SNOW) == 1
+              && currentHex.containsTerrain(Terrains.FIRE)
+              && currentHex.getFireTurn() == 1) {
+            currentHex.removeTerrain(Terrains.SNOW);
+            markHexUpdate(currentCoords, board);
+            if (!currentHex.containsTerrain(Terrains.MUD)
+                  && !currentHex.containsTerrain(Terrains.WATER)) {
+                currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
+                markHexUpdate(currentCoords, board);
+            }
+        }
+
+        if (currentHex.containsTerrain(Terrains.ICE)
+              && currentHex.containsTerrain(Terrains.FIRE)
+              && currentHex.getFireTurn() == 2) {
+            currentHex.removeTerrain(Terrains.ICE);
+            markHexUpdate(currentCoords, board);
+            if (!currentHex.containsTerrain(Terrains.MUD)
+                  && !currentHex.containsTerrain(Terrains.WATER)) {
+                currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
+                markHexUpdate(currentCoords, board);
+            }
+        }
 
-                if (currentHex.containsTerrain(Terrains.BLACK_ICE)
-                      && currentHex.containsTerrain(Terrains.FIRE)
-                      && currentHex.getFireTurn() == 2) {
-                    currentHex.removeTerrain(Terrains.BLACK_ICE);
+        if (currentHex.containsTerrain(Terrains.BLACK_ICE)
+              && currentHex.containsTerrain(Terrains.FIRE)
+              && currentHex.getFireTurn() == 2) {
+            currentHex.removeTerrain(Terrains.BLACK_ICE);
+            markHexUpdate(currentCoords, board);
+        }
+
+        // check for rapids/torrents created by wind
+        if (currentHex.terrainLevel(Terrains.WATER) > 0) {
+            if (conditions.getWind().isStrongerThan(Wind.STORM)) {
+                if (!(currentHex.terrainLevel(Terrains.RAPIDS) > 1)) {
+                    currentHex.addTerrain(new Terrain(Terrains.RAPIDS, 2));
                     markHexUpdate(currentCoords, board);
                 }
-
-                // check for rapids/torrents created by wind
-                if (currentHex.terrainLevel(Terrains.WATER) > 0) {
-                    if (conditions.getWind().isStrongerThan(Wind.STORM)) {
-                        if (!(currentHex.terrainLevel(Terrains.RAPIDS) > 1)) {
-                            currentHex.addTerrain(new Terrain(Terrains.RAPIDS, 2));
-                            markHexUpdate(currentCoords, board);
-                        }
-                    } else if (conditions.getWind().isStrongerThan(Wind.MOD_GALE)) {
-                        if (!currentHex.containsTerrain(Terrains.RAPIDS)) {
-                            currentHex.addTerrain(new Terrain(Terrains.RAPIDS, 1));
-                            markHexUpdate(currentCoords, board);
-                        }
-                    }
+            } else if (conditions.getWind().isStrongerThan(Wind.MOD_GALE)) {
+                if (!currentHex.containsTerrain(Terrains.RAPIDS)) {
+                    currentHex.addTerrain(new Terrain(Terrains.RAPIDS, 1));
+                    markHexUpdate(currentCoords, board);
                 }
             }
         }
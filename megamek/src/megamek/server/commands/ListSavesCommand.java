@@ -67,7 +67,8 @@ public class ListSavesCommand extends ServerCommand {
             for (File saveGame : saveGames) {
                 if (saveGame.isFile()) {
                     if (saveGame.getName().endsWith(MMConstants.SAVE_FILE_EXT)
-                          || saveGame.getName().endsWith(MMConstants.SAVE_FILE_GZ_EXT)) {
+                          || saveGame.getName().endsWith(MMConstants.SAVE_FILE_GZ_EXT)
+                          || saveGame.getName().endsWith(MMConstants.BINARY_SAVE_FILE_EXT)) {
                         server.sendServerChat("  " + saveGame.getName());
                         listedAFile = true;
                     }
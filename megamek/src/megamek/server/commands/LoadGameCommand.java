@@ -40,6 +40,7 @@ import java.util.Map;
 
 import megamek.MMConstants;
 import megamek.common.Player;
+import megamek.common.util.BinarySaveGame;
 import megamek.server.Server;
 
 /**
@@ -66,6 +67,10 @@ public class LoadGameCommand extends ServerCommand {
         }
         if (args.length > 1) {
             String sFinalFile = args[1];
+            if (BinarySaveGame.isBinarySaveGame(sFinalFile)) {
+                load(new File(MMConstants.SAVEGAME_DIR, sFinalFile), connId);
+                return;
+            }
             if (!sFinalFile.endsWith(MMConstants.SAVE_FILE_EXT)
                   && !sFinalFile.endsWith(MMConstants.SAVE_FILE_GZ_EXT)) {
                 sFinalFile = sFinalFile + MMConstants.SAVE_FILE_EXT;
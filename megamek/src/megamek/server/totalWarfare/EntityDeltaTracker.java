@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.server.totalWarfare;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Vector;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.marshalling.EntityDeltaCodec;
+import megamek.common.net.packets.Packet;
+import megamek.common.units.Entity;
+import megamek.common.units.UnitLocation;
+import megamek.logging.MMLogger;
+
+/**
+ * Keeps, for each connection, the serialized form of each unit as it was last sent in an
+ * {@link PacketCommand#ENTITY_DELTA_UPDATE} and creates the delta packets for further updates of that unit. The
+ * baselines of different connections usually share the same byte arrays as a unit is serialized only once per update.
+ */
+class EntityDeltaTracker {
+    private static final MMLogger LOGGER = MMLogger.create(EntityDeltaTracker.class);
+
+    private static final byte[] NO_BASELINE = new byte[0];
+
+    /** Connection ID to (unit ID to serialized unit last sent) */
+    private final Map<Integer, Map<Integer, byte[]>> baselines = new HashMap<>();
+
+    /**
+     * @return The serialized form of the given unit to be passed to
+     *       {@link #createUpdatePacket(int, Entity, byte[], Vector)}, or null if it cannot be serialized
+     */
+    @Nullable byte[] serialize(Entity entity) {
+        try {
+            return EntityDeltaCodec.serialize(entity);
+        } catch (IOException ex) {
+            LOGGER.error(ex, "Failed to serialize {} for a delta update", entity);
+            return null;
+        }
+    }
+
+    /**
+     * Creates the update packet for the given unit for one connection and makes the given unit bytes the new baseline
+     * of that connection.
+     *
+     * @param connId      the receiving connection (= player ID)
+     * @param entity      the unit to update
+     * @param entityBytes the unit as returned by {@link #serialize(Entity)}; if null, a full
+     *                    {@link PacketCommand#ENTITY_UPDATE} is created instead
+     * @param movePath    the move path to animate, may be null
+     *
+     * @return the packet to send to the connection
+     */
+    synchronized Packet createUpdatePacket(int connId, Entity entity, @Nullable byte[] entityBytes,
+          @Nullable Vector<UnitLocation> movePath) {
+        if (entityBytes == null) {
+            return new Packet(PacketCommand.ENTITY_UPDATE, entity.getId(), entity, movePath);
+        }
+        Map<Integer, byte[]> connectionBaselines = baselines.computeIfAbsent(connId, id -> new HashMap<>());
+        byte[] baseline = connectionBaselines.getOrDefault(entity.getId(), NO_BASELINE);
+        connectionBaselines.put(entity.getId(), entityBytes);
+        return new Packet(PacketCommand.ENTITY_DELTA_UPDATE,
+              entity.getId(),
+              EntityDeltaCodec.checksum(baseline),
+              EntityDeltaCodec.createDelta(baseline, entityBytes),
+              EntityDeltaCodec.checksum(entityBytes),
+              movePath);
+    }
+
+    /**
+     * @return True if the given unit was sent to the given connection through this tracker and may therefore be sent
+     *       again in full when that connection requests a resync
+     */
+    synchronized boolean hasBaseline(int connId, int entityId) {
+        Map<Integer, byte[]> connectionBaselines = baselines.get(connId);
+        return (connectionBaselines != null) && connectionBaselines.containsKey(entityId);
+    }
+
+    /** Drops the baseline of the given unit for the given connection so the next update is sent in full. */
+    synchronized void forgetBaseline(int connId, int entityId) {
+        Map<Integer, byte[]> connectionBaselines = baselines.get(connId);
+        if (connectionBaselines != null) {
+            connectionBaselines.remove(entityId);
+        }
+    }
+
+    /** Drops all baselines of the given connection, e.g. when a (re-)connecting Client is sent the full game. */
+    synchronized void forgetConnection(int connId) {
+        baselines.remove(connId);
+    }
+
+    /** Drops all baselines. */
+    synchronized void clear() {
+        baselines.clear();
+    }
+}
@@ -517,7 +517,7 @@ class MovePathHandler extends AbstractTWRuleHandler {
             return;
         }
         if (canProcessDangle) {
-            int downStepCount = (int) md.getStepVector().stream()
+            int downStepCount = (int) md.getStepList().stream()
                   .filter(s -> s.getType() == MoveStepType.DOWN)
                   .count();
             // Controlled CLIMB DOWN (TO:AR p.20): same MP cost and PSRs as climbing up.
@@ -789,7 +789,7 @@ class MovePathHandler extends AbstractTWRuleHandler {
             if ((entity instanceof Tank tank) && tank.canLaunchEscapePod()) {
                 // Find the step to get the player-chosen landing hex
                 Coords landingCoords = null;
-                for (MoveStep step : md.getStepVector()) {
+                for (MoveStep step : md.getStepList()) {
                     if (step.getType() == MoveStepType.LAUNCH_ESCAPE_POD) {
                         landingCoords = step.getEscapePodLandingCoords();
                         break;
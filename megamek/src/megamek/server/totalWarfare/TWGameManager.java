@@ -40,6 +40,7 @@ import static megamek.common.options.OptionsConstants.RPG_INDIVIDUAL_INITIATIVE;
 import static megamek.common.weapons.handlers.AreaEffectHelper.calculateDamageFallOff;
 
 import java.io.File;
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -267,6 +268,8 @@ public class TWGameManager extends AbstractGameManager {
     private final TWPhasePreparationManager phasePreparationManager = new TWPhasePreparationManager(this);
     private LobbyBoardHandler lobbyBoardHandler;
     private final InfantryActionTracker infantryActionTracker = new InfantryActionTracker();
+    private final EntityDeltaTracker entityDeltaTracker = new EntityDeltaTracker();
+    private final VisibilityMatrix visibilityMatrix = new VisibilityMatrix(this);
     private final BuildingCollapseHandler buildingCollapseHandler = new BuildingCollapseHandler(this);
     private final DeploymentProcessor deploymentProcessor = new DeploymentProcessor(this);
     final HeatResolver heatResolver = new HeatResolver(this);
@@ -446,6 +449,66 @@ public class TWGameManager extends AbstractGameManager {
         if (this.damager != null) {
             this.damager.setGame(this.game);
         }
+
+        // A seeded RNG rolls on from where the game was saved
+        if (this.game.getOptions().intOption(OptionsConstants.BASE_RNG_TYPE) == MMRandom.R_SPLITTABLE) {
+            applyRandomNumberGenerator();
+        }
+    }
+
+    /**
+     * Sets up the random number generator chosen in the game options. The seeded splittable generator is kept with the
+     * game, so that it continues where it was; when the game has none yet, one is started from a new master seed. That
+     * seed stays on the server until the game ends.
+     */
+    void applyRandomNumberGenerator() {
+        int rngType = game.getOptions().intOption(OptionsConstants.BASE_RNG_TYPE);
+        if (rngType != MMRandom.R_SPLITTABLE) {
+            Compute.setRNG(rngType);
+            return;
+        }
+        if (game.getSeededRandom() == null) {
+            game.setSeededRandom(MMRandom.generateSeeded(new SecureRandom().nextLong()));
+        }
+        Compute.setRNG(game.getSeededRandom());
+    }
+
+    /**
+     * Starts the seeded generator of the game over from its master seed when the game uses the seeded RNG type, so that
+     * the dice of the game depend only on that seed and not on rolls made in the lounge.
+     */
+    void restartSeededRandom() {
+        MMRandom.SplittableSeededRandom seededRandom = game.getSeededRandom();
+        if (seededRandom != null) {
+            game.setSeededRandom(MMRandom.generateSeeded(seededRandom.getMasterSeed()));
+        }
+        applyRandomNumberGenerator();
+    }
+
+    /**
+     * Makes the seeded RNG type start from the given master seed, such as the seed revealed at the end of an earlier
+     * game, so that a game started with the same inputs replays that game. The seed is not announced; it takes effect
+     * when the seeded RNG type is used.
+     *
+     * @param masterSeed the seed to start from
+     */
+    public void setRandomSeed(long masterSeed) {
+        game.setSeededRandom(MMRandom.generateSeeded(masterSeed));
+        if (game.getOptions().intOption(OptionsConstants.BASE_RNG_TYPE) == MMRandom.R_SPLITTABLE) {
+            applyRandomNumberGenerator();
+        }
+    }
+
+    /**
+     * Announces the master seed of the seeded RNG type once the game is over, so that the players can check the dice
+     * or replay the game with {@link #setRandomSeed(long)}.
+     */
+    void revealRandomSeed() {
+        MMRandom.SplittableSeededRandom seededRandom = game.getSeededRandom();
+        if ((seededRandom != null)
+              && (game.getOptions().intOption(OptionsConstants.BASE_RNG_TYPE) == MMRandom.R_SPLITTABLE)) {
+            sendServerChat("The dice of this game were rolled from the seed " + seededRandom.getMasterSeed() + ".");
+        }
     }
 
     /**
@@ -455,6 +518,8 @@ public class TWGameManager extends AbstractGameManager {
     public void resetGame() {
         // remove all entities
         getGame().reset();
+        entityDeltaTracker.clear();
+        visibilityMatrix.reset();
         send(createEntitiesPacket());
         send(new Packet(PacketCommand.SENDING_MINEFIELDS, new Vector<>()));
 
@@ -895,6 +960,7 @@ public class TWGameManager extends AbstractGameManager {
      */
     @Override
     public void sendCurrentInfo(int connId) {
+        entityDeltaTracker.forgetConnection(connId);
         send(connId, packetHelper.createGameSettingsPacket());
         send(connId, packetHelper.createPlanetaryConditionsPacket());
 
@@ -1067,6 +1133,9 @@ public class TWGameManager extends AbstractGameManager {
                 case ENTITY_DAMAGE_EDIT:
                     receiveDamageEdit(packet, connId);
                     break;
+                case ENTITY_DELTA_RESYNC:
+                    receiveEntityDeltaResync(packet, connId);
+                    break;
                 case ENTITY_MULTI_UPDATE:
                     receiveEntitiesUpdate(packet, connId);
                     resetPlayersDone();
@@ -2256,6 +2325,7 @@ public class TWGameManager extends AbstractGameManager {
 
     @Override
     protected void prepareForCurrentPhase() {
+        visibilityMatrix.clear();
         phasePreparationManager.managePhase();
     }
 
@@ -25980,29 +26050,16 @@ public class TWGameManager extends AbstractGameManager {
                 vCanSee = eTarget.getWhoCanSee();
             }
 
-            // If this unit has ECM, players with units affected by the ECM will
-            // need to know about this entity, even if they can't see it.
-            // Otherwise, the client can't properly report things like to-hits.
-            if ((eTarget.getECMRange() > 0) && (eTarget.getPosition() != null)) {
-                int ecmRange = eTarget.getECMRange();
-                Coords pos = eTarget.getPosition();
-                for (Entity ent : game.getEntitiesVector()) {
-                    if ((ent.getPosition() != null) && (pos.distance(ent.getPosition()) <= ecmRange)) {
-                        if (!vCanSee.contains(ent.getOwner())) {
-                            vCanSee.add(ent.getOwner());
-                        }
-                    }
-                }
-            }
+            addPlayersInEcmRange(eTarget, vCanSee);
 
             // send an entity update to everyone who can see
-            Packet pack = createEntityPacket(nEntityID, movePath);
+            byte[] entityBytes = entityDeltaTracker.serialize(eTarget);
             for (int x = 0; x < vCanSee.size(); x++) {
                 Player p = vCanSee.elementAt(x);
-                send(p.getId(), pack);
+                send(p.getId(), entityDeltaTracker.createUpdatePacket(p.getId(), eTarget, entityBytes, movePath));
             }
             // send an entity delete to everyone else
-            pack = createRemoveEntityPacket(nEntityID, eTarget.getRemovalCondition());
+            Packet pack = createRemoveEntityPacket(nEntityID, eTarget.getRemovalCondition());
             for (Player player : playersVector) {
                 if (!vCanSee.contains(player)) {
                     send(player.getId(), pack);
@@ -26012,10 +26069,58 @@ public class TWGameManager extends AbstractGameManager {
             entityUpdateLoadedUnits(eTarget, vCanSee, playersVector);
         } else {
             // But if we're not, then everyone can see.
-            send(createEntityPacket(nEntityID, movePath));
+            byte[] entityBytes = entityDeltaTracker.serialize(eTarget);
+            for (Player player : game.getPlayersList()) {
+                send(player.getId(), entityDeltaTracker.createUpdatePacket(player.getId(), eTarget, entityBytes,
+                      movePath));
+            }
         }
     }
 
+    /**
+     * If the given unit has ECM, players with units affected by the ECM will need to know about this unit, even if they
+     * can't see it. Otherwise, the client can't properly report things like to-hits. Adds these players to the given
+     * list of players.
+     */
+    private void addPlayersInEcmRange(Entity entity, Vector<Player> players) {
+        if ((entity.getECMRange() > 0) && (entity.getPosition() != null)) {
+            int ecmRange = entity.getECMRange();
+            Coords pos = entity.getPosition();
+            for (Entity ent : game.getEntitiesVector()) {
+                if ((ent.getPosition() != null) && (pos.distance(ent.getPosition()) <= ecmRange)) {
+                    if (!players.contains(ent.getOwner())) {
+                        players.add(ent.getOwner());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Resends a unit in full to a Client that could not apply a delta update for it. The unit is only resent when it
+     * was sent to that connection before and, in double-blind games, the player may still receive updates for it as in
+     * {@link #entityUpdate(int, Vector, boolean, Map)}. Otherwise, the baseline is dropped so that the next regular
+     * update, if any, is sent in full.
+     */
+    private void receiveEntityDeltaResync(Packet packet, int connId) throws InvalidPacketDataException {
+        int entityId = packet.getIntValue(0);
+        Entity entity = game.getEntity(entityId);
+        if ((entity == null) || !entityDeltaTracker.hasBaseline(connId, entityId)) {
+            return;
+        }
+        entityDeltaTracker.forgetBaseline(connId, entityId);
+        if (doBlind()) {
+            Player player = game.getPlayer(connId);
+            Vector<Player> playersToUpdate = whoCanSee(entity);
+            addPlayersInEcmRange(entity, playersToUpdate);
+            if ((player == null) || !playersToUpdate.contains(player)) {
+                return;
+            }
+        }
+        LOGGER.info("Resending entity {} to connection {} after a failed delta update", entityId, connId);
+        send(connId, entityDeltaTracker.createUpdatePacket(connId, entity, entityDeltaTracker.serialize(entity), null));
+    }
+
     /**
      * Whenever updating an Entity, we also need to update all of its loaded Entity's, otherwise it could cause issues
      * with Clients.
@@ -26029,13 +26134,13 @@ public class TWGameManager extends AbstractGameManager {
         // so we need to send them.
         for (Entity eLoaded : loader.getLoadedUnits()) {
             // send an entity update to everyone who can see
-            Packet pack = createEntityPacket(eLoaded.getId(), null);
+            byte[] entityBytes = entityDeltaTracker.serialize(eLoaded);
             for (int x = 0; x < vCanSee.size(); x++) {
                 Player p = vCanSee.elementAt(x);
-                send(p.getId(), pack);
+                send(p.getId(), entityDeltaTracker.createUpdatePacket(p.getId(), eLoaded, entityBytes, null));
             }
             // send an entity delete to everyone else
-            pack = createRemoveEntityPacket(eLoaded.getId(), eLoaded.getRemovalCondition());
+            Packet pack = createRemoveEntityPacket(eLoaded.getId(), eLoaded.getRemovalCondition());
             for (Player player : playersVector) {
                 if (!vCanSee.contains(player)) {
                     send(player.getId(), pack);
@@ -26060,9 +26165,10 @@ public class TWGameManager extends AbstractGameManager {
      *
      * @return A vector of the players who can see the entity
      */
-    private Vector<Player> whoCanSee(Entity entity, boolean useSensors, Map<UnitTargetPair, LosEffects> losCache) {
+    private Vector<Player> whoCanSee(Entity entity, boolean useSensors,
+          @Nullable Map<UnitTargetPair, LosEffects> losCache) {
         if (losCache == null) {
-            losCache = new HashMap<>();
+            visibilityMatrix.refresh();
         }
         // Sometimes Null entities are sent to this
         if (entity == null) {
@@ -26105,13 +26211,7 @@ public class TWGameManager extends AbstractGameManager {
             if (!spotter.isActive() || spotter.isOffBoard() || vCanSee.contains(spotter.getOwner())) {
                 continue;
             }
-            // See if the LosEffects is cached, and if not cache it
-            UnitTargetPair etp = new UnitTargetPair(spotter, entity);
-            LosEffects los = losCache.get(etp);
-            if (los == null) {
-                los = LosEffects.calculateLOS(game, spotter, entity);
-                losCache.put(etp, los);
-            }
+            LosEffects los = getLosEffects(spotter, entity, losCache);
             if (Compute.canSee(game, spotter, entity, useSensors, los, allECMInfo)) {
                 if (!vCanSee.contains(spotter.getOwner())) {
                     vCanSee.addElement(spotter.getOwner());
@@ -26136,9 +26236,9 @@ public class TWGameManager extends AbstractGameManager {
      * @return Vector of {@link Player}'s
      */
     private Vector<Player> whoCanDetect(Entity entity, List<ECMInfo> allECMInfo,
-          Map<UnitTargetPair, LosEffects> losCache) {
+          @Nullable Map<UnitTargetPair, LosEffects> losCache) {
         if (losCache == null) {
-            losCache = new HashMap<>();
+            visibilityMatrix.refresh();
         }
 
         boolean bTeamVision = game.getOptions().booleanOption(OptionsConstants.ADVANCED_TEAM_VISION);
@@ -26156,13 +26256,7 @@ public class TWGameManager extends AbstractGameManager {
                   || !game.onTheSameBoard(entity, spotter)) {
                 continue;
             }
-            // See if the LosEffects is cached, and if not cache it
-            UnitTargetPair etp = new UnitTargetPair(spotter, entity);
-            LosEffects los = losCache.get(etp);
-            if (los == null) {
-                los = LosEffects.calculateLOS(game, spotter, entity);
-                losCache.put(etp, los);
-            }
+            LosEffects los = getLosEffects(spotter, entity, losCache);
             if (Compute.inSensorRange(game, los, spotter, entity, allECMInfo)) {
                 if (!vCanDetect.contains(spotter.getOwner())) {
                     vCanDetect.addElement(spotter.getOwner());
@@ -26177,6 +26271,19 @@ public class TWGameManager extends AbstractGameManager {
         return vCanDetect;
     }
 
+    /**
+     * @return The LOS effects from spotter to target, taken from the given cache or, without one, from the visibility
+     *       matrix of the current phase
+     */
+    private LosEffects getLosEffects(Entity spotter, Entity target,
+          @Nullable Map<UnitTargetPair, LosEffects> losCache) {
+        if (losCache == null) {
+            return visibilityMatrix.getLosEffects(spotter, target);
+        }
+        return losCache.computeIfAbsent(new UnitTargetPair(spotter, target),
+              pair -> LosEffects.calculateLOS(game, spotter, target));
+    }
+
     /**
      * Adds teammates of a player to the Vector. Utility function for whoCanSee.
      */
@@ -26209,6 +26316,8 @@ public class TWGameManager extends AbstractGameManager {
         // If double-blind is in effect, filter each players' list individually,
         // and then quit out...
         if (doBlind()) {
+            // All players' views are filtered from the same LOS effects, calculated up front
+            visibilityMatrix.precompute(game.getEntitiesVector(), game.getEntitiesVector());
             List<Player> playersVector = game.getPlayersList();
             for (Player p : playersVector) {
                 send(p.getId(), createFilteredFullEntitiesPacket(p, null));
@@ -26224,9 +26333,9 @@ public class TWGameManager extends AbstractGameManager {
      * Filters an entity vector according to LOS
      */
     private List<Entity> filterEntities(Player pViewer, List<Entity> vEntities,
-          Map<UnitTargetPair, LosEffects> losCache) {
+          @Nullable Map<UnitTargetPair, LosEffects> losCache) {
         if (losCache == null) {
-            losCache = new HashMap<>();
+            visibilityMatrix.refresh();
         }
         Vector<Entity> vCanSee = new Vector<>();
         Vector<Entity> vMyEntities = new Vector<>();
@@ -26247,7 +26356,8 @@ public class TWGameManager extends AbstractGameManager {
             vMyEntities.addAll(vEntities);
             for (Entity a : vMyEntities) {
                 for (Entity b : vMyEntities) {
-                    if (a.isEnemyOf(b) && Compute.canSee(game, b, a, true, null, allECMInfo)) {
+                    if (a.isEnemyOf(b) && Compute.canSee(game, b, a, true, getLosEffects(b, a, losCache),
+                          allECMInfo)) {
                         addVisibleEntity(vCanSee, a);
                         break;
                     }
@@ -26289,13 +26399,7 @@ public class TWGameManager extends AbstractGameManager {
                     continue;
                 }
 
-                // See if the LosEffects is cached, and if not cache it
-                UnitTargetPair etp = new UnitTargetPair(spotter, entity);
-                LosEffects los = losCache.get(etp);
-                if (los == null) {
-                    los = LosEffects.calculateLOS(game, spotter, entity);
-                    losCache.put(etp, los);
-                }
+                LosEffects los = getLosEffects(spotter, entity, losCache);
                 // Otherwise, if they can see the entity in question
                 if (Compute.canSee(game, spotter, entity, true, los, allECMInfo)) {
                     addVisibleEntity(vCanSee, entity);
@@ -26472,9 +26576,9 @@ public class TWGameManager extends AbstractGameManager {
      * @param losCache It can be expensive to have to recompute LoSEffects again and again, so in some cases where this
      *                 may happen, the LosEffects are cached. This can safely be null.
      */
-    void updateVisibilityIndicator(Map<UnitTargetPair, LosEffects> losCache) {
+    void updateVisibilityIndicator(@Nullable Map<UnitTargetPair, LosEffects> losCache) {
         if (losCache == null) {
-            losCache = new HashMap<>();
+            visibilityMatrix.precompute(game.getEntitiesVector(), game.getEntitiesVector());
         }
         List<ECMInfo> allECMInfo = null;
         if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_SENSORS)) {
@@ -27881,7 +27985,7 @@ public class TWGameManager extends AbstractGameManager {
         }
 
         // Set proper RNG
-        Compute.setRNG(game.getOptions().intOption(OptionsConstants.BASE_RNG_TYPE));
+        applyRandomNumberGenerator();
 
         if (changed > 0) {
             revokeGameMasterIfDisallowed();
@@ -28052,16 +28156,20 @@ public class TWGameManager extends AbstractGameManager {
     }
 
     /**
-     * Creates a packet containing all current entities
+     * Creates a packet containing all current entities. As Clients drop their delta baselines when receiving all
+     * entities, the baselines are dropped here as well.
      */
     private Packet createEntitiesPacket() {
+        entityDeltaTracker.clear();
         return new Packet(PacketCommand.SENDING_ENTITIES, getGame().getEntitiesVector());
     }
 
     /**
-     * Creates a packet containing all current and out-of-game entities
+     * Creates a packet containing all current and out-of-game entities. As Clients drop their delta baselines when
+     * receiving all entities, the baselines are dropped here as well.
      */
     public Packet createFullEntitiesPacket() {
+        entityDeltaTracker.clear();
         // DIAGNOSTIC: Nova CEWS network state logging (enable DEBUG logging for C3 debugging)
         if (LOGGER.isDebugEnabled()) {
             for (Entity entity : getGame().getEntitiesVector()) {
@@ -28086,6 +28194,7 @@ public class TWGameManager extends AbstractGameManager {
      * Creates a packet containing all entities, including wrecks, visible to the player in a blind game
      */
     Packet createFilteredFullEntitiesPacket(Player p, Map<UnitTargetPair, LosEffects> losCache) {
+        entityDeltaTracker.forgetConnection(p.getId());
         return new Packet(PacketCommand.SENDING_ENTITIES,
               filterEntities(p, getGame().getEntitiesVector(), losCache),
               getGame().getOutOfGameEntitiesVector(),
@@ -58,6 +58,8 @@ record TWPhaseEndManager(TWGameManager gameManager) {
                 } else if (!rules_system.stringValue().equals(loadedOption)) {
                     gameManager.getGame().initializeRulesManager(rules_system.stringValue());
                 }
+                // Start the dice over from the game's seed so that the game can be replayed
+                gameManager.restartSeededRandom();
                 gameManager.changePhase(GamePhase.EXCHANGE);
                 break;
             case EXCHANGE:
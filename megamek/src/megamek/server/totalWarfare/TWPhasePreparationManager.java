@@ -282,6 +282,7 @@ public record TWPhasePreparationManager(TWGameManager gameManager) {
                 gameManager.clearReports();
                 gameManager.send(gameManager.createAllReportsPacket());
                 gameManager.prepareVictoryReport();
+                gameManager.revealRandomSeed();
                 gameManager.getGame().addReports(gameManager.getMainPhaseReport());
                 // Before we send the full entities packet we need to loop
                 // through the fighters in squadrons and damage them.
@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.server.totalWarfare;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import megamek.common.Hex;
+import megamek.common.LosCache;
+import megamek.common.LosEffects;
+import megamek.common.annotations.Nullable;
+import megamek.common.board.Board;
+import megamek.common.board.Coords;
+import megamek.common.game.Game;
+import megamek.common.units.Dropship;
+import megamek.common.units.Entity;
+
+/**
+ * Caches the {@link LosEffects} between pairs of units for the double-blind visibility checks of a phase so that the
+ * LOS between two units is calculated only once no matter how many players' views or unit updates need it. Rows
+ * (spotters) and columns (targets) of a unit are dropped when anything that goes into its LOS changes, e.g. when it
+ * moves; the whole matrix is dropped at phase change. As in {@link LosCache}, each entry records the hexes between
+ * the two units with their change counts and is used only while these are the same, unchanged Hex objects, so that a
+ * hex changed in place, such as a collapsed building, a fire or cleared woods, invalidates the entries that cross it.
+ * When many pairs are missing at once they are calculated in parallel.
+ * <p>
+ * Entries are kept per ordered pair of units rather than per pair of hexes, as LOS is not symmetric: partial cover,
+ * unit heights and the attacker's probe all depend on which unit is looking.
+ */
+class VisibilityMatrix {
+
+    /** Below this number of missing pairs, LOS is calculated on the calling thread. */
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    /**
+     * The unit state that LOS depends on. If a unit's state differs from the one recorded with its matrix entries,
+     * these entries are outdated.
+     */
+    private record LosState(int boardId, Coords position, List<Coords> secondaryPositions, int elevation,
+          int altitude, int height, boolean airborne, boolean prone, boolean hullDown, boolean offBoard,
+          boolean deployed, int transportId, boolean hasProbe) {
+
+        static LosState of(Entity entity) {
+            return new LosState(entity.getBoardId(),
+                  entity.getPosition(),
+                  new ArrayList<>(entity.getSecondaryPositions().values()),
+                  entity.getElevation(),
+                  entity.getAltitude(),
+                  entity.height(),
+                  entity.isAirborne(),
+                  entity.isProne(),
+                  entity.isHullDown(),
+                  entity.isOffBoard(),
+                  entity.isDeployed(),
+                  entity.getTransportId(),
+                  entity.hasBAP(false));
+        }
+    }
+
+    /**
+     * LOS effects with the board and hexes they were calculated from. The hexes are those on the lines between all
+     * positions of both units, so that multi-hex units are covered.
+     */
+    private record Entry(LosEffects effects, int boardId, @Nullable Board board, Coords[] line, Hex[] hexes,
+          int[] modCounts) {
+
+        /**
+         * Records the hexes between the two units and then calculates their LOS effects. The hexes are recorded first
+         * so that a change during the calculation is not missed.
+         */
+        static Entry calculate(Game game, Entity spotter, Entity target) {
+            int boardId = spotter.getBoardId();
+            Board board = game.getBoard(boardId);
+            Coords[] line = (board == null) ? new Coords[0] : lineBetween(spotter, target);
+            Hex[] hexes = new Hex[line.length];
+            int[] modCounts = new int[line.length];
+            for (int i = 0; i < line.length; i++) {
+                hexes[i] = board.getHex(line[i]);
+                modCounts[i] = (hexes[i] == null) ? 0 : hexes[i].getModCount();
+            }
+            LosEffects effects = LosEffects.calculateLOS(game, spotter, target);
+            return new Entry(effects, boardId, board, line, hexes, modCounts);
+        }
+
+        boolean isValid(Game game) {
+            if (game.getBoard(boardId) != board) {
+                return false;
+            }
+            for (int i = 0; i < line.length; i++) {
+                Hex hex = board.getHex(line[i]);
+                if ((hex != hexes[i]) || ((hex != null) && (hex.getModCount() != modCounts[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Coords[] lineBetween(Entity spotter, Entity target) {
+            Set<Coords> line = new LinkedHashSet<>();
+            for (Coords spotterPosition : positionsOf(spotter)) {
+                for (Coords targetPosition : positionsOf(target)) {
+                    line.addAll(List.of(LosCache.lineOf(spotterPosition, targetPosition)));
+                }
+            }
+            return line.toArray(new Coords[0]);
+        }
+
+        private static List<Coords> positionsOf(Entity entity) {
+            List<Coords> positions = new ArrayList<>(entity.getSecondaryPositions().values());
+            if (entity.getPosition() != null) {
+                positions.add(entity.getPosition());
+            }
+            return positions;
+        }
+    }
+
+    private final TWGameManager gameManager;
+
+    /** Spotter ID to (target ID to LOS effects) */
+    private final Map<Integer, Map<Integer, Entry>> rows = new HashMap<>();
+    private final Map<Integer, LosState> states = new HashMap<>();
+
+    VisibilityMatrix(TWGameManager gameManager) {
+        this.gameManager = gameManager;
+    }
+
+    /**
+     * Brings the matrix up to date with the current state of all units. Besides dropping the entries of units that
+     * have changed, this catches the changes that affect the LOS between other units: grounded DropShips block LOS
+     * and ECM may shut down the probes of spotters nearby. Call this before a batch of visibility checks.
+     */
+    synchronized void refresh() {
+        Game game = gameManager.getGame();
+        Set<Integer> currentIds = new HashSet<>();
+        boolean dropShipChanged = false;
+        boolean ecmChanged = false;
+        for (Entity entity : game.getEntitiesVector()) {
+            currentIds.add(entity.getId());
+            if (updateState(entity)) {
+                dropShipChanged |= entity instanceof Dropship;
+                ecmChanged |= entity.hasECM();
+            }
+        }
+        for (Integer id : new ArrayList<>(states.keySet())) {
+            if (!currentIds.contains(id)) {
+                invalidate(id);
+                states.remove(id);
+            }
+        }
+
+        if (dropShipChanged) {
+            rows.clear();
+        } else if (ecmChanged) {
+            states.entrySet().stream()
+                  .filter(entry -> entry.getValue().hasProbe())
+                  .forEach(entry -> rows.remove(entry.getKey()));
+        }
+    }
+
+    /**
+     * @return The LOS effects from spotter to target, calculated only if not already known for the current state of
+     *       both units and the hexes between them
+     */
+    synchronized LosEffects getLosEffects(Entity spotter, Entity target) {
+        updateState(spotter);
+        updateState(target);
+        Game game = gameManager.getGame();
+        Map<Integer, Entry> row = rows.computeIfAbsent(spotter.getId(), id -> new HashMap<>());
+        Entry entry = row.get(target.getId());
+        if ((entry == null) || !entry.isValid(game)) {
+            entry = Entry.calculate(game, spotter, target);
+            row.put(target.getId(), entry);
+        }
+        return entry.effects();
+    }
+
+    /**
+     * Calculates the missing LOS effects between all given spotters and targets on the same board, in parallel if
+     * there are many, so that the following visibility checks for all players find them in the matrix.
+     */
+    synchronized void precompute(List<Entity> spotters, List<Entity> targets) {
+        refresh();
+        Game game = gameManager.getGame();
+        spotters.forEach(this::updateState);
+        targets.forEach(this::updateState);
+        List<Entity[]> missing = new ArrayList<>();
+        for (Entity spotter : spotters) {
+            Map<Integer, Entry> row = rows.getOrDefault(spotter.getId(), Map.of());
+            for (Entity target : targets) {
+                if ((spotter.getOwnerId() != target.getOwnerId()) && game.onTheSameBoard(spotter, target)) {
+                    Entry entry = row.get(target.getId());
+                    if ((entry == null) || !entry.isValid(game)) {
+                        missing.add(new Entity[] { spotter, target });
+                    }
+                }
+            }
+        }
+
+        var pairs = (missing.size() < PARALLEL_THRESHOLD) ? missing.stream() : missing.parallelStream();
+        List<Entry> results = pairs.map(pair -> Entry.calculate(game, pair[0], pair[1])).toList();
+        for (int i = 0; i < missing.size(); i++) {
+            Entity[] pair = missing.get(i);
+            rows.computeIfAbsent(pair[0].getId(), id -> new HashMap<>()).put(pair[1].getId(), results.get(i));
+        }
+    }
+
+    /** Drops all entries, e.g. at phase change. */
+    synchronized void clear() {
+        rows.clear();
+    }
+
+    /** Drops all entries and unit states, for a new game. */
+    synchronized void reset() {
+        rows.clear();
+        states.clear();
+    }
+
+    /**
+     * Records the current state of the given unit, dropping its row and column if the state has changed.
+     *
+     * @return True if the state has changed or the unit was not known before
+     */
+    private boolean updateState(Entity entity) {
+        LosState state = LosState.of(entity);
+        LosState previous = states.put(entity.getId(), state);
+        if (!state.equals(previous)) {
+            invalidate(entity.getId());
+            return true;
+        }
+        return false;
+    }
+
+    private void invalidate(int entityId) {
+        rows.remove(entityId);
+        for (Map<Integer, Entry> row : rows.values()) {
+            row.remove(entityId);
+        }
+    }
+}
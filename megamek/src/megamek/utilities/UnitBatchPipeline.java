@@ -0,0 +1,593 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.utilities;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import megamek.common.Configuration;
+import megamek.common.alphaStrike.AlphaStrikeElement;
+import megamek.common.alphaStrike.AlphaStrikeHelper;
+import megamek.common.alphaStrike.conversion.ASConverter;
+import megamek.common.annotations.Nullable;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.loaders.MekFileParser;
+import megamek.common.loaders.MekSummary;
+import megamek.common.loaders.MekSummaryCache;
+import megamek.common.units.Entity;
+import megamek.common.verifier.EntityVerifier;
+import megamek.common.verifier.TestEntity;
+import megamek.logging.MMLogger;
+
+/**
+ * Loads many units in parallel without any UI, passes each one through a list of {@link Stage}s such as the Alpha
+ * Strike conversion, BV calculation, validation and cost, and writes one row per unit as TSV or JSON. Each row starts
+ * with the chassis, model, MUL ID and file of the unit. Rows are written in the order of the given units while the
+ * later units are still being processed, so the output of a whole catalog pass is never held in memory. A unit that
+ * fails to load or fails a stage does not stop the batch; the failure is written to the row's error column. The
+ * returned {@link BatchStatistics} tell the throughput and the time spent loading and in each stage.
+ * <pre>
+ * try (ResultWriter writer = new TsvResultWriter(Files.newBufferedWriter(path))) {
+ *     BatchStatistics statistics = new UnitBatchPipeline(List.of(UnitBatchPipeline.BV, UnitBatchPipeline.COST))
+ *           .withThreads(8)
+ *           .run(MekSummaryCache.getInstance().getAllMeks(), writer);
+ * }
+ * </pre>
+ * Run from the command line with {@code ./gradlew :megamek:unitBatchPipeline}, see {@link #main(String...)}.
+ */
+public class UnitBatchPipeline {
+    private static final MMLogger LOGGER = MMLogger.create(UnitBatchPipeline.class);
+
+    /** The name of the column that holds the load and stage failures of a unit */
+    public static final String ERROR_COLUMN = "Error";
+
+    /** The number of units per thread that may be processed ahead of the row that is written next */
+    private static final int UNITS_IN_FLIGHT_PER_THREAD = 16;
+
+    /**
+     * A step of the pipeline. It is given each loaded unit and returns one value for each of its columns. Stages are
+     * called from several threads at once and must not keep state between units.
+     */
+    public interface Stage {
+
+        /** @return the name of this stage, used in the statistics and error messages */
+        String getName();
+
+        /** @return the column headers of the values this stage returns */
+        List<String> getColumns();
+
+        /**
+         * Processes a unit.
+         *
+         * @param entity the loaded unit
+         *
+         * @return one value for each column of this stage; an empty list leaves the columns empty
+         *
+         * @throws Exception when the unit cannot be processed; this is written to the error column of the unit
+         */
+        List<String> process(Entity entity) throws Exception;
+
+        /**
+         * Called once on the calling thread before any unit is processed. Stages use this to initialize shared data
+         * that is not safe to initialize from several threads.
+         */
+        default void prepare() {
+        }
+    }
+
+    /** Loads the entity of a unit summary. */
+    @FunctionalInterface
+    interface UnitLoader {
+        Entity load(MekSummary unit) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface EntityProcessor {
+        List<String> process(Entity entity) throws Exception;
+    }
+
+    private static final class BasicStage implements Stage {
+        private final String name;
+        private final List<String> columns;
+        private final EntityProcessor processor;
+        private final Runnable preparation;
+
+        private BasicStage(String name, List<String> columns, EntityProcessor processor, Runnable preparation) {
+            this.name = name;
+            this.columns = columns;
+            this.processor = processor;
+            this.preparation = preparation;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public List<String> getColumns() {
+            return columns;
+        }
+
+        @Override
+        public List<String> process(Entity entity) throws Exception {
+            return processor.process(entity);
+        }
+
+        @Override
+        public void prepare() {
+            preparation.run();
+        }
+    }
+
+    /** The Alpha Strike stats of the unit; empty when it cannot be converted */
+    public static final Stage ALPHA_STRIKE = new BasicStage("AlphaStrike",
+          List.of("AS Type", "SZ", "MV", "Arm", "Str", "Thr", "Dmg S/M/L", "OV", "PV", "Specials"),
+          UnitBatchPipeline::alphaStrikeValues, () -> {});
+
+    /** The BV of the unit */
+    public static final Stage BV = new BasicStage("BV", List.of("BV"),
+          entity -> List.of(String.valueOf(entity.calculateBattleValue())), () -> {});
+
+    /** The result of the construction rules validation of the unit and the reasons if it is invalid */
+    public static final Stage VALIDATION = new BasicStage("Validation", List.of("Valid", "Validation Report"),
+          UnitBatchPipeline::validationValues,
+          () -> EntityVerifier.getInstance(new File(Configuration.unitsDir(), EntityVerifier.CONFIG_FILENAME)));
+
+    /** The cost of the unit without ammo */
+    public static final Stage COST = new BasicStage("Cost", List.of("Cost"),
+          entity -> List.of(String.format(Locale.ROOT, "%.0f", entity.getCost(true))), () -> {});
+
+    /** All stages of this class, in the order of their command line names */
+    public static final List<Stage> ALL_STAGES = List.of(ALPHA_STRIKE, BV, VALIDATION, COST);
+    private static final List<String> STAGE_NAMES = List.of("as", "bv", "validation", "cost");
+
+    /** The columns that identify the unit of each row; they are taken from its summary */
+    private static final List<String> UNIT_COLUMNS = List.of("Chassis", "Model", "MUL ID", "File");
+
+    private final List<Stage> stages;
+    private int numberOfThreads = 1;
+    private Predicate<Entity> entityFilter = entity -> true;
+    private UnitLoader unitLoader = unit -> new MekFileParser(unit.getSourceFile(), unit.getEntryName()).getEntity();
+
+    /**
+     * Creates a pipeline that passes each unit through the given stages in order.
+     *
+     * @param stages the stages
+     */
+    public UnitBatchPipeline(List<Stage> stages) {
+        this.stages = List.copyOf(stages);
+    }
+
+    /**
+     * Sets the number of units that are processed in parallel (default 1).
+     */
+    public UnitBatchPipeline withThreads(int numberOfThreads) {
+        this.numberOfThreads = Math.max(1, numberOfThreads);
+        return this;
+    }
+
+    /**
+     * Sets a filter for the loaded units; units that it rejects are not passed to the stages and get no row.
+     */
+    public UnitBatchPipeline withEntityFilter(Predicate<Entity> entityFilter) {
+        this.entityFilter = entityFilter;
+        return this;
+    }
+
+    UnitBatchPipeline withUnitLoader(UnitLoader unitLoader) {
+        this.unitLoader = unitLoader;
+        return this;
+    }
+
+    /**
+     * @return the column headers of the rows, i.e. the columns that identify the unit, the columns of all stages and
+     *       the error column
+     */
+    public List<String> getColumns() {
+        List<String> columns = new ArrayList<>(UNIT_COLUMNS);
+        stages.forEach(stage -> columns.addAll(stage.getColumns()));
+        columns.add(ERROR_COLUMN);
+        return columns;
+    }
+
+    /**
+     * Processes the given units and writes their rows to the writer, in the order of the units. Blocks until all units
+     * are processed or the calling thread is interrupted. The writer is not closed.
+     *
+     * @param units  the units to process
+     * @param writer the writer for the header and the rows
+     *
+     * @return the statistics of the batch
+     *
+     * @throws IOException when writing fails; the batch is stopped
+     */
+    public BatchStatistics run(MekSummary[] units, ResultWriter writer) throws IOException {
+        stages.forEach(Stage::prepare);
+        writer.writeHeader(getColumns());
+        var statistics = new BatchStatistics(stages);
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        Deque<Future<List<String>>> pendingRows = new ArrayDeque<>();
+        try {
+            for (MekSummary unit : units) {
+                pendingRows.add(executor.submit(() -> process(unit, statistics)));
+                if (pendingRows.size() >= numberOfThreads * UNITS_IN_FLIGHT_PER_THREAD) {
+                    writeRow(pendingRows.poll(), writer, statistics);
+                }
+            }
+            while (!pendingRows.isEmpty()) {
+                writeRow(pendingRows.poll(), writer, statistics);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        statistics.finish();
+        LOGGER.info("Unit batch finished: {}", statistics);
+        return statistics;
+    }
+
+    private void writeRow(Future<List<String>> pendingRow, ResultWriter writer, BatchStatistics statistics)
+          throws IOException, InterruptedException {
+        try {
+            List<String> row = pendingRow.get();
+            if (row != null) {
+                writer.writeRow(row);
+            }
+        } catch (ExecutionException e) {
+            statistics.failedUnits.incrementAndGet();
+            LOGGER.error(e, "While processing a unit");
+        }
+    }
+
+    /**
+     * Loads the unit and passes it through all stages.
+     *
+     * @return the row of the unit, or null when the entity filter rejects it
+     */
+    private @Nullable List<String> process(MekSummary unit, BatchStatistics statistics) {
+        List<String> row = new ArrayList<>();
+        row.add(Objects.toString(unit.getFullChassis(), ""));
+        row.add(Objects.toString(unit.getModel(), ""));
+        row.add(String.valueOf(unit.getMulId()));
+        row.add(Objects.toString(unit.getSourceFile(), ""));
+        List<String> errors = new ArrayList<>();
+        long start = System.nanoTime();
+        Entity entity = null;
+        try {
+            entity = unitLoader.load(unit);
+        } catch (Exception e) {
+            errors.add("Load: " + e.getMessage());
+            LOGGER.debug("Could not load {}: {}", unit.getName(), e.getMessage());
+        }
+        statistics.loadNanos.add(System.nanoTime() - start);
+
+        if ((entity != null) && !entityFilter.test(entity)) {
+            statistics.skippedUnits.incrementAndGet();
+            return null;
+        }
+
+        for (int i = 0; i < stages.size(); i++) {
+            Stage stage = stages.get(i);
+            List<String> values = Collections.emptyList();
+            if (entity != null) {
+                start = System.nanoTime();
+                try {
+                    values = stage.process(entity);
+                } catch (Exception e) {
+                    statistics.stageFailures[i].increment();
+                    errors.add(stage.getName() + ": " + e);
+                    LOGGER.debug("{} failed for {}: {}", stage.getName(), unit.getName(), e);
+                }
+                statistics.stageNanos[i].add(System.nanoTime() - start);
+            }
+            for (int column = 0; column < stage.getColumns().size(); column++) {
+                row.add((column < values.size()) ? values.get(column) : "");
+            }
+        }
+        row.add(String.join("; ", errors));
+        if (!errors.isEmpty()) {
+            statistics.failedUnits.incrementAndGet();
+        }
+        statistics.processedUnits.incrementAndGet();
+        return row;
+    }
+
+    private static List<String> alphaStrikeValues(Entity entity) {
+        if (!ASConverter.canConvert(entity)) {
+            return List.of();
+        }
+        AlphaStrikeElement element = ASConverter.convert(entity);
+        return List.of(element.getASUnitType().toString(),
+              String.valueOf(element.getSize()),
+              element.getMovementAsString(),
+              String.valueOf(element.getFullArmor()),
+              String.valueOf(element.getFullStructure()),
+              element.usesThreshold() ? String.valueOf(element.getThreshold()) : "",
+              String.valueOf(element.getStandardDamage()),
+              String.valueOf(element.getOV()),
+              String.valueOf(element.getPointValue()),
+              AlphaStrikeHelper.getSpecialsExportString(",", element));
+    }
+
+    private static List<String> validationValues(Entity entity) {
+        TestEntity testEntity = TestEntity.getEntityVerifier(entity);
+        if (testEntity == null) {
+            return List.of("n/a", "");
+        }
+        StringBuffer report = new StringBuffer();
+        boolean valid = testEntity.correctEntity(report);
+        return List.of(valid ? "yes" : "no", valid ? "" : report.toString().trim());
+    }
+
+    /**
+     * The counts and timings of a batch. Stage and load times are summed over all threads, so with several threads
+     * they exceed the elapsed time of the batch.
+     */
+    public static class BatchStatistics {
+        private final List<Stage> stages;
+        private final long startNanos = System.nanoTime();
+        private long elapsedNanos;
+        private final AtomicInteger processedUnits = new AtomicInteger();
+        private final AtomicInteger failedUnits = new AtomicInteger();
+        private final AtomicInteger skippedUnits = new AtomicInteger();
+        private final LongAdder loadNanos = new LongAdder();
+        private final LongAdder[] stageNanos;
+        private final LongAdder[] stageFailures;
+
+        private BatchStatistics(List<Stage> stages) {
+            this.stages = stages;
+            stageNanos = new LongAdder[stages.size()];
+            stageFailures = new LongAdder[stages.size()];
+            for (int i = 0; i < stages.size(); i++) {
+                stageNanos[i] = new LongAdder();
+                stageFailures[i] = new LongAdder();
+            }
+        }
+
+        private void finish() {
+            elapsedNanos = System.nanoTime() - startNanos;
+        }
+
+        /** @return the number of units that were written, including those with failures */
+        public int getProcessedUnits() {
+            return processedUnits.get();
+        }
+
+        /** @return the number of units that failed to load or failed at least one stage */
+        public int getFailedUnits() {
+            return failedUnits.get();
+        }
+
+        /** @return the number of units that the entity filter rejected */
+        public int getSkippedUnits() {
+            return skippedUnits.get();
+        }
+
+        /** @return the number of units that failed the given stage */
+        public long getStageFailures(Stage stage) {
+            int index = stages.indexOf(stage);
+            return (index < 0) ? 0 : stageFailures[index].sum();
+        }
+
+        /** @return the time spent in the given stage, summed over all threads */
+        public long getStageTime(Stage stage, TimeUnit unit) {
+            int index = stages.indexOf(stage);
+            return (index < 0) ? 0 : unit.convert(stageNanos[index].sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /** @return the time spent loading units, summed over all threads */
+        public long getLoadTime(TimeUnit unit) {
+            return unit.convert(loadNanos.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /** @return the elapsed time of the batch */
+        public long getElapsedTime(TimeUnit unit) {
+            return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /** @return the number of units loaded per second of elapsed time */
+        public double getUnitsPerSecond() {
+            int loadedUnits = processedUnits.get() + skippedUnits.get();
+            return (elapsedNanos == 0) ? 0 : loadedUnits / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            var result = new StringBuilder(String.format(Locale.ROOT,
+                  "%d units processed, %d failed, %d skipped in %.1f s (%.1f units/s)",
+                  processedUnits.get(), failedUnits.get(), skippedUnits.get(), elapsedNanos / 1e9,
+                  getUnitsPerSecond()));
+            int loadedUnits = Math.max(1, processedUnits.get() + skippedUnits.get());
+            result.append(String.format(Locale.ROOT, "%n  Load: %.1f s, %.2f ms/unit",
+                  loadNanos.sum() / 1e9, loadNanos.sum() / 1e6 / loadedUnits));
+            int stagedUnits = Math.max(1, processedUnits.get());
+            for (int i = 0; i < stages.size(); i++) {
+                result.append(String.format(Locale.ROOT, "%n  %s: %.1f s, %.2f ms/unit, %d failed",
+                      stages.get(i).getName(), stageNanos[i].sum() / 1e9, stageNanos[i].sum() / 1e6 / stagedUnits,
+                      stageFailures[i].sum()));
+            }
+            return result.toString();
+        }
+    }
+
+    /** Receives the header and rows of a batch. */
+    public interface ResultWriter extends Closeable {
+
+        void writeHeader(List<String> columns) throws IOException;
+
+        void writeRow(List<String> values) throws IOException;
+    }
+
+    /**
+     * Writes the rows as tab separated values with a header line. Tabs and line breaks within values are replaced by
+     * spaces.
+     */
+    public static class TsvResultWriter implements ResultWriter {
+        private final Writer writer;
+
+        public TsvResultWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void writeHeader(List<String> columns) throws IOException {
+            writeRow(columns);
+        }
+
+        @Override
+        public void writeRow(List<String> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write('\t');
+                }
+                writer.write(values.get(i).replaceAll("[\\t\\r\\n]+", " "));
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes each row as a JSON object on its own line (JSON Lines), using the column headers as keys.
+     */
+    public static class JsonResultWriter implements ResultWriter {
+        private final JsonGenerator generator;
+        private List<String> columns = List.of();
+
+        public JsonResultWriter(Writer writer) throws IOException {
+            generator = new JsonFactory().createGenerator(writer);
+            // Each row ends with its own line break instead of the default space between root values
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeHeader(List<String> columns) {
+            this.columns = List.copyOf(columns);
+        }
+
+        @Override
+        public void writeRow(List<String> values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < Math.min(columns.size(), values.size()); i++) {
+                generator.writeStringField(columns.get(i), values.get(i));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * Processes all units of the unit cache. Arguments:
+     * <ul>
+     *     <li>{@code -threads N}: the number of parallel threads; default: the number of processors</li>
+     *     <li>{@code -json}: write JSON Lines instead of TSV</li>
+     *     <li>{@code -out FILE}: the output file; default: UnitBatch.tsv or UnitBatch.json</li>
+     *     <li>any of {@code as bv validation cost}: the stages; default: all of them</li>
+     * </ul>
+     */
+    public static void main(String... args) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean json = false;
+        String outputFile = null;
+        List<Stage> stages = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("-threads") && (i + 1 < args.length)) {
+                threads = Integer.parseInt(args[++i]);
+            } else if (arg.equals("-json")) {
+                json = true;
+            } else if (arg.equals("-out") && (i + 1 < args.length)) {
+                outputFile = args[++i];
+            } else if (STAGE_NAMES.contains(arg.toLowerCase(Locale.ROOT))) {
+                stages.add(ALL_STAGES.get(STAGE_NAMES.indexOf(arg.toLowerCase(Locale.ROOT))));
+            } else {
+                LOGGER.error(String.format("Unknown argument %s; expected -threads N, -json, -out FILE or one of %s",
+                      arg, STAGE_NAMES));
+                System.exit(1);
+            }
+        }
+        if (stages.isEmpty()) {
+            stages.addAll(ALL_STAGES);
+        }
+        Path output = Path.of((outputFile != null) ? outputFile : (json ? "UnitBatch.json" : "UnitBatch.tsv"));
+
+        EquipmentType.initializeTypes();
+        MekSummary[] units = MekSummaryCache.getInstance().getAllMeks();
+        try (BufferedWriter bufferedWriter = Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+              ResultWriter writer = json ? new JsonResultWriter(bufferedWriter)
+                    : new TsvResultWriter(bufferedWriter)) {
+            BatchStatistics statistics = new UnitBatchPipeline(stages).withThreads(threads).run(units, writer);
+            System.out.println(statistics);
+            System.out.println("Written to " + output.toAbsolutePath());
+        } catch (IOException e) {
+            LOGGER.error(e, "Could not write {}", output);
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+}
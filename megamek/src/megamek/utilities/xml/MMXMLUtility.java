@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2018-2025 The MegaMek Team. All Rights Reserved.
+ * Copyright (C) 2018-2026 The MegaMek Team. All Rights Reserved.
  *
  * This file is part of MegaMek.
  *
@@ -45,6 +45,7 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
 import javax.xml.transform.Source;
 import javax.xml.transform.sax.SAXSource;
 
@@ -61,6 +62,7 @@ public class MMXMLUtility {
     // region Variable Declarations
     private static DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY;
     private static SAXParserFactory SAX_PARSER_FACTORY;
+    private static XMLInputFactory XML_INPUT_FACTORY;
 
     private static final String[] INDENTS = new String[] { "", "\t", "\t\t", "\t\t\t", "\t\t\t\t", "\t\t\t\t\t",
                                                            "\t\t\t\t\t\t" };
@@ -137,6 +139,25 @@ public class MMXMLUtility {
 
     }
 
+    /**
+     * Creates an {@link XMLInputFactory} for StAX pull parsing that neither processes DTDs nor resolves external
+     * entities. Adjacent text is coalesced, as it is in a normalized DOM.
+     *
+     * @return An XMLInputFactory safe to use to read untrusted XML.
+     */
+    public static XMLInputFactory newSafeXMLInputFactory() {
+        XMLInputFactory factory = XML_INPUT_FACTORY;
+        if (null == factory) {
+            // As with the DocumentBuilderFactory, creating more than one instance when multiple threads get here is Ok
+            factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+            XML_INPUT_FACTORY = factory;
+        }
+        return factory;
+    }
+
     /**
      * @return a {@linkplain Source} for the provided input stream that is safe from external entities and entity
      *       expansion attacks.
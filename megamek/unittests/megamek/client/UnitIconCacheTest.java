@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class UnitIconCacheTest {
+
+    private final List<Image> encodedImages = new ArrayList<>();
+
+    private UnitIconCache createCache(int maxEncodedIcons) {
+        return new UnitIconCache(maxEncodedIcons, image -> {
+            encodedImages.add(image);
+            return "<img " + encodedImages.size() + ">";
+        });
+    }
+
+    private static Image createImage() {
+        return new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Test
+    void testImagesAreEncodedOnlyWhenRequested() {
+        UnitIconCache cache = createCache(8);
+        cache.put(1, createImage());
+        cache.put(2, createImage());
+        assertTrue(cache.containsKey(1));
+        assertTrue(encodedImages.isEmpty());
+
+        assertEquals("<img 1>", cache.getImgTag(2));
+        assertEquals(1, encodedImages.size());
+    }
+
+    @Test
+    void testUnitsWithTheSameImageShareTheTag() {
+        UnitIconCache cache = createCache(8);
+        Image image = createImage();
+        cache.put(1, image);
+        cache.put(2, image);
+        String tag = cache.getImgTag(1);
+        assertSame(tag, cache.getImgTag(2));
+
+        // a later entity packet with the same image does not encode again
+        cache.put(1, image);
+        assertSame(tag, cache.getImgTag(1));
+        assertEquals(1, encodedImages.size());
+    }
+
+    @Test
+    void testChangedImageGivesNewTag() {
+        UnitIconCache cache = createCache(8);
+        cache.put(1, createImage());
+        String tag = cache.getImgTag(1);
+        cache.put(1, createImage());
+        assertFalse(tag.equals(cache.getImgTag(1)));
+
+        cache.put(1, null);
+        assertFalse(cache.containsKey(1));
+        assertNull(cache.getImgTag(1));
+        assertNull(cache.getImgTag(5));
+    }
+
+    @Test
+    void testEncodedTagsAreLimited() {
+        UnitIconCache cache = createCache(2);
+        Image first = createImage();
+        cache.put(1, first);
+        cache.put(2, createImage());
+        cache.put(3, createImage());
+        cache.getImgTag(1);
+        cache.getImgTag(2);
+        cache.getImgTag(3);
+        assertEquals(2, cache.getEncodedCount());
+
+        // the least recently used tag was dropped and is encoded again
+        cache.getImgTag(1);
+        assertEquals(4, encodedImages.size());
+        assertSame(first, encodedImages.get(3));
+    }
+
+    @Test
+    void testClear() {
+        UnitIconCache cache = createCache(8);
+        cache.put(1, createImage());
+        cache.getImgTag(1);
+        cache.clear();
+        assertFalse(cache.containsKey(1));
+        assertEquals(0, cache.getEncodedCount());
+    }
+}
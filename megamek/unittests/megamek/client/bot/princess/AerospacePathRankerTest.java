@@ -336,7 +336,7 @@ class AerospacePathRankerTest {
         when(maneuverStep.getType()).thenReturn(megamek.common.enums.MoveStepType.MANEUVER);
         MovePath path = mock(MovePath.class);
         when(path.getEntity()).thenReturn(fighter);
-        when(path.getStepVector()).thenReturn(new Vector<>(List.of(maneuverStep)));
+        when(path.getStepList()).thenReturn(new Vector<>(List.of(maneuverStep)));
 
         // The engine says the roll is an 11 - say, piloting 6 plus two avionics hits the flat
         // formula never sees. 2d6 >= 11 is 3/36.
@@ -933,7 +933,7 @@ class AerospacePathRankerTest {
             when(step.getPosition()).thenReturn(position);
             steps.add(step);
         }
-        when(run.getStepVector()).thenReturn(steps);
+        when(run.getStepList()).thenReturn(steps);
 
         AerospacePathRanker spyRanker = Mockito.spy(ranker);
         Mockito.doReturn(false).when(spyRanker).isExtremeRange(game);
@@ -1045,7 +1045,7 @@ class AerospacePathRankerTest {
             when(step.getPosition()).thenReturn(position);
             steps.add(step);
         }
-        when(run.getStepVector()).thenReturn(steps);
+        when(run.getStepList()).thenReturn(steps);
         // A 10-damage strafe-eligible laser battery: the same guns price the strike.
         WeaponType laserType = mock(WeaponType.class);
         when(laserType.hasFlag(WeaponType.F_DIRECT_FIRE)).thenReturn(true);
@@ -1033,7 +1033,7 @@ class BasicPathRankerTest {
         when(mockPath.toString()).thenReturn("F F F R R");
         when(mockPath.clone()).thenReturn(mockPath);
         when(mockPath.getLastStep()).thenReturn(mockLastStep);
-        when(mockPath.getStepVector()).thenReturn(new Vector<>());
+        when(mockPath.getStepList()).thenReturn(new Vector<>());
         when(mockPath.getFinalFacing()).thenReturn(2);
         final TargetRoll mockTargetRoll = MockGenerators.mockTargetRoll(8);
         final TargetRoll mockTargetRollTwo = MockGenerators.mockTargetRoll(5);
@@ -1887,7 +1887,7 @@ class BasicPathRankerTest {
         MovePath mockPath = mock(MovePath.class);
         when(mockPath.getLastStep()).thenReturn(steps.lastElement());
         when(mockPath.getFinalCoords()).thenReturn(finalCoords);
-        when(mockPath.getStepVector()).thenReturn(steps);
+        when(mockPath.getStepList()).thenReturn(steps);
 
         return mockPath;
     }
@@ -2275,7 +2275,7 @@ class BasicPathRankerTest {
 
         private MovePath setupStationaryPath(Coords position) {
             MovePath stationaryPath = mock(MovePath.class);
-            when(stationaryPath.getStepVector()).thenReturn(new Vector<>());
+            when(stationaryPath.getStepList()).thenReturn(new Vector<>());
             when(stationaryPath.getFinalCoords()).thenReturn(position);
             when(stationaryPath.isJumping()).thenReturn(false);
             return stationaryPath;
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.bot.princess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HeatKnapsackTest {
+
+    private static final double TOLERANCE = 0.0001;
+
+    private static List<Integer> chosen(HeatKnapsack knapsack) {
+        List<Integer> chosen = new ArrayList<>();
+        for (int index = 0; index < knapsack.getChosenCount(); index++) {
+            chosen.add(knapsack.getChosen(index));
+        }
+        return chosen;
+    }
+
+    /**
+     * The list-based table that MultiTargetFireControl used before, to compare the choices against.
+     */
+    private static List<Integer> solveWithLists(int[] heats, double[] values, int maxHeat) {
+        List<List<Integer>> previousRow = new ArrayList<>();
+        double[] previousValues = new double[maxHeat + 1];
+        for (int heatIndex = 0; heatIndex <= maxHeat; heatIndex++) {
+            previousRow.add(new ArrayList<>());
+        }
+        for (int item = 0; item < heats.length; item++) {
+            List<List<Integer>> row = new ArrayList<>();
+            double[] rowValues = new double[maxHeat + 1];
+            row.add(new ArrayList<>());
+            for (int heatIndex = 1; heatIndex <= maxHeat; heatIndex++) {
+                rowValues[heatIndex] = previousValues[heatIndex];
+                row.add(previousRow.get(heatIndex));
+                if (heats[item] <= heatIndex) {
+                    double valueWithItem = values[item] + previousValues[heatIndex - heats[item]];
+                    if (valueWithItem > previousValues[heatIndex]) {
+                        rowValues[heatIndex] = valueWithItem;
+                        List<Integer> withItem = new ArrayList<>(previousRow.get(heatIndex - heats[item]));
+                        withItem.add(item);
+                        row.set(heatIndex, withItem);
+                    }
+                }
+            }
+            previousRow = row;
+            previousValues = rowValues;
+        }
+        return previousRow.get(maxHeat);
+    }
+
+    @Test
+    void choosesTheMostValuableItemsUnderTheHeat() {
+        HeatKnapsack knapsack = HeatKnapsack.forCurrentThread();
+        knapsack.addItem(10, 10.0);
+        knapsack.addItem(3, 5.0);
+        knapsack.addItem(3, 4.0);
+        knapsack.addItem(4, 2.0);
+
+        assertEquals(11.0, knapsack.solve(10), TOLERANCE);
+        assertEquals(List.of(1, 2, 3), chosen(knapsack));
+
+        assertEquals(15.0, knapsack.solve(13), TOLERANCE);
+        assertEquals(List.of(0, 1), chosen(knapsack));
+    }
+
+    @Test
+    void choosesNothingWithoutHeatToSpend() {
+        HeatKnapsack knapsack = HeatKnapsack.forCurrentThread();
+        knapsack.addItem(0, 3.0);
+        knapsack.addItem(2, 5.0);
+
+        assertEquals(0.0, knapsack.solve(-1), TOLERANCE);
+        assertEquals(0, knapsack.getChosenCount());
+        assertEquals(0.0, knapsack.solve(0), TOLERANCE);
+        assertEquals(0, knapsack.getChosenCount());
+        assertEquals(3.0, knapsack.solve(1), TOLERANCE);
+        assertEquals(List.of(0), chosen(knapsack));
+    }
+
+    @Test
+    void forCurrentThreadStartsEmpty() {
+        HeatKnapsack knapsack = HeatKnapsack.forCurrentThread();
+        for (int item = 0; item < 40; item++) {
+            knapsack.addItem(item % 7, item);
+        }
+        knapsack.solve(60);
+
+        knapsack = HeatKnapsack.forCurrentThread();
+        knapsack.addItem(5, 1.0);
+        assertEquals(1.0, knapsack.solve(5), TOLERANCE);
+        assertEquals(List.of(0), chosen(knapsack));
+    }
+
+    @Test
+    void choosesWhatTheListTablesChose() {
+        Random random = new Random(42);
+        HeatKnapsack knapsack = new HeatKnapsack();
+        for (int round = 0; round < 500; round++) {
+            int itemCount = random.nextInt(25);
+            int[] heats = new int[itemCount];
+            double[] values = new double[itemCount];
+            knapsack.clear();
+            for (int item = 0; item < itemCount; item++) {
+                heats[item] = random.nextInt(12);
+                // Whole values give many ties
+                values[item] = random.nextInt(8);
+                knapsack.addItem(heats[item], values[item]);
+            }
+            int maxHeat = random.nextInt(60);
+
+            knapsack.solve(maxHeat);
+
+            assertEquals(solveWithLists(heats, values, maxHeat), chosen(knapsack));
+        }
+    }
+}
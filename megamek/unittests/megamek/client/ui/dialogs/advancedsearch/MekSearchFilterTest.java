@@ -37,14 +37,18 @@ import static megamek.common.SourceBookCode.CORE;
 import static megamek.common.SourceBookCode.IO_AE;
 import static megamek.common.SourceBookCode.SHRAPNEL_1;
 import static megamek.common.SourceBookCode.TW;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Set;
+import java.util.Vector;
+import java.util.function.Predicate;
 
 import megamek.common.loaders.MekSummary;
+import megamek.common.loaders.MekSummaryCatalog;
 import megamek.common.units.Entity;
 import org.junit.jupiter.api.Test;
 
@@ -197,4 +201,100 @@ class MekSearchFilterTest {
         assertTrue(MekSearchFilter.matchesRulesRefs(List.of(), Set.of()));
         assertFalse(MekSearchFilter.matchesRulesRefs(List.of(), Set.of(CORE)));
     }
+
+    /** A summary with the given equipment that passes all criteria except the equipment of a pass-through filter. */
+    private static MekSummary equipmentSummary(List<String> names, List<Integer> quantities)
+          throws ReflectiveOperationException {
+        MekSummary mek = frankenMekSummary(false);
+        Field namesField = MekSummary.class.getDeclaredField("equipmentNames");
+        Field quantitiesField = MekSummary.class.getDeclaredField("equipmentQuantities");
+        namesField.setAccessible(true);
+        quantitiesField.setAccessible(true);
+        namesField.set(mek, new Vector<>(names));
+        quantitiesField.set(mek, new Vector<>(quantities));
+        return mek;
+    }
+
+    private static ExpNode operation(MekSearchFilter.BoolOp operation, ExpNode... children) {
+        ExpNode node = new ExpNode();
+        node.operation = operation;
+        node.children.addAll(List.of(children));
+        return node;
+    }
+
+    /**
+     * Asserts that the compiled filter gives the same results as isMatch for each unit of the catalog and for a unit
+     * outside of it.
+     */
+    private static void assertCompiledMatchesIsMatch(ExpNode criteria, MekSummary[] units, MekSummary outsider)
+          throws IllegalAccessException {
+        MekSearchFilter filter = passThroughFilter();
+        filter.checkEquipment = true;
+        filter.equipmentCriteria = new ExpressionTree(criteria);
+        Predicate<MekSummary> compiled = MekSearchFilter.compile(filter, new MekSummaryCatalog(units));
+
+        for (MekSummary unit : units) {
+            assertEquals(MekSearchFilter.isMatch(unit, filter), compiled.test(unit), criteria + " " + unit);
+        }
+        assertEquals(MekSearchFilter.isMatch(outsider, filter), compiled.test(outsider), criteria + " outsider");
+    }
+
+    @Test
+    void compiledFilterMatchesIsMatchForEquipmentCriteria() throws ReflectiveOperationException {
+        MekSummary[] units = {
+              equipmentSummary(List.of("Medium Laser", "LRM 10"), List.of(2, 1)),
+              equipmentSummary(List.of("Medium Laser", "Large Laser"), List.of(4, 1)),
+              equipmentSummary(List.of("AC/20"), List.of(1)),
+              equipmentSummary(List.of(), List.of()),
+              equipmentSummary(List.of("LRM 10", "LRM 10"), List.of(1, 1))
+        };
+        MekSummary outsider = equipmentSummary(List.of("Medium Laser"), List.of(3));
+        List<ExpNode> criteria = List.of(
+              new ExpNode("Medium Laser", 3, true),
+              new ExpNode("Medium Laser", 0, true),
+              new ExpNode("LRM 10", 1, false),
+              new ExpNode("Gauss Rifle", 1, true),
+              new ExpNode("Gauss Rifle", 1, false),
+              new ExpNode(AdvancedSearchEquipmentClass.LASER, 3, true),
+              new ExpNode(AdvancedSearchEquipmentClass.LASER, 1, false),
+              operation(MekSearchFilter.BoolOp.AND, new ExpNode("Medium Laser", 2, true),
+                    new ExpNode("LRM 10", 1, false)),
+              operation(MekSearchFilter.BoolOp.OR, new ExpNode("AC/20", 1, true),
+                    operation(MekSearchFilter.BoolOp.AND, new ExpNode("LRM 10", 1, true),
+                          new ExpNode(AdvancedSearchEquipmentClass.LASER, 2, true))));
+
+        for (ExpNode node : criteria) {
+            assertCompiledMatchesIsMatch(node, units, outsider);
+        }
+    }
+
+    @Test
+    void compiledFilterAppliesRangeCriteria() throws ReflectiveOperationException {
+        MekSummary light = equipmentSummary(List.of(), List.of());
+        light.setTons(35);
+        light.setBV(900);
+        light.setYear(3025);
+        MekSummary heavy = equipmentSummary(List.of(), List.of());
+        heavy.setTons(75);
+        heavy.setBV(1800);
+        heavy.setYear(3058);
+        MekSearchFilter filter = passThroughFilter();
+        filter.sStartTons = "50";
+        filter.sEndYear = "3060";
+        Predicate<MekSummary> compiled = MekSearchFilter.compile(filter,
+              new MekSummaryCatalog(new MekSummary[] { light, heavy }));
+
+        assertFalse(compiled.test(light));
+        assertTrue(compiled.test(heavy));
+        assertEquals(MekSearchFilter.isMatch(heavy, filter), compiled.test(heavy));
+    }
+
+    @Test
+    void compiledDisabledFilterAcceptsAll() {
+        Predicate<MekSummary> compiled = MekSearchFilter.compile(new MekSearchFilter(),
+              new MekSummaryCatalog(new MekSummary[0]));
+
+        assertTrue(compiled.test(new MekSummary()));
+        assertTrue(MekSearchFilter.compile(null, new MekSummaryCatalog(new MekSummary[0])).test(new MekSummary()));
+    }
 }
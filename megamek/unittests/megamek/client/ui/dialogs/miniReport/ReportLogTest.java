@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.ui.dialogs.miniReport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ReportLogTest {
+
+    private static String report(int round) {
+        return "<span class='round'>Round " + round + "</span><br>Atlas AS7-D fires at Locust &amp; hits<br>";
+    }
+
+    @Test
+    void roundsAreReadBackAfterLeavingMemory() {
+        try (ReportLog log = new ReportLog(2)) {
+            for (int round = 1; round <= 10; round++) {
+                log.put(round, report(round));
+            }
+
+            for (int round = 10; round >= 1; round--) {
+                assertEquals(report(round), log.get(round));
+            }
+            assertNull(log.get(11));
+            assertFalse(log.contains(0));
+            assertTrue(log.contains(5));
+        }
+    }
+
+    @Test
+    void aRoundIsStoredOnlyOnce() {
+        try (ReportLog log = new ReportLog(1)) {
+            assertTrue(log.put(1, "first"));
+            assertTrue(log.put(2, "second"));
+            assertFalse(log.put(1, "first, stored again"));
+            log.put(3, "third");
+
+            assertEquals("first", log.get(1));
+            assertEquals("second", log.get(2));
+        }
+    }
+
+    @Test
+    void theCurrentRoundIsKeptUntilItIsStored() {
+        try (ReportLog log = new ReportLog(1)) {
+            log.put(1, "first");
+            log.setCurrentRound(2, "second, movement");
+            log.setCurrentRound(2, "second, movement and firing");
+
+            assertFalse(log.contains(2));
+            assertEquals("second, movement and firing", log.get(2));
+            assertEquals(2, log.findRound("firing", 1, 2, true));
+
+            assertTrue(log.put(2, "second, all phases"));
+            log.setCurrentRound(3, "third");
+            assertTrue(log.contains(2));
+            assertEquals("second, all phases", log.get(2));
+            assertEquals("first", log.get(1));
+            assertEquals("third", log.get(3));
+        }
+    }
+
+    @Test
+    void findRoundSearchesTheTextOfOtherRounds() {
+        try (ReportLog log = new ReportLog(1)) {
+            log.put(1, "<b>Locust</b> moves");
+            log.put(2, "Atlas&nbsp;fires");
+            log.put(3, "<span id='3'>Locust</span> falls");
+            log.put(4, "nothing happens");
+
+            assertEquals(3, log.findRound("locust", 1, 4, true));
+            assertEquals(1, log.findRound("LOCUST", 3, 4, false));
+            assertEquals(2, log.findRound("atlas fires", 4, 4, false));
+            assertEquals(-1, log.findRound("locust", 3, 4, true));
+            assertEquals(-1, log.findRound("span", 0, 4, true));
+        }
+    }
+
+    @Test
+    void clearRemovesAllRounds() {
+        ReportLog log = new ReportLog(1);
+        log.put(1, "first");
+        log.put(2, "second");
+
+        log.clear();
+
+        assertNull(log.get(1));
+        assertNull(log.get(2));
+        log.put(1, "again");
+        assertEquals("again", log.get(1));
+        log.close();
+    }
+}
@@ -128,7 +128,7 @@ class ManeuverChoiceDialogTest {
     void testNoneManeuverAlwaysAvailable() {
         Board mockBoard = mock(Board.class);
         MovePath mockPath = mock(MovePath.class);
-        when(mockPath.getStepVector()).thenReturn(new Vector<>());
+        when(mockPath.getStepList()).thenReturn(new Vector<>());
 
         dialog.checkPerformability(0, 0, TEST_CEILING, false, 0, mockBoard, mockPath);
 
@@ -145,7 +145,7 @@ class ManeuverChoiceDialogTest {
     void testLoopManeuverRequirements() {
         Board mockBoard = mock(Board.class);
         MovePath mockPath = mock(MovePath.class);
-        when(mockPath.getStepVector()).thenReturn(new Vector<>());
+        when(mockPath.getStepList()).thenReturn(new Vector<>());
 
         // Loop requires velocity >= 4
         assertFalse(ManeuverType.canPerform(ManeuverType.MAN_LOOP, 3, TEST_ALTITUDE, TEST_CEILING,
@@ -168,7 +168,7 @@ class ManeuverChoiceDialogTest {
     void testImmelmanManeuverRequirements() {
         Board mockBoard = mock(Board.class);
         MovePath mockPath = mock(MovePath.class);
-        when(mockPath.getStepVector()).thenReturn(new Vector<>());
+        when(mockPath.getStepList()).thenReturn(new Vector<>());
 
         // Immelman requires velocity >= 3 AND altitude < 9
         assertFalse(ManeuverType.canPerform(ManeuverType.MAN_IMMELMAN, 2, TEST_ALTITUDE, TEST_CEILING,
@@ -195,7 +195,7 @@ class ManeuverChoiceDialogTest {
     void testBarrelRollManeuverRequirements() {
         Board mockBoard = mock(Board.class);
         MovePath mockPath = mock(MovePath.class);
-        when(mockPath.getStepVector()).thenReturn(new Vector<>());
+        when(mockPath.getStepList()).thenReturn(new Vector<>());
 
         // Barrel Roll requires velocity >= 2
         assertFalse(ManeuverType.canPerform(ManeuverType.MAN_BARREL_ROLL, 1, TEST_ALTITUDE, TEST_CEILING,
@@ -214,7 +214,7 @@ class ManeuverChoiceDialogTest {
     void testSideSlipManeuverRequirements() {
         Board mockBoard = mock(Board.class);
         MovePath mockPath = mock(MovePath.class);
-        when(mockPath.getStepVector()).thenReturn(new Vector<>());
+        when(mockPath.getStepList()).thenReturn(new Vector<>());
 
         // Side Slip requires velocity > 0
         assertFalse(ManeuverType.canPerform(ManeuverType.MAN_SIDE_SLIP_LEFT, 0, TEST_ALTITUDE, TEST_CEILING,
@@ -235,7 +235,7 @@ class ManeuverChoiceDialogTest {
     void testVIFFManeuverRequirements() {
         Board mockBoard = mock(Board.class);
         MovePath mockPath = mock(MovePath.class);
-        when(mockPath.getStepVector()).thenReturn(new Vector<>());
+        when(mockPath.getStepList()).thenReturn(new Vector<>());
 
         // VIFF requires VSTOL capability
         assertFalse(ManeuverType.canPerform(ManeuverType.MAN_VIFF, TEST_VELOCITY, TEST_ALTITUDE, TEST_CEILING,
@@ -254,7 +254,7 @@ class ManeuverChoiceDialogTest {
     void testAlwaysAvailableManeuvers() {
         Board mockBoard = mock(Board.class);
         MovePath mockPath = mock(MovePath.class);
-        when(mockPath.getStepVector()).thenReturn(new Vector<>());
+        when(mockPath.getStepList()).thenReturn(new Vector<>());
 
         // Hammerhead and Half Roll are always available
         assertTrue(ManeuverType.canPerform(ManeuverType.MAN_HAMMERHEAD, 0, 0, TEST_CEILING,
@@ -404,7 +404,7 @@ class ManeuverChoiceDialogTest {
     void testCheckPerformabilityUpdatesState() {
         Board mockBoard = mock(Board.class);
         MovePath mockPath = mock(MovePath.class);
-        when(mockPath.getStepVector()).thenReturn(new Vector<>());
+        when(mockPath.getStepList()).thenReturn(new Vector<>());
 
         // Should not throw exception
         dialog.checkPerformability(TEST_VELOCITY, TEST_ALTITUDE, TEST_CEILING, false, 0, mockBoard, mockPath);
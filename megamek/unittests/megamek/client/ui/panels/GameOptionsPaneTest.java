@@ -504,10 +504,11 @@ class GameOptionsPaneTest {
             assertEquals(3, rotatingSaves.getValue());
 
             JComboBox<?> rngTypes = (JComboBox<?>) rngType.settingsControl();
-            assertEquals(3, rngTypes.getItemCount());
+            assertEquals(4, rngTypes.getItemCount());
             assertEquals("SunRandom", rngTypes.getItemAt(0));
             assertEquals("Java CryptoRandom", rngTypes.getItemAt(1));
             assertEquals("Pool36Random (Unofficial)", rngTypes.getItemAt(2));
+            assertEquals("Seeded Splittable Random (Replayable)", rngTypes.getItemAt(3));
             assertEquals(MMRandom.R_DEFAULT, rngType.getValue());
             rngType.setValue(MMRandom.R_POOL36);
             assertEquals(MMRandom.R_POOL36, rngType.getValue());
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client.ui.panels.phaseDisplay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import megamek.common.board.Coords;
+import org.junit.jupiter.api.Test;
+
+class MovementEnvelopeWorkerTest {
+
+    private static final Map<Coords, Integer> ENVELOPE = Map.of(new Coords(1, 1), 0, new Coords(1, 2), 1);
+
+    @Test
+    void testComputeNowCachesTheEnvelope() {
+        MovementEnvelopeWorker<String> worker = new MovementEnvelopeWorker<>();
+        AtomicInteger computations = new AtomicInteger();
+        MovementEnvelopeWorker.Computation computation = progress -> {
+            computations.incrementAndGet();
+            return ENVELOPE;
+        };
+
+        assertSame(ENVELOPE, worker.computeNow("key", computation));
+        assertSame(ENVELOPE, worker.computeNow("key", computation));
+        assertEquals(1, computations.get());
+
+        worker.invalidate();
+        assertFalse(worker.isCached("key"));
+        worker.computeNow("key", computation);
+        assertEquals(2, computations.get());
+    }
+
+    @Test
+    void testCachedEnvelopeIsShownAtOnce() {
+        MovementEnvelopeWorker<String> worker = new MovementEnvelopeWorker<>();
+        worker.computeNow("key", progress -> ENVELOPE);
+        AtomicReference<Map<Coords, Integer>> shown = new AtomicReference<>();
+        worker.compute("key", progress -> {
+            throw new IllegalStateException("Must not be computed again");
+        }, shown::set);
+        assertSame(ENVELOPE, shown.get());
+    }
+
+    @Test
+    void testBackgroundComputation() throws InterruptedException {
+        MovementEnvelopeWorker<String> worker = new MovementEnvelopeWorker<>();
+        CountDownLatch shown = new CountDownLatch(1);
+        worker.compute("key", progress -> ENVELOPE, envelope -> {
+            assertSame(ENVELOPE, envelope);
+            shown.countDown();
+        });
+        assertTrue(shown.await(10, TimeUnit.SECONDS));
+        assertTrue(worker.isCached("key"));
+    }
+
+    @Test
+    void testNewComputationCancelsTheRunningOne() throws InterruptedException {
+        MovementEnvelopeWorker<String> worker = new MovementEnvelopeWorker<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        worker.compute("first", progress -> {
+            started.countDown();
+            while (!progress.update(() -> ENVELOPE)) {
+                Thread.onSpinWait();
+            }
+            stopped.countDown();
+            return ENVELOPE;
+        }, envelope -> {});
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        CountDownLatch secondShown = new CountDownLatch(1);
+        worker.compute("second", progress -> Map.of(), envelope -> secondShown.countDown());
+        assertTrue(stopped.await(10, TimeUnit.SECONDS));
+        assertTrue(secondShown.await(10, TimeUnit.SECONDS));
+        assertFalse(worker.isCached("first"));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.ui.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ImageCacheTest {
+
+    @Test
+    void testLeastRecentlyUsedValuesAreEvicted() {
+        ImageCache<Integer, String> cache = new ImageCache<>(4, value -> 1);
+        for (int i = 0; i < 4; i++) {
+            cache.put(i, "value" + i);
+        }
+        // Use 0 so that 1 is the least recently used value
+        assertNotNull(cache.get(0));
+
+        cache.put(4, "value4");
+
+        // Evicted down to 3 of 4 values: 1 and 2 go, the used 0 stays
+        assertEquals(3, cache.size());
+        assertEquals(2, cache.getEvictions());
+        assertNull(cache.get(1));
+        assertNull(cache.get(2));
+        assertNotNull(cache.get(0));
+        assertNotNull(cache.get(3));
+        assertNotNull(cache.get(4));
+        assertEquals(3, cache.getWeight());
+    }
+
+    @Test
+    void testHitAndMissCounters() {
+        ImageCache<String, String> cache = new ImageCache<>(10, value -> 1);
+        cache.put("a", "1");
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(2.0 / 3, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    void testWeightFollowsReplacementRemovalAndClear() {
+        ImageCache<String, BufferedImage> cache = new ImageCache<>(1_000_000, ImageCache::estimateBytes);
+        cache.put("a", new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+        assertEquals(400, cache.getWeight());
+
+        cache.put("a", new BufferedImage(20, 10, BufferedImage.TYPE_INT_ARGB));
+        cache.put("b", new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+        assertEquals(1200, cache.getWeight());
+
+        cache.remove("b");
+        assertEquals(800, cache.getWeight());
+
+        cache.clear();
+        assertEquals(0, cache.getWeight());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testEstimateBytes() {
+        BufferedImage image = new BufferedImage(4, 5, BufferedImage.TYPE_INT_ARGB);
+        assertEquals(80, ImageCache.estimateBytes(image));
+        assertEquals(160, ImageCache.estimateBytes(List.of(image, image)));
+        assertTrue(ImageCache.estimateBytes("not an image") > 0);
+    }
+
+    @Test
+    void testNullKeysAndValuesAreIgnored() {
+        ImageCache<String, String> cache = new ImageCache<>(10, value -> 1);
+        assertNull(cache.put(null, "a"));
+        assertNull(cache.put("a", null));
+        assertNull(cache.get(null));
+        assertEquals(0, cache.size());
+    }
+}
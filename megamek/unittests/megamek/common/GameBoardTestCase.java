@@ -41,7 +41,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
-import java.util.Vector;
 import java.util.function.Function;
 
 import megamek.common.annotations.Nullable;
@@ -225,7 +224,7 @@ public abstract class GameBoardTestCase {
                 }
 
                 // Don't exceed maximum path length
-                if (currentPath.getStepVector().size() >= maxSteps) {
+                if (currentPath.getStepList().size() >= maxSteps) {
                     continue;
                 }
 
@@ -242,7 +241,7 @@ public abstract class GameBoardTestCase {
 
                     // Only add legal moves to the queue
                     if (newPath.isMoveLegal()) {
-                        var steps = newPath.getStepVector();
+                        var steps = newPath.getStepList();
                         for (int i = 0; i < steps.size(); i++) {
                             System.out.println("Step " + steps.get(i) + " - " + i + ": " + new StepLog(steps.get(i)));
                         }
@@ -362,13 +361,13 @@ public abstract class GameBoardTestCase {
      *                           the MovePath and the justification for the expected elevation
      */
     public void assertMovePathElevations(MovePath movePath, ExpectedElevation... expectedElevations) {
-        Vector<MoveStep> steps = movePath.getStepVector();
+        List<MoveStep> steps = movePath.getStepList();
         assertEquals(steps.size(), expectedElevations.length, "Number of expected elevations must match the " +
               "number of steps on movePath.");
         for (int i = 0; i < steps.size(); i++) {
             Hex hex = getGame().getBoard().getHex(steps.get(i).getPosition());
             assertEquals(expectedElevations[i].expectedElevation(), steps.get(i).getElevation(),
-                  "Step " + steps.get(i) + " - " + i + ": " + new StepLog(movePath.getStepVector().get(i)) +
+                  "Step " + steps.get(i) + " - " + i + ": " + new StepLog(steps.get(i)) +
                         " on hex: " + hex.toString() + " doesn't match the expected elevation" +
                         expectedElevations[i].justification());
         }
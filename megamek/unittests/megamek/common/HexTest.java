@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Set;
+
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import org.junit.jupiter.api.Test;
+
+class HexTest {
+
+    @Test
+    void testTerrainQueriesFollowChanges() {
+        Hex hex = new Hex(2, "woods:1;fluff:3", null);
+        assertTrue(hex.containsTerrain(Terrains.WOODS));
+        assertEquals(1, hex.terrainLevel(Terrains.WOODS));
+        assertEquals(Terrain.LEVEL_NONE, hex.terrainLevel(Terrains.WATER));
+
+        Terrain water = new Terrain(Terrains.WATER, 2);
+        hex.addTerrain(water);
+        assertSame(water, hex.getTerrain(Terrains.WATER));
+        assertSame(water, hex.getAnyTerrainOf(Terrains.ROUGH, Terrains.WATER));
+        assertTrue(hex.containsAnyTerrainOf(Set.of(Terrains.ROUGH, Terrains.WATER)));
+
+        hex.removeTerrain(Terrains.WOODS);
+        assertFalse(hex.containsTerrain(Terrains.WOODS));
+        assertEquals(2, hex.terrainsPresent());
+
+        hex.removeAllTerrains();
+        assertNull(hex.getTerrain(Terrains.WATER));
+        assertFalse(hex.containsAnyTerrainOf(Terrains.WATER, Terrains.FLUFF));
+    }
+
+    @Test
+    void testUnknownTerrainTypesAreNotFound() {
+        Hex hex = new Hex(0, "woods:1", null);
+        assertNull(hex.getTerrain(-1));
+        assertNull(hex.getTerrain(Terrains.SIZE + 10));
+    }
+
+    @Test
+    void testCompactCopyAndDuplicateKeepTerrains() throws Exception {
+        Hex hex = new Hex(1, "water:2;rough:1", "snow");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        hex.writeCompact(new DataOutputStream(bytes));
+        Hex copy = Hex.readCompact(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(2, copy.terrainLevel(Terrains.WATER));
+        assertEquals(1, copy.terrainLevel(Terrains.ROUGH));
+        assertEquals(2, hex.duplicate().terrainLevel(Terrains.WATER));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import megamek.common.board.Coords;
+import megamek.common.game.Game;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LosCacheTest extends GameBoardTestCase {
+
+    static {
+        initializeBoard("01_BY_05_OPEN", """
+              size 1 5
+              hex 0101 0 "" ""
+              hex 0102 0 "" ""
+              hex 0103 0 "" ""
+              hex 0104 0 "" ""
+              hex 0105 0 "" ""
+              end"""
+        );
+
+        initializeBoard("01_BY_05_SMOKE", """
+              size 1 5
+              hex 0101 0 "" ""
+              hex 0102 0 "smoke:1" ""
+              hex 0103 0 "" ""
+              hex 0104 0 "" ""
+              hex 0105 0 "" ""
+              end"""
+        );
+    }
+
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        game = getGame();
+    }
+
+    private static LosEffects.AttackInfo attackInfo() {
+        LosEffects.AttackInfo attackInfo = new LosEffects.AttackInfo();
+        attackInfo.attackPos = new Coords(0, 0);
+        attackInfo.targetPos = new Coords(0, 4);
+        attackInfo.attackHeight = 1;
+        attackInfo.targetHeight = 1;
+        attackInfo.attackAbsHeight = 1;
+        attackInfo.targetAbsHeight = 1;
+        attackInfo.attOnLand = true;
+        attackInfo.targetOnLand = true;
+        return attackInfo;
+    }
+
+    @Test
+    void testRepeatedQueriesAreAnsweredFromTheCache() {
+        setBoard("01_BY_05_OPEN");
+        LosCache cache = game.getLosCache();
+
+        LosEffects first = LosEffects.calculateLos(game, attackInfo());
+        LosEffects second = LosEffects.calculateLos(game, attackInfo());
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertNotSame(first, second);
+        assertTrue(second.canSee());
+        assertEquals(first.getMinimumWaterDepth(), second.getMinimumWaterDepth());
+    }
+
+    @Test
+    void testChangedHexInvalidatesTheResult() {
+        setBoard("01_BY_05_OPEN");
+        Hex middle = game.getBoard().getHex(new Coords(0, 2));
+        try {
+            assertTrue(LosEffects.calculateLos(game, attackInfo()).canSee());
+
+            middle.setLevel(4);
+            assertFalse(LosEffects.calculateLos(game, attackInfo()).canSee());
+            assertEquals(2, game.getLosCache().getMisses());
+        } finally {
+            middle.setLevel(0);
+        }
+    }
+
+    @Test
+    void testReplacedHexInvalidatesTheResult() {
+        setBoard("01_BY_05_OPEN");
+        Coords middle = new Coords(0, 1);
+        Hex original = game.getBoard().getHex(middle);
+        try {
+            assertEquals(0, LosEffects.calculateLos(game, attackInfo()).heavyWoods);
+
+            Hex woods = new Hex(0);
+            woods.addTerrain(new Terrain(Terrains.WOODS, 2));
+            woods.addTerrain(new Terrain(Terrains.FOLIAGE_ELEV, 2));
+            game.getBoard().setHex(middle, woods);
+            assertEquals(1, LosEffects.calculateLos(game, attackInfo()).heavyWoods);
+        } finally {
+            game.getBoard().setHex(middle, original);
+        }
+    }
+
+    @Test
+    void testResultsWithSmokeAreNotKept() {
+        setBoard("01_BY_05_SMOKE");
+
+        assertEquals(1, LosEffects.calculateLos(game, attackInfo()).lightSmoke);
+        assertEquals(1, LosEffects.calculateLos(game, attackInfo()).lightSmoke);
+        assertEquals(0, game.getLosCache().size());
+        assertEquals(0, game.getLosCache().getHits());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import megamek.common.MMRandom.SplittableSeededRandom;
+import org.junit.jupiter.api.Test;
+
+class MMRandomTest {
+
+    private static List<Integer> rolls(MMRandom random, int count) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(random.d6(2).getIntValue());
+        }
+        return result;
+    }
+
+    @Test
+    void sameMasterSeedRollsTheSameDice() {
+        assertEquals(rolls(MMRandom.generateSeeded(4711L), 200), rolls(MMRandom.generateSeeded(4711L), 200));
+        assertNotEquals(rolls(MMRandom.generateSeeded(4711L), 200), rolls(MMRandom.generateSeeded(4712L), 200));
+    }
+
+    @Test
+    void eachThreadRollsOnItsOwnStream() throws InterruptedException {
+        SplittableSeededRandom random = MMRandom.generateSeeded(99L);
+        List<Integer> mainThreadRolls = rolls(random, 100);
+        AtomicReference<List<Integer>> otherThreadRolls = new AtomicReference<>();
+        Thread thread = new Thread(() -> otherThreadRolls.set(rolls(random, 100)), "Helper");
+        thread.start();
+        thread.join();
+
+        // The main thread's stream is unaffected by the other thread; the other thread has a stream of its own
+        SplittableSeededRandom replay = MMRandom.generateSeeded(99L);
+        assertEquals(mainThreadRolls, rolls(replay, 100));
+        assertNotEquals(mainThreadRolls, otherThreadRolls.get());
+    }
+
+    @Test
+    void anotherThreadRollingFirstDoesNotChangeTheDice() throws InterruptedException {
+        List<Integer> undisturbed = rollsOnThread(MMRandom.generateSeeded(5L), "Game");
+
+        SplittableSeededRandom random = MMRandom.generateSeeded(5L);
+        rollsOnThread(random, "Bot");
+        assertEquals(undisturbed, rollsOnThread(random, "Game"));
+        assertEquals(200, random.getDraws("Bot"), "two dice per roll");
+    }
+
+    @Test
+    void deserializedGeneratorRollsOnFromItsPosition() throws Exception {
+        SplittableSeededRandom random = MMRandom.generateSeeded(2026L);
+        rolls(random, 50);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(random);
+        }
+        SplittableSeededRandom loaded;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            loaded = (SplittableSeededRandom) in.readObject();
+        }
+
+        assertEquals(2026L, loaded.getMasterSeed());
+        assertEquals(rolls(random, 50), rolls(loaded, 50));
+    }
+
+    @Test
+    void generateGivesSplittableType() {
+        assertInstanceOf(SplittableSeededRandom.class, MMRandom.generate(MMRandom.R_SPLITTABLE));
+    }
+
+    private static List<Integer> rollsOnThread(MMRandom random, String threadName) throws InterruptedException {
+        AtomicReference<List<Integer>> result = new AtomicReference<>();
+        Thread thread = new Thread(() -> result.set(rolls(random, 100)), threadName);
+        thread.start();
+        thread.join();
+        return result.get();
+    }
+}
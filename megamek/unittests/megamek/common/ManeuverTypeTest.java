@@ -64,7 +64,7 @@ class ManeuverTypeTest {
     void setUp() {
         board = mock(Board.class);
         movePath = mock(MovePath.class);
-        when(movePath.getStepVector()).thenReturn(new Vector<MoveStep>());
+        when(movePath.getStepList()).thenReturn(new Vector<MoveStep>());
     }
 
     private boolean canPerform(int maneuverType, int velocity, int altitude, int ceiling) {
@@ -82,7 +82,7 @@ class MovePathTest {
         stepVector.add(mockStep4);
 
         MovePath testPath = spy(new MovePath(mockGame, mockMek));
-        doReturn(stepVector).when(testPath).getStepVector();
+        doReturn(stepVector).when(testPath).getStepList();
 
         assertEquals(mockStep4, testPath.getLastStep());
 
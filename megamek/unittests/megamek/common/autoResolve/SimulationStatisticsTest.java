@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.autoResolve;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import megamek.common.Player;
+import megamek.server.victory.VictoryResult;
+import org.junit.jupiter.api.Test;
+
+class SimulationStatisticsTest {
+
+    private static final int TEAM = 1;
+
+    @Test
+    void testCountsOutcomesAndCasualties() {
+        var statistics = new SimulationStatistics(TEAM);
+
+        statistics.addResult(new VictoryResult(true, Player.PLAYER_NONE, TEAM), 1, 3);
+        statistics.addResult(new VictoryResult(true, Player.PLAYER_NONE, 2), 4, 0);
+        statistics.addResult(VictoryResult.drawResult(), 1, 1);
+        statistics.addFailure();
+
+        assertEquals(4, statistics.getRuns());
+        assertEquals(1, statistics.getVictories());
+        assertEquals(1, statistics.getLosses());
+        assertEquals(1, statistics.getDraws());
+        assertEquals(1, statistics.getFailures());
+        assertEquals(1 / 3.0, statistics.getVictoryRate(), 1e-9);
+        assertEquals(2.0, statistics.getMeanFriendlyCasualties(), 1e-9);
+        assertEquals(4 / 3.0, statistics.getMeanEnemyCasualties(), 1e-9);
+    }
+
+    @Test
+    void testSoloPlayerVictoryIsNoDraw() {
+        var statistics = new SimulationStatistics(TEAM);
+
+        statistics.addResult(new VictoryResult(true, 5, Player.TEAM_NONE), 0, 0);
+
+        assertEquals(1, statistics.getLosses());
+        assertEquals(0, statistics.getDraws());
+    }
+
+    @Test
+    void testMarginShrinksWithMoreResults() {
+        var statistics = new SimulationStatistics(TEAM);
+        assertEquals(1.0, statistics.getVictoryRateMargin(), 1e-9);
+
+        addResults(statistics, 50, 50);
+        double marginAfterHundred = statistics.getVictoryRateMargin();
+        addResults(statistics, 4950, 4950);
+
+        // the 95% interval of a 50% rate is about +/- 9.6% after 100 and +/- 1% after 10,000 results
+        assertEquals(0.096, marginAfterHundred, 0.001);
+        assertEquals(0.0098, statistics.getVictoryRateMargin(), 0.0002);
+    }
+
+    @Test
+    void testTargetMarginNeedsMinimumRuns() {
+        var statistics = new SimulationStatistics(TEAM);
+        addResults(statistics, 10, 0);
+
+        // ten straight victories are not enough to stop when a hundred results are required
+        assertFalse(statistics.hasReachedMargin(0.5, 100));
+        assertTrue(statistics.hasReachedMargin(0.5, 10));
+        assertFalse(statistics.hasReachedMargin(0, 10));
+    }
+
+    private static void addResults(SimulationStatistics statistics, int victories, int losses) {
+        for (int i = 0; i < victories; i++) {
+            statistics.addResult(new VictoryResult(true, Player.PLAYER_NONE, TEAM), 0, 0);
+        }
+        for (int i = 0; i < losses; i++) {
+            statistics.addResult(new VictoryResult(true, Player.PLAYER_NONE, 2), 0, 0);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import megamek.common.Hex;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that {@link Board#getHexesWithTerrain(int)} stays current as hexes and their terrains change.
+ */
+class BoardTerrainIndexTest {
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = Board.createEmptyBoard(6, 5);
+        board.getHex(4, 1).addTerrain(new Terrain(Terrains.FIRE, 1));
+        board.getHex(1, 3).addTerrain(new Terrain(Terrains.FIRE, 1));
+        board.getHex(1, 2).addTerrain(new Terrain(Terrains.FIRE, 1));
+        board.getHex(2, 2).addTerrain(new Terrain(Terrains.WATER, 1));
+        board.initializeAll(null);
+    }
+
+    @Test
+    void initialScanFindsHexesInColumnOrder() {
+        assertEquals(List.of(new Coords(1, 2), new Coords(1, 3), new Coords(4, 1)),
+              board.getHexesWithTerrain(Terrains.FIRE));
+        assertEquals(List.of(new Coords(2, 2)), board.getHexesWithTerrain(Terrains.WATER));
+        assertTrue(board.getHexesWithTerrain(Terrains.SCREEN).isEmpty());
+    }
+
+    @Test
+    void terrainChangesUpdateTheIndex() {
+        board.getHexesWithTerrain(Terrains.FIRE);
+
+        board.getHex(1, 3).removeTerrain(Terrains.FIRE);
+        board.getHex(0, 0).addTerrain(new Terrain(Terrains.FIRE, 2));
+        assertEquals(List.of(new Coords(0, 0), new Coords(1, 2), new Coords(4, 1)),
+              board.getHexesWithTerrain(Terrains.FIRE));
+
+        board.getHex(4, 1).removeAllTerrains();
+        assertEquals(List.of(new Coords(0, 0), new Coords(1, 2)), board.getHexesWithTerrain(Terrains.FIRE));
+    }
+
+    @Test
+    void replacedHexesUpdateTheIndex() {
+        board.getHexesWithTerrain(Terrains.FIRE);
+        Hex replaced = board.getHex(1, 2);
+
+        board.setHex(1, 2, new Hex());
+        Hex burning = new Hex();
+        burning.addTerrain(new Terrain(Terrains.FIRE, 1));
+        board.setHex(3, 3, burning);
+        assertEquals(List.of(new Coords(1, 3), new Coords(3, 3), new Coords(4, 1)),
+              board.getHexesWithTerrain(Terrains.FIRE));
+
+        // The hex that was taken off the board no longer counts
+        replaced.removeTerrain(Terrains.FIRE);
+        replaced.addTerrain(new Terrain(Terrains.FIRE, 1));
+        assertEquals(List.of(new Coords(1, 3), new Coords(3, 3), new Coords(4, 1)),
+              board.getHexesWithTerrain(Terrains.FIRE));
+    }
+
+    @Test
+    void returnedListIsASnapshot() {
+        List<Coords> fires = board.getHexesWithTerrain(Terrains.FIRE);
+        board.getHex(1, 2).removeTerrain(Terrains.FIRE);
+        assertEquals(3, fires.size());
+        assertEquals(2, board.getHexesWithTerrain(Terrains.FIRE).size());
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import megamek.testUtilities.EventTestHandlers;
+import org.junit.jupiter.api.Test;
+
+class EventBusTest {
+
+    static class BaseEvent extends MMEvent {
+    }
+
+    static class SpecialEvent extends BaseEvent {
+        @Override
+        public boolean isCancellable() {
+            return true;
+        }
+    }
+
+    /** Not public, so that the generated dispatchers must be able to reach a private class */
+    private static class RecordingHandler {
+        private final String name;
+        private final List<String> calls;
+
+        RecordingHandler(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Subscribe
+        public void onBase(BaseEvent event) {
+            calls.add(name + ":base");
+        }
+
+        @Subscribe(priority = 5)
+        public void onSpecial(SpecialEvent event) {
+            calls.add(name + ":special");
+        }
+    }
+
+    private static class CancellingHandler {
+        @Subscribe(priority = 10)
+        public void onSpecial(SpecialEvent event) {
+            event.cancel();
+        }
+    }
+
+    private static final List<String> STATIC_CALLS = new ArrayList<>();
+
+    private static class StaticHandler {
+        @Subscribe
+        public static void onBase(BaseEvent event) {
+            STATIC_CALLS.add("static");
+        }
+    }
+
+    private static class BrokenHandler {
+        @Subscribe
+        public void onTwoEvents(BaseEvent first, BaseEvent second) {
+        }
+    }
+
+    @Test
+    void listenersOfTheEventClassComeBeforeThoseOfItsSuperclasses() {
+        EventBus bus = new EventBus();
+        List<String> calls = new ArrayList<>();
+        bus.register(new RecordingHandler("a", calls));
+        bus.register(new RecordingHandler("b", calls));
+
+        bus.trigger(new SpecialEvent());
+        assertEquals(List.of("a:special", "b:special", "a:base", "b:base"), calls);
+
+        calls.clear();
+        bus.trigger(new BaseEvent());
+        assertEquals(List.of("a:base", "b:base"), calls);
+    }
+
+    @Test
+    void registeringTwiceDeliversOnce() {
+        EventBus bus = new EventBus();
+        List<String> calls = new ArrayList<>();
+        RecordingHandler handler = new RecordingHandler("a", calls);
+        bus.register(handler);
+        bus.register(handler);
+
+        bus.trigger(new BaseEvent());
+        assertEquals(List.of("a:base"), calls);
+    }
+
+    @Test
+    void cancelledEventsStopReachingListeners() {
+        EventBus bus = new EventBus();
+        List<String> calls = new ArrayList<>();
+        bus.register(new RecordingHandler("a", calls));
+        bus.register(new CancellingHandler());
+
+        assertTrue(bus.trigger(new SpecialEvent()));
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    void unregisteringWhileDeliveringIsSafe() {
+        EventBus bus = new EventBus();
+        List<String> calls = new ArrayList<>();
+        RecordingHandler second = new RecordingHandler("b", calls);
+        Object first = new Object() {
+            @Subscribe(priority = 1)
+            public void onBase(BaseEvent event) {
+                calls.add("first");
+                bus.unregister(this);
+                bus.unregister(second);
+            }
+        };
+        bus.register(first);
+        bus.register(second);
+
+        bus.trigger(new BaseEvent());
+        assertEquals(List.of("first", "b:base"), calls);
+
+        calls.clear();
+        bus.trigger(new BaseEvent());
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    void handlersInOtherPackagesGetGeneratedDispatchers() throws NoSuchMethodException {
+        List<MMEvent> received = new ArrayList<>();
+        Object handler = EventTestHandlers.newRecorder(received);
+        Method method = handler.getClass().getMethod("onEvent", MMEvent.class);
+
+        EventListener listener = new EventListener(handler, method, MMEvent.class);
+        assertTrue(listener.hasGeneratedDispatcher(), "no fallback for a handler outside the event package");
+
+        EventBus bus = new EventBus();
+        bus.register(handler);
+        BaseEvent event = new BaseEvent();
+        bus.trigger(event);
+        assertEquals(List.of(event), received);
+    }
+
+    @Test
+    void staticHandlerMethodsAreCalledThroughMethodHandles() throws NoSuchMethodException {
+        STATIC_CALLS.clear();
+        Method method = StaticHandler.class.getMethod("onBase", BaseEvent.class);
+        EventListener listener = new EventListener(new StaticHandler(), method, BaseEvent.class);
+        assertFalse(listener.hasGeneratedDispatcher());
+
+        listener.trigger(new BaseEvent());
+        assertEquals(List.of("static"), STATIC_CALLS);
+    }
+
+    @Test
+    void handlerMethodsMustTakeOneEvent() {
+        EventBus bus = new EventBus();
+        assertThrows(IllegalArgumentException.class, () -> bus.register(new BrokenHandler()));
+    }
+}
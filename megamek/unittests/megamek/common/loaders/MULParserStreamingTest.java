@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.loaders;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import megamek.common.Player;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.game.Game;
+import megamek.common.units.ConvInfantry;
+import megamek.common.units.Crew;
+import megamek.common.units.CrewType;
+import megamek.common.units.Entity;
+import megamek.common.units.EntityListFile;
+import megamek.common.weapons.infantry.InfantryWeapon;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that {@link MULParser} reads the same entities, in the same order, whether it parses them on the calling
+ * thread or on an executor.
+ */
+class MULParserStreamingTest {
+
+    private Game game;
+    private ExecutorService executor;
+
+    @BeforeAll
+    static void initializeEquipment() {
+        EquipmentType.initializeTypes();
+    }
+
+    @BeforeEach
+    void setUp() {
+        game = new Game();
+        game.addPlayer(0, new Player(0, "Test Player"));
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private ConvInfantry createInfantry(int index) {
+        ConvInfantry infantry = new ConvInfantry();
+        infantry.setGame(game);
+        infantry.setId(game.getNextEntityId());
+        infantry.setChassis("Test Platoon");
+        infantry.setModel("Streaming " + index);
+        infantry.setOwner(game.getPlayer(0));
+        infantry.setCrew(new Crew(CrewType.INFANTRY_CREW));
+        infantry.setPrimaryWeapon((InfantryWeapon) EquipmentType.get("InfantryAssaultRifle"));
+        infantry.autoSetInternal();
+        infantry.initializeInternal(28, ConvInfantry.LOC_INFANTRY);
+        return infantry;
+    }
+
+    private byte[] mulWithUnits(int count) throws Exception {
+        ArrayList<Entity> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(createInfantry(i));
+        }
+        StringWriter mul = new StringWriter();
+        EntityListFile.writeTo(mul, list, 0, false);
+        return mul.toString().getBytes(UTF_8);
+    }
+
+    private static List<String> models(MULParser parser) {
+        return parser.getEntities().stream().map(Entity::getModel).toList();
+    }
+
+    @Test
+    void parallelParsingKeepsTheOrderOfTheFile() throws Exception {
+        // More units than are parsed at a time, so that the window of pending units moves
+        byte[] mul = mulWithUnits(MULParser.MAX_PENDING_BLOCKS * 2 + 5);
+
+        MULParser sequential = new MULParser(new ByteArrayInputStream(mul), null);
+        MULParser parallel = new MULParser(new ByteArrayInputStream(mul), null, executor);
+
+        assertEquals(MULParser.MAX_PENDING_BLOCKS * 2 + 5, sequential.getEntities().size());
+        assertEquals(models(sequential), models(parallel));
+        assertEquals(sequential.getPilots().size(), parallel.getPilots().size());
+    }
+
+    @Test
+    void recordSectionsAreParsedIntoTheirLists() throws Exception {
+        String body = new String(mulWithUnits(2), UTF_8);
+        String units = body.substring(body.indexOf("<entity"), body.lastIndexOf("</unit>"));
+        String record = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<record version=\"\">\n"
+              + "<survivors>\n" + units + "</survivors>\n"
+              + "<salvage>\n" + units + "</salvage>\n"
+              + "</record>\n";
+
+        MULParser parser = new MULParser(new ByteArrayInputStream(record.getBytes(UTF_8)), null, executor);
+
+        assertEquals(0, parser.getEntities().size());
+        assertEquals(2, parser.getSurvivors().size());
+        assertEquals(2, parser.getSalvage().size());
+    }
+
+    @Test
+    void malformedMulIsRefused() throws Exception {
+        String body = new String(mulWithUnits(1), UTF_8);
+        byte[] truncated = body.substring(0, body.length() - 10).getBytes(UTF_8);
+
+        assertThrows(Exception.class, () -> new MULParser(new ByteArrayInputStream(truncated), null, executor));
+    }
+}
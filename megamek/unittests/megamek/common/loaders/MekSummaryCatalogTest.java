@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.loaders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Vector;
+
+import org.junit.jupiter.api.Test;
+
+class MekSummaryCatalogTest {
+
+    /** Sets the equipment lists directly, as {@link MekSummary#setEquipment(List)} needs mounted equipment. */
+    static void setEquipment(MekSummary summary, List<String> names, List<Integer> quantities)
+          throws ReflectiveOperationException {
+        Field namesField = MekSummary.class.getDeclaredField("equipmentNames");
+        Field quantitiesField = MekSummary.class.getDeclaredField("equipmentQuantities");
+        namesField.setAccessible(true);
+        quantitiesField.setAccessible(true);
+        namesField.set(summary, new Vector<>(names));
+        quantitiesField.set(summary, new Vector<>(quantities));
+    }
+
+    private static MekSummary summary(double tons, int bv, int year, List<String> names, List<Integer> quantities)
+          throws ReflectiveOperationException {
+        MekSummary summary = new MekSummary();
+        summary.setTons(tons);
+        summary.setBV(bv);
+        summary.setYear(year);
+        summary.setTechLevelCode(2);
+        setEquipment(summary, names, quantities);
+        return summary;
+    }
+
+    @Test
+    void columnsHoldTheUnitValues() throws ReflectiveOperationException {
+        MekSummary first = summary(55, 1200, 3025, List.of(), List.of());
+        MekSummary second = summary(100, 2400, 3050, List.of(), List.of());
+        MekSummaryCatalog catalog = new MekSummaryCatalog(new MekSummary[] { first, second });
+
+        assertEquals(2, catalog.size());
+        assertEquals(1, catalog.indexOf(second));
+        assertEquals(-1, catalog.indexOf(new MekSummary()));
+        assertEquals(100, catalog.getTons(1));
+        assertEquals(1200, catalog.getBV(0));
+        assertEquals(3050, catalog.getYear(1));
+        assertEquals(2, catalog.getTechLevelCode(0));
+    }
+
+    @Test
+    void equipmentIsInternedWithQuantities() throws ReflectiveOperationException {
+        MekSummary first = summary(55, 1200, 3025, List.of("Medium Laser", "LRM 10"), List.of(4, 1));
+        MekSummary second = summary(100, 2400, 3050, List.of("Medium Laser"), List.of(2));
+        MekSummaryCatalog catalog = new MekSummaryCatalog(new MekSummary[] { first, second });
+
+        assertEquals(2, catalog.getEquipmentCount());
+        int laser = catalog.getEquipmentId("Medium Laser");
+        int lrm = catalog.getEquipmentId("LRM 10");
+        assertEquals("Medium Laser", catalog.getEquipmentName(laser));
+        assertEquals(-1, catalog.getEquipmentId("Gauss Rifle"));
+        assertEquals(4, catalog.getQuantity(0, laser));
+        assertEquals(0, catalog.getQuantity(1, lrm));
+
+        BitSet bothUnits = new BitSet();
+        bothUnits.set(0, 2);
+        assertEquals(bothUnits, catalog.getUnitsWith(laser, 2));
+        assertEquals(BitSet.valueOf(new long[] { 1 }), catalog.getUnitsWith(laser, 3));
+        assertTrue(catalog.getUnitsWith(-1, 0).isEmpty());
+
+        boolean[] mask = new boolean[catalog.getEquipmentCount()];
+        Arrays.fill(mask, true);
+        assertEquals(5, catalog.sumQuantities(0, mask));
+    }
+
+    @Test
+    void unrepresentableEquipmentMarksUnitIrregular() throws ReflectiveOperationException {
+        MekSummary nullName = summary(20, 300, 3025, Arrays.asList("Medium Laser", null), List.of(1, 1));
+        MekSummary duplicate = summary(20, 300, 3025, List.of("Medium Laser", "Medium Laser"), List.of(1, 2));
+        MekSummary mismatched = summary(20, 300, 3025, List.of("Medium Laser"), List.of(1, 2));
+        MekSummary regular = summary(20, 300, 3025, List.of("Medium Laser"), List.of(1));
+        MekSummaryCatalog catalog = new MekSummaryCatalog(
+              new MekSummary[] { nullName, duplicate, mismatched, regular });
+
+        assertTrue(catalog.isIrregular(0));
+        assertTrue(catalog.isIrregular(1));
+        assertTrue(catalog.isIrregular(2));
+        assertFalse(catalog.isIrregular(3));
+        assertEquals(BitSet.valueOf(new long[] { 8 }),
+              catalog.getUnitsWith(catalog.getEquipmentId("Medium Laser"), 1));
+    }
+
+    @Test
+    void catalogKnowsItsSource() {
+        MekSummary[] summaries = new MekSummary[0];
+        MekSummaryCatalog catalog = new MekSummaryCatalog(summaries);
+
+        assertTrue(catalog.isCatalogOf(summaries));
+        assertFalse(catalog.isCatalogOf(new MekSummary[0]));
+    }
+}
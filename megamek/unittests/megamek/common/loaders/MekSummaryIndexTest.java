@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.loaders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MekSummaryIndexTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void roundTripKeepsOrderStampsAndSummaries() throws IOException {
+        // More units than fit into one shard, so that several shards are written and read
+        int count = MekSummaryIndex.SHARD_SIZE * 2 + 7;
+        Map<String, MekSummaryIndex.Entry> entries = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            MekSummary summary = new MekSummary();
+            summary.setName("Unit " + i);
+            summary.setSourceFile(new File("units", "unit" + i + ".mtf"));
+            entries.put("units/unit" + i + ".mtf", new MekSummaryIndex.Entry(1000L + i, 50L * i,
+                  (i % 2 == 0) ? MekSummaryIndex.NO_CRC : i, summary));
+        }
+        File file = new File(tempDir, MekSummaryCache.FILENAME_UNITS_CACHE);
+
+        MekSummaryIndex.write(file, entries);
+        Map<String, MekSummaryIndex.Entry> read = MekSummaryIndex.read(file);
+
+        assertEquals(new ArrayList<>(entries.keySet()), new ArrayList<>(read.keySet()));
+        List<MekSummaryIndex.Entry> readEntries = new ArrayList<>(read.values());
+        int index = 0;
+        for (MekSummaryIndex.Entry expected : entries.values()) {
+            MekSummaryIndex.Entry actual = readEntries.get(index++);
+            assertTrue(actual.matches(expected.modified(), expected.size(), expected.crc()));
+            assertEquals(expected.summary().getName(), actual.summary().getName());
+            assertEquals(expected.summary().getSourceFile(), actual.summary().getSourceFile());
+        }
+        assertFalse(new File(tempDir, MekSummaryCache.FILENAME_UNITS_CACHE + ".tmp").exists());
+    }
+
+    @Test
+    void emptyIndexRoundTrips() throws IOException {
+        File file = new File(tempDir, MekSummaryCache.FILENAME_UNITS_CACHE);
+
+        MekSummaryIndex.write(file, new LinkedHashMap<>());
+
+        assertTrue(MekSummaryIndex.read(file).isEmpty());
+    }
+
+    @Test
+    void readIndexCanBeReplacedInTheSameSession() throws IOException {
+        File file = new File(tempDir, MekSummaryCache.FILENAME_UNITS_CACHE);
+        Map<String, MekSummaryIndex.Entry> entries = new LinkedHashMap<>();
+        entries.put("units/unit.mtf", new MekSummaryIndex.Entry(1, 2, MekSummaryIndex.NO_CRC, new MekSummary()));
+        MekSummaryIndex.write(file, entries);
+
+        Map<String, MekSummaryIndex.Entry> read = MekSummaryIndex.read(file);
+        read.put("units/other.mtf", new MekSummaryIndex.Entry(3, 4, MekSummaryIndex.NO_CRC, new MekSummary()));
+        MekSummaryIndex.write(file, read);
+
+        assertEquals(2, MekSummaryIndex.read(file).size());
+    }
+
+    @Test
+    void legacyCacheFileIsRejected() throws IOException {
+        File file = new File(tempDir, MekSummaryCache.FILENAME_UNITS_CACHE);
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+            out.writeObject(1);
+            out.writeObject(new MekSummary());
+        }
+
+        assertThrows(IOException.class, () -> MekSummaryIndex.read(file));
+    }
+
+    @Test
+    void changedStampsDoNotMatch() {
+        MekSummaryIndex.Entry entry = new MekSummaryIndex.Entry(10, 20, 30, new MekSummary());
+
+        assertTrue(entry.matches(10, 20, 30));
+        assertFalse(entry.matches(11, 20, 30));
+        assertFalse(entry.matches(10, 21, 30));
+        assertFalse(entry.matches(10, 20, 31));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.moves;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MoveStepListTest {
+
+    private static List<MoveStep> steps(int count) {
+        List<MoveStep> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(mock(MoveStep.class));
+        }
+        return result;
+    }
+
+    private static MoveStepList listOf(List<MoveStep> steps) {
+        MoveStepList list = new MoveStepList();
+        steps.forEach(list::append);
+        return list;
+    }
+
+    @Test
+    void testAppendGrowsBeyondInitialCapacity() {
+        List<MoveStep> steps = steps(20);
+        MoveStepList list = listOf(steps);
+
+        assertEquals(steps, list);
+    }
+
+    @Test
+    void testSharedCopiesDivergeIndependently() {
+        List<MoveStep> prefix = steps(5);
+        MoveStepList parent = listOf(prefix);
+        MoveStepList first = parent.share();
+        MoveStepList second = parent.share();
+        MoveStep firstStep = mock(MoveStep.class);
+        MoveStep secondStep = mock(MoveStep.class);
+
+        first.append(firstStep);
+        second.append(secondStep);
+
+        assertEquals(prefix, parent);
+        assertEquals(6, first.size());
+        assertSame(firstStep, first.get(5));
+        assertSame(secondStep, second.get(5));
+        assertEquals(prefix, first.subList(0, 5));
+        assertEquals(prefix, second.subList(0, 5));
+    }
+
+    @Test
+    void testTruncateDoesNotAffectCopies() {
+        List<MoveStep> steps = steps(6);
+        MoveStepList original = listOf(steps);
+        MoveStepList copy = original.share();
+        MoveStep replacement = mock(MoveStep.class);
+
+        copy.truncate(3);
+        copy.append(replacement);
+
+        assertEquals(steps, original);
+        assertEquals(4, copy.size());
+        assertSame(replacement, copy.get(3));
+        assertEquals(steps.subList(0, 3), copy.subList(0, 3));
+    }
+
+    @Test
+    void testDeeplyBranchedCopiesKeepAllSteps() {
+        MoveStepList list = new MoveStepList();
+        List<MoveStep> expected = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            // every step is appended to a branch, as the path finders do with their edges
+            list.share().append(mock(MoveStep.class));
+            MoveStep step = mock(MoveStep.class);
+            list = list.share();
+            list.append(step);
+            expected.add(step);
+        }
+
+        assertEquals(expected, list);
+    }
+
+    @Test
+    void testClearAndBounds() {
+        MoveStepList list = listOf(steps(3));
+        MoveStepList copy = list.share();
+
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertEquals(3, copy.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> copy.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> copy.truncate(4));
+        assertThrows(UnsupportedOperationException.class, () -> copy.add(mock(MoveStep.class)));
+    }
+}
@@ -99,7 +99,7 @@ class QuadLateralShiftPathTest extends GameBoardTestCase {
         plotted.findPathTo(sideHex, MoveStepType.FORWARDS);
         assertTrue(plotted.isMoveLegal(), "plotted path to the side hex should be legal");
         assertEquals(sideHex, plotted.getFinalCoords(), "plotted path should reach the clicked side hex");
-        return plotted.getStepVector().stream().map(MoveStep::getType).toList();
+        return plotted.getStepList().stream().map(MoveStep::getType).toList();
     }
 
     @Test
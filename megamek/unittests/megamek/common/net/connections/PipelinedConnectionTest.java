@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.connections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+import java.util.zip.GZIPInputStream;
+
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.marshalling.PacketMarshallerFactory;
+import megamek.common.net.packets.Packet;
+import org.junit.jupiter.api.Test;
+
+class PipelinedConnectionTest {
+
+    /** Reads packets in the wire format of DataStreamConnection, as a client would */
+    private static List<Packet> readPackets(Socket socket, int count) throws Exception {
+        DataInputStream in = new DataInputStream(socket.getInputStream());
+        List<Packet> packets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            boolean zipped = in.readBoolean();
+            int marshallingType = in.readInt();
+            byte[] data = new byte[in.readInt()];
+            in.readFully(data);
+            InputStream stream = new ByteArrayInputStream(data);
+            if (zipped) {
+                stream = new GZIPInputStream(stream);
+            }
+            packets.add(PacketMarshallerFactory.getInstance().getMarshaller(marshallingType).unmarshall(stream));
+        }
+        return packets;
+    }
+
+    @Test
+    void testPacketsArriveInOrderAndSupersededPacketsAreDropped() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0);
+              Socket clientSocket = new Socket("localhost", serverSocket.getLocalPort())) {
+            PipelinedConnection connection = new PipelinedConnection(serverSocket.accept(), 1);
+            // Queued before the writer starts, so the two flare packets are still adjacent in the queue
+            connection.send(new Packet(PacketCommand.CHAT, "first"));
+            connection.send(new Packet(PacketCommand.SENDING_FLARES, new Vector<>()));
+            connection.send(new Packet(PacketCommand.SENDING_FLARES, new Vector<>()));
+            connection.send(new Packet(PacketCommand.CHAT, "second"));
+            connection.send(new Packet(PacketCommand.CHAT, "third"));
+            assertEquals(1, connection.getCoalescedPackets());
+            assertTrue(connection.hasPending());
+
+            assertTrue(connection.open());
+            List<Packet> packets = readPackets(clientSocket, 4);
+
+            assertEquals(PacketCommand.CHAT, packets.get(0).command());
+            assertEquals("first", packets.get(0).getObject(0));
+            assertEquals(PacketCommand.SENDING_FLARES, packets.get(1).command());
+            assertEquals("second", packets.get(2).getObject(0));
+            assertEquals("third", packets.get(3).getObject(0));
+            connection.close();
+            assertFalse(connection.hasPending());
+        }
+    }
+
+    @Test
+    void testCloseWritesQueuedPacketsFirst() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0);
+              Socket clientSocket = new Socket("localhost", serverSocket.getLocalPort())) {
+            PipelinedConnection connection = new PipelinedConnection(serverSocket.accept(), 1);
+            connection.open();
+            connection.send(new Packet(PacketCommand.CHAT, "goodbye"));
+            connection.close();
+
+            assertTrue(connection.isClosed());
+            assertEquals("goodbye", readPackets(clientSocket, 1).get(0).getObject(0));
+        }
+    }
+
+    @Test
+    void testOnlyFullStateCommandsAreSuperseded() {
+        assertTrue(PacketCommand.SENDING_ENTITIES.isSupersededByNext());
+        assertTrue(PacketCommand.SENDING_GAME_SETTINGS.isSupersededByNext());
+        assertFalse(PacketCommand.CHAT.isSupersededByNext());
+        assertFalse(PacketCommand.SENDING_REPORTS.isSupersededByNext());
+        assertFalse(PacketCommand.ENTITY_UPDATE.isSupersededByNext());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.marshalling;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+import megamek.common.Hex;
+import megamek.common.Report;
+import megamek.common.board.Board;
+import megamek.common.board.Coords;
+import megamek.common.enums.GamePhase;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.packets.Packet;
+import megamek.common.units.Terrains;
+import megamek.common.units.UnitLocation;
+import org.junit.jupiter.api.Test;
+
+class BinaryPacketMarshallerTest {
+
+    private final PacketMarshaller marshaller =
+          PacketMarshallerFactory.getInstance().getMarshaller(PacketMarshaller.BINARY_MARSHALING);
+
+    private Packet roundTrip(Packet packet) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        marshaller.marshall(packet, out);
+        return marshaller.unmarshall(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    void testPhaseAndTurnPackets() throws Exception {
+        Packet phase = roundTrip(new Packet(PacketCommand.PHASE_CHANGE, GamePhase.FIRING));
+        assertEquals(PacketCommand.PHASE_CHANGE, phase.command());
+        assertEquals(GamePhase.FIRING, phase.getObject(0));
+
+        Packet turn = roundTrip(new Packet(PacketCommand.TURN, 3, -1));
+        assertEquals(3, turn.getIntValue(0));
+        assertEquals(-1, turn.getIntValue(1));
+    }
+
+    @Test
+    void testReportsKeepTheirContent() throws Exception {
+        Vector<Report> reports = new Vector<>();
+        Report report = new Report(1015);
+        report.add("Atlas");
+        report.add(6, false);
+        report.indent(2);
+        report.addObscuredRecipient("Player 1");
+        report.hideData(0);
+        reports.add(report);
+
+        Packet packet = roundTrip(new Packet(PacketCommand.SENDING_REPORTS, reports));
+        Vector<?> received = assertInstanceOf(Vector.class, packet.getObject(0));
+        Report copy = assertInstanceOf(Report.class, received.get(0));
+        assertEquals(report.messageId, copy.messageId);
+        assertEquals(report.dataCount(), copy.dataCount());
+        assertTrue(copy.isValueObscured(0));
+        assertTrue(copy.isObscuredRecipient("Player 1"));
+        assertEquals(report.toString(), copy.toString());
+    }
+
+    @Test
+    void testUnitLocationsAndNulls() throws Exception {
+        Vector<UnitLocation> path = new Vector<>(List.of(new UnitLocation(4, new Coords(2, 7), 3, -1, 0)));
+        Packet packet = roundTrip(new Packet(PacketCommand.ENTITY_UPDATE, 4, null, path));
+        assertEquals(4, packet.getIntValue(0));
+        assertNull(packet.getObject(1));
+        assertEquals(path, packet.getObject(2));
+    }
+
+    @Test
+    void testBoardHexesSurvive() throws Exception {
+        Hex woods = new Hex(2, "woods:2;foliage_elev:2", "snow", new Coords(0, 0));
+        woods.setTheme("lunar");
+        Hex road = new Hex(0, "road:1:9", null, new Coords(1, 0));
+        Board board = new Board(2, 1, woods, road);
+        board.setBoardId(5);
+        Map<Integer, Board> boards = new HashMap<>(Map.of(5, board));
+
+        Packet packet = roundTrip(new Packet(PacketCommand.SENDING_BOARD, boards));
+        Map<?, ?> received = assertInstanceOf(Map.class, packet.getObject(0));
+        Board copy = assertInstanceOf(Board.class, received.get(5));
+        assertEquals(5, copy.getBoardId());
+        Hex copiedWoods = copy.getHex(0, 0);
+        assertEquals(2, copiedWoods.getLevel());
+        assertEquals(2, copiedWoods.terrainLevel(Terrains.WOODS));
+        assertEquals("lunar", copiedWoods.getTheme());
+        copiedWoods.resetTheme();
+        assertEquals("snow", copiedWoods.getTheme());
+        assertEquals(9, copy.getHex(1, 0).getTerrain(Terrains.ROAD).getExits());
+        assertTrue(copy.getHex(1, 0).getTerrain(Terrains.ROAD).hasExitsSpecified());
+    }
+
+    @Test
+    void testOtherCommandsFallBackToNativeSerialization() throws Exception {
+        Packet packet = roundTrip(new Packet(PacketCommand.CHAT, "Hello", 2));
+        assertEquals(PacketCommand.CHAT, packet.command());
+        assertArrayEquals(new Object[] { "Hello", 2 }, packet.data());
+    }
+}
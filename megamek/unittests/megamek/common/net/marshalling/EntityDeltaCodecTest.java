@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.marshalling;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class EntityDeltaCodecTest {
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    void testSmallChangesGiveSmallDelta() throws Exception {
+        byte[] base = randomBytes(4000);
+        byte[] target = Arrays.copyOf(base, base.length);
+        target[100] ^= 1;
+        target[2500] ^= 7;
+
+        byte[] delta = EntityDeltaCodec.createDelta(base, target);
+        assertArrayEquals(target, EntityDeltaCodec.applyDelta(base, delta));
+        assertTrue(delta.length < 100);
+    }
+
+    @Test
+    void testInsertionAndRemoval() throws Exception {
+        byte[] base = randomBytes(3000);
+        byte[] target = new byte[base.length + 5 - 20];
+        System.arraycopy(base, 0, target, 0, 1000);
+        System.arraycopy(new byte[] { 1, 2, 3, 4, 5 }, 0, target, 1000, 5);
+        System.arraycopy(base, 1020, target, 1005, base.length - 1020);
+
+        byte[] delta = EntityDeltaCodec.createDelta(base, target);
+        assertArrayEquals(target, EntityDeltaCodec.applyDelta(base, delta));
+        assertTrue(delta.length < 100);
+    }
+
+    @Test
+    void testEmptyBaseline() throws Exception {
+        byte[] target = randomBytes(500);
+        byte[] delta = EntityDeltaCodec.createDelta(new byte[0], target);
+        assertArrayEquals(target, EntityDeltaCodec.applyDelta(new byte[0], delta));
+    }
+
+    @Test
+    void testDeltaAgainstWrongBaseline() {
+        byte[] base = randomBytes(2000);
+        byte[] target = Arrays.copyOf(base, base.length);
+        target[10] ^= 1;
+        byte[] delta = EntityDeltaCodec.createDelta(base, target);
+
+        assertThrows(StreamCorruptedException.class, () -> EntityDeltaCodec.applyDelta(new byte[10], delta));
+    }
+}
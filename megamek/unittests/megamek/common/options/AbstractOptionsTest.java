@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.options;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import megamek.common.units.Crew;
+import org.junit.jupiter.api.Test;
+
+class AbstractOptionsTest {
+
+    /** An options kind with option types that the game's options kinds do not all have. */
+    private static class MixedOptions extends AbstractOptions {
+        private static final MixedOptionsInfo INFO = new MixedOptionsInfo();
+
+        @Override
+        protected void initialize() {
+            IBasicOptionGroup group = addGroup("mixed");
+            addOption(group, "flag", true);
+            addOption(group, "count", 2);
+            addOption(group, "ratio", 0.5f);
+            addOption(group, "text", "");
+        }
+
+        @Override
+        protected AbstractOptionsInfo getOptionsInfoImp() {
+            return INFO;
+        }
+
+        private static class MixedOptionsInfo extends AbstractOptionsInfo {
+            MixedOptionsInfo() {
+                super("AbstractOptionsTestMixedOptionsInfo");
+            }
+        }
+    }
+
+    @Test
+    void testOptionReadsFollowValueChanges() {
+        GameOptions options = new GameOptions();
+        options.getOption(OptionsConstants.BASE_FRIENDLY_FIRE).setValue(false);
+        options.getOption(OptionsConstants.ALLOWED_YEAR).setValue(3025);
+        assertFalse(options.booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE));
+        assertEquals(3025, options.intOption(OptionsConstants.ALLOWED_YEAR));
+
+        options.getOption(OptionsConstants.BASE_FRIENDLY_FIRE).setValue(true);
+        options.getOption(OptionsConstants.ALLOWED_YEAR).setValue(3067);
+        assertTrue(options.booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE));
+        assertEquals(3067, options.intOption(OptionsConstants.ALLOWED_YEAR));
+        assertEquals("3067", options.stringOption(OptionsConstants.ALLOWED_YEAR));
+
+        options.getOption(OptionsConstants.BASE_FRIENDLY_FIRE).clearValue();
+        assertFalse(options.booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE));
+    }
+
+    @Test
+    void testValuesAreKeptPerOptionsObject() {
+        PilotOptions first = new PilotOptions();
+        PilotOptions second = new PilotOptions();
+        first.getOption(OptionsConstants.EDGE).setValue(3);
+
+        assertSame(first.getOptionsInfoImp(), second.getOptionsInfoImp());
+        assertTrue(first.booleanOption(OptionsConstants.EDGE));
+        assertEquals(3, first.intOption(OptionsConstants.EDGE));
+        assertFalse(second.booleanOption(OptionsConstants.EDGE));
+        assertEquals(0, second.intOption(OptionsConstants.EDGE));
+    }
+
+    @Test
+    void testIndexedValuesMatchTheOptions() {
+        PilotOptions options = new PilotOptions();
+        options.getOption(OptionsConstants.EDGE).setValue(3);
+        options.getOption(OptionsConstants.MISC_ENV_SPECIALIST).setValue(Crew.ENVIRONMENT_SPECIALIST_LIGHT);
+        for (IOption option : options.getOptionMap().values()) {
+            assertTrue(options.getOptionsInfoImp().indexOf(option.getName()) >= 0, option.getName());
+            assertEquals(option.booleanValue(), options.booleanOption(option.getName()), option.getName());
+            assertEquals(option.stringValue(), options.stringOption(option.getName()), option.getName());
+        }
+    }
+
+    @Test
+    void testOptionsOfOtherTypesAreIndexed() {
+        MixedOptions options = new MixedOptions();
+        assertTrue(options.booleanOption("flag"));
+        assertTrue(options.booleanOption("count"));
+        assertEquals(0.5f, options.floatOption("ratio"));
+        assertFalse(options.booleanOption("text"));
+
+        options.getOption("ratio").setValue(1.5f);
+        options.getOption("count").setValue(0);
+        options.getOption("text").setValue("set");
+        assertEquals(1.5f, options.floatOption("ratio"));
+        assertFalse(options.booleanOption("count"));
+        assertTrue(options.booleanOption("text"));
+    }
+
+    @Test
+    void testValuesAreReadAfterDeserialization() throws Exception {
+        GameOptions options = new GameOptions();
+        options.getOption(OptionsConstants.BASE_FRIENDLY_FIRE).setValue(true);
+        assertTrue(options.booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(options);
+        }
+        GameOptions copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (GameOptions) in.readObject();
+        }
+        assertTrue(copy.booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE));
+        copy.getOption(OptionsConstants.BASE_FRIENDLY_FIRE).setValue(false);
+        assertFalse(copy.booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE));
+        assertTrue(options.booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE));
+    }
+
+    @Test
+    void testUnknownOption() {
+        Quirks quirks = new Quirks();
+        assertEquals(-1, quirks.getOptionsInfoImp().indexOf("no_such_option"));
+        assertFalse(quirks.booleanOption("no_such_option"));
+        assertFalse(quirks.booleanOption(OptionsConstants.BASE_FRIENDLY_FIRE));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.options;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+class GameOptionsSnapshotTest {
+
+    @Test
+    void testEveryFlagIsABooleanGameOption() {
+        GameOptions options = new GameOptions();
+        for (GameOptionFlag flag : GameOptionFlag.values()) {
+            IOption option = options.getOption(flag.getOptionName());
+            assertNotNull(option, flag.name());
+            assertEquals(IOption.BOOLEAN, option.getType(), flag.name());
+        }
+    }
+
+    @Test
+    void testSnapshotMatchesTheOptions() {
+        GameOptions options = new GameOptions();
+        options.getOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_RANGE).setValue(true);
+        options.getOption(OptionsConstants.BASE_FRIENDLY_FIRE).setValue(false);
+
+        GameOptionsSnapshot snapshot = GameOptionsSnapshot.of(options);
+        for (GameOptionFlag flag : GameOptionFlag.values()) {
+            assertEquals(options.booleanOption(flag.getOptionName()), snapshot.isSet(flag), flag.name());
+        }
+        assertTrue(snapshot.isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_RANGE));
+        assertFalse(snapshot.isSet(GameOptionFlag.BASE_FRIENDLY_FIRE));
+    }
+
+    @Test
+    void testSnapshotIsRebuiltOnlyAfterAChange() {
+        GameOptions options = new GameOptions();
+        options.getOption(OptionsConstants.ADVANCED_DOUBLE_BLIND).setValue(false);
+        GameOptionsSnapshot before = options.snapshot();
+        assertSame(before, options.snapshot());
+        assertSame(before, GameOptionsSnapshot.of(options));
+
+        options.getOption(OptionsConstants.ADVANCED_DOUBLE_BLIND).setValue(true);
+        GameOptionsSnapshot after = options.snapshot();
+
+        assertNotSame(before, after);
+        assertFalse(before.isSet(GameOptionFlag.ADVANCED_DOUBLE_BLIND));
+        assertTrue(after.isSet(GameOptionFlag.ADVANCED_DOUBLE_BLIND));
+    }
+
+    @Test
+    void testOptionsWithoutSnapshotAreReadByName() {
+        GameOptions options = mock(GameOptions.class);
+        when(options.booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_LOS_RANGE)).thenReturn(true);
+
+        GameOptionsSnapshot snapshot = GameOptionsSnapshot.of(options);
+
+        assertTrue(snapshot.isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_LOS_RANGE));
+        assertFalse(snapshot.isSet(GameOptionFlag.ADVANCED_COMBAT_TAC_OPS_RANGE));
+    }
+}
@@ -306,8 +306,8 @@ class AeroGroundDoctrinePathFinderTest {
         finder.run(new MovePath(game, mover, null));
         long count = 0;
         for (MovePath path : finder.getAllComputedPathsUncategorized()) {
-            if (!path.getStepVector().isEmpty()
-                  && path.getStepVector().get(0).getType() == megamek.common.enums.MoveStepType.MANEUVER) {
+            if (!path.getStepList().isEmpty()
+                  && path.getStepList().get(0).getType() == megamek.common.enums.MoveStepType.MANEUVER) {
                 count++;
             }
         }
@@ -328,10 +328,10 @@ class AeroGroundDoctrinePathFinderTest {
 
         boolean maneuverOnBoard = false;
         for (MovePath path : finder.getAllComputedPathsUncategorized()) {
-            if (path.getStepVector().isEmpty()) {
+            if (path.getStepList().isEmpty()) {
                 continue;
             }
-            if (path.getStepVector().get(0).getType() == megamek.common.enums.MoveStepType.MANEUVER
+            if (path.getStepList().get(0).getType() == megamek.common.enums.MoveStepType.MANEUVER
                   && !path.fliesOffBoard()) {
                 maneuverOnBoard = true;
                 break;
@@ -400,8 +400,8 @@ class AeroGroundDoctrinePathFinderTest {
         int velocityLeft = 0;
         int survivors = 0;
         for (MovePath path : finder.getAllComputedPathsUncategorized()) {
-            if (path.getStepVector().isEmpty()
-                  || path.getStepVector().get(0).getType() != megamek.common.enums.MoveStepType.MANEUVER) {
+            if (path.getStepList().isEmpty()
+                  || path.getStepList().get(0).getType() != megamek.common.enums.MoveStepType.MANEUVER) {
                 continue;
             }
             maneuverPaths++;
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.pathfinder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import megamek.common.board.Coords;
+import megamek.common.moves.MovePath;
+import org.junit.jupiter.api.Test;
+
+class CoordsWithFacingCostTableTest {
+
+    private static MovePath pathTo(int x, int y, int facing) {
+        MovePath path = mock(MovePath.class);
+        when(path.getFinalCoords()).thenReturn(new Coords(x, y));
+        when(path.getFinalFacing()).thenReturn(facing);
+        return path;
+    }
+
+    @Test
+    void testKeyRoundTrip() {
+        for (int[] node : new int[][] { { 0, 0, 0 }, { 5, 7, 3 }, { -1, -1, 5 }, { 1000, -3, 2 }, { -40, 900, 1 } }) {
+            long key = CoordsWithFacingCostTable.key(node[0], node[1], node[2]);
+            assertEquals(new CoordsWithFacing(new Coords(node[0], node[1]), node[2]),
+                  CoordsWithFacingCostTable.node(key));
+        }
+    }
+
+    @Test
+    void testCostsByEdgeAndNode() {
+        CoordsWithFacingCostTable<String> table = new CoordsWithFacingCostTable<>();
+        assertNull(table.getByEdge(pathTo(3, 4, 2)));
+
+        table.putByEdge(pathTo(3, 4, 2), "first");
+        table.putByEdge(pathTo(3, 4, 2), "better");
+        table.putByEdge(pathTo(3, 4, 1), "other facing");
+
+        assertEquals("better", table.getByEdge(pathTo(3, 4, 2)));
+        assertEquals("other facing", table.get(new CoordsWithFacing(new Coords(3, 4), 1)));
+        assertNull(table.get(new CoordsWithFacing(new Coords(3, 4), 0)));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void testGrowthAndMapView() {
+        CoordsWithFacingCostTable<Integer> table = new CoordsWithFacingCostTable<>();
+        for (int x = 0; x < 40; x++) {
+            for (int y = 0; y < 40; y++) {
+                table.putByEdge(pathTo(x, y, (x + y) % 6), x * 100 + y);
+            }
+        }
+        assertEquals(1600, table.size());
+        assertEquals(Integer.valueOf(3917), table.get(new CoordsWithFacing(new Coords(39, 17), 2)));
+
+        Map<CoordsWithFacing, Integer> map = table.asMap();
+        assertEquals(1600, map.size());
+        assertEquals(1600, map.entrySet().size());
+        assertEquals(Integer.valueOf(1205), map.get(new CoordsWithFacing(new Coords(12, 5), 5)));
+        assertEquals(Map.entry(new CoordsWithFacing(new Coords(12, 5), 5), 1205),
+              map.entrySet().stream().filter(entry -> entry.getValue() == 1205).findFirst().orElseThrow());
+
+        table.clear();
+        assertEquals(0, table.size());
+        assertNull(table.get(new CoordsWithFacing(new Coords(39, 17), 2)));
+    }
+
+    @Test
+    void testMapViewIsSharedAndFollowsTheTable() {
+        CoordsWithFacingCostTable<String> table = new CoordsWithFacingCostTable<>();
+        Map<CoordsWithFacing, String> map = table.asMap();
+        assertSame(map, table.asMap());
+        assertTrue(map.isEmpty());
+
+        table.putByEdge(pathTo(3, 4, 2), "first");
+        assertEquals(Map.of(new CoordsWithFacing(new Coords(3, 4), 2), "first"), map);
+        assertTrue(map.containsKey(new CoordsWithFacing(new Coords(3, 4), 2)));
+        assertFalse(map.containsKey(new Coords(3, 4)));
+        assertThrows(UnsupportedOperationException.class,
+              () -> map.put(new CoordsWithFacing(new Coords(0, 0), 0), "second"));
+    }
+}
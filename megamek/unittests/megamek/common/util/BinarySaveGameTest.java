@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import megamek.MMConstants;
+import megamek.common.Player;
+import megamek.common.game.Game;
+import org.junit.jupiter.api.Test;
+
+class BinarySaveGameTest {
+
+    @Test
+    void gameSurvivesRoundTrip() throws Exception {
+        Game game = new Game();
+        game.addPlayer(0, new Player(0, "Alice"));
+        game.addPlayer(1, new Player(1, "Bob"));
+        game.setCurrentRound(7);
+
+        byte[] save = write(game);
+        Game loaded = BinarySaveGame.read(new ByteArrayInputStream(save));
+
+        assertEquals(7, loaded.getCurrentRound());
+        assertEquals(2, loaded.getPlayersList().size());
+        assertEquals("Bob", loaded.getPlayer(1).getName());
+    }
+
+    @Test
+    void headerHoldsVersionAndPlayerNames() throws Exception {
+        Game game = new Game();
+        game.addPlayer(0, new Player(0, "Alice"));
+        game.addPlayer(1, new Player(1, "Bob"));
+
+        BinarySaveGame.Header header = BinarySaveGame.readHeader(new ByteArrayInputStream(write(game)));
+
+        assertTrue(MMConstants.VERSION.is(header.version()));
+        assertEquals(List.of("Alice", "Bob"), header.playerNames());
+    }
+
+    @Test
+    void gameLargerThanOneBlockSurvivesRoundTrip() throws Exception {
+        Game game = new Game();
+        for (int id = 0; id < 2000; id++) {
+            game.addPlayer(id, new Player(id, "Player " + id + " " + "x".repeat(600)));
+        }
+
+        byte[] save = write(game);
+        Game loaded = BinarySaveGame.read(new ByteArrayInputStream(save));
+
+        assertEquals(2000, loaded.getPlayersList().size());
+        assertEquals(game.getPlayer(1999).getName(), loaded.getPlayer(1999).getName());
+    }
+
+    @Test
+    void xmlSaveGameIsRejected() {
+        byte[] xml = "<megamek.common.game.Game/>".getBytes();
+
+        assertThrows(IOException.class, () -> BinarySaveGame.read(new ByteArrayInputStream(xml)));
+    }
+
+    @Test
+    void recognizesBinarySaveGameFileNames() {
+        assertTrue(BinarySaveGame.isBinarySaveGame("Round-3-autosave" + MMConstants.BINARY_SAVE_FILE_EXT));
+        assertFalse(BinarySaveGame.isBinarySaveGame("savegame" + MMConstants.SAVE_FILE_GZ_EXT));
+    }
+
+    private static byte[] write(Game game) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinarySaveGame.write(BinarySaveGame.snapshot(game), bytes);
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class BuildingBlockTest {
+
+    private static final String BLOCK_FILE = """
+          # A comment
+          <UnitType>
+          Tank
+          </UnitType>
+
+          <Name>
+          Test Tank
+          </Name>
+          <armor>
+          10
+          8
+          1,200
+          </armor>
+          <Empty>
+          </Empty>
+          <Name>
+          Second Name
+          </Name>
+          """;
+
+    private static BuildingBlock block() {
+        return new BuildingBlock(new ByteArrayInputStream(BLOCK_FILE.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void findsBlocksIgnoringCase() {
+        BuildingBlock block = block();
+        assertEquals(1, block.findStartIndex("UnitType"));
+        assertEquals(2, block.findEndIndex("unittype"));
+        assertArrayEquals(new int[] { 10, 8, 1200 }, block.getDataAsInt("Armor"));
+        assertTrue(block.exists("ARMOR"));
+        assertFalse(block.exists("Engine"));
+        assertEquals(-1, block.findStartIndex("Engine"));
+        assertEquals(-1, block.findEndIndex("Engine"));
+    }
+
+    @Test
+    void usesTheFirstOccurrenceOfABlock() {
+        assertArrayEquals(new String[] { "Test Tank" }, block().getDataAsString("Name"));
+    }
+
+    @Test
+    void emptyAndMissingBlocksGiveDefaults() {
+        BuildingBlock block = block();
+        assertTrue(block.exists("Empty"));
+        assertFalse(block.containsData("Empty"));
+        assertArrayEquals(new String[] { "" }, block.getDataAsString("Empty"));
+        assertArrayEquals(new int[] { 0 }, block.getDataAsInt("Missing"));
+        assertEquals(List.of(), block.getDataAsVector("Missing"));
+    }
+
+    @Test
+    void writtenBlocksCanBeFoundAfterEarlierLookups() {
+        BuildingBlock block = new BuildingBlock();
+        block.createNewBlock();
+        block.writeBlockData("Name", "First");
+        assertArrayEquals(new String[] { "First" }, block.getDataAsString("Name"));
+        assertFalse(block.exists("Model"));
+
+        block.writeBlockData("Model", "A");
+        assertArrayEquals(new String[] { "A" }, block.getDataAsString("Model"));
+
+        // Lines added to the data directly are found as well
+        block.getVector().add("<Year>");
+        block.getVector().add("3025");
+        block.getVector().add("</Year>");
+        assertArrayEquals(new int[] { 3025 }, block.getDataAsInt("Year"));
+    }
+}
@@ -1465,7 +1465,7 @@ public class BridgeBuildingTest extends GameBoardTestCase {
     /** Builds a diagnostic description of every step in the path for assertion messages. */
     private static String describeSteps(MovePath path) {
         StringBuilder description = new StringBuilder();
-        for (megamek.common.moves.MoveStep step : path.getStepVector()) {
+        for (megamek.common.moves.MoveStep step : path.getStepList()) {
             description.append(String.format("[%s to %s elev %d type %s] ",
                   step.getType(), step.getPosition(), step.getElevation(), step.getMovementType(false)));
         }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.server.totalWarfare;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import megamek.common.GameBoardTestCase;
+import megamek.common.Hex;
+import megamek.common.LosEffects;
+import megamek.common.Player;
+import megamek.common.board.Coords;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Entity;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VisibilityMatrixTest extends GameBoardTestCase {
+
+    static {
+        initializeBoard("01_BY_06_OPEN", """
+              size 1 6
+              hex 0101 0 "" ""
+              hex 0102 0 "" ""
+              hex 0103 0 "" ""
+              hex 0104 0 "" ""
+              hex 0105 0 "" ""
+              hex 0106 0 "" ""
+              end""");
+    }
+
+    private Entity spotter;
+    private Entity target;
+    private VisibilityMatrix matrix;
+
+    @BeforeEach
+    void setUp() {
+        setBoard("01_BY_06_OPEN");
+        Player first = new Player(0, "First");
+        first.setTeam(1);
+        Player second = new Player(1, "Second");
+        second.setTeam(2);
+        getGame().addPlayer(0, first);
+        getGame().addPlayer(1, second);
+
+        spotter = createMek(1, first, new Coords(0, 0));
+        target = createMek(2, second, new Coords(0, 5));
+
+        TWGameManager gameManager = mock(TWGameManager.class);
+        when(gameManager.getGame()).thenReturn(getGame());
+        matrix = new VisibilityMatrix(gameManager);
+        matrix.refresh();
+    }
+
+    private Entity createMek(int id, Player owner, Coords position) {
+        BipedMek mek = new BipedMek();
+        mek.setId(id);
+        mek.setOwner(owner);
+        mek.setWeight(50.0);
+        getGame().addEntity(mek);
+        mek.setPosition(position);
+        mek.setDeployed(true);
+        return mek;
+    }
+
+    @Test
+    void testLosIsCalculatedOnce() {
+        LosEffects los = matrix.getLosEffects(spotter, target);
+        matrix.refresh();
+        assertSame(los, matrix.getLosEffects(spotter, target));
+    }
+
+    @Test
+    void testMovedUnitIsRecalculated() {
+        LosEffects los = matrix.getLosEffects(spotter, target);
+        target.setPosition(new Coords(0, 4));
+        assertNotSame(los, matrix.getLosEffects(spotter, target));
+    }
+
+    @Test
+    void testReplacedHexIsRecalculated() {
+        LosEffects los = matrix.getLosEffects(spotter, target);
+        Hex woods = new Hex(0);
+        woods.addTerrain(new Terrain(Terrains.WOODS, 1));
+        getGame().getBoard().setHex(new Coords(0, 2), woods);
+        try {
+            assertNotSame(los, matrix.getLosEffects(spotter, target));
+        } finally {
+            getGame().getBoard().setHex(new Coords(0, 2), new Hex(0));
+        }
+    }
+
+    @Test
+    void testHexChangedInPlaceIsRecalculated() {
+        LosEffects los = matrix.getLosEffects(spotter, target);
+        Hex hex = getGame().getBoard().getHex(new Coords(0, 2));
+        hex.addTerrain(new Terrain(Terrains.WOODS, 1));
+        try {
+            assertNotSame(los, matrix.getLosEffects(spotter, target));
+        } finally {
+            hex.removeTerrain(Terrains.WOODS);
+        }
+    }
+
+    @Test
+    void testPrecomputedLosIsRecalculatedAfterHexChangedInPlace() {
+        matrix.precompute(List.of(spotter, target), List.of(spotter, target));
+        LosEffects los = matrix.getLosEffects(spotter, target);
+        Hex hex = getGame().getBoard().getHex(new Coords(0, 2));
+        hex.setLevel(3);
+        try {
+            matrix.precompute(List.of(spotter, target), List.of(spotter, target));
+            assertNotSame(los, matrix.getLosEffects(spotter, target));
+        } finally {
+            hex.setLevel(0);
+        }
+    }
+
+    @Test
+    void testPrecomputedLosIsReused() {
+        matrix.precompute(List.of(spotter, target), List.of(spotter, target));
+        LosEffects los = matrix.getLosEffects(spotter, target);
+        matrix.precompute(List.of(spotter, target), List.of(spotter, target));
+        assertSame(los, matrix.getLosEffects(spotter, target));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.testUtilities;
+
+import java.util.List;
+
+import megamek.common.event.MMEvent;
+import megamek.common.event.Subscribe;
+
+/**
+ * Event handlers that live outside the event package, for the tests of the event bus.
+ */
+public final class EventTestHandlers {
+
+    private EventTestHandlers() {}
+
+    /**
+     * @return a handler of a private class that adds every event it is sent to the given list
+     */
+    public static Object newRecorder(List<MMEvent> received) {
+        return new Recorder(received);
+    }
+
+    private static class Recorder {
+        private final List<MMEvent> received;
+
+        Recorder(List<MMEvent> received) {
+            this.received = received;
+        }
+
+        @Subscribe
+        public void onEvent(MMEvent event) {
+            received.add(event);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import megamek.common.loaders.EntityLoadingException;
+import megamek.common.loaders.MekSummary;
+import megamek.common.units.Entity;
+import megamek.utilities.UnitBatchPipeline.BatchStatistics;
+import megamek.utilities.UnitBatchPipeline.ResultWriter;
+import megamek.utilities.UnitBatchPipeline.Stage;
+import megamek.utilities.UnitBatchPipeline.TsvResultWriter;
+import org.junit.jupiter.api.Test;
+
+class UnitBatchPipelineTest {
+
+    private static final String BROKEN = "Broken";
+    private static final String UNLOADABLE = "Unloadable";
+
+    /** Returns the model of the unit in upper case and fails for the model {@link #BROKEN}. */
+    private static final Stage UPPER_CASE_STAGE = new Stage() {
+        @Override
+        public String getName() {
+            return "Upper";
+        }
+
+        @Override
+        public List<String> getColumns() {
+            return List.of("Upper");
+        }
+
+        @Override
+        public List<String> process(Entity entity) {
+            if (entity.getModel().equals(BROKEN)) {
+                throw new IllegalStateException("broken unit");
+            }
+            return List.of(entity.getModel().toUpperCase());
+        }
+    };
+
+    private static final Stage LENGTH_STAGE = new Stage() {
+        @Override
+        public String getName() {
+            return "Length";
+        }
+
+        @Override
+        public List<String> getColumns() {
+            return List.of("Length", "Twice");
+        }
+
+        @Override
+        public List<String> process(Entity entity) {
+            int length = entity.getModel().length();
+            return List.of(String.valueOf(length), String.valueOf(2 * length));
+        }
+    };
+
+    private static class CollectingWriter implements ResultWriter {
+        List<String> header;
+        final List<List<String>> rows = new ArrayList<>();
+
+        @Override
+        public void writeHeader(List<String> columns) {
+            header = columns;
+        }
+
+        @Override
+        public void writeRow(List<String> values) {
+            rows.add(values);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static MekSummary[] units(String... models) {
+        MekSummary[] units = new MekSummary[models.length];
+        for (int i = 0; i < models.length; i++) {
+            units[i] = new MekSummary();
+            units[i].setChassis("Atlas");
+            units[i].setModel(models[i]);
+            units[i].setMulId(i);
+        }
+        return units;
+    }
+
+    private static Entity load(MekSummary unit) throws EntityLoadingException {
+        if (unit.getModel().equals(UNLOADABLE)) {
+            throw new EntityLoadingException("cannot load");
+        }
+        Entity entity = mock(Entity.class);
+        when(entity.getModel()).thenReturn(unit.getModel());
+        return entity;
+    }
+
+    private static UnitBatchPipeline pipeline() {
+        return new UnitBatchPipeline(List.of(UPPER_CASE_STAGE, LENGTH_STAGE))
+              .withThreads(4)
+              .withUnitLoader(UnitBatchPipelineTest::load);
+    }
+
+    @Test
+    void rowsAreWrittenInUnitOrder() throws IOException {
+        String[] models = new String[200];
+        for (int i = 0; i < models.length; i++) {
+            models[i] = "AS7-D" + i;
+        }
+        var writer = new CollectingWriter();
+
+        BatchStatistics statistics = pipeline().run(units(models), writer);
+
+        assertEquals(List.of("Chassis", "Model", "MUL ID", "File", "Upper", "Length", "Twice", "Error"),
+              writer.header);
+        assertEquals(models.length, writer.rows.size());
+        for (int i = 0; i < models.length; i++) {
+            List<String> row = writer.rows.get(i);
+            assertEquals(models[i], row.get(1));
+            assertEquals(String.valueOf(i), row.get(2));
+            assertEquals(models[i].toUpperCase(), row.get(4));
+            assertEquals(String.valueOf(models[i].length()), row.get(5));
+            assertEquals("", row.get(7));
+        }
+        assertEquals(models.length, statistics.getProcessedUnits());
+        assertEquals(0, statistics.getFailedUnits());
+        assertTrue(statistics.getElapsedTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void failuresAreIsolatedToTheirUnitAndStage() throws IOException {
+        var writer = new CollectingWriter();
+
+        BatchStatistics statistics = pipeline().run(units("AS7-D", BROKEN, UNLOADABLE, "AS7-K"), writer);
+
+        assertEquals(4, writer.rows.size());
+        List<String> broken = writer.rows.get(1);
+        assertEquals("", broken.get(4));
+        assertEquals("6", broken.get(5));
+        assertTrue(broken.get(7).startsWith("Upper: "));
+
+        List<String> unloadable = writer.rows.get(2);
+        assertEquals("Atlas", unloadable.get(0));
+        assertEquals(List.of("", "", ""), unloadable.subList(4, 7));
+        assertTrue(unloadable.get(7).startsWith("Load: "));
+
+        assertEquals("AS7-K", writer.rows.get(3).get(4));
+        assertEquals(2, statistics.getFailedUnits());
+        assertEquals(1, statistics.getStageFailures(UPPER_CASE_STAGE));
+        assertEquals(0, statistics.getStageFailures(LENGTH_STAGE));
+    }
+
+    @Test
+    void rejectedUnitsGetNoRow() throws IOException {
+        var writer = new CollectingWriter();
+
+        BatchStatistics statistics = pipeline()
+              .withEntityFilter(entity -> !entity.getModel().startsWith("X"))
+              .run(units("AS7-D", "X-1", "AS7-K"), writer);
+
+        assertEquals(2, writer.rows.size());
+        assertEquals("AS7-K", writer.rows.get(1).get(1));
+        assertEquals(1, statistics.getSkippedUnits());
+        assertEquals(2, statistics.getProcessedUnits());
+    }
+
+    @Test
+    void tsvWriterReplacesSeparatorsInValues() throws IOException {
+        var output = new StringWriter();
+        try (var writer = new TsvResultWriter(output)) {
+            writer.writeHeader(List.of("A", "B"));
+            writer.writeRow(List.of("one\ttwo", "three\nfour"));
+        }
+
+        assertEquals("A\tB\none two\tthree four\n", output.toString());
+    }
+}